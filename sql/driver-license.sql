@@ -150,6 +150,9 @@ CREATE TABLE "infraccion" (
 -- 3. ÍNDICES PARA MEJORAR EL RENDIMIENTO
 -- ============================================
 
+-- Extensión de trigramas para las búsquedas aproximadas de conductores y de restricciones de licencias
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
 -- Índices para tabla CENTRO
 CREATE INDEX "idx_codigo" ON "centro" ("codigo");
 CREATE INDEX "idx_direccion_postal" ON "centro" ("direccion_postal");
@@ -165,6 +168,17 @@ CREATE INDEX "idx_documento_identidad" ON "conductor" ("documento_identidad");
 CREATE INDEX "idx_estado_licencia" ON "conductor" ("estado_licencia");
 CREATE INDEX "idx_email_conductor" ON "conductor" ("email");
 CREATE INDEX "idx_fecha_nacimiento" ON "conductor" ("fecha_nacimiento");
+-- Paginación por keyset del listado de conductores (apellidos, nombre, id)
+CREATE INDEX "idx_conductor_apellidos_nombre_id" ON "conductor" ("apellidos", "nombre", "id_conductor");
+-- Búsqueda por prefijo (LIKE 'texto%') desde la tabla de conductores
+CREATE INDEX "idx_conductor_documento_prefijo" ON "conductor" ("documento_identidad" text_pattern_ops);
+CREATE INDEX "idx_conductor_apellidos_prefijo" ON "conductor" (lower("apellidos") text_pattern_ops);
+CREATE INDEX "idx_conductor_nombre_prefijo" ON "conductor" (lower("nombre") text_pattern_ops);
+CREATE INDEX "idx_conductor_email_prefijo" ON "conductor" (lower("email") text_pattern_ops);
+-- Búsqueda aproximada (LIKE '%texto%' y similitud) con pg_trgm
+CREATE INDEX "idx_conductor_nombre_completo_trgm" ON "conductor" USING gin (lower("nombre" || ' ' || "apellidos") gin_trgm_ops);
+CREATE INDEX "idx_conductor_documento_trgm" ON "conductor" USING gin ("documento_identidad" gin_trgm_ops);
+CREATE INDEX "idx_conductor_email_trgm" ON "conductor" USING gin (lower("email") gin_trgm_ops);
 
 -- Índices para tabla LICENCIA
 CREATE INDEX "idx_id_conductor_licencia" ON "licencia" ("id_conductor");
@@ -174,6 +188,10 @@ CREATE INDEX "idx_renovada" ON "licencia" ("renovada");
 CREATE INDEX "idx_fecha_vencimiento" ON "licencia" ("fecha_vencimiento");
 CREATE INDEX "idx_fecha_emision" ON "licencia" ("fecha_emision");
 CREATE INDEX "idx_puntos" ON "licencia" ("puntos");
+-- Paginación por keyset del listado de licencias (más recientes primero)
+CREATE INDEX "idx_licencia_emision_id" ON "licencia" ("fecha_emision" DESC, "id_licencia" DESC);
+-- Búsqueda de texto dentro de las restricciones (LIKE '%texto%')
+CREATE INDEX "idx_licencia_restricciones_trgm" ON "licencia" USING gin (lower("restricciones") gin_trgm_ops);
 
 -- Índices para tabla EXAMEN
 CREATE INDEX "idx_id_conductor_examen" ON "examen" ("id_conductor");
@@ -181,11 +199,13 @@ CREATE INDEX "idx_id_entidad" ON "examen" ("id_entidad");
 CREATE INDEX "idx_resultado" ON "examen" ("resultado");
 CREATE INDEX "idx_tipo_examen" ON "examen" ("tipo_examen");
 CREATE INDEX "idx_fecha_examen" ON "examen" ("fecha");
+-- Paginación por keyset del listado de exámenes (más recientes primero)
+CREATE INDEX "idx_examen_fecha_id" ON "examen" ("fecha" DESC, "id_examen" DESC);
 
 -- Índices para tabla INFRACCIÓN
 CREATE INDEX "idx_id_conductor_infraccion" ON "infraccion" ("id_conductor");
 CREATE INDEX "idx_id_licencia" ON "infraccion" ("id_licencia");
-CREATE INDEX "idx_codigo" ON "infraccion" ("codigo");
+CREATE INDEX "idx_codigo_infraccion" ON "infraccion" ("codigo");
 CREATE INDEX "idx_tipo_infraccion" ON "infraccion" ("tipo");
 CREATE INDEX "idx_pagada" ON "infraccion" ("pagada");
 CREATE INDEX "idx_fecha_infraccion" ON "infraccion" ("fecha");
@@ -584,6 +604,141 @@ CREATE TRIGGER chk_tipo_examen_por_entidad_trigger
     FOR EACH ROW
     EXECUTE FUNCTION validar_entidad_examen();
 
+-- Notificación de cambios a los clientes de escritorio
+-- Cada fila insertada, modificada o eliminada se publica en el canal 'cambios_datos'
+-- con el formato tabla:OPERACION:id (por ejemplo licencia:UPDATE:42).
+-- Los triggers son por sentencia y leen las filas afectadas de la tabla de transición 'filas':
+-- una sentencia que toca más de max_filas filas (importaciones, ingesta de
+-- infracciones, descuentos de puntos por lote) publica un único aviso tabla:OPERACION:*
+-- y los clientes recargan la tabla entera en lugar de recibir un aviso por fila.
+-- PostgreSQL no admite tablas de transición en triggers de varios eventos, por eso hay
+-- un trigger por operación. El argumento del trigger es el nombre de la columna de la clave primaria.
+CREATE OR REPLACE FUNCTION notificar_cambio()
+RETURNS trigger AS $$
+DECLARE
+    max_filas CONSTANT INT := 100;
+    total INT;
+BEGIN
+    SELECT count(*) INTO total FROM filas;
+
+    IF total > max_filas THEN
+        PERFORM pg_notify('cambios_datos', TG_TABLE_NAME || ':' || TG_OP || ':*');
+    ELSIF total > 0 THEN
+        PERFORM pg_notify('cambios_datos', TG_TABLE_NAME || ':' || TG_OP || ':' || (to_jsonb(f) ->> TG_ARGV[0]))
+        FROM filas f;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER notificar_insert_centro
+    AFTER INSERT ON centro
+    REFERENCING NEW TABLE AS filas
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notificar_cambio('id_centro');
+
+CREATE TRIGGER notificar_update_centro
+    AFTER UPDATE ON centro
+    REFERENCING NEW TABLE AS filas
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notificar_cambio('id_centro');
+
+CREATE TRIGGER notificar_delete_centro
+    AFTER DELETE ON centro
+    REFERENCING OLD TABLE AS filas
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notificar_cambio('id_centro');
+
+CREATE TRIGGER notificar_insert_entidad
+    AFTER INSERT ON entidad
+    REFERENCING NEW TABLE AS filas
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notificar_cambio('id_entidad');
+
+CREATE TRIGGER notificar_update_entidad
+    AFTER UPDATE ON entidad
+    REFERENCING NEW TABLE AS filas
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notificar_cambio('id_entidad');
+
+CREATE TRIGGER notificar_delete_entidad
+    AFTER DELETE ON entidad
+    REFERENCING OLD TABLE AS filas
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notificar_cambio('id_entidad');
+
+CREATE TRIGGER notificar_insert_conductor
+    AFTER INSERT ON conductor
+    REFERENCING NEW TABLE AS filas
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notificar_cambio('id_conductor');
+
+CREATE TRIGGER notificar_update_conductor
+    AFTER UPDATE ON conductor
+    REFERENCING NEW TABLE AS filas
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notificar_cambio('id_conductor');
+
+CREATE TRIGGER notificar_delete_conductor
+    AFTER DELETE ON conductor
+    REFERENCING OLD TABLE AS filas
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notificar_cambio('id_conductor');
+
+CREATE TRIGGER notificar_insert_licencia
+    AFTER INSERT ON licencia
+    REFERENCING NEW TABLE AS filas
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notificar_cambio('id_licencia');
+
+CREATE TRIGGER notificar_update_licencia
+    AFTER UPDATE ON licencia
+    REFERENCING NEW TABLE AS filas
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notificar_cambio('id_licencia');
+
+CREATE TRIGGER notificar_delete_licencia
+    AFTER DELETE ON licencia
+    REFERENCING OLD TABLE AS filas
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notificar_cambio('id_licencia');
+
+CREATE TRIGGER notificar_insert_examen
+    AFTER INSERT ON examen
+    REFERENCING NEW TABLE AS filas
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notificar_cambio('id_examen');
+
+CREATE TRIGGER notificar_update_examen
+    AFTER UPDATE ON examen
+    REFERENCING NEW TABLE AS filas
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notificar_cambio('id_examen');
+
+CREATE TRIGGER notificar_delete_examen
+    AFTER DELETE ON examen
+    REFERENCING OLD TABLE AS filas
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notificar_cambio('id_examen');
+
+CREATE TRIGGER notificar_insert_infraccion
+    AFTER INSERT ON infraccion
+    REFERENCING NEW TABLE AS filas
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notificar_cambio('id_infraccion');
+
+CREATE TRIGGER notificar_update_infraccion
+    AFTER UPDATE ON infraccion
+    REFERENCING NEW TABLE AS filas
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notificar_cambio('id_infraccion');
+
+CREATE TRIGGER notificar_delete_infraccion
+    AFTER DELETE ON infraccion
+    REFERENCING OLD TABLE AS filas
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notificar_cambio('id_infraccion');
+
 -- ============================================
 -- 8. FUNCIONES ADICIONALES ÚTILES
 -- ============================================
@@ -691,10 +846,10 @@ BEGIN
     RAISE NOTICE 'BASE DE DATOS CREADA EXITOSAMENTE';
     RAISE NOTICE '============================================';
     RAISE NOTICE 'Tablas creadas: 6';
-    RAISE NOTICE 'Índices creados: 23';
-    RAISE NOTICE 'Funciones creadas: 10';
+    RAISE NOTICE 'Índices creados: 39';
+    RAISE NOTICE 'Funciones creadas: 12';
     RAISE NOTICE 'Vistas creadas: 2';
-    RAISE NOTICE 'Trigger creado: 1';
+    RAISE NOTICE 'Triggers creados: 19';
     RAISE NOTICE '============================================';
     RAISE NOTICE 'Datos de prueba insertados:';
     RAISE NOTICE '  - Centros: 2';
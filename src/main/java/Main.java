@@ -1,7 +1,13 @@
 import javax.swing.*;
+import java.util.concurrent.CompletableFuture;
+
+import db.ConnectionPool;
 
 public class Main {
     public static void main(String[] args) {
+        // The pool starts in parallel with Swing; the window does not wait for it
+        CompletableFuture<Void> databaseReady = ConnectionPool.warmUpAsync(ConnectionPool.OLTP);
+        
         // Initialize Swing in EDT (Event Dispatch Thread)
         SwingUtilities.invokeLater(() -> {
             try {
@@ -9,7 +15,7 @@ public class Main {
                 UIManager.setLookAndFeel(UIManager.getSystemLookAndFeelClassName());
                 
                 // Create and show main application frame
-                MainApplicationFrame mainFrame = new MainApplicationFrame();
+                MainApplicationFrame mainFrame = new MainApplicationFrame(databaseReady);
                 mainFrame.setVisible(true);
                 
             } catch (Exception e) {
@@ -1,26 +1,56 @@
 import javax.swing.*;
 import java.awt.*;
-import java.sql.SQLException;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.prefs.Preferences;
 
 // Importar módulos existentes
-import centro.controller.CentroController;
-import centro.persistence.CentroDaoImpl;
-import centro.repository.CentroRepository;
-import centro.repository.CentroRepositoryImpl;
-import centro.service.CentroService;
-import centro.service.CentroServiceImpl;
+import app.ApplicationContext;
 import centro.view.CentroMainFrame;
+import db.ConnectionPool;
+import db.DatabaseChangeListener;
+import entidad.persistence.TipoEntidadCache;
 import entidad.view.EntidadMainFrame;
 import examen.view.ExamMainFrame;
 import licencia.view.LicenseMainFrame;
 import conductor.view.DriverMainFrame;
+import infraccion.view.InfractionMainFrame;
 
 public class MainApplicationFrame extends JFrame {
+    // Tarjetas del CardLayout, también guardadas en las preferencias
+    private static final String CENTERS = "CENTERS";
+    private static final String ENTITIES = "ENTITIES";
+    private static final String DRIVERS = "DRIVERS";
+    private static final String LICENSES = "LICENSES";
+    private static final String EXAMS = "EXAMS";
+    private static final String VIOLATIONS = "VIOLATIONS";
+    private static final List<String> MODULES = List.of(CENTERS, ENTITIES, DRIVERS, LICENSES, EXAMS, VIOLATIONS);
+    
+    // Módulos abiertos en la última sesión, para construirlos antes de que se pidan
+    private static final Preferences preferences = Preferences.userRoot().node("sistema-licencias");
+    private static final String RECENT_MODULES_KEY = "modulosRecientes";
+    
     private CardLayout cardLayout;
     private JPanel mainPanel;
     
-    // Services para compartir entre módulos
-    private CentroServiceImpl centroService;
+    // Los módulos se habilitan cuando el pool tiene una conexión válida
+    private final List<JMenu> moduleMenus = new ArrayList<>();
+    private JProgressBar connectionProgress;
+    private JLabel connectionLabel;
+    
+    // Tiempos de arranque desde el inicio de la JVM (ms), -1 mientras no se alcanzan
+    private long windowShownMillis = -1;
+    private long databaseReadyMillis = -1;
+    private boolean startupReported;
     
     // Referencias a las vistas
     private JPanel welcomePanel;
@@ -32,10 +62,15 @@ public class MainApplicationFrame extends JFrame {
     private JPanel violationModulePanel;
     private JPanel reportModulePanel;
     
-    public MainApplicationFrame() {
+    private final List<String> previousSessionModules = loadPreviousSessionModules();
+    private final Set<String> openedModules = new LinkedHashSet<>();
+    
+    // databaseReady: arranque del pool iniciado por Main antes de crear la ventana
+    public MainApplicationFrame(CompletableFuture<Void> databaseReady) {
         initializeComponents();
         configureFrame();
         initializeServices();
+        awaitDatabase(databaseReady);
     }
     
     private void initializeComponents() {
@@ -64,21 +99,104 @@ public class MainApplicationFrame extends JFrame {
         setSize(1280, 720);
         setLocationRelativeTo(null); // Center on screen
         setExtendedState(JFrame.MAXIMIZED_BOTH); // Start maximized
+        
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowOpened(WindowEvent e) {
+                windowShownMillis = millisSinceJvmStart();
+                reportStartupTime();
+            }
+            
+            @Override
+            public void windowClosing(WindowEvent e) {
+                saveRecentModules();
+            }
+        });
     }
     
     private void initializeServices() {
-        try {
-            // Initialize shared services
-            CentroDaoImpl centroDao = new CentroDaoImpl();
-            CentroRepositoryImpl centroRepository = new CentroRepositoryImpl(centroDao);
-            centroService = new CentroServiceImpl(centroRepository);
-        } catch (SQLException e) {
-            JOptionPane.showMessageDialog(this,
-                "Error al inicializar servicios: " + e.getMessage(),
-                "Error de Base de Datos",
-                JOptionPane.ERROR_MESSAGE);
-            e.printStackTrace();
+        // Cambios hechos por otros clientes: las caches estáticas se invalidan aquí, las de
+        // ApplicationContext al crearse y cada tabla abierta se suscribe por su cuenta
+        DatabaseChangeListener.subscribe("entidad", change -> {
+            if (change.isWholeTable()) {
+                TipoEntidadCache.invalidar();
+            } else {
+                TipoEntidadCache.eliminar(change.id());
+            }
+        });
+    }
+    
+    // Nada de esto corre en el EDT hasta que el pool responde: la ventana se muestra en seguida
+    // y los módulos quedan deshabilitados mientras tanto
+    private void awaitDatabase(CompletableFuture<Void> databaseReady) {
+        setModulesEnabled(false);
+        connectionProgress.setVisible(true);
+        connectionLabel.setText("Conectando con la base de datos...");
+        
+        databaseReady.whenComplete((ignored, error) -> SwingUtilities.invokeLater(() -> {
+            if (error == null) {
+                onDatabaseReady();
+            } else {
+                onDatabaseUnavailable(error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error);
+            }
+        }));
+    }
+    
+    private void onDatabaseReady() {
+        connectionProgress.setVisible(false);
+        connectionLabel.setText("Base de datos conectada");
+        setModulesEnabled(true);
+        
+        // Los centros se cargan en segundo plano para no retrasar la ventana
+        CompletableFuture.runAsync(() -> {
+            try {
+                ApplicationContext.getInstance().getCentroRepository().precargar();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        });
+        DatabaseChangeListener.start();
+        prewarmModules();
+        
+        databaseReadyMillis = millisSinceJvmStart();
+        reportStartupTime();
+    }
+    
+    private void onDatabaseUnavailable(Throwable error) {
+        connectionProgress.setVisible(false);
+        connectionLabel.setText("Sin conexión con la base de datos");
+        error.printStackTrace();
+        
+        int option = JOptionPane.showConfirmDialog(this,
+            "No se pudo conectar con la base de datos:\n" + error.getMessage() + "\n\n¿Desea reintentar?",
+            "Error de Base de Datos",
+            JOptionPane.YES_NO_OPTION,
+            JOptionPane.ERROR_MESSAGE);
+        if (option == JOptionPane.YES_OPTION) {
+            awaitDatabase(ConnectionPool.warmUpAsync(ConnectionPool.OLTP));
+        }
+    }
+    
+    private void setModulesEnabled(boolean enabled) {
+        for (JMenu menu : moduleMenus) {
+            menu.setEnabled(enabled);
+        }
+    }
+    
+    // Se informa una vez, cuando la ventana está visible y los módulos habilitados
+    private void reportStartupTime() {
+        if (startupReported || windowShownMillis < 0 || databaseReadyMillis < 0) {
+            return;
         }
+        startupReported = true;
+        System.out.println("Arranque: ventana visible a los " + windowShownMillis
+            + " ms, base de datos lista a los " + databaseReadyMillis
+            + " ms, interactiva a los " + Math.max(windowShownMillis, databaseReadyMillis) + " ms");
+    }
+    
+    private static long millisSinceJvmStart() {
+        return System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
     }
     
     private JPanel createWelcomePanel() {
@@ -112,6 +230,19 @@ public class MainApplicationFrame extends JFrame {
         statusLabel.setFont(new Font("Arial", Font.PLAIN, 12));
         statusBar.add(statusLabel, BorderLayout.WEST);
         
+        // Estado de la conexión en el centro
+        JPanel connectionPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 6, 0));
+        connectionPanel.setOpaque(false);
+        connectionProgress = new JProgressBar();
+        connectionProgress.setIndeterminate(true);
+        connectionProgress.setPreferredSize(new Dimension(120, 14));
+        connectionProgress.setVisible(false);
+        connectionLabel = new JLabel();
+        connectionLabel.setFont(new Font("Arial", Font.PLAIN, 12));
+        connectionPanel.add(connectionProgress);
+        connectionPanel.add(connectionLabel);
+        statusBar.add(connectionPanel, BorderLayout.CENTER);
+        
         // System info on right
         JLabel systemInfo = new JLabel("Sistema de Licencias v1.0 © 2024 ");
         systemInfo.setFont(new Font("Arial", Font.PLAIN, 12));
@@ -130,7 +261,10 @@ public class MainApplicationFrame extends JFrame {
         
         // Exit item
         JMenuItem exitItem = new JMenuItem("Salir");
-        exitItem.addActionListener(e -> System.exit(0));
+        exitItem.addActionListener(e -> {
+            saveRecentModules();
+            System.exit(0);
+        });
         fileMenu.add(exitItem);
         
         // Centers Menu
@@ -175,6 +309,13 @@ public class MainApplicationFrame extends JFrame {
         generateReportsItem.addActionListener(e -> openReportModule());
         reportsMenu.add(generateReportsItem); */
         
+        moduleMenus.add(centersMenu);
+        moduleMenus.add(entitiesMenu);
+        moduleMenus.add(driversMenu);
+        moduleMenus.add(licensesMenu);
+        moduleMenus.add(examsMenu);
+        moduleMenus.add(violationsMenu);
+        
         // Add all menus to menu bar
         menuBar.add(fileMenu);
         menuBar.add(centersMenu);
@@ -182,7 +323,7 @@ public class MainApplicationFrame extends JFrame {
         menuBar.add(driversMenu);
         // menuBar.add(licensesMenu);
         menuBar.add(examsMenu);
-        // menuBar.add(violationsMenu);
+        menuBar.add(violationsMenu);
         // menuBar.add(reportsMenu);
         
         return menuBar;
@@ -195,27 +336,12 @@ public class MainApplicationFrame extends JFrame {
     
     private void openCenterModule() {
         try {
-            if (centerModulePanel == null) {
-                // Initialize center module components
-                CentroDaoImpl centroDao = new CentroDaoImpl();
-                CentroRepository centroRepository = new CentroRepositoryImpl(centroDao);
-                CentroService centroService = new CentroServiceImpl(centroRepository);
-                CentroController centroController = new CentroController(centroService);
-                
-                // Create CentroMainFrame as a panel
-                CentroMainFrame centroMainPanel = new CentroMainFrame(centroController);
-                
-                // Simple wrapper panel
-                centerModulePanel = new JPanel(new BorderLayout());
-                centerModulePanel.add(centroMainPanel, BorderLayout.CENTER);
-                
-                // Add to CardLayout
-                mainPanel.add(centerModulePanel, "CENTERS");
-            }
+            buildCenterModule();
             
             // Show center module
-            cardLayout.show(mainPanel, "CENTERS");
+            cardLayout.show(mainPanel, CENTERS);
             updateStatusBar("Centros - Gestión de centros administrativos");
+            recordModuleOpened(CENTERS);
             
             // Load data when module is opened
             SwingUtilities.invokeLater(() -> {
@@ -237,21 +363,30 @@ public class MainApplicationFrame extends JFrame {
         }
     }
     
+    private void buildCenterModule() throws Exception {
+        if (centerModulePanel == null) {
+            // Create CentroMainFrame as a panel, with the controller shared through the context
+            CentroMainFrame centroMainPanel = new CentroMainFrame(ApplicationContext.getInstance().getCentroController());
+            
+            // Simple wrapper panel
+            centerModulePanel = new JPanel(new BorderLayout());
+            centerModulePanel.add(centroMainPanel, BorderLayout.CENTER);
+            
+            // Add to CardLayout
+            mainPanel.add(centerModulePanel, CENTERS);
+        }
+    }
+    
     private void openEntityModule() {
         try {
-            // Limpiar el panel principal
-            mainPanel.removeAll();
-            
-            // Crear y agregar el panel de entidades
-            EntidadMainFrame entidadPanel = new EntidadMainFrame();
-            mainPanel.add(entidadPanel, BorderLayout.CENTER);
+            buildEntityModule();
             
-            // Actualizar la interfaz
-            mainPanel.revalidate();
-            mainPanel.repaint();
+            // Mostrar el módulo de entidades
+            cardLayout.show(mainPanel, ENTITIES);
             
             // Actualizar barra de estado
             updateStatusBar("Entidades - Gestión de clínicas y autoescuelas");
+            recordModuleOpened(ENTITIES);
             
         } catch (Exception e) {
             JOptionPane.showMessageDialog(this,
@@ -262,22 +397,22 @@ public class MainApplicationFrame extends JFrame {
         }
     }
     
+    private void buildEntityModule() {
+        if (entityModulePanel == null) {
+            // Se crea una sola vez, como los demás módulos; su tabla se mantiene al día con los cambios notificados
+            entityModulePanel = new EntidadMainFrame();
+            mainPanel.add(entityModulePanel, ENTITIES);
+        }
+    }
+    
     private void openDriverModule() {
         try {
-            if (driverModulePanel == null) {
-                // Initialize driver module
-                DriverMainFrame driverFrame = new DriverMainFrame();
-                driverFrame.setSize(getSize());
-                
-                // Wrap the frame in a panel
-                driverModulePanel = new JPanel(new BorderLayout());
-                driverModulePanel.add(driverFrame.getContentPane(), BorderLayout.CENTER);
-                mainPanel.add(driverModulePanel, "DRIVERS");
-            }
+            buildDriverModule();
             
             // Switch to driver module
-            cardLayout.show(mainPanel, "DRIVERS");
+            cardLayout.show(mainPanel, DRIVERS);
             updateStatusBar("Conductores - Gestión de conductores y aspirantes");
+            recordModuleOpened(DRIVERS);
             
         } catch (Exception e) {
             JOptionPane.showMessageDialog(this,
@@ -288,26 +423,27 @@ public class MainApplicationFrame extends JFrame {
         }
     }
     
+    private void buildDriverModule() {
+        if (driverModulePanel == null) {
+            // Initialize driver module
+            DriverMainFrame driverFrame = new DriverMainFrame();
+            driverFrame.setSize(getSize());
+            
+            // Wrap the frame in a panel
+            driverModulePanel = new JPanel(new BorderLayout());
+            driverModulePanel.add(driverFrame.getContentPane(), BorderLayout.CENTER);
+            mainPanel.add(driverModulePanel, DRIVERS);
+        }
+    }
+    
     private void openLicenseModule() {
         try {
-            if (licenseModulePanel == null) {
-                // Initialize license module
-                LicenseMainFrame licenseFrame = new LicenseMainFrame();
-                
-                // Don't call setVisible(true) or setSize() on the frame
-                // Just get its content pane
-                licenseModulePanel = (JPanel) licenseFrame.getContentPane();
-                
-                // Add to CardLayout
-                mainPanel.add(licenseModulePanel, "LICENSES");
-                
-                // Remove any listeners that might interfere with our CardLayout
-                // The frame instance will be garbage collected, we're only using its content pane
-            }
+            buildLicenseModule();
             
             // Switch to license module
-            cardLayout.show(mainPanel, "LICENSES");
+            cardLayout.show(mainPanel, LICENSES);
             updateStatusBar("Licencias - Gestión de licencias emitidas");
+            recordModuleOpened(LICENSES);
             
         } catch (Exception e) {
             JOptionPane.showMessageDialog(this,
@@ -318,23 +454,31 @@ public class MainApplicationFrame extends JFrame {
         }
     }
     
+    private void buildLicenseModule() {
+        if (licenseModulePanel == null) {
+            // Initialize license module
+            LicenseMainFrame licenseFrame = new LicenseMainFrame();
+            
+            // Don't call setVisible(true) or setSize() on the frame
+            // Just get its content pane
+            licenseModulePanel = (JPanel) licenseFrame.getContentPane();
+            
+            // Add to CardLayout
+            mainPanel.add(licenseModulePanel, LICENSES);
+            
+            // Remove any listeners that might interfere with our CardLayout
+            // The frame instance will be garbage collected, we're only using its content pane
+        }
+    }
+    
     private void openExamModule() {
         try {
-            if (examModulePanel == null) {
-                // Initialize exam module
-                ExamMainFrame examFrame = new ExamMainFrame();
-                examFrame.setSize(getSize());
-                
-                // IMPORTANTE: No llamar a setVisible(true) aquí
-                // Wrap the frame in a panel - tomar solo el contentPane
-                examModulePanel = new JPanel(new BorderLayout());
-                examModulePanel.add(examFrame.getContentPane(), BorderLayout.CENTER);
-                mainPanel.add(examModulePanel, "EXAMS");
-            }
+            buildExamModule();
             
             // Switch to exam module
-            cardLayout.show(mainPanel, "EXAMS");
+            cardLayout.show(mainPanel, EXAMS);
             updateStatusBar("Exámenes - Gestión de exámenes realizados");
+            recordModuleOpened(EXAMS);
             
         } catch (Exception e) {
             JOptionPane.showMessageDialog(this,
@@ -345,18 +489,28 @@ public class MainApplicationFrame extends JFrame {
         }
     }
     
+    private void buildExamModule() {
+        if (examModulePanel == null) {
+            // Initialize exam module
+            ExamMainFrame examFrame = new ExamMainFrame();
+            examFrame.setSize(getSize());
+            
+            // IMPORTANTE: No llamar a setVisible(true) aquí
+            // Wrap the frame in a panel - tomar solo el contentPane
+            examModulePanel = new JPanel(new BorderLayout());
+            examModulePanel.add(examFrame.getContentPane(), BorderLayout.CENTER);
+            mainPanel.add(examModulePanel, EXAMS);
+        }
+    }
+    
     private void openViolationModule() {
         try {
-            if (violationModulePanel == null) {
-                // TODO: Initialize violation module
-                violationModulePanel = createPlaceholderPanel("Módulo de Infracciones", 
-                    "Gestión de infracciones de tránsito");
-                mainPanel.add(violationModulePanel, "VIOLATIONS");
-            }
+            buildViolationModule();
             
             // Switch to violation module
-            cardLayout.show(mainPanel, "VIOLATIONS");
+            cardLayout.show(mainPanel, VIOLATIONS);
             updateStatusBar("Infracciones - Gestión de infracciones de tránsito");
+            recordModuleOpened(VIOLATIONS);
             
         } catch (Exception e) {
             JOptionPane.showMessageDialog(this,
@@ -367,6 +521,96 @@ public class MainApplicationFrame extends JFrame {
         }
     }
     
+    private void buildViolationModule() {
+        if (violationModulePanel == null) {
+            // Initialize violation module
+            InfractionMainFrame infractionFrame = new InfractionMainFrame();
+            
+            // Wrap the frame in a panel
+            violationModulePanel = new JPanel(new BorderLayout());
+            violationModulePanel.add(infractionFrame.getContentPane(), BorderLayout.CENTER);
+            mainPanel.add(violationModulePanel, VIOLATIONS);
+        }
+    }
+    
+    // Módulos de la sesión anterior: primero sus controladores fuera del EDT, después sus paneles
+    // en el EDT, uno por evento para que la ventana siga respondiendo. Cada tabla empieza a cargar
+    // en segundo plano al crearse, así que al abrir el módulo sólo queda cambiar de tarjeta.
+    private void prewarmModules() {
+        List<String> modules = new ArrayList<>(previousSessionModules);
+        if (modules.isEmpty()) {
+            return;
+        }
+        CompletableFuture.runAsync(() -> {
+            for (String module : modules) {
+                try {
+                    warmModuleContext(module);
+                } catch (Exception e) {
+                    e.printStackTrace();
+                }
+            }
+        }).thenRun(() -> SwingUtilities.invokeLater(() -> buildNextModule(new ArrayDeque<>(modules))));
+    }
+    
+    private void warmModuleContext(String module) throws Exception {
+        ApplicationContext context = ApplicationContext.getInstance();
+        switch (module) {
+            case CENTERS: context.getCentroController(); break;
+            case ENTITIES: context.getEntidadController(); break;
+            case DRIVERS: context.getDriverController(); break;
+            case LICENSES: context.getLicenseController(); context.getDriverController(); break;
+            case EXAMS: context.getExamController(); break;
+            case VIOLATIONS: context.getInfractionController(); break;
+            default: break;
+        }
+    }
+    
+    private void buildNextModule(Deque<String> pending) {
+        String module = pending.poll();
+        if (module == null) {
+            return;
+        }
+        try {
+            switch (module) {
+                case CENTERS: buildCenterModule(); break;
+                case ENTITIES: buildEntityModule(); break;
+                case DRIVERS: buildDriverModule(); break;
+                case LICENSES: buildLicenseModule(); break;
+                case EXAMS: buildExamModule(); break;
+                case VIOLATIONS: buildViolationModule(); break;
+                default: break;
+            }
+        } catch (Exception e) {
+            // Se volverá a intentar, con el error a la vista, cuando el usuario abra el módulo
+            e.printStackTrace();
+        }
+        SwingUtilities.invokeLater(() -> buildNextModule(pending));
+    }
+    
+    private void recordModuleOpened(String module) {
+        if (openedModules.add(module)) {
+            preferences.put(RECENT_MODULES_KEY, String.join(",", openedModules));
+        }
+    }
+    
+    // Cada módulo abierto ya quedó guardado al abrirse; si en esta sesión no se abrió ninguno,
+    // la lista de la sesión anterior no debe precargarse otra vez en la siguiente
+    private void saveRecentModules() {
+        if (openedModules.isEmpty()) {
+            preferences.remove(RECENT_MODULES_KEY);
+        }
+    }
+    
+    private static List<String> loadPreviousSessionModules() {
+        List<String> modules = new ArrayList<>();
+        for (String module : preferences.get(RECENT_MODULES_KEY, "").split(",")) {
+            if (MODULES.contains(module) && !modules.contains(module)) {
+                modules.add(module);
+            }
+        }
+        return modules;
+    }
+    
     private void openReportModule() {
         try {
             if (reportModulePanel == null) {
@@ -0,0 +1,290 @@
+package app;
+
+import java.sql.SQLException;
+
+import centro.controller.CentroController;
+import centro.persistence.CentroDaoImpl;
+import centro.repository.CentroRepositoryCache;
+import centro.repository.CentroRepositoryImpl;
+import centro.service.CentroServiceImpl;
+import conductor.controller.DriverController;
+import conductor.persistence.DriverDao;
+import conductor.persistence.DriverIdFilter;
+import conductor.repository.DriverRepository;
+import conductor.service.DriverService;
+import db.DatabaseChangeListener;
+import entidad.controller.EntidadController;
+import entidad.persistence.EntidadDaoImpl;
+import entidad.repository.EntidadRepositoryImpl;
+import entidad.service.EntidadServiceImpl;
+import examen.controller.ExamController;
+import examen.persistence.ExamDao;
+import examen.repository.ExamRepository;
+import examen.service.ExamService;
+import infraccion.controller.InfractionController;
+import infraccion.persistence.InfractionDao;
+import infraccion.repository.InfractionRepository;
+import infraccion.service.InfractionService;
+import licencia.controller.LicenseController;
+import licencia.persistence.LicenseDao;
+import licencia.repository.CachedLicenseRepository;
+import licencia.repository.LicenseRepository;
+import licencia.service.LicenseService;
+
+// The one DAO → Repository → Service → Controller graph of the application. Every module frame
+// takes its dependencies from here, so the centro and license caches are shared by all of them
+// (the license module validates drivers through the same DriverService the driver module uses).
+// Each piece is built on first request and then reused; the getters are synchronized, which is
+// cheap next to the database work behind them and lets modules be built from any thread.
+public final class ApplicationContext {
+
+    private static final ApplicationContext INSTANCE = new ApplicationContext();
+
+    private CentroDaoImpl centroDao;
+    private CentroRepositoryCache centroRepository;
+    private CentroServiceImpl centroService;
+    private CentroController centroController;
+
+    private EntidadDaoImpl entidadDao;
+    private EntidadRepositoryImpl entidadRepository;
+    private EntidadServiceImpl entidadService;
+    private EntidadController entidadController;
+
+    private DriverIdFilter driverIdFilter;
+    private DriverDao driverDao;
+    private DriverRepository driverRepository;
+    private DriverService driverService;
+    private DriverController driverController;
+
+    private LicenseDao licenseDao;
+    private CachedLicenseRepository licenseRepository;
+    private LicenseService licenseService;
+    private LicenseController licenseController;
+
+    private ExamDao examDao;
+    private ExamRepository examRepository;
+    private ExamService examService;
+    private ExamController examController;
+
+    private InfractionDao infractionDao;
+    private InfractionRepository infractionRepository;
+    private InfractionService infractionService;
+    private InfractionController infractionController;
+
+    private ApplicationContext() {
+    }
+
+    public static ApplicationContext getInstance() {
+        return INSTANCE;
+    }
+
+    // Centros
+
+    public synchronized CentroDaoImpl getCentroDao() {
+        if (centroDao == null) {
+            centroDao = new CentroDaoImpl();
+        }
+        return centroDao;
+    }
+
+    public synchronized CentroRepositoryCache getCentroRepository() throws SQLException {
+        if (centroRepository == null) {
+            centroRepository = new CentroRepositoryCache(new CentroRepositoryImpl(getCentroDao()));
+            // Centros changed by other clients leave the cache at once
+            DatabaseChangeListener.subscribe("centro", change -> centroRepository.invalidar());
+        }
+        return centroRepository;
+    }
+
+    public synchronized CentroServiceImpl getCentroService() throws SQLException {
+        if (centroService == null) {
+            centroService = new CentroServiceImpl(getCentroRepository());
+        }
+        return centroService;
+    }
+
+    public synchronized CentroController getCentroController() throws SQLException {
+        if (centroController == null) {
+            centroController = new CentroController(getCentroService());
+        }
+        return centroController;
+    }
+
+    // Entidades
+
+    public synchronized EntidadDaoImpl getEntidadDao() {
+        if (entidadDao == null) {
+            entidadDao = new EntidadDaoImpl();
+        }
+        return entidadDao;
+    }
+
+    public synchronized EntidadRepositoryImpl getEntidadRepository() {
+        if (entidadRepository == null) {
+            entidadRepository = new EntidadRepositoryImpl(getEntidadDao());
+        }
+        return entidadRepository;
+    }
+
+    public synchronized EntidadServiceImpl getEntidadService() throws SQLException {
+        if (entidadService == null) {
+            entidadService = new EntidadServiceImpl(getEntidadRepository(), getCentroService());
+        }
+        return entidadService;
+    }
+
+    public synchronized EntidadController getEntidadController() throws SQLException {
+        if (entidadController == null) {
+            entidadController = new EntidadController(getEntidadService());
+        }
+        return entidadController;
+    }
+
+    // Drivers
+
+    // Shared by the driver, license and exam DAOs so a driver one of them creates is known to the others
+    public synchronized DriverIdFilter getDriverIdFilter() {
+        if (driverIdFilter == null) {
+            driverIdFilter = new DriverIdFilter();
+            // Drivers added or deleted by other clients
+            DatabaseChangeListener.subscribe("conductor", change -> {
+                if (change.isWholeTable()) {
+                    driverIdFilter.invalidate();
+                } else if (change.isDelete()) {
+                    driverIdFilter.remove(change.id());
+                } else if (change.isInsert()) {
+                    driverIdFilter.add(change.id());
+                }
+            });
+        }
+        return driverIdFilter;
+    }
+
+    public synchronized DriverDao getDriverDao() {
+        if (driverDao == null) {
+            driverDao = new DriverDao(getDriverIdFilter());
+        }
+        return driverDao;
+    }
+
+    public synchronized DriverRepository getDriverRepository() throws SQLException {
+        if (driverRepository == null) {
+            driverRepository = new DriverRepository(getDriverDao());
+        }
+        return driverRepository;
+    }
+
+    public synchronized DriverService getDriverService() throws SQLException {
+        if (driverService == null) {
+            driverService = new DriverService(getDriverRepository());
+        }
+        return driverService;
+    }
+
+    public synchronized DriverController getDriverController() throws SQLException {
+        if (driverController == null) {
+            driverController = new DriverController(getDriverService());
+        }
+        return driverController;
+    }
+
+    // Licenses
+
+    public synchronized LicenseDao getLicenseDao() {
+        if (licenseDao == null) {
+            licenseDao = new LicenseDao(getDriverIdFilter());
+        }
+        return licenseDao;
+    }
+
+    public synchronized CachedLicenseRepository getLicenseRepository() throws SQLException {
+        if (licenseRepository == null) {
+            licenseRepository = new CachedLicenseRepository(new LicenseRepository(getLicenseDao()));
+            // Licenses changed by other clients (or by infraction ingestion) leave the cache at once.
+            // Subscribed before any license table, so the cache is clean when the tables re-fetch.
+            DatabaseChangeListener.subscribe("licencia", change -> {
+                if (change.isWholeTable()) {
+                    licenseRepository.invalidateAll();
+                } else {
+                    licenseRepository.invalidate(change.id());
+                }
+            });
+        }
+        return licenseRepository;
+    }
+
+    public synchronized LicenseService getLicenseService() throws SQLException {
+        if (licenseService == null) {
+            licenseService = new LicenseService(getLicenseRepository());
+        }
+        return licenseService;
+    }
+
+    public synchronized LicenseController getLicenseController() throws SQLException {
+        if (licenseController == null) {
+            licenseController = new LicenseController(getLicenseService());
+        }
+        return licenseController;
+    }
+
+    // Exams
+
+    public synchronized ExamDao getExamDao() {
+        if (examDao == null) {
+            examDao = new ExamDao(getDriverIdFilter());
+        }
+        return examDao;
+    }
+
+    public synchronized ExamRepository getExamRepository() throws SQLException {
+        if (examRepository == null) {
+            examRepository = new ExamRepository(getExamDao());
+        }
+        return examRepository;
+    }
+
+    public synchronized ExamService getExamService() throws SQLException {
+        if (examService == null) {
+            examService = new ExamService(getExamRepository());
+        }
+        return examService;
+    }
+
+    public synchronized ExamController getExamController() throws SQLException {
+        if (examController == null) {
+            examController = new ExamController(getExamService());
+        }
+        return examController;
+    }
+
+    // Infractions
+
+    public synchronized InfractionDao getInfractionDao() {
+        if (infractionDao == null) {
+            infractionDao = new InfractionDao();
+        }
+        return infractionDao;
+    }
+
+    public synchronized InfractionRepository getInfractionRepository() {
+        if (infractionRepository == null) {
+            infractionRepository = new InfractionRepository(getInfractionDao());
+        }
+        return infractionRepository;
+    }
+
+    public synchronized InfractionService getInfractionService() throws SQLException {
+        if (infractionService == null) {
+            // Infractions deduct points behind the license cache's back; evict what they touched
+            infractionService = new InfractionService(getInfractionRepository(), getLicenseRepository()::invalidate);
+        }
+        return infractionService;
+    }
+
+    public synchronized InfractionController getInfractionController() throws SQLException {
+        if (infractionController == null) {
+            infractionController = new InfractionController(getInfractionService());
+        }
+        return infractionController;
+    }
+}
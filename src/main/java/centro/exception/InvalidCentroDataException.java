@@ -4,4 +4,8 @@ public class InvalidCentroDataException extends Exception {
     public InvalidCentroDataException(String message) {
         super(message);
     }
+
+    public InvalidCentroDataException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
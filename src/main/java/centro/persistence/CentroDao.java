@@ -7,7 +7,9 @@ import centro.model.Centro;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public interface CentroDao {
     List<Centro> listarCentros() throws InvalidCentroDataException, SQLException;
@@ -20,8 +22,14 @@ public interface CentroDao {
 
     Centro actualizar(Centro centro) throws CentroNotFoundException, SQLException;
 
+    List<Centro> guardarTodos(List<Centro> centros, int tamanoLote) throws InvalidCentroDataException, SQLException;
+
+    List<Centro> actualizarTodos(List<Centro> centros, int tamanoLote) throws CentroNotFoundException, InvalidCentroDataException, SQLException;
+
     boolean existePorId(Long id) throws SQLException;
 
     Centro obtenerCentroPorId(Long id)throws SQLException, CentroNotFoundException;
 
+    Map<Long, Centro> obtenerCentrosPorIds(Set<Long> ids) throws SQLException;
+
 }
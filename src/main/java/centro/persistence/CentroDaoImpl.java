@@ -4,18 +4,34 @@ import centro.exception.CentroNotFoundException;
 import centro.exception.InvalidCentroDataException;
 import centro.model.Centro;
 import db.ConnectionPool;
+import db.ReplicaRouter;
+import db.JdbcBatch;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public class CentroDaoImpl implements CentroDao {
 
+    // Primary, for reads that must be current
     private Connection getConnection() throws SQLException {
-        return ConnectionPool.getConnection();
+        return ReplicaRouter.getConnection();
+    }
+
+    // Primary, for methods that change data (see ReplicaRouter)
+    private Connection getWriteConnection() throws SQLException {
+        return ReplicaRouter.getWriteConnection();
+    }
+
+    // Full-table reads go to the replica, or to their own pool so they cannot starve the CRUD paths
+    private Connection getReportingConnection() throws SQLException {
+        return ReplicaRouter.getReadOnlyConnection(ConnectionPool.REPORTING);
     }
 
     @Override
@@ -23,7 +39,7 @@ public class CentroDaoImpl implements CentroDao {
         String sql = "SELECT * from centro";
         List<Centro> centros = new ArrayList<>();
         try (
-                Connection conn = this.getConnection();
+                Connection conn = this.getReportingConnection();
                 PreparedStatement statement = conn.prepareStatement(sql);
                 ResultSet resultSet = statement.executeQuery();
         ) {
@@ -71,12 +87,36 @@ public class CentroDaoImpl implements CentroDao {
         throw new CentroNotFoundException("El centro con %s no fue encontrado".formatted(id));
     }
 
+    @Override
+    public Map<Long, Centro> obtenerCentrosPorIds(Set<Long> ids) throws SQLException {
+        Map<Long, Centro> centros = new HashMap<>();
+        if (ids.isEmpty()) {
+            return centros;
+        }
+        // Una sola consulta para todos los ids en lugar de una por centro
+        String sql = "SELECT * FROM centro WHERE id_centro = ANY(?)";
+
+        try (
+                Connection conn = this.getConnection();
+                PreparedStatement pstm = conn.prepareStatement(sql);
+        ) {
+            pstm.setArray(1, conn.createArrayOf("int8", ids.toArray()));
+            try (ResultSet resultSet = pstm.executeQuery()) {
+                while (resultSet.next()) {
+                    Centro centro = this.mapResult(resultSet);
+                    centros.put(centro.getIdCentro(), centro);
+                }
+            }
+        }
+        return centros;
+    }
+
     @Override
     public Centro guardar(Centro centro) throws InvalidCentroDataException, SQLException {
         String sql = "INSERT INTO centro (nombre,codigo,direccion_postal,telefono,email,director_general," +
                 "jefe_rrhh,jefe_contabilidad,secretario_sindicato,logo) VALUES (?,?,?,?,?,?,?,?,?,?)";
         try (
-                Connection conn = this.getConnection();
+                Connection conn = this.getWriteConnection();
                 PreparedStatement pstm = conn.prepareStatement(sql)) {
             pstm.setString(1, centro.getNombre());
             pstm.setString(2, centro.getCodigo());
@@ -105,7 +145,7 @@ public class CentroDaoImpl implements CentroDao {
     public void eliminar(Long id) throws CentroNotFoundException, SQLException {
         String sql = "DELETE FROM centro WHERE id_centro=?";
         try (
-                Connection conn = this.getConnection();
+                Connection conn = this.getWriteConnection();
                 PreparedStatement pstm = conn.prepareStatement(sql);
         ) {
 
@@ -124,7 +164,7 @@ public class CentroDaoImpl implements CentroDao {
         String sql = "UPDATE centro SET nombre=?,codigo=?,direccion_postal=?,telefono=?,email=?,director_general=?," +
                 "jefe_rrhh=?,jefe_contabilidad=?,secretario_sindicato=?,logo=? WHERE id_centro=?";
         try (
-                Connection conn = this.getConnection();
+                Connection conn = this.getWriteConnection();
                 PreparedStatement pstm = conn.prepareStatement(sql);
         ) {
             pstm.setString(1, centro.getNombre());
@@ -147,6 +187,58 @@ public class CentroDaoImpl implements CentroDao {
         }
     }
 
+    @Override
+    public List<Centro> guardarTodos(List<Centro> centros, int tamanoLote) throws InvalidCentroDataException, SQLException {
+        String sql = "INSERT INTO centro (nombre,codigo,direccion_postal,telefono,email,director_general," +
+                "jefe_rrhh,jefe_contabilidad,secretario_sindicato,logo) VALUES (?,?,?,?,?,?,?,?,?,?)";
+        try (Connection conn = this.getWriteConnection()) {
+            JdbcBatch.insertAll(conn, sql, centros, tamanoLote, this::asignarParametros, Centro::setIdCentro);
+            return centros;
+        } catch (SQLException e) {
+            throw errorDeLote(e, "Error al guardar el lote de centros");
+        }
+    }
+
+    @Override
+    public List<Centro> actualizarTodos(List<Centro> centros, int tamanoLote) throws CentroNotFoundException, InvalidCentroDataException, SQLException {
+        String sql = "UPDATE centro SET nombre=?,codigo=?,direccion_postal=?,telefono=?,email=?,director_general=?," +
+                "jefe_rrhh=?,jefe_contabilidad=?,secretario_sindicato=?,logo=? WHERE id_centro=?";
+        int faltante;
+        try (Connection conn = this.getWriteConnection()) {
+            faltante = JdbcBatch.updateAll(conn, sql, centros, tamanoLote, (pstm, centro) -> {
+                asignarParametros(pstm, centro);
+                pstm.setLong(11, centro.getIdCentro());
+            });
+        } catch (SQLException e) {
+            throw errorDeLote(e, "Error al actualizar el lote de centros");
+        }
+        if (faltante >= 0) {
+            throw new CentroNotFoundException("El centro con %s no fue encontrado".formatted(centros.get(faltante).getIdCentro()));
+        }
+        return centros;
+    }
+
+    private void asignarParametros(PreparedStatement pstm, Centro centro) throws SQLException {
+        pstm.setString(1, centro.getNombre());
+        pstm.setString(2, centro.getCodigo());
+        pstm.setString(3, centro.getDireccionPostal());
+        pstm.setString(4, centro.getTelefono());
+        pstm.setString(5, centro.getEmail());
+        pstm.setString(6, centro.getDirectorGeneral());
+        pstm.setString(7, centro.getJefeRRHH());
+        pstm.setString(8, centro.getJefeContabilidad());
+        pstm.setString(9, centro.getSecretarioSindicato());
+        pstm.setString(10, centro.getLogo());
+    }
+
+    private InvalidCentroDataException errorDeLote(SQLException e, String mensaje) {
+        SQLException causa = JdbcBatch.cause(e);
+        if ("23505".equals(causa.getSQLState())) { // codigo es UNIQUE
+            return new InvalidCentroDataException("Ya existe un centro con ese código: " + causa.getMessage(), e);
+        }
+        return new InvalidCentroDataException(mensaje, e);
+    }
+
     @Override
     public boolean existePorId(Long id) throws SQLException {
         if (id == null) return false;
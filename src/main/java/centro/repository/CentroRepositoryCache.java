@@ -0,0 +1,209 @@
+package centro.repository;
+
+import centro.exception.CentroNotFoundException;
+import centro.exception.InvalidCentroDataException;
+import centro.model.Centro;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Cache de lectura de los centros. Los centros casi nunca cambian, así que se cargan todos
+// de una vez y las búsquedas por id y por código se resuelven en memoria sin pedir conexión.
+// Cualquier escritura invalida la cache y la siguiente lectura la recarga; además se
+// recarga sola cuando vence el TTL por si otro cliente modificó la tabla.
+public class CentroRepositoryCache implements CentroRepository {
+
+    public static final Duration TTL_POR_DEFECTO = Duration.ofMinutes(Long.getLong("centro.cache.ttlMinutos", 15));
+
+    private final CentroRepository centroRepository;
+    private final long ttlNanos;
+    private final Object cargaLock = new Object();
+    private volatile Instantanea instantanea;
+    // Se incrementa en cada invalidación para descartar cargas que empezaron antes de una escritura
+    private final AtomicLong version = new AtomicLong();
+
+    private static final class Instantanea {
+        final List<Centro> centros;
+        final Map<Long, Centro> porId;
+        final Map<String, Centro> porCodigo;
+        final long cargadaEn;
+
+        Instantanea(List<Centro> centros) {
+            this.centros = centros;
+            this.porId = new HashMap<>(centros.size() * 2);
+            this.porCodigo = new HashMap<>(centros.size() * 2);
+            for (Centro centro : centros) {
+                this.porId.put(centro.getIdCentro(), centro);
+                if (centro.getCodigo() != null) {
+                    this.porCodigo.put(centro.getCodigo(), centro);
+                }
+            }
+            this.cargadaEn = System.nanoTime();
+        }
+    }
+
+    public CentroRepositoryCache(CentroRepository centroRepository) {
+        this(centroRepository, TTL_POR_DEFECTO);
+    }
+
+    public CentroRepositoryCache(CentroRepository centroRepository, Duration ttl) {
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("El TTL de la cache debe ser mayor que cero");
+        }
+        this.centroRepository = centroRepository;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    // Carga todos los centros; pensado para llamarse al arrancar la aplicación
+    public void precargar() throws InvalidCentroDataException, SQLException {
+        this.cargar();
+    }
+
+    // No toma el lock: una escritura no debe esperar a que termine una carga en curso
+    public void invalidar() {
+        this.version.incrementAndGet();
+        this.instantanea = null;
+    }
+
+    @Override
+    public List<Centro> listarCentros() throws InvalidCentroDataException, SQLException {
+        return this.actual().centros.stream().map(this::copiar).toList();
+    }
+
+    @Override
+    public Centro listarPorCodigo(String codigo) throws SQLException, CentroNotFoundException {
+        Centro centro = this.actualSinError().porCodigo.get(codigo);
+        // Un código desconocido puede ser un centro creado por otro cliente después de la carga
+        return centro != null ? this.copiar(centro) : this.centroRepository.listarPorCodigo(codigo);
+    }
+
+    @Override
+    public Centro guardar(Centro centro) throws InvalidCentroDataException, SQLException {
+        try {
+            return this.centroRepository.guardar(centro);
+        } finally {
+            this.invalidar();
+        }
+    }
+
+    @Override
+    public void eliminar(Long id) throws SQLException, CentroNotFoundException {
+        try {
+            this.centroRepository.eliminar(id);
+        } finally {
+            this.invalidar();
+        }
+    }
+
+    @Override
+    public Centro actualizar(Centro centro) throws CentroNotFoundException, SQLException {
+        try {
+            return this.centroRepository.actualizar(centro);
+        } finally {
+            this.invalidar();
+        }
+    }
+
+    @Override
+    public List<Centro> guardarTodos(List<Centro> centros, int tamanoLote) throws InvalidCentroDataException, SQLException {
+        try {
+            return this.centroRepository.guardarTodos(centros, tamanoLote);
+        } finally {
+            this.invalidar();
+        }
+    }
+
+    @Override
+    public List<Centro> actualizarTodos(List<Centro> centros, int tamanoLote) throws CentroNotFoundException, InvalidCentroDataException, SQLException {
+        try {
+            return this.centroRepository.actualizarTodos(centros, tamanoLote);
+        } finally {
+            this.invalidar();
+        }
+    }
+
+    @Override
+    public boolean existePorId(Long id) throws SQLException {
+        if (id == null) return false;
+        return this.actualSinError().porId.containsKey(id) || this.centroRepository.existePorId(id);
+    }
+
+    @Override
+    public Centro obtenerCentroPorId(Long id) throws SQLException, CentroNotFoundException {
+        Centro centro = this.actualSinError().porId.get(id);
+        return centro != null ? this.copiar(centro) : this.centroRepository.obtenerCentroPorId(id);
+    }
+
+    @Override
+    public Map<Long, Centro> obtenerCentrosPorIds(Set<Long> ids) throws SQLException {
+        Map<Long, Centro> porId = this.actualSinError().porId;
+        Map<Long, Centro> centros = new HashMap<>();
+        boolean faltan = false;
+        for (Long id : ids) {
+            Centro centro = porId.get(id);
+            if (centro != null) {
+                centros.put(id, this.copiar(centro));
+            } else {
+                faltan = true;
+            }
+        }
+        if (faltan) {
+            for (Map.Entry<Long, Centro> entrada : this.centroRepository.obtenerCentrosPorIds(ids).entrySet()) {
+                centros.putIfAbsent(entrada.getKey(), entrada.getValue());
+            }
+        }
+        return centros;
+    }
+
+    private Instantanea actual() throws InvalidCentroDataException, SQLException {
+        Instantanea vigente = this.instantanea;
+        if (vigente != null && System.nanoTime() - vigente.cargadaEn < this.ttlNanos) {
+            return vigente;
+        }
+        return this.cargar();
+    }
+
+    private Instantanea actualSinError() throws SQLException {
+        try {
+            return this.actual();
+        } catch (InvalidCentroDataException e) {
+            throw new SQLException(e.getMessage(), e);
+        }
+    }
+
+    private Instantanea cargar() throws InvalidCentroDataException, SQLException {
+        synchronized (cargaLock) {
+            Instantanea vigente = this.instantanea;
+            if (vigente != null && System.nanoTime() - vigente.cargadaEn < this.ttlNanos) {
+                return vigente;
+            }
+            long versionInicial = this.version.get();
+            Instantanea nueva = new Instantanea(List.copyOf(this.centroRepository.listarCentros()));
+            if (versionInicial == this.version.get()) {
+                this.instantanea = nueva;
+            }
+            return nueva;
+        }
+    }
+
+    // Los centros son mutables; quien los recibe no debe poder alterar la cache
+    private Centro copiar(Centro centro) {
+        return new Centro(
+                centro.getIdCentro(),
+                centro.getNombre(),
+                centro.getCodigo(),
+                centro.getDireccionPostal(),
+                centro.getTelefono(),
+                centro.getEmail(),
+                centro.getDirectorGeneral(),
+                centro.getJefeRRHH(),
+                centro.getJefeContabilidad(),
+                centro.getSecretarioSindicato(),
+                centro.getLogo());
+    }
+}
@@ -8,6 +8,8 @@ import centro.persistence.CentroDaoImpl;
 
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public class CentroRepositoryImpl implements CentroRepository {
 
@@ -42,6 +44,16 @@ public class CentroRepositoryImpl implements CentroRepository {
         return this.centroDao.actualizar(centro);
     }
 
+    @Override
+    public List<Centro> guardarTodos(List<Centro> centros, int tamanoLote) throws InvalidCentroDataException, SQLException {
+        return this.centroDao.guardarTodos(centros, tamanoLote);
+    }
+
+    @Override
+    public List<Centro> actualizarTodos(List<Centro> centros, int tamanoLote) throws CentroNotFoundException, InvalidCentroDataException, SQLException {
+        return this.centroDao.actualizarTodos(centros, tamanoLote);
+    }
+
     @Override
     public boolean existePorId(Long id) throws SQLException {
         return this.centroDao.existePorId(id);
@@ -52,4 +64,9 @@ public class CentroRepositoryImpl implements CentroRepository {
         return this.centroDao.obtenerCentroPorId(id);
     }
 
+    @Override
+    public Map<Long, Centro> obtenerCentrosPorIds(Set<Long> ids) throws SQLException {
+        return this.centroDao.obtenerCentrosPorIds(ids);
+    }
+
 }
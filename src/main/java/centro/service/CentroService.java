@@ -6,6 +6,8 @@ import centro.model.Centro;
 
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public interface CentroService {
 
@@ -19,7 +21,17 @@ public interface CentroService {
 
     Centro actualizar(Centro centro) throws CentroNotFoundException, SQLException;
 
+    List<Centro> guardarTodos(List<Centro> centros) throws InvalidCentroDataException, SQLException;
+
+    List<Centro> guardarTodos(List<Centro> centros, int tamanoLote) throws InvalidCentroDataException, SQLException;
+
+    List<Centro> actualizarTodos(List<Centro> centros) throws CentroNotFoundException, InvalidCentroDataException, SQLException;
+
+    List<Centro> actualizarTodos(List<Centro> centros, int tamanoLote) throws CentroNotFoundException, InvalidCentroDataException, SQLException;
+
     boolean existePorId(Long id) throws SQLException, CentroNotFoundException;
 
     Centro buscarCentroPorId(Long id)throws SQLException, CentroNotFoundException;
+
+    Map<Long, Centro> buscarCentrosPorIds(Set<Long> ids) throws SQLException, CentroNotFoundException;
 }
@@ -4,9 +4,12 @@ import centro.exception.CentroNotFoundException;
 import centro.exception.InvalidCentroDataException;
 import centro.model.Centro;
 import centro.repository.CentroRepository;
+import db.JdbcBatch;
 
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public class CentroServiceImpl implements CentroService {
 
@@ -44,6 +47,47 @@ public class CentroServiceImpl implements CentroService {
         return this.centroRepository.actualizar(centro);
     }
 
+    @Override
+    public List<Centro> guardarTodos(List<Centro> centros) throws InvalidCentroDataException, SQLException {
+        return this.guardarTodos(centros, JdbcBatch.DEFAULT_BATCH_SIZE);
+    }
+
+    @Override
+    public List<Centro> guardarTodos(List<Centro> centros, int tamanoLote) throws InvalidCentroDataException, SQLException {
+        validarLote(centros, tamanoLote);
+        for (Centro centro : centros) {
+            CentroValidator.validate(centro);
+        }
+        return centros.isEmpty() ? centros : this.centroRepository.guardarTodos(centros, tamanoLote);
+    }
+
+    @Override
+    public List<Centro> actualizarTodos(List<Centro> centros) throws CentroNotFoundException, InvalidCentroDataException, SQLException {
+        return this.actualizarTodos(centros, JdbcBatch.DEFAULT_BATCH_SIZE);
+    }
+
+    @Override
+    public List<Centro> actualizarTodos(List<Centro> centros, int tamanoLote) throws CentroNotFoundException, InvalidCentroDataException, SQLException {
+        validarLote(centros, tamanoLote);
+        for (Centro centro : centros) {
+            CentroValidator.validate(centro);
+            if (centro.getIdCentro() == null) {
+                throw new InvalidCentroDataException("Todos los centros a actualizar deben tener id");
+            }
+        }
+        // Los ids inexistentes los detecta el propio lote, sin un existePorId por fila
+        return centros.isEmpty() ? centros : this.centroRepository.actualizarTodos(centros, tamanoLote);
+    }
+
+    private void validarLote(List<Centro> centros, int tamanoLote) throws InvalidCentroDataException {
+        if (centros == null) {
+            throw new InvalidCentroDataException("La lista de centros no puede ser nula");
+        }
+        if (tamanoLote <= 0) {
+            throw new InvalidCentroDataException("El tamaño de lote debe ser mayor que cero");
+        }
+    }
+
     @Override
     public boolean existePorId(Long id) throws SQLException, CentroNotFoundException {
         if (!this.centroRepository.existePorId(id)) {
@@ -56,4 +100,18 @@ public class CentroServiceImpl implements CentroService {
         this.existePorId(id);
         return this.centroRepository.obtenerCentroPorId(id);
     }
+
+    @Override
+    public Map<Long, Centro> buscarCentrosPorIds(Set<Long> ids) throws SQLException, CentroNotFoundException {
+        if (ids == null || ids.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Centro> centros = this.centroRepository.obtenerCentrosPorIds(ids);
+        for (Long id : ids) {
+            if (!centros.containsKey(id)) {
+                throw new CentroNotFoundException("El centro con %s no fue encontrado".formatted(id));
+            }
+        }
+        return centros;
+    }
 }
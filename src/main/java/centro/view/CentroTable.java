@@ -9,6 +9,9 @@ import java.util.List;
 
 import centro.controller.CentroController;
 import centro.dto.CentroResponseDto;
+import centro.exception.CentroNotFoundException;
+import view.LiveTableUpdater;
+import view.TableLoader;
 
 public class CentroTable extends JPanel {
     private JTable table;
@@ -17,6 +20,8 @@ public class CentroTable extends JPanel {
     private JComboBox<String> filterCombo;
     private CentroController centroController;
     private CentroSelectionListener selectionListener;
+    private TableLoader<CentroResponseDto> tableLoader;
+    private LiveTableUpdater<CentroResponseDto> liveUpdater;
     
     // Interface for selection events
     public interface CentroSelectionListener {
@@ -85,6 +90,14 @@ public class CentroTable extends JPanel {
             }
         };
         
+        tableLoader = new TableLoader<>(tableModel, this::toRow);
+        tableLoader.setKeyColumn(0);
+        tableLoader.setProgressListener(this::showLoadingProgress);
+        
+        // Changes made by other clients; new centros only belong in the unfiltered listing
+        liveUpdater = new LiveTableUpdater<>("centro", this::fetchCentro, CentroResponseDto::idCentro,
+            null, tableLoader, () -> tableModel, this::search, () -> searchField.getText().trim().isEmpty());
+        
         table = new JTable(tableModel);
         table.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
         table.setRowHeight(30);
@@ -164,19 +177,36 @@ public class CentroTable extends JPanel {
         add(bottomPanel, BorderLayout.SOUTH);
     }
     
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        liveUpdater.bind();
+    }
+    
+    @Override
+    public void removeNotify() {
+        liveUpdater.unbind();
+        super.removeNotify();
+    }
+    
+    private CentroResponseDto fetchCentro(Long id) throws Exception {
+        try {
+            return centroController.obtenerCentroResponseDto(id);
+        } catch (CentroNotFoundException e) {
+            return null;
+        }
+    }
+    
     public void loadData() {
-        SwingUtilities.invokeLater(() -> {
-            try {
-                List<CentroResponseDto> centros = centroController.obtenerCentros();
-                updateTable(centros);
-                updateCounter(centros.size());
-            } catch (Exception e) {
+        tableLoader.load(
+            centroController::obtenerCentros,
+            this::onCentrosLoaded,
+            e -> {
                 JOptionPane.showMessageDialog(this, 
                     "Error al cargar centros: " + e.getMessage(), 
                     "Error", JOptionPane.ERROR_MESSAGE);
                 e.printStackTrace();
-            }
-        });
+            });
     }
     
     private void search() {
@@ -184,25 +214,22 @@ public class CentroTable extends JPanel {
         if (criteria.isEmpty()) {
             loadData();
         } else {
-            try {
-                List<CentroResponseDto> allCentros = centroController.obtenerCentros();
-                List<CentroResponseDto> results = allCentros.stream()
+            String lowerCriteria = criteria.toLowerCase();
+            tableLoader.load(
+                () -> centroController.obtenerCentros().stream()
                     .filter(centro -> 
-                        centro.nombre().toLowerCase().contains(criteria.toLowerCase()) ||
-                        centro.codigo().toLowerCase().contains(criteria.toLowerCase()) ||
-                        centro.email().toLowerCase().contains(criteria.toLowerCase()) ||
+                        centro.nombre().toLowerCase().contains(lowerCriteria) ||
+                        centro.codigo().toLowerCase().contains(lowerCriteria) ||
+                        centro.email().toLowerCase().contains(lowerCriteria) ||
                         (centro.direccionPostal() != null && 
-                         centro.direccionPostal().toLowerCase().contains(criteria.toLowerCase())) ||
+                         centro.direccionPostal().toLowerCase().contains(lowerCriteria)) ||
                         (centro.directorGeneral() != null && 
-                         centro.directorGeneral().toLowerCase().contains(criteria.toLowerCase())))
-                    .toList();
-                updateTable(results);
-                updateCounter(results.size());
-            } catch (Exception e) {
-                JOptionPane.showMessageDialog(this, 
+                         centro.directorGeneral().toLowerCase().contains(lowerCriteria)))
+                    .toList(),
+                this::onCentrosLoaded,
+                e -> JOptionPane.showMessageDialog(this, 
                     "Error al buscar: " + e.getMessage(), 
-                    "Error", JOptionPane.ERROR_MESSAGE);
-            }
+                    "Error", JOptionPane.ERROR_MESSAGE));
         }
     }
     
@@ -234,28 +261,39 @@ public class CentroTable extends JPanel {
         }
     }
     
-    private void updateTable(List<CentroResponseDto> centros) {
-        tableModel.setRowCount(0);
-        
-        for (CentroResponseDto centro : centros) {
-            Object[] row = {
-                centro.idCentro(),  // ID
-                centro.nombre(),    // Nombre
-                centro.codigo(),    // Código
-                centro.direccionPostal(), // Dirección
-                centro.telefono(),  // Teléfono
-                centro.email(),     // Email
-                centro.directorGeneral() // Director
-            };
-            tableModel.addRow(row);
-        }
-        
+    private Object[] toRow(CentroResponseDto centro) {
+        return new Object[]{
+            centro.idCentro(),  // ID
+            centro.nombre(),    // Nombre
+            centro.codigo(),    // Código
+            centro.direccionPostal(), // Dirección
+            centro.telefono(),  // Teléfono
+            centro.email(),     // Email
+            centro.directorGeneral() // Director
+        };
+    }
+    
+    private void onCentrosLoaded(List<CentroResponseDto> centros) {
         // Sort by name by default
         TableRowSorter<DefaultTableModel> sorter = new TableRowSorter<>(tableModel);
         table.setRowSorter(sorter);
         List<RowSorter.SortKey> sortKeys = new java.util.ArrayList<>();
         sortKeys.add(new RowSorter.SortKey(1, SortOrder.ASCENDING)); // Column Name
         sorter.setSortKeys(sortKeys);
+        
+        updateCounter(centros.size());
+    }
+    
+    private void showLoadingProgress(int percent) {
+        if (percent >= 100) {
+            return;
+        }
+        for (Component comp : ((JPanel)getComponent(2)).getComponents()) {
+            if (comp instanceof JLabel && "countLabel".equals(comp.getName())) {
+                ((JLabel) comp).setText("Cargando... " + percent + "%");
+                break;
+            }
+        }
     }
     
     private void updateCounter(int count) {
@@ -5,9 +5,12 @@ import conductor.exception.DriverNotFoundException;
 import conductor.exception.InvalidDriverDataException;
 import conductor.mapper.DriverMapper;
 import conductor.model.Driver;
+import conductor.model.DriverImportResult;
+import conductor.model.DriverPageKey;
 import conductor.service.DriverServiceInterface;
 import conductor.validator.DriverValidator;
 
+import java.nio.file.Path;
 import java.sql.SQLException;
 import java.util.List;
 
@@ -24,12 +27,49 @@ public class DriverController {
         return this.driverService.save(driver);
     }
 
+    public DriverImportResult importDriversFromCsv(Path csvFile, Path errorFile) throws InvalidDriverDataException, SQLException {
+        return this.driverService.importCsv(csvFile, errorFile);
+    }
+
     public List<DriverResponseDto> getAllDrivers() throws InvalidDriverDataException, SQLException {
         return this.driverService.listAllDrivers().stream()
                 .map(DriverMapper::toDriverResponseDto)
                 .toList();
     }
 
+    // Pass null to get the first page, then the key of the last driver received
+    public List<DriverResponseDto> getDriversPage(DriverPageKey afterKey, int limit) throws InvalidDriverDataException, SQLException {
+        return this.driverService.listPage(afterKey, limit).stream()
+                .map(DriverMapper::toDriverResponseDto)
+                .toList();
+    }
+
+    public List<DriverResponseDto> searchDrivers(String criteria, int limit) throws InvalidDriverDataException, SQLException {
+        validateTextNotNull(criteria, "Search criteria");
+        return this.driverService.search(criteria, limit).stream()
+                .map(DriverMapper::toDriverResponseDto)
+                .toList();
+    }
+
+    public List<DriverResponseDto> searchDriversFuzzy(String text, int limit) throws InvalidDriverDataException, SQLException {
+        validateTextNotNull(text, "Search text");
+        return this.driverService.searchFuzzy(text, limit).stream()
+                .map(DriverMapper::toDriverResponseDto)
+                .toList();
+    }
+
+    public DriverPageKey getPageKey(DriverResponseDto driver) {
+        return new DriverPageKey(driver.lastName(), driver.firstName(), driver.id());
+    }
+
+    public DriverPageKey getPageKeyAt(int position) throws InvalidDriverDataException, SQLException {
+        return this.driverService.getPageKeyAt(position);
+    }
+
+    public int countAllDrivers() throws SQLException {
+        return this.driverService.countAllDrivers();
+    }
+
     public DriverResponseDto getDriverResponseById(Long id) throws InvalidDriverDataException, SQLException, DriverNotFoundException {
         validateIdNotNull(id);
         return DriverMapper.toDriverResponseDto(this.driverService.getById(id));
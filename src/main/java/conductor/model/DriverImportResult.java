@@ -0,0 +1,7 @@
+package conductor.model;
+
+import java.nio.file.Path;
+
+// Summary of a CSV import; rejected rows are written to errorFile with the reason appended
+public record DriverImportResult(long read, long imported, long rejected, Path errorFile) {
+}
@@ -0,0 +1,10 @@
+package conductor.model;
+
+// Cursor for keyset pagination: position of the last driver of the previous page
+// in the listing order (apellidos, nombre, id_conductor)
+public record DriverPageKey(String lastName, String firstName, Long id) {
+
+    public static DriverPageKey of(Driver driver) {
+        return new DriverPageKey(driver.getLastName(), driver.getFirstName(), driver.getId());
+    }
+}
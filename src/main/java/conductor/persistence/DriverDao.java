@@ -3,16 +3,44 @@ package conductor.persistence;
 import conductor.exception.DriverNotFoundException;
 import conductor.exception.InvalidDriverDataException;
 import conductor.model.Driver;
+import conductor.model.DriverPageKey;
 import db.ConnectionPool;
+import db.ReplicaRouter;
+import db.JdbcBatch;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
 
+import java.io.IOException;
+import java.io.StringReader;
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.List;
 
 public class DriverDao implements DriverDaoInterface {
 
+    private final DriverIdFilter driverIds;
+
+    public DriverDao() {
+        this(new DriverIdFilter());
+    }
+
+    public DriverDao(DriverIdFilter driverIds) {
+        this.driverIds = driverIds;
+    }
+
+    // Primary, for reads that must be current
     private Connection getConnection() throws SQLException {
-        return ConnectionPool.getConnection();
+        return ReplicaRouter.getConnection();
+    }
+
+    // Primary, for methods that change data (see ReplicaRouter)
+    private Connection getWriteConnection() throws SQLException {
+        return ReplicaRouter.getWriteConnection();
+    }
+
+    // Full-table reads go to the replica, or to their own pool so they cannot starve the CRUD paths
+    private Connection getReportingConnection() throws SQLException {
+        return ReplicaRouter.getReadOnlyConnection(ConnectionPool.REPORTING);
     }
 
     @Override
@@ -21,7 +49,7 @@ public class DriverDao implements DriverDaoInterface {
         List<Driver> drivers = new ArrayList<>();
         
         try (
-            Connection conn = this.getConnection();
+            Connection conn = this.getReportingConnection();
             PreparedStatement statement = conn.prepareStatement(sql);
             ResultSet resultSet = statement.executeQuery()
         ) {
@@ -36,6 +64,160 @@ public class DriverDao implements DriverDaoInterface {
         return drivers;
     }
 
+    @Override
+    public List<Driver> listPage(DriverPageKey afterKey, int limit) throws InvalidDriverDataException, SQLException {
+        // Keyset pagination: id_conductor breaks ties between drivers with the same name
+        String sql = afterKey == null
+            ? "SELECT * FROM conductor ORDER BY apellidos, nombre, id_conductor LIMIT ?"
+            : "SELECT * FROM conductor WHERE (apellidos, nombre, id_conductor) > (?, ?, ?) " +
+              "ORDER BY apellidos, nombre, id_conductor LIMIT ?";
+        List<Driver> drivers = new ArrayList<>(limit);
+        
+        try (
+            Connection conn = this.getConnection();
+            PreparedStatement statement = conn.prepareStatement(sql)
+        ) {
+            int index = 1;
+            if (afterKey != null) {
+                statement.setString(index++, afterKey.lastName());
+                statement.setString(index++, afterKey.firstName());
+                statement.setLong(index++, afterKey.id());
+            }
+            statement.setInt(index, limit);
+            
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    drivers.add(mapResultSetToDriver(resultSet));
+                }
+            }
+        } catch (SQLException e) {
+            throw new InvalidDriverDataException("Error al listar página de conductores", e);
+        }
+        
+        return drivers;
+    }
+
+    @Override
+    public DriverPageKey getPageKeyAt(int position) throws InvalidDriverDataException, SQLException {
+        // Only reads the key columns, used to jump to a page whose previous page was never loaded
+        String sql = "SELECT apellidos, nombre, id_conductor FROM conductor " +
+                     "ORDER BY apellidos, nombre, id_conductor OFFSET ? LIMIT 1";
+        
+        try (
+            Connection conn = this.getConnection();
+            PreparedStatement statement = conn.prepareStatement(sql)
+        ) {
+            statement.setInt(1, position);
+            
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (resultSet.next()) {
+                    return new DriverPageKey(
+                        resultSet.getString("apellidos"),
+                        resultSet.getString("nombre"),
+                        resultSet.getLong("id_conductor")
+                    );
+                }
+            }
+        } catch (SQLException e) {
+            throw new InvalidDriverDataException("Error al obtener la clave de página en la posición " + position, e);
+        }
+        
+        return null;
+    }
+
+    @Override
+    public List<Driver> search(String criteria, int limit) throws InvalidDriverDataException, SQLException {
+        // Prefix matches only, so each branch can use its text_pattern_ops index
+        String sql = "SELECT * FROM conductor " +
+                     "WHERE documento_identidad LIKE ? OR lower(apellidos) LIKE ? " +
+                     "OR lower(nombre) LIKE ? OR lower(email) LIKE ? " +
+                     "ORDER BY apellidos, nombre, id_conductor LIMIT ?";
+        List<Driver> drivers = new ArrayList<>();
+        
+        try (
+            Connection conn = this.getConnection();
+            PreparedStatement statement = conn.prepareStatement(sql)
+        ) {
+            String term = criteria.trim();
+            String prefix = escapeLike(term.toLowerCase()) + "%";
+            statement.setString(1, escapeLike(term) + "%");
+            statement.setString(2, prefix);
+            statement.setString(3, prefix);
+            statement.setString(4, prefix);
+            statement.setInt(5, limit);
+            
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    drivers.add(mapResultSetToDriver(resultSet));
+                }
+            }
+        } catch (SQLException e) {
+            throw new InvalidDriverDataException("Error al buscar conductores", e);
+        }
+        
+        return drivers;
+    }
+
+    @Override
+    public List<Driver> searchFuzzy(String text, int limit) throws InvalidDriverDataException, SQLException {
+        String term = text.trim().toLowerCase();
+        // pg_trgm cannot index fewer than three characters, a prefix search is cheaper there
+        if (term.length() < 3) {
+            return search(term, limit);
+        }
+        
+        // Substring and similarity matches both use the GIN trigram indexes; best matches first
+        String sql = "SELECT * FROM conductor " +
+                     "WHERE lower(nombre || ' ' || apellidos) LIKE ? OR documento_identidad LIKE ? " +
+                     "OR lower(email) LIKE ? OR lower(nombre || ' ' || apellidos) % ? " +
+                     "ORDER BY GREATEST(similarity(lower(nombre || ' ' || apellidos), ?), " +
+                     "similarity(documento_identidad, ?), similarity(lower(email), ?)) DESC, " +
+                     "apellidos, nombre, id_conductor LIMIT ?";
+        List<Driver> drivers = new ArrayList<>();
+        
+        try (
+            Connection conn = this.getConnection();
+            PreparedStatement statement = conn.prepareStatement(sql)
+        ) {
+            String contains = "%" + escapeLike(term) + "%";
+            statement.setString(1, contains);
+            statement.setString(2, contains);
+            statement.setString(3, contains);
+            statement.setString(4, term);
+            statement.setString(5, term);
+            statement.setString(6, term);
+            statement.setString(7, term);
+            statement.setInt(8, limit);
+            
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    drivers.add(mapResultSetToDriver(resultSet));
+                }
+            }
+        } catch (SQLException e) {
+            throw new InvalidDriverDataException("Error en la búsqueda aproximada de conductores", e);
+        }
+        
+        return drivers;
+    }
+
+    @Override
+    public int countAllDrivers() throws SQLException {
+        String sql = "SELECT COUNT(*) FROM conductor";
+        
+        try (
+            Connection conn = this.getConnection();
+            PreparedStatement statement = conn.prepareStatement(sql);
+            ResultSet resultSet = statement.executeQuery()
+        ) {
+            if (resultSet.next()) {
+                return resultSet.getInt(1);
+            }
+        }
+        
+        return 0;
+    }
+
     @Override
     public Driver getById(Long id) throws SQLException, DriverNotFoundException {
         String sql = "SELECT * FROM conductor WHERE id_conductor = ?";
@@ -82,7 +264,7 @@ public class DriverDao implements DriverDaoInterface {
                 "direccion, telefono, email, estado_licencia) VALUES (?, ?, ?, ?, ?, ?, ?, ?::estado_licencia_enum)";
     
     try (
-        Connection conn = this.getConnection();
+        Connection conn = this.getWriteConnection();
         PreparedStatement statement = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)
     ) {
         statement.setString(1, driver.getFirstName());
@@ -100,6 +282,7 @@ public class DriverDao implements DriverDaoInterface {
             try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
                 if (generatedKeys.next()) {
                     driver.setId(generatedKeys.getLong(1));
+                    driverIds.add(driver.getId());
                     return driver;
                 }
             }
@@ -115,12 +298,93 @@ public class DriverDao implements DriverDaoInterface {
     }
 }
 
+    @Override
+    public List<Integer> copyDrivers(List<Driver> drivers) throws InvalidDriverDataException, SQLException {
+        // COPY aborts on the first constraint error, so rows are copied into a staging table and
+        // moved with ON CONFLICT; documents that already exist are skipped and reported back.
+        // The staging table lives only for this transaction
+        String createStaging = "CREATE TEMP TABLE conductor_importacion (" +
+                               "fila INT, nombre VARCHAR(100), apellidos VARCHAR(150), documento_identidad VARCHAR(50), " +
+                               "fecha_nacimiento DATE, direccion VARCHAR(200), telefono VARCHAR(50), email VARCHAR(150), " +
+                               "estado_licencia VARCHAR(20)) ON COMMIT DROP";
+        String copy = "COPY conductor_importacion FROM STDIN WITH (FORMAT csv)";
+        String insert = "WITH insertados AS (" +
+                        "  INSERT INTO conductor (nombre, apellidos, documento_identidad, fecha_nacimiento, " +
+                        "                         direccion, telefono, email, estado_licencia) " +
+                        "  SELECT nombre, apellidos, documento_identidad, fecha_nacimiento, " +
+                        "         direccion, telefono, email, estado_licencia::estado_licencia_enum " +
+                        "  FROM conductor_importacion ORDER BY fila " +
+                        "  ON CONFLICT (documento_identidad) DO NOTHING " +
+                        "  RETURNING documento_identidad" +
+                        ") " +
+                        "SELECT s.fila FROM conductor_importacion s " +
+                        "WHERE NOT EXISTS (SELECT 1 FROM insertados i WHERE i.documento_identidad = s.documento_identidad) " +
+                        "ORDER BY s.fila";
+        
+        StringBuilder csv = new StringBuilder(drivers.size() * 128);
+        for (int i = 0; i < drivers.size(); i++) {
+            Driver driver = drivers.get(i);
+            csv.append(i).append(',');
+            appendCsvField(csv, driver.getFirstName()).append(',');
+            appendCsvField(csv, driver.getLastName()).append(',');
+            appendCsvField(csv, driver.getIdDocument()).append(',');
+            appendCsvField(csv, driver.getBirthDate()).append(',');
+            appendCsvField(csv, driver.getAddress()).append(',');
+            appendCsvField(csv, driver.getPhone()).append(',');
+            appendCsvField(csv, driver.getEmail()).append(',');
+            appendCsvField(csv, driver.getLicenseStatus()).append('\n');
+        }
+        
+        List<Integer> skipped = new ArrayList<>();
+        
+        try (Connection conn = this.getWriteConnection()) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try {
+                try (Statement statement = conn.createStatement()) {
+                    statement.execute(createStaging);
+                }
+                
+                CopyManager copyManager = conn.unwrap(PGConnection.class).getCopyAPI();
+                copyManager.copyIn(copy, new StringReader(csv.toString()));
+                
+                try (
+                    PreparedStatement statement = conn.prepareStatement(insert);
+                    ResultSet resultSet = statement.executeQuery()
+                ) {
+                    while (resultSet.next()) {
+                        skipped.add(resultSet.getInt("fila"));
+                    }
+                }
+                
+                conn.commit();
+            } catch (SQLException | IOException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException | IOException e) {
+            throw new InvalidDriverDataException("Error al importar el lote de conductores", e);
+        }
+        
+        return skipped;
+    }
+
+    // Quoted so commas, quotes and line breaks survive; null stays unquoted, which COPY reads as NULL
+    private StringBuilder appendCsvField(StringBuilder csv, String value) {
+        if (value != null) {
+            csv.append('"').append(value.replace("\"", "\"\"")).append('"');
+        }
+        return csv;
+    }
+
     @Override
     public void delete(Long id) throws SQLException, DriverNotFoundException {
         String sql = "DELETE FROM conductor WHERE id_conductor = ?";
         
         try (
-            Connection conn = this.getConnection();
+            Connection conn = this.getWriteConnection();
             PreparedStatement statement = conn.prepareStatement(sql)
         ) {
             statement.setLong(1, id);
@@ -131,6 +395,7 @@ public class DriverDao implements DriverDaoInterface {
                 throw new DriverNotFoundException("Conductor con ID " + id + " no encontrado para eliminar");
             }
         }
+        driverIds.remove(id);
     }
 
     @Override
@@ -140,7 +405,7 @@ public class DriverDao implements DriverDaoInterface {
                 "WHERE id_conductor = ?";
     
     try (
-        Connection conn = this.getConnection();
+        Connection conn = this.getWriteConnection();
         PreparedStatement statement = conn.prepareStatement(sql)
     ) {
         statement.setString(1, driver.getFirstName());
@@ -169,6 +434,63 @@ public class DriverDao implements DriverDaoInterface {
     }
 }
     
+    @Override
+    public List<Driver> saveAll(List<Driver> drivers, int batchSize) throws InvalidDriverDataException, SQLException {
+        String sql = "INSERT INTO conductor (nombre, apellidos, documento_identidad, fecha_nacimiento, " +
+                    "direccion, telefono, email, estado_licencia) VALUES (?, ?, ?, ?, ?, ?, ?, ?::estado_licencia_enum)";
+        
+        try (Connection conn = this.getWriteConnection()) {
+            JdbcBatch.insertAll(conn, sql, drivers, batchSize, this::bindDriver, Driver::setId);
+            for (Driver driver : drivers) {
+                driverIds.add(driver.getId());
+            }
+            return drivers;
+        } catch (SQLException e) {
+            throw toBatchException(e, "Error al guardar el lote de conductores");
+        }
+    }
+
+    @Override
+    public List<Driver> updateAll(List<Driver> drivers, int batchSize) throws DriverNotFoundException, InvalidDriverDataException, SQLException {
+        String sql = "UPDATE conductor SET nombre = ?, apellidos = ?, documento_identidad = ?, " +
+                    "fecha_nacimiento = ?, direccion = ?, telefono = ?, email = ?, estado_licencia = ?::estado_licencia_enum " +
+                    "WHERE id_conductor = ?";
+        int missing;
+        
+        try (Connection conn = this.getWriteConnection()) {
+            missing = JdbcBatch.updateAll(conn, sql, drivers, batchSize, (statement, driver) -> {
+                bindDriver(statement, driver);
+                statement.setLong(9, driver.getId());
+            });
+        } catch (SQLException e) {
+            throw toBatchException(e, "Error al actualizar el lote de conductores");
+        }
+        
+        if (missing >= 0) {
+            throw new DriverNotFoundException("Conductor con ID " + drivers.get(missing).getId() + " no encontrado para actualizar");
+        }
+        return drivers;
+    }
+
+    private void bindDriver(PreparedStatement statement, Driver driver) throws SQLException {
+        statement.setString(1, driver.getFirstName());
+        statement.setString(2, driver.getLastName());
+        statement.setString(3, driver.getIdDocument());
+        statement.setDate(4, Date.valueOf(driver.getBirthDate()));
+        statement.setString(5, driver.getAddress());
+        statement.setString(6, driver.getPhone());
+        statement.setString(7, driver.getEmail());
+        statement.setString(8, driver.getLicenseStatus());
+    }
+
+    private InvalidDriverDataException toBatchException(SQLException e, String message) {
+        SQLException cause = JdbcBatch.cause(e);
+        if ("23505".equals(cause.getSQLState())) { // Unique constraint violation
+            return new InvalidDriverDataException("Ya existe un conductor con este documento de identidad: " + cause.getMessage(), e);
+        }
+        return new InvalidDriverDataException(message, e);
+    }
+    
     @Override
     public boolean existsById(Long id) throws SQLException {
         if (id == null) return false;
@@ -213,6 +535,10 @@ public class DriverDao implements DriverDaoInterface {
         return false;
     }
 
+    private String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
     private Driver mapResultSetToDriver(ResultSet resultSet) throws SQLException {
         String firstName = resultSet.getString("nombre");
         String lastName = resultSet.getString("apellidos");
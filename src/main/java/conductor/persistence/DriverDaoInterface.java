@@ -3,6 +3,7 @@ package conductor.persistence;
 import conductor.exception.DriverNotFoundException;
 import conductor.exception.InvalidDriverDataException;
 import conductor.model.Driver;
+import conductor.model.DriverPageKey;
 
 import java.sql.SQLException;
 import java.util.List;
@@ -10,16 +11,33 @@ import java.util.List;
 public interface DriverDaoInterface {
     List<Driver> listAllDrivers() throws InvalidDriverDataException, SQLException;
 
+    List<Driver> listPage(DriverPageKey afterKey, int limit) throws InvalidDriverDataException, SQLException;
+
+    DriverPageKey getPageKeyAt(int position) throws InvalidDriverDataException, SQLException;
+
+    List<Driver> search(String criteria, int limit) throws InvalidDriverDataException, SQLException;
+
+    List<Driver> searchFuzzy(String text, int limit) throws InvalidDriverDataException, SQLException;
+
+    int countAllDrivers() throws SQLException;
+
     Driver getById(Long id) throws SQLException, DriverNotFoundException;
 
     Driver getByIdDocument(String idDocument) throws SQLException, DriverNotFoundException;
 
     Driver save(Driver driver) throws InvalidDriverDataException, SQLException;
 
+    // Bulk load through COPY; returns the positions skipped because their document already exists
+    List<Integer> copyDrivers(List<Driver> drivers) throws InvalidDriverDataException, SQLException;
+
     void delete(Long id) throws SQLException, DriverNotFoundException;
 
     Driver update(Driver driver) throws DriverNotFoundException, SQLException;
 
+    List<Driver> saveAll(List<Driver> drivers, int batchSize) throws InvalidDriverDataException, SQLException;
+
+    List<Driver> updateAll(List<Driver> drivers, int batchSize) throws DriverNotFoundException, InvalidDriverDataException, SQLException;
+
     boolean existsById(Long id) throws SQLException;
 
     boolean existsByIdDocument(String idDocument) throws SQLException;
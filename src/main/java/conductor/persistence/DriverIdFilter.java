@@ -0,0 +1,101 @@
+package conductor.persistence;
+
+import db.ConnectionPool;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.BitSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Known driver ids as a bitset indexed by the SERIAL id (a million drivers fit in ~125 KB).
+// A set bit means the driver exists, so the license and exam DAOs can skip their
+// SELECT COUNT(*) round trip. A clear bit only means "not known": callers still ask the
+// database and record the id if it turns out to exist. DriverDao writes must be visible to
+// the other DAOs, so ApplicationContext hands the same instance to all three.
+public final class DriverIdFilter {
+
+    private final Object lock = new Object();
+    private final Object loadLock = new Object();
+    // Bumped by every removal so a bulk load that raced with a delete is not installed
+    private final AtomicLong version = new AtomicLong();
+    private BitSet ids = new BitSet();
+    private volatile boolean loaded;
+
+    // True only when the driver is known to exist; false means the database must be asked
+    public boolean isKnown(Long driverId) throws SQLException {
+        if (!fitsInBitSet(driverId)) {
+            return false;
+        }
+        if (!loaded) {
+            load();
+        }
+        synchronized (lock) {
+            return ids.get(driverId.intValue());
+        }
+    }
+
+    public void add(Long driverId) {
+        if (fitsInBitSet(driverId)) {
+            synchronized (lock) {
+                ids.set(driverId.intValue());
+            }
+        }
+    }
+
+    public void remove(Long driverId) {
+        if (fitsInBitSet(driverId)) {
+            version.incrementAndGet();
+            synchronized (lock) {
+                ids.clear(driverId.intValue());
+            }
+        }
+    }
+
+    public void invalidate() {
+        version.incrementAndGet();
+        synchronized (lock) {
+            ids = new BitSet();
+            loaded = false;
+        }
+    }
+
+    private static boolean fitsInBitSet(Long driverId) {
+        return driverId != null && driverId >= 0 && driverId < Integer.MAX_VALUE;
+    }
+
+    // Only one thread scans the table; the others wait and reuse its result
+    private void load() throws SQLException {
+        synchronized (loadLock) {
+            if (loaded) {
+                return;
+            }
+            long initialVersion = version.get();
+            String sql = "SELECT id_conductor FROM conductor";
+            BitSet read = new BitSet();
+
+            try (
+                Connection conn = ConnectionPool.getConnection(ConnectionPool.REPORTING);
+                PreparedStatement statement = conn.prepareStatement(sql);
+                ResultSet resultSet = statement.executeQuery()
+            ) {
+                while (resultSet.next()) {
+                    long id = resultSet.getLong(1);
+                    if (id >= 0 && id < Integer.MAX_VALUE) {
+                        read.set((int) id);
+                    }
+                }
+            }
+
+            synchronized (lock) {
+                if (initialVersion == version.get()) {
+                    // Keep ids added while the query ran
+                    read.or(ids);
+                    ids = read;
+                    loaded = true;
+                }
+            }
+        }
+    }
+}
@@ -3,6 +3,7 @@ package conductor.repository;
 import conductor.exception.DriverNotFoundException;
 import conductor.exception.InvalidDriverDataException;
 import conductor.model.Driver;
+import conductor.model.DriverPageKey;
 import conductor.persistence.DriverDao;
 
 import java.sql.SQLException;
@@ -21,6 +22,31 @@ public class DriverRepository implements DriverRepositoryInterface {
         return this.driverDao.listAllDrivers();
     }
 
+    @Override
+    public List<Driver> listPage(DriverPageKey afterKey, int limit) throws InvalidDriverDataException, SQLException {
+        return this.driverDao.listPage(afterKey, limit);
+    }
+
+    @Override
+    public DriverPageKey getPageKeyAt(int position) throws InvalidDriverDataException, SQLException {
+        return this.driverDao.getPageKeyAt(position);
+    }
+
+    @Override
+    public List<Driver> search(String criteria, int limit) throws InvalidDriverDataException, SQLException {
+        return this.driverDao.search(criteria, limit);
+    }
+
+    @Override
+    public List<Driver> searchFuzzy(String text, int limit) throws InvalidDriverDataException, SQLException {
+        return this.driverDao.searchFuzzy(text, limit);
+    }
+
+    @Override
+    public int countAllDrivers() throws SQLException {
+        return this.driverDao.countAllDrivers();
+    }
+
     @Override
     public Driver getById(Long id) throws SQLException, DriverNotFoundException {
         return this.driverDao.getById(id);
@@ -36,6 +62,11 @@ public class DriverRepository implements DriverRepositoryInterface {
         return this.driverDao.save(driver);
     }
 
+    @Override
+    public List<Integer> copyDrivers(List<Driver> drivers) throws InvalidDriverDataException, SQLException {
+        return this.driverDao.copyDrivers(drivers);
+    }
+
     @Override
     public void delete(Long id) throws SQLException, DriverNotFoundException {
         this.driverDao.delete(id);
@@ -46,6 +77,16 @@ public class DriverRepository implements DriverRepositoryInterface {
         return this.driverDao.update(driver);
     }
 
+    @Override
+    public List<Driver> saveAll(List<Driver> drivers, int batchSize) throws InvalidDriverDataException, SQLException {
+        return this.driverDao.saveAll(drivers, batchSize);
+    }
+
+    @Override
+    public List<Driver> updateAll(List<Driver> drivers, int batchSize) throws DriverNotFoundException, InvalidDriverDataException, SQLException {
+        return this.driverDao.updateAll(drivers, batchSize);
+    }
+
     @Override
     public boolean existsById(Long id) throws SQLException {
         return this.driverDao.existsById(id);
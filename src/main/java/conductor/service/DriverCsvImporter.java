@@ -0,0 +1,241 @@
+package conductor.service;
+
+import conductor.exception.InvalidDriverDataException;
+import conductor.model.Driver;
+import conductor.model.DriverImportResult;
+import conductor.repository.DriverRepositoryInterface;
+import conductor.validator.DriverValidator;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.IntStream;
+
+// Imports drivers from a CSV file whose header names the conductor columns (nombre, apellidos,
+// documento_identidad, fecha_nacimiento and optionally direccion, telefono, email, estado_licencia).
+// The file is streamed in chunks: each chunk is parsed and validated in parallel while the previous
+// one is being copied, so at most two chunks are in memory whatever the file size.
+// Rows are one per line; quoted fields may contain commas but not line breaks.
+public class DriverCsvImporter {
+
+    public static final int DEFAULT_CHUNK_SIZE = 5000;
+
+    private static final String[] REQUIRED_COLUMNS = {"nombre", "apellidos", "documento_identidad", "fecha_nacimiento"};
+
+    private final DriverRepositoryInterface driverRepository;
+    private final int chunkSize;
+
+    private record Row(long lineNumber, String line) {
+    }
+
+    private record ValidatedChunk(List<Row> rows, List<Driver> valid, List<Integer> validIndexes, List<String> errors) {
+    }
+
+    public DriverCsvImporter(DriverRepositoryInterface driverRepository) {
+        this(driverRepository, DEFAULT_CHUNK_SIZE);
+    }
+
+    public DriverCsvImporter(DriverRepositoryInterface driverRepository, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("El tamaño de bloque debe ser mayor que cero");
+        }
+        this.driverRepository = driverRepository;
+        this.chunkSize = chunkSize;
+    }
+
+    public DriverImportResult importFile(Path csvFile, Path errorFile) throws InvalidDriverDataException, SQLException {
+        try (
+            BufferedReader reader = Files.newBufferedReader(csvFile, StandardCharsets.UTF_8);
+            BufferedWriter errors = Files.newBufferedWriter(errorFile, StandardCharsets.UTF_8)
+        ) {
+            String header = reader.readLine();
+            if (header == null) {
+                throw new InvalidDriverDataException("El archivo CSV está vacío");
+            }
+            if (header.startsWith("\uFEFF")) {
+                header = header.substring(1);
+            }
+            Map<String, Integer> columns = readHeader(header);
+            errors.write(header + ",error");
+            errors.newLine();
+
+            long read = 0;
+            long imported = 0;
+            long rejected = 0;
+            long[] lineNumber = {1};
+
+            CompletableFuture<ValidatedChunk> pending = validateNext(reader, columns, lineNumber);
+            while (pending != null) {
+                ValidatedChunk chunk = join(pending);
+                // Validate the next chunk while this one is copied
+                pending = validateNext(reader, columns, lineNumber);
+
+                read += chunk.rows().size();
+                List<String> reasons = chunk.errors();
+                if (!chunk.valid().isEmpty()) {
+                    List<Integer> skipped = this.driverRepository.copyDrivers(chunk.valid());
+                    imported += chunk.valid().size() - skipped.size();
+                    for (int position : skipped) {
+                        reasons.set(chunk.validIndexes().get(position), "Ya existe un conductor con este documento de identidad");
+                    }
+                }
+
+                for (int i = 0; i < chunk.rows().size(); i++) {
+                    if (reasons.get(i) != null) {
+                        Row row = chunk.rows().get(i);
+                        errors.write(row.line() + "," + quote("Línea " + row.lineNumber() + ": " + reasons.get(i)));
+                        errors.newLine();
+                        rejected++;
+                    }
+                }
+            }
+
+            return new DriverImportResult(read, imported, rejected, errorFile);
+        } catch (IOException e) {
+            throw new InvalidDriverDataException("Error al leer el archivo de importación: " + e.getMessage(), e);
+        }
+    }
+
+    private Map<String, Integer> readHeader(String header) throws InvalidDriverDataException {
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> names = parseLine(header);
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim().toLowerCase(), i);
+        }
+        for (String required : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(required)) {
+                throw new InvalidDriverDataException("Falta la columna obligatoria '" + required + "' en la cabecera del CSV");
+            }
+        }
+        return columns;
+    }
+
+    private CompletableFuture<ValidatedChunk> validateNext(BufferedReader reader, Map<String, Integer> columns,
+                                                           long[] lineNumber) throws IOException {
+        // Reading stays on the calling thread
+        List<Row> rows = new ArrayList<>(chunkSize);
+        String line;
+        while (rows.size() < chunkSize && (line = reader.readLine()) != null) {
+            lineNumber[0]++;
+            if (!line.isBlank()) {
+                rows.add(new Row(lineNumber[0], line));
+            }
+        }
+        if (rows.isEmpty()) {
+            return null;
+        }
+        return CompletableFuture.supplyAsync(() -> validate(rows, columns));
+    }
+
+    private ValidatedChunk validate(List<Row> rows, Map<String, Integer> columns) {
+        Driver[] drivers = new Driver[rows.size()];
+        String[] errors = new String[rows.size()];
+        IntStream.range(0, rows.size()).parallel().forEach(i -> {
+            try {
+                Driver driver = toDriver(parseLine(rows.get(i).line()), columns);
+                DriverValidator.validate(driver);
+                drivers[i] = driver;
+            } catch (InvalidDriverDataException e) {
+                errors[i] = e.getMessage();
+            }
+        });
+
+        // A document repeated inside the chunk would be dropped silently by ON CONFLICT
+        Set<String> documents = new HashSet<>();
+        List<Driver> valid = new ArrayList<>(rows.size());
+        List<Integer> validIndexes = new ArrayList<>(rows.size());
+        List<String> reasons = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            if (errors[i] == null && !documents.add(drivers[i].getIdDocument())) {
+                errors[i] = "Documento de identidad repetido en el archivo";
+            }
+            reasons.add(errors[i]);
+            if (errors[i] == null) {
+                valid.add(drivers[i]);
+                validIndexes.add(i);
+            }
+        }
+        return new ValidatedChunk(rows, valid, validIndexes, reasons);
+    }
+
+    private Driver toDriver(List<String> fields, Map<String, Integer> columns) throws InvalidDriverDataException {
+        if (fields.size() < columns.size()) {
+            throw new InvalidDriverDataException("La fila tiene " + fields.size() + " columnas, se esperaban " + columns.size());
+        }
+        return new Driver(
+            field(fields, columns, "nombre"),
+            field(fields, columns, "apellidos"),
+            field(fields, columns, "documento_identidad"),
+            field(fields, columns, "fecha_nacimiento"),
+            field(fields, columns, "direccion"),
+            field(fields, columns, "telefono"),
+            field(fields, columns, "email"),
+            field(fields, columns, "estado_licencia")
+        );
+    }
+
+    // Trimmed value of an optional column, null when the column is absent or empty
+    private String field(List<String> fields, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    static List<String> parseLine(String line) throws InvalidDriverDataException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new InvalidDriverDataException("Comillas sin cerrar en la fila");
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    private static String quote(String value) {
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private ValidatedChunk join(CompletableFuture<ValidatedChunk> pending) throws InvalidDriverDataException {
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            throw new InvalidDriverDataException("Error al validar el bloque de conductores", e.getCause());
+        }
+    }
+}
@@ -3,18 +3,28 @@ package conductor.service;
 import conductor.exception.DriverNotFoundException;
 import conductor.exception.InvalidDriverDataException;
 import conductor.model.Driver;
+import conductor.model.DriverImportResult;
+import conductor.model.DriverPageKey;
 import conductor.repository.DriverRepositoryInterface;
 import conductor.validator.DriverValidator;
+import db.JdbcBatch;
+import db.ReplicaRouter;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.SQLException;
 import java.util.List;
 
 public class DriverService implements DriverServiceInterface {
 
+    private static final int MAX_PAGE_SIZE = 1000;
+
     private final DriverRepositoryInterface driverRepository;
+    private final DriverCsvImporter csvImporter;
 
     public DriverService(DriverRepositoryInterface driverRepository) {
         this.driverRepository = driverRepository;
+        this.csvImporter = new DriverCsvImporter(driverRepository);
     }
 
     @Override
@@ -22,6 +32,52 @@ public class DriverService implements DriverServiceInterface {
         return this.driverRepository.listAllDrivers();
     }
 
+    @Override
+    public List<Driver> listPage(DriverPageKey afterKey, int limit) throws InvalidDriverDataException, SQLException {
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidDriverDataException("El tamaño de página debe estar entre 1 y " + MAX_PAGE_SIZE);
+        }
+        if (afterKey != null && (afterKey.lastName() == null || afterKey.firstName() == null || afterKey.id() == null)) {
+            throw new InvalidDriverDataException("La clave de página debe incluir apellidos, nombre e ID");
+        }
+        return this.driverRepository.listPage(afterKey, limit);
+    }
+
+    @Override
+    public DriverPageKey getPageKeyAt(int position) throws InvalidDriverDataException, SQLException {
+        if (position < 0) {
+            throw new InvalidDriverDataException("La posición no puede ser negativa");
+        }
+        return this.driverRepository.getPageKeyAt(position);
+    }
+
+    @Override
+    public List<Driver> search(String criteria, int limit) throws InvalidDriverDataException, SQLException {
+        if (criteria == null || criteria.trim().isEmpty()) {
+            throw new InvalidDriverDataException("El criterio de búsqueda no puede ser nulo o vacío");
+        }
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidDriverDataException("El límite de resultados debe estar entre 1 y " + MAX_PAGE_SIZE);
+        }
+        return this.driverRepository.search(criteria, limit);
+    }
+
+    @Override
+    public List<Driver> searchFuzzy(String text, int limit) throws InvalidDriverDataException, SQLException {
+        if (text == null || text.trim().isEmpty()) {
+            throw new InvalidDriverDataException("El texto de búsqueda no puede ser nulo o vacío");
+        }
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidDriverDataException("El límite de resultados debe estar entre 1 y " + MAX_PAGE_SIZE);
+        }
+        return this.driverRepository.searchFuzzy(text, limit);
+    }
+
+    @Override
+    public int countAllDrivers() throws SQLException {
+        return this.driverRepository.countAllDrivers();
+    }
+
     @Override
     public Driver getById(Long id) throws SQLException, DriverNotFoundException {
         return this.driverRepository.getById(id);
@@ -38,12 +94,67 @@ public class DriverService implements DriverServiceInterface {
         return this.driverRepository.save(driver);
     }
 
+    @Override
+    public DriverImportResult importCsv(Path csvFile, Path errorFile) throws InvalidDriverDataException, SQLException {
+        if (csvFile == null || errorFile == null) {
+            throw new InvalidDriverDataException("Debe indicar el archivo CSV y el archivo de errores");
+        }
+        if (!Files.isReadable(csvFile)) {
+            throw new InvalidDriverDataException("No se puede leer el archivo " + csvFile);
+        }
+        // Its batches keep only its own reads on the primary until it finishes
+        try (ReplicaRouter.Session session = ReplicaRouter.openSession()) {
+            return this.csvImporter.importFile(csvFile, errorFile);
+        }
+    }
+
     @Override
     public void delete(Long id) throws SQLException, DriverNotFoundException {
         this.existsById(id);
         this.driverRepository.delete(id);
     }
 
+    @Override
+    public List<Driver> saveAll(List<Driver> drivers) throws InvalidDriverDataException, SQLException {
+        return this.saveAll(drivers, JdbcBatch.DEFAULT_BATCH_SIZE);
+    }
+
+    @Override
+    public List<Driver> saveAll(List<Driver> drivers, int batchSize) throws InvalidDriverDataException, SQLException {
+        validateBatch(drivers, batchSize);
+        for (Driver driver : drivers) {
+            DriverValidator.validate(driver);
+        }
+        return drivers.isEmpty() ? drivers : this.driverRepository.saveAll(drivers, batchSize);
+    }
+
+    @Override
+    public List<Driver> updateAll(List<Driver> drivers) throws DriverNotFoundException, InvalidDriverDataException, SQLException {
+        return this.updateAll(drivers, JdbcBatch.DEFAULT_BATCH_SIZE);
+    }
+
+    @Override
+    public List<Driver> updateAll(List<Driver> drivers, int batchSize) throws DriverNotFoundException, InvalidDriverDataException, SQLException {
+        validateBatch(drivers, batchSize);
+        for (Driver driver : drivers) {
+            DriverValidator.validate(driver);
+            if (driver.getId() == null) {
+                throw new InvalidDriverDataException("Todos los conductores a actualizar deben tener ID");
+            }
+        }
+        // Missing IDs are reported by the batch itself instead of one existsById per row
+        return drivers.isEmpty() ? drivers : this.driverRepository.updateAll(drivers, batchSize);
+    }
+
+    private void validateBatch(List<Driver> drivers, int batchSize) throws InvalidDriverDataException {
+        if (drivers == null) {
+            throw new InvalidDriverDataException("La lista de conductores no puede ser nula");
+        }
+        if (batchSize <= 0) {
+            throw new InvalidDriverDataException("El tamaño de lote debe ser mayor que cero");
+        }
+    }
+
     @Override
     public Driver update(Driver driver) throws DriverNotFoundException, SQLException {
         this.existsById(driver.getId());
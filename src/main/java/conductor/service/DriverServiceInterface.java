@@ -3,7 +3,10 @@ package conductor.service;
 import conductor.exception.DriverNotFoundException;
 import conductor.exception.InvalidDriverDataException;
 import conductor.model.Driver;
+import conductor.model.DriverImportResult;
+import conductor.model.DriverPageKey;
 
+import java.nio.file.Path;
 import java.sql.SQLException;
 import java.util.List;
 
@@ -11,16 +14,36 @@ public interface DriverServiceInterface {
 
     List<Driver> listAllDrivers() throws InvalidDriverDataException, SQLException;
 
+    List<Driver> listPage(DriverPageKey afterKey, int limit) throws InvalidDriverDataException, SQLException;
+
+    DriverPageKey getPageKeyAt(int position) throws InvalidDriverDataException, SQLException;
+
+    List<Driver> search(String criteria, int limit) throws InvalidDriverDataException, SQLException;
+
+    List<Driver> searchFuzzy(String text, int limit) throws InvalidDriverDataException, SQLException;
+
+    int countAllDrivers() throws SQLException;
+
     Driver getById(Long id) throws SQLException, DriverNotFoundException;
 
     Driver getByIdDocument(String idDocument) throws SQLException, DriverNotFoundException;
 
     Driver save(Driver driver) throws InvalidDriverDataException, SQLException;
 
+    DriverImportResult importCsv(Path csvFile, Path errorFile) throws InvalidDriverDataException, SQLException;
+
     void delete(Long id) throws SQLException, DriverNotFoundException;
 
     Driver update(Driver driver) throws DriverNotFoundException, SQLException;
 
+    List<Driver> saveAll(List<Driver> drivers) throws InvalidDriverDataException, SQLException;
+
+    List<Driver> saveAll(List<Driver> drivers, int batchSize) throws InvalidDriverDataException, SQLException;
+
+    List<Driver> updateAll(List<Driver> drivers) throws DriverNotFoundException, InvalidDriverDataException, SQLException;
+
+    List<Driver> updateAll(List<Driver> drivers, int batchSize) throws DriverNotFoundException, InvalidDriverDataException, SQLException;
+
     boolean existsById(Long id) throws SQLException, DriverNotFoundException;
 
     boolean existsByIdDocument(String idDocument) throws SQLException;
@@ -3,11 +3,12 @@ package conductor.view;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
+import java.io.File;
+import java.nio.file.Path;
 
+import app.ApplicationContext;
 import conductor.controller.DriverController;
-import conductor.persistence.DriverDao;
-import conductor.repository.DriverRepository;
-import conductor.service.DriverService;
+import conductor.model.DriverImportResult;
 
 public class DriverMainFrame extends JFrame {
     private DriverController driverController;
@@ -23,11 +24,8 @@ public class DriverMainFrame extends JFrame {
     
     private void initComponents() {
         try {
-            // Initialize the full chain: DAO → Repository → Service → Controller
-            DriverDao driverDao = new DriverDao();
-            DriverRepository driverRepository = new DriverRepository(driverDao);
-            DriverService driverService = new DriverService(driverRepository);
-            driverController = new DriverController(driverService);
+            // DAO → Repository → Service → Controller, shared with the rest of the application
+            driverController = ApplicationContext.getInstance().getDriverController();
             
             setTitle("Gestión de Conductores - CRUD Completo");
             setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
@@ -132,13 +130,63 @@ public class DriverMainFrame extends JFrame {
             }
         });
         
+        JButton btnImport = new JButton("Importar CSV");
+        btnImport.addActionListener(e -> importDrivers(btnImport));
+        
         toolBar.add(btnNew);
         toolBar.addSeparator();
         toolBar.add(btnDelete);
+        toolBar.addSeparator();
+        toolBar.add(btnImport);
         
         return toolBar;
     }
     
+    private void importDrivers(JButton btnImport) {
+        JFileChooser chooser = new JFileChooser();
+        chooser.setDialogTitle("Seleccionar archivo CSV de conductores");
+        if (chooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        
+        File csvFile = chooser.getSelectedFile();
+        Path errorFile = csvFile.toPath().resolveSibling(csvFile.getName() + ".errores.csv");
+        btnImport.setEnabled(false);
+        updateStatus("Importando conductores desde " + csvFile.getName() + "...");
+        
+        // The import can take minutes, keep it off the EDT
+        new SwingWorker<DriverImportResult, Void>() {
+            @Override
+            protected DriverImportResult doInBackground() throws Exception {
+                return driverController.importDriversFromCsv(csvFile.toPath(), errorFile);
+            }
+            
+            @Override
+            protected void done() {
+                btnImport.setEnabled(true);
+                try {
+                    DriverImportResult result = get();
+                    driverTable.refresh();
+                    updateStatus("Importación terminada: " + result.imported() + " de " + result.read() + " conductores");
+                    
+                    String message = "Conductores importados: " + result.imported() + "\nFilas rechazadas: " + result.rejected();
+                    if (result.rejected() > 0) {
+                        message += "\nDetalle de errores en: " + result.errorFile();
+                    }
+                    JOptionPane.showMessageDialog(DriverMainFrame.this, message, "Importación", 
+                        result.rejected() > 0 ? JOptionPane.WARNING_MESSAGE : JOptionPane.INFORMATION_MESSAGE);
+                } catch (Exception ex) {
+                    Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                    updateStatus("Error en la importación");
+                    JOptionPane.showMessageDialog(DriverMainFrame.this, 
+                        "Error al importar conductores: " + cause.getMessage(), 
+                        "Error", 
+                        JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        }.execute();
+    }
+    
     private JPanel createStatusBar() {
         JPanel statusPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
         statusPanel.setBorder(BorderFactory.createEtchedBorder());
@@ -9,14 +9,25 @@ import java.util.List;
 
 import conductor.controller.DriverController;
 import conductor.dto.DriverResponseDto;
+import conductor.exception.DriverNotFoundException;
+import conductor.model.DriverPageKey;
+import view.LazyTableModel;
+import view.LiveTableUpdater;
+import view.SearchDebouncer;
+import view.TableLoader;
 
 public class DriverTable extends JPanel {
     private JTable table;
     private DefaultTableModel tableModel;
+    private LazyTableModel<DriverResponseDto, DriverPageKey> pagedModel;
     private JTextField searchField;
     private JComboBox<String> filterCombo;
     private DriverController driverController;
     private DriverSelectionListener selectionListener;
+    private TableLoader<DriverResponseDto> tableLoader;
+    private LiveTableUpdater<DriverResponseDto> liveUpdater;
+    
+    private static final int SEARCH_LIMIT = 500;
     
     // Interface for selection events
     public interface DriverSelectionListener {
@@ -38,11 +49,7 @@ public class DriverTable extends JPanel {
         
         JLabel searchLabel = new JLabel("Buscar:");
         searchField = new JTextField(20);
-        searchField.getDocument().addDocumentListener(new javax.swing.event.DocumentListener() {
-            public void changedUpdate(javax.swing.event.DocumentEvent e) { search(); }
-            public void removeUpdate(javax.swing.event.DocumentEvent e) { search(); }
-            public void insertUpdate(javax.swing.event.DocumentEvent e) { search(); }
-        });
+        searchField.getDocument().addDocumentListener(new SearchDebouncer(this::search));
         
         JLabel filterLabel = new JLabel("Filtrar por:");
         filterCombo = new JComboBox<>(new String[]{"Todos", "vigente", "vencida", "suspendida", "revocada"});
@@ -56,7 +63,7 @@ public class DriverTable extends JPanel {
         });
         
         JButton refreshButton = new JButton("Actualizar");
-        refreshButton.addActionListener(e -> loadData());
+        refreshButton.addActionListener(e -> refreshCurrentView());
         
         searchPanel.add(searchLabel);
         searchPanel.add(searchField);
@@ -85,7 +92,47 @@ public class DriverTable extends JPanel {
             }
         };
         
-        table = new JTable(tableModel);
+        tableLoader = new TableLoader<>(tableModel, this::toRow);
+        tableLoader.setKeyColumn(0);
+        tableLoader.setProgressListener(this::showLoadingProgress);
+        
+        // Unfiltered listing is paged from the database; filtered results go to tableModel
+        Class<?>[] columnClasses = new Class<?>[columnNames.length];
+        for (int i = 0; i < columnNames.length; i++) {
+            columnClasses[i] = tableModel.getColumnClass(i);
+        }
+        pagedModel = new LazyTableModel<>(columnNames, columnClasses, new LazyTableModel.PageSource<>() {
+            @Override
+            public int count() throws Exception {
+                return driverController.countAllDrivers();
+            }
+            
+            @Override
+            public List<DriverResponseDto> fetchPage(DriverPageKey afterKey, int limit) throws Exception {
+                return driverController.getDriversPage(afterKey, limit);
+            }
+            
+            @Override
+            public DriverPageKey keyAt(int position) throws Exception {
+                return driverController.getPageKeyAt(position);
+            }
+            
+            @Override
+            public DriverPageKey keyOf(DriverResponseDto driver) {
+                return driverController.getPageKey(driver);
+            }
+        }, this::toRow);
+        pagedModel.setCountListener(this::updateCounter);
+        pagedModel.setErrorHandler(e -> JOptionPane.showMessageDialog(this, 
+            "Error al cargar conductores: " + e.getMessage(), "Error", JOptionPane.ERROR_MESSAGE));
+        
+        // Changes made by other clients
+        liveUpdater = new LiveTableUpdater<>("conductor", this::fetchDriver, DriverResponseDto::id,
+            pagedModel, tableLoader, () -> table.getModel(), this::refreshCurrentView, () -> false);
+        
+        table = new JTable(pagedModel);
+        // Both models share the same columns, keep widths and renderers when swapping
+        table.setAutoCreateColumnsFromModel(false);
         table.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
         table.setRowHeight(30);
         table.getTableHeader().setFont(new Font("SansSerif", Font.BOLD, 12));
@@ -136,8 +183,8 @@ public class DriverTable extends JPanel {
             public void mouseClicked(MouseEvent e) {
                 if (e.getClickCount() == 1 && selectionListener != null) {
                     int row = table.getSelectedRow();
-                    if (row >= 0) {
-                        Long driverId = (Long) tableModel.getValueAt(row, 0);
+                    Long driverId = row >= 0 ? (Long) table.getModel().getValueAt(row, 0) : null;
+                    if (driverId != null) {
                         selectionListener.onDriverSelected(driverId);
                     }
                 }
@@ -159,17 +206,39 @@ public class DriverTable extends JPanel {
         add(bottomPanel, BorderLayout.SOUTH);
     }
     
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        liveUpdater.bind();
+    }
+    
+    @Override
+    public void removeNotify() {
+        liveUpdater.unbind();
+        super.removeNotify();
+    }
+    
+    private DriverResponseDto fetchDriver(Long id) throws Exception {
+        try {
+            return driverController.getDriverResponseById(id);
+        } catch (DriverNotFoundException e) {
+            return null;
+        }
+    }
+    
+    // Re-reads whatever the table is showing; only the rows that changed are repainted
+    private void refreshCurrentView() {
+        if (table.getModel() == pagedModel) {
+            pagedModel.refresh();
+        } else {
+            tableLoader.refresh();
+        }
+    }
+    
     public void loadData() {
-        SwingUtilities.invokeLater(() -> {
-            try {
-                List<DriverResponseDto> drivers = driverController.getAllDrivers();
-                updateTable(drivers);
-                updateCounter(drivers.size());
-            } catch (Exception e) {
-                JOptionPane.showMessageDialog(this, "Error al cargar conductores: " + e.getMessage(), 
-                    "Error", JOptionPane.ERROR_MESSAGE);
-            }
-        });
+        tableLoader.cancel();
+        table.setModel(pagedModel);
+        pagedModel.reload();
     }
     
     private void search() {
@@ -177,21 +246,12 @@ public class DriverTable extends JPanel {
         if (criteria.isEmpty()) {
             loadData();
         } else {
-            try {
-                List<DriverResponseDto> allDrivers = driverController.getAllDrivers();
-                List<DriverResponseDto> results = allDrivers.stream()
-                    .filter(driver -> 
-                        driver.firstName().toLowerCase().contains(criteria.toLowerCase()) ||
-                        driver.lastName().toLowerCase().contains(criteria.toLowerCase()) ||
-                        driver.idDocument().contains(criteria) ||
-                        driver.email().toLowerCase().contains(criteria.toLowerCase()))
-                    .toList();
-                updateTable(results);
-                updateCounter(results.size());
-            } catch (Exception e) {
-                JOptionPane.showMessageDialog(this, "Error al buscar: " + e.getMessage(), 
-                    "Error", JOptionPane.ERROR_MESSAGE);
-            }
+            table.setModel(tableModel);
+            tableLoader.load(
+                () -> driverController.searchDriversFuzzy(criteria, SEARCH_LIMIT),
+                results -> updateCounter(results.size()),
+                e -> JOptionPane.showMessageDialog(this, "Error al buscar: " + e.getMessage(), 
+                    "Error", JOptionPane.ERROR_MESSAGE));
         }
     }
     
@@ -200,34 +260,38 @@ public class DriverTable extends JPanel {
         if (filter.equals("Todos")) {
             loadData();
         } else {
-            try {
-                List<DriverResponseDto> allDrivers = driverController.getAllDrivers();
-                List<DriverResponseDto> results = allDrivers.stream()
+            table.setModel(tableModel);
+            tableLoader.load(
+                () -> driverController.getAllDrivers().stream()
                     .filter(driver -> driver.licenseStatus().equals(filter))
-                    .toList();
-                updateTable(results);
-                updateCounter(results.size());
-            } catch (Exception e) {
-                JOptionPane.showMessageDialog(this, "Error al filtrar: " + e.getMessage(), 
-                    "Error", JOptionPane.ERROR_MESSAGE);
-            }
+                    .toList(),
+                results -> updateCounter(results.size()),
+                e -> JOptionPane.showMessageDialog(this, "Error al filtrar: " + e.getMessage(), 
+                    "Error", JOptionPane.ERROR_MESSAGE));
         }
     }
     
-    private void updateTable(List<DriverResponseDto> drivers) {
-        tableModel.setRowCount(0);
-        
-        for (DriverResponseDto driver : drivers) {
-            Object[] row = {
-                driver.id(),
-                driver.firstName(),
-                driver.lastName(),
-                driver.idDocument(),
-                driver.phone(),
-                driver.email(),
-                driver.licenseStatus()
-            };
-            tableModel.addRow(row);
+    private Object[] toRow(DriverResponseDto driver) {
+        return new Object[]{
+            driver.id(),
+            driver.firstName(),
+            driver.lastName(),
+            driver.idDocument(),
+            driver.phone(),
+            driver.email(),
+            driver.licenseStatus()
+        };
+    }
+    
+    private void showLoadingProgress(int percent) {
+        if (percent >= 100) {
+            return;
+        }
+        for (Component comp : ((JPanel)getComponent(2)).getComponents()) {
+            if (comp instanceof JLabel && "countLabel".equals(comp.getName())) {
+                ((JLabel) comp).setText("Cargando... " + percent + "%");
+                break;
+            }
         }
     }
     
@@ -248,15 +312,15 @@ public class DriverTable extends JPanel {
     public Long getSelectedDriverId() {
         int row = table.getSelectedRow();
         if (row >= 0) {
-            return (Long) tableModel.getValueAt(row, 0);
+            return (Long) table.getModel().getValueAt(row, 0);
         }
         return null;
     }
     
     public DriverResponseDto getSelectedDriver() {
         int row = table.getSelectedRow();
-        if (row >= 0) {
-            Long driverId = (Long) tableModel.getValueAt(row, 0);
+        Long driverId = row >= 0 ? (Long) table.getModel().getValueAt(row, 0) : null;
+        if (driverId != null) {
             try {
                 return driverController.getDriverResponseById(driverId);
             } catch (Exception e) {
@@ -272,6 +336,6 @@ public class DriverTable extends JPanel {
     }
     
     public void refresh() {
-        loadData();
+        refreshCurrentView();
     }
 }
\ No newline at end of file
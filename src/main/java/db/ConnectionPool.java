@@ -2,42 +2,188 @@ package db;
 
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.pool.HikariPool;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.Connection;
+import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 
+// Pools con nombre. La configuración sale de db.properties (classpath), del fichero indicado con
+// -Ddb.config y de las propiedades de sistema, de menor a mayor prioridad. Cada clave se busca
+// primero para el pool (db.reporting.maximumPoolSize) y después como valor común (db.maximumPoolSize).
 public class ConnectionPool {
 
-    private static final HikariDataSource dataSource;
+    // CRUD interactivo de formularios y tablas
+    public static final String OLTP = "oltp";
+    // Listados completos, agregados y cargas de cache: no deben dejar sin conexiones al CRUD
+    public static final String REPORTING = "reporting";
+    // Réplica de lectura (ReplicaRouter); sólo se usa si db.replica.url está configurada
+    public static final String REPLICA = "replica";
 
-    static {
+    private static final String DEFAULT_URL = "jdbc:postgresql://localhost:5432/licencias_database";
+    private static final String DEFAULT_USERNAME = "postgres";
+    private static final String DEFAULT_PASSWORD = "postgres";
+
+    private static final Properties settings = loadSettings();
+    private static final Map<String, HikariDataSource> pools = new ConcurrentHashMap<>();
+    private static volatile boolean closed;
+
+    public static Connection getConnection() throws SQLException {
+        return getConnection(OLTP);
+    }
+
+    // Cada pool se crea la primera vez que se pide
+    public static Connection getConnection(String pool) throws SQLException {
+        if (closed) {
+            throw new SQLException("El pool de conexiones está cerrado");
+        }
+        try {
+            HikariDataSource dataSource = pools.computeIfAbsent(pool, name -> {
+                if (closed) {
+                    throw new IllegalStateException("El pool de conexiones está cerrado");
+                }
+                return createDataSource(name);
+            });
+            if (closed) {
+                // closePool corrió mientras se creaba y puede no haberlo visto: se cierra aquí
+                pools.remove(pool, dataSource);
+                dataSource.close();
+                throw new SQLException("El pool de conexiones está cerrado");
+            }
+            return dataSource.getConnection();
+        } catch (IllegalStateException e) {
+            throw new SQLException(e.getMessage(), e);
+        } catch (HikariPool.PoolInitializationException e) {
+            // Hikari abre la primera conexión al crear el pool y falla con una excepción no comprobada
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw new SQLException("No se pudo crear el pool " + pool + ": " + cause.getMessage(), cause);
+        }
+    }
+
+    // Crea el pool y comprueba su primera conexión fuera del EDT. Si la base de datos no responde
+    // el futuro falla y el pool no queda registrado, así que se puede volver a intentar
+    public static CompletableFuture<Void> warmUpAsync(String pool) {
+        return CompletableFuture.runAsync(() -> {
+            try (Connection connection = getConnection(pool)) {
+                if (!connection.isValid(5)) {
+                    throw new SQLException("La conexión inicial del pool " + pool + " no es válida");
+                }
+            } catch (SQLException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    // Un pool con URL propia; los demás heredan la común
+    public static boolean isConfigured(String pool) {
+        String poolKey = "db." + pool + ".url";
+        return System.getProperty(poolKey, settings.getProperty(poolKey)) != null;
+    }
+
+    // Conexión fuera del pool para sesiones de larga duración (LISTEN) que no deben ocupar
+    // una de las conexiones compartidas ni ser marcadas como fuga
+    public static Connection openDedicatedConnection() throws SQLException {
+        return DriverManager.getConnection(
+            setting(OLTP, "url", DEFAULT_URL),
+            setting(OLTP, "username", DEFAULT_USERNAME),
+            setting(OLTP, "password", DEFAULT_PASSWORD));
+    }
+
+    public static void closePool(){
+        closed = true;
+        for (HikariDataSource dataSource : pools.values()) {
+            if (!dataSource.isClosed()) {
+                dataSource.close();
+            }
+        }
+        pools.clear();
+        System.out.println("Connection Pool cerrado...");
+    }
+
+    private static HikariDataSource createDataSource(String pool) {
 
         HikariConfig config = new HikariConfig();
 
-        config.setJdbcUrl("jdbc:postgresql://localhost:5432/licencias_database");
-        config.setUsername("postgres");
-        config.setPassword("postgres");
+        config.setPoolName(pool);
+        config.setJdbcUrl(setting(pool, "url", DEFAULT_URL));
+        config.setUsername(setting(pool, "username", DEFAULT_USERNAME));
+        config.setPassword(setting(pool, "password", DEFAULT_PASSWORD));
+
+        config.setMaximumPoolSize(intSetting(pool, "maximumPoolSize", 10)); //máx. conexiones concurrentes
+        config.setMinimumIdle(intSetting(pool, "minimumIdle", 2)); //mínimo de conexiones inactivas
 
-        config.setMaximumPoolSize(10); //máx. conexiones concurrentes
-        config.setMinimumIdle(2); //mínimo de conexiones inactivas
+        config.setIdleTimeout(longSetting(pool, "idleTimeout", 30000)); //tiempo que una conexión puede estar inactiva antes de cerrarse
+        config.setConnectionTimeout(longSetting(pool, "connectionTimeout", 30000)); //tiempo de espera para obtener conexión
 
-        config.setIdleTimeout(30000); //tiempo que una conexión puede estar inactiva antes de cerrarse
-        config.setConnectionTimeout(30000); //tiempo de espera para obtener conexión
+        config.setLeakDetectionThreshold(longSetting(pool, "leakDetectionThreshold", 15000)); //detecta fugas de conexión (0 = desactivado)
+
+        long statementTimeout = longSetting(pool, "statementTimeout", 0);
+        if (statementTimeout > 0) {
+            config.addDataSourceProperty("options", "-c statement_timeout=" + statementTimeout); //el servidor cancela las sentencias más largas (ms)
+        }
 
-        config.setLeakDetectionThreshold(15000); //detecta fugas de conexión
+        config.setReadOnly(REPLICA.equals(pool)); //una réplica en hot standby rechaza las escrituras de todos modos
 
-        dataSource = new HikariDataSource(config);
+        config.addDataSourceProperty("reWriteBatchedInserts", "true"); //los lotes de INSERT viajan como un solo INSERT multi-fila
+
+        return new HikariDataSource(config);
     }
 
-    public static Connection getConnection() throws SQLException {
-        return dataSource.getConnection();
+    private static String setting(String pool, String key, String defaultValue) {
+        String poolKey = "db." + pool + "." + key;
+        String commonKey = "db." + key;
+        String value = System.getProperty(poolKey, settings.getProperty(poolKey));
+        if (value == null) {
+            value = System.getProperty(commonKey, settings.getProperty(commonKey));
+        }
+        return value != null ? value.trim() : defaultValue;
     }
 
-    public static void closePool(){
-        if(dataSource!=null && !dataSource.isClosed()){
-            dataSource.close();
-            System.out.println("Connection Pool cerrado...");
+    static int intSetting(String pool, String key, int defaultValue) {
+        return (int) longSetting(pool, key, defaultValue);
+    }
+
+    static long longSetting(String pool, String key, long defaultValue) {
+        String value = setting(pool, key, null);
+        if (value == null || value.isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valor no numérico para " + key + " del pool " + pool + ": " + value, e);
+        }
+    }
+
+    private static Properties loadSettings() {
+        Properties properties = new Properties();
+        try (InputStream defaults = ConnectionPool.class.getResourceAsStream("/db.properties")) {
+            if (defaults != null) {
+                properties.load(defaults);
+            }
+        } catch (IOException e) {
+            System.err.println("No se pudo leer db.properties: " + e.getMessage());
+        }
+
+        // Un fichero indicado explícitamente debe existir
+        String externalFile = System.getProperty("db.config");
+        if (externalFile != null) {
+            try (InputStream external = Files.newInputStream(Path.of(externalFile))) {
+                properties.load(external);
+            } catch (IOException e) {
+                throw new IllegalStateException("No se pudo leer la configuración de base de datos " + externalFile, e);
+            }
         }
+        return properties;
     }
 
 }
@@ -0,0 +1,26 @@
+package db;
+
+// One row change published by the notificar_cambio() trigger. id is null when the listener
+// coalesced many changes of the table (or may have missed some) and everything must be reloaded.
+public record DatabaseChange(String table, String operation, Long id) {
+
+    public static DatabaseChange wholeTable(String table) {
+        return new DatabaseChange(table, null, null);
+    }
+
+    public boolean isWholeTable() {
+        return id == null;
+    }
+
+    public boolean isInsert() {
+        return "INSERT".equals(operation);
+    }
+
+    public boolean isUpdate() {
+        return "UPDATE".equals(operation);
+    }
+
+    public boolean isDelete() {
+        return "DELETE".equals(operation);
+    }
+}
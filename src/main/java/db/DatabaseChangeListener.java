@@ -0,0 +1,160 @@
+package db;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+// Listens on the 'cambios_datos' channel with a dedicated connection (outside the pool) and
+// hands every change to the handlers subscribed to its table. Handlers run on the listener
+// thread: caches can invalidate directly, views must hop to the EDT themselves.
+public final class DatabaseChangeListener {
+
+    public static final String CHANNEL = "cambios_datos";
+
+    private static final int POLL_TIMEOUT_MILLIS = 5000;
+    private static final long MAX_RECONNECT_DELAY_MILLIS = 30000;
+    // More changes than this for one table in a single drain are delivered as one whole-table change
+    private static final int COALESCE_THRESHOLD = Integer.getInteger("db.notify.coalesceThreshold", 100);
+
+    private static final Map<String, List<Consumer<DatabaseChange>>> handlers = new ConcurrentHashMap<>();
+    private static Thread listenerThread;
+    private static volatile boolean running;
+
+    private DatabaseChangeListener() {
+    }
+
+    public static synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        listenerThread = new Thread(DatabaseChangeListener::listen, "db-change-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    public static synchronized void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+            listenerThread = null;
+        }
+    }
+
+    public static void subscribe(String table, Consumer<DatabaseChange> handler) {
+        handlers.computeIfAbsent(table, t -> new CopyOnWriteArrayList<>()).add(handler);
+    }
+
+    public static void unsubscribe(String table, Consumer<DatabaseChange> handler) {
+        List<Consumer<DatabaseChange>> tableHandlers = handlers.get(table);
+        if (tableHandlers != null) {
+            tableHandlers.remove(handler);
+        }
+    }
+
+    private static void listen() {
+        long reconnectDelay = 1000;
+        boolean firstConnection = true;
+        while (running) {
+            try (Connection conn = ConnectionPool.openDedicatedConnection()) {
+                try (Statement statement = conn.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                // Changes made while disconnected were lost, every subscriber has to reload
+                if (!firstConnection) {
+                    for (String table : handlers.keySet()) {
+                        dispatch(DatabaseChange.wholeTable(table));
+                    }
+                }
+                firstConnection = false;
+                reconnectDelay = 1000;
+
+                PGConnection pgConnection = conn.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+                    if (notifications != null && notifications.length > 0) {
+                        for (DatabaseChange change : coalesce(notifications)) {
+                            dispatch(change);
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                System.err.println("Conexión de notificaciones perdida, reintentando: " + e.getMessage());
+                try {
+                    Thread.sleep(reconnectDelay);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+                reconnectDelay = Math.min(reconnectDelay * 2, MAX_RECONNECT_DELAY_MILLIS);
+            }
+        }
+    }
+
+    // Drops repeated payloads and folds bulk writes (imports, batch ingestion) into one event per table
+    private static List<DatabaseChange> coalesce(PGNotification[] notifications) {
+        Map<String, Set<DatabaseChange>> byTable = new LinkedHashMap<>();
+        for (PGNotification notification : notifications) {
+            DatabaseChange change = parse(notification.getParameter());
+            if (change != null) {
+                byTable.computeIfAbsent(change.table(), t -> new LinkedHashSet<>()).add(change);
+            }
+        }
+
+        List<DatabaseChange> changes = new ArrayList<>();
+        for (Map.Entry<String, Set<DatabaseChange>> entry : byTable.entrySet()) {
+            if (entry.getValue().size() > COALESCE_THRESHOLD) {
+                changes.add(DatabaseChange.wholeTable(entry.getKey()));
+            } else {
+                changes.addAll(entry.getValue());
+            }
+        }
+        return changes;
+    }
+
+    // Payload written by notificar_cambio(): tabla:OPERACION:id, or tabla:OPERACION:* when one
+    // statement changed too many rows to list them (read back as a whole-table change)
+    private static DatabaseChange parse(String payload) {
+        if (payload == null) {
+            return null;
+        }
+        String[] parts = payload.split(":", 3);
+        if (parts.length != 3) {
+            return null;
+        }
+        try {
+            return new DatabaseChange(parts[0], parts[1], Long.parseLong(parts[2]));
+        } catch (NumberFormatException e) {
+            return DatabaseChange.wholeTable(parts[0]);
+        }
+    }
+
+    private static void dispatch(DatabaseChange change) {
+        List<Consumer<DatabaseChange>> tableHandlers = handlers.get(change.table());
+        if (tableHandlers == null) {
+            return;
+        }
+        for (Consumer<DatabaseChange> handler : tableHandlers) {
+            try {
+                handler.accept(change);
+            } catch (RuntimeException e) {
+                // One faulty subscriber must not stop the others or the listener thread
+                e.printStackTrace();
+            }
+        }
+    }
+}
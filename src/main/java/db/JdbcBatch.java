@@ -0,0 +1,105 @@
+package db;
+
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+// Multi-row writes shared by the DAOs' saveAll/updateAll. Rows are sent with addBatch/executeBatch
+// every batchSize rows (the pool enables reWriteBatchedInserts, so inserts go as multi-row VALUES)
+// and the whole list is written in one transaction: either every row is stored or none is.
+public final class JdbcBatch {
+
+    // Rows per executeBatch, the batchSize setting of the oltp pool (db.properties, -Ddb.config or -Ddb.batchSize=N)
+    public static final int DEFAULT_BATCH_SIZE = ConnectionPool.intSetting(ConnectionPool.OLTP, "batchSize", 500);
+
+    @FunctionalInterface
+    public interface Binder<T> {
+        void bind(PreparedStatement statement, T item) throws SQLException;
+    }
+
+    private JdbcBatch() {
+    }
+
+    public static void checkBatchSize(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("El tamaño de lote debe ser mayor que cero");
+        }
+    }
+
+    // Inserts every item and hands each generated key back through keySetter, in list order
+    public static <T> void insertAll(Connection conn, String sql, List<T> items, int batchSize,
+                                     Binder<T> binder, BiConsumer<T, Long> keySetter) throws SQLException {
+        checkBatchSize(batchSize);
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        try (PreparedStatement statement = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            int batchStart = 0;
+            for (int i = 0; i < items.size(); i++) {
+                binder.bind(statement, items.get(i));
+                statement.addBatch();
+                if ((i + 1) % batchSize == 0 || i == items.size() - 1) {
+                    statement.executeBatch();
+                    try (ResultSet keys = statement.getGeneratedKeys()) {
+                        int position = batchStart;
+                        while (keys.next() && position <= i) {
+                            keySetter.accept(items.get(position++), keys.getLong(1));
+                        }
+                    }
+                    batchStart = i + 1;
+                }
+            }
+            conn.commit();
+        } catch (SQLException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+    }
+
+    // Updates every item; returns the index of the first item that matched no row, or -1.
+    // When some item is missing nothing is committed
+    public static <T> int updateAll(Connection conn, String sql, List<T> items, int batchSize,
+                                    Binder<T> binder) throws SQLException {
+        checkBatchSize(batchSize);
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        try (PreparedStatement statement = conn.prepareStatement(sql)) {
+            int batchStart = 0;
+            for (int i = 0; i < items.size(); i++) {
+                binder.bind(statement, items.get(i));
+                statement.addBatch();
+                if ((i + 1) % batchSize == 0 || i == items.size() - 1) {
+                    int[] counts = statement.executeBatch();
+                    for (int k = 0; k < counts.length; k++) {
+                        if (counts[k] == 0) {
+                            conn.rollback();
+                            return batchStart + k;
+                        }
+                    }
+                    batchStart = i + 1;
+                }
+            }
+            conn.commit();
+            return -1;
+        } catch (SQLException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+    }
+
+    // executeBatch wraps the failing statement's error; its SQLState is the one worth mapping
+    public static SQLException cause(SQLException e) {
+        if (e instanceof BatchUpdateException && e.getNextException() != null) {
+            return e.getNextException();
+        }
+        return e;
+    }
+}
@@ -0,0 +1,201 @@
+package db;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+// Routes DAO connections between the primary and the read replica (pool "replica", enabled by
+// setting db.replica.url). Each DAO method says what it does: reads that may lag a little take
+// getReadOnlyConnection(), reads that must be current take getConnection(), and methods that change
+// data take getWriteConnection(). Nothing is guessed from the SQL text.
+// Read-your-writes is kept per session: for readYourWritesMillis after a write commits, the reads of
+// the session that made it stay on the primary. Forms, tables and their background loads share one
+// session; a bulk job opens its own with openSession() so its batches do not pin the rest of the
+// client, and hands its pin back to the caller when it ends. Changes made by other clients are
+// re-read on the primary through readFromPrimary().
+public final class ReplicaRouter {
+
+    private static final long READ_YOUR_WRITES_NANOS = TimeUnit.MILLISECONDS.toNanos(
+        ConnectionPool.longSetting(ConnectionPool.REPLICA, "readYourWritesMillis", 5000));
+
+    private static final Session INTERACTIVE = new Session(null);
+    private static final ThreadLocal<Session> currentSession = ThreadLocal.withInitial(() -> INTERACTIVE);
+    private static final ThreadLocal<Boolean> primaryReads = ThreadLocal.withInitial(() -> false);
+
+    private ReplicaRouter() {
+    }
+
+    // Reads made here after a write commits see it; close() returns the thread to the previous
+    // session, which stays on the primary for as long as this one would have
+    public static final class Session implements AutoCloseable {
+        private final Session caller;
+        private long pinnedUntil = System.nanoTime();
+
+        private Session(Session caller) {
+            this.caller = caller;
+        }
+
+        private synchronized void pinUntil(long until) {
+            if (until - pinnedUntil > 0) {
+                pinnedUntil = until;
+            }
+        }
+
+        private synchronized boolean isPinned() {
+            return pinnedUntil - System.nanoTime() > 0;
+        }
+
+        private synchronized void clear() {
+            pinnedUntil = System.nanoTime();
+        }
+
+        @Override
+        public void close() {
+            if (caller == null) {
+                return;
+            }
+            if (currentSession.get() == this) {
+                currentSession.set(caller);
+            }
+            long until;
+            synchronized (this) {
+                until = pinnedUntil;
+            }
+            caller.pinUntil(until);
+        }
+    }
+
+    // Session of its own for the calling thread until it is closed
+    public static Session openSession() {
+        Session session = new Session(currentSession.get());
+        currentSession.set(session);
+        return session;
+    }
+
+    // Primary connection for reads that must be current; using it does not pin anything
+    public static Connection getConnection() throws SQLException {
+        return ConnectionPool.getConnection();
+    }
+
+    // Primary connection for a method that changes data: when it commits (on commit(), or on
+    // close() in auto-commit) the current session's reads stay on the primary for a while
+    public static Connection getWriteConnection() throws SQLException {
+        return writeTracked(ConnectionPool.getConnection());
+    }
+
+    public static Connection getReadOnlyConnection() throws SQLException {
+        return getReadOnlyConnection(ConnectionPool.OLTP);
+    }
+
+    // Replica when configured and the session is not pinned, otherwise the given primary pool
+    public static Connection getReadOnlyConnection(String primaryPool) throws SQLException {
+        if (ConnectionPool.isConfigured(ConnectionPool.REPLICA) && !isPinnedToPrimary() && !primaryReads.get()) {
+            try {
+                return ConnectionPool.getConnection(ConnectionPool.REPLICA);
+            } catch (SQLException e) {
+                // A replica that is down must not take the reads with it
+                System.err.println("Réplica no disponible, leyendo del primario: " + e.getMessage());
+            }
+        }
+        return ConnectionPool.getConnection(primaryPool);
+    }
+
+    // Runs read with every read-only connection of this thread taken from the primary, for a row
+    // another client has just changed and the replica may not have replayed yet
+    public static <T> T readFromPrimary(Callable<T> read) throws Exception {
+        boolean previous = primaryReads.get();
+        primaryReads.set(true);
+        try {
+            return read.call();
+        } finally {
+            primaryReads.set(previous);
+        }
+    }
+
+    public static void pinToPrimary() {
+        currentSession.get().pinUntil(System.nanoTime() + READ_YOUR_WRITES_NANOS);
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return currentSession.get().isPinned();
+    }
+
+    // Ends the read-your-writes window of the current session; tests start from one that has not written
+    static void clearPin() {
+        currentSession.get().clear();
+    }
+
+    // Pins the session that took the connection, not whichever thread happens to commit it
+    static Connection writeTracked(Connection connection) {
+        WriteState state = new WriteState(currentSession.get());
+        return (Connection) Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[] {Connection.class},
+            (proxy, method, args) -> {
+                String name = method.getName();
+                if ("close".equals(name)) {
+                    state.close(connection);
+                }
+                Object result = invoke(connection, method, args);
+                if ("commit".equals(name)) {
+                    state.committed();
+                } else if ("rollback".equals(name) && args == null) {
+                    state.rolledBack();
+                }
+                return result;
+            });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static class WriteState {
+        private final Session session;
+        private boolean rolledBack;
+        private boolean closed;
+
+        WriteState(Session session) {
+            this.session = session;
+        }
+
+        private void pin() {
+            session.pinUntil(System.nanoTime() + READ_YOUR_WRITES_NANOS);
+        }
+
+        synchronized void committed() {
+            rolledBack = false;
+            pin();
+        }
+
+        synchronized void rolledBack() {
+            rolledBack = true;
+        }
+
+        synchronized void close(Connection connection) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (rolledBack) {
+                return;
+            }
+            try {
+                // In auto-commit every statement committed as it ran
+                if (!connection.isClosed() && connection.getAutoCommit()) {
+                    pin();
+                }
+            } catch (SQLException e) {
+                pin();  // Could not tell, stay on the safe side
+            }
+        }
+    }
+}
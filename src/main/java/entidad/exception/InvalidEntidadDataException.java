@@ -4,4 +4,8 @@ public class InvalidEntidadDataException extends Exception {
     public InvalidEntidadDataException(String message) {
         super(message);
     }
+
+    public InvalidEntidadDataException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
@@ -6,6 +6,8 @@ import entidad.dto.EntidadRequestDto;
 import entidad.model.Entidad;
 import entidad.vo.TipoEntidad;
 
+import java.util.Map;
+
 public class EntidadMapper {
 
     public static Entidad toDomain(EntidadRequestDto requestDto, Centro centro){
@@ -30,4 +32,9 @@ public class EntidadMapper {
                 centro
         );
     }
+
+    // Resuelve el centro desde los ya cargados en lugar de consultarlo por cada entidad
+    public static Entidad toDomain(EntidadDaoResponseDto entidadDaoResponseDto, Map<Long, Centro> centros){
+        return toDomain(entidadDaoResponseDto, centros.get(entidadDaoResponseDto.idCentro()));
+    }
 }
@@ -1,6 +1,8 @@
 package entidad.persistence;
 
 import db.ConnectionPool;
+import db.ReplicaRouter;
+import db.JdbcBatch;
 import entidad.dto.EntidadDaoResponseDto;
 import entidad.exception.EntidadNotFoundException;
 import entidad.exception.InvalidEntidadDataException;
@@ -15,8 +17,19 @@ import java.util.List;
 
 public class EntidadDaoImpl implements EntidadDao {
 
+    // Primary, for reads that must be current
     private Connection getConnection() throws SQLException {
-        return ConnectionPool.getConnection();
+        return ReplicaRouter.getConnection();
+    }
+
+    // Primary, for methods that change data (see ReplicaRouter)
+    private Connection getWriteConnection() throws SQLException {
+        return ReplicaRouter.getWriteConnection();
+    }
+
+    // Full-table reads go to the replica, or to their own pool so they cannot starve the CRUD paths
+    private Connection getReportingConnection() throws SQLException {
+        return ReplicaRouter.getReadOnlyConnection(ConnectionPool.REPORTING);
     }
 
     @Override
@@ -25,7 +38,7 @@ public class EntidadDaoImpl implements EntidadDao {
 
         List<EntidadDaoResponseDto> entidades = new ArrayList<>();
         try (
-                Connection conn = this.getConnection();
+                Connection conn = this.getReportingConnection();
                 PreparedStatement statement = conn.prepareStatement(sql);
                 ResultSet resultSet = statement.executeQuery();
         ) {
@@ -62,7 +75,7 @@ public class EntidadDaoImpl implements EntidadDao {
         String sql = "INSERT INTO entidad (nombre,tipo_entidad,direccion,telefono," +
                 "email,director,id_centro) VALUES(?,CAST(? AS tipo_entidad_enum),?,?,?,?,?) ";
         try (
-                Connection conn = this.getConnection();
+                Connection conn = this.getWriteConnection();
                 PreparedStatement pstm = conn.prepareStatement(sql)
         ) {
             pstm.setString(1, entidad.getNombre());
@@ -82,14 +95,66 @@ public class EntidadDaoImpl implements EntidadDao {
                 }
             }
         }
+        TipoEntidadCache.registrar(entidad);
         return entidad;
     }
 
+    @Override
+    public List<Entidad> guardarTodos(List<Entidad> entidades, int tamanoLote) throws InvalidEntidadDataException, SQLException {
+        String sql = "INSERT INTO entidad (nombre,tipo_entidad,direccion,telefono," +
+                "email,director,id_centro) VALUES(?,CAST(? AS tipo_entidad_enum),?,?,?,?,?) ";
+        try (Connection conn = this.getWriteConnection()) {
+            JdbcBatch.insertAll(conn, sql, entidades, tamanoLote, this::asignarParametros, Entidad::setIdEntidad);
+            TipoEntidadCache.registrar(entidades);
+            return entidades;
+        } catch (SQLException e) {
+            throw errorDeLote(e, "Error al guardar el lote de entidades");
+        }
+    }
+
+    @Override
+    public List<Entidad> actualizarTodos(List<Entidad> entidades, int tamanoLote) throws EntidadNotFoundException, InvalidEntidadDataException, SQLException {
+        String sql = "UPDATE entidad SET nombre=?,tipo_entidad=CAST(? AS tipo_entidad_enum),direccion=?,telefono=?," +
+                "email=?,director=?,id_centro=? WHERE id_entidad=?";
+        int faltante;
+        try (Connection conn = this.getWriteConnection()) {
+            faltante = JdbcBatch.updateAll(conn, sql, entidades, tamanoLote, (pstm, entidad) -> {
+                asignarParametros(pstm, entidad);
+                pstm.setLong(8, entidad.getIdEntidad());
+            });
+        } catch (SQLException e) {
+            throw errorDeLote(e, "Error al actualizar el lote de entidades");
+        }
+        if (faltante >= 0) {
+            throw new EntidadNotFoundException("La entidad con %s no fue encontrado".formatted(entidades.get(faltante).getIdEntidad()));
+        }
+        TipoEntidadCache.registrar(entidades);
+        return entidades;
+    }
+
+    private void asignarParametros(PreparedStatement pstm, Entidad entidad) throws SQLException {
+        pstm.setString(1, entidad.getNombre());
+        pstm.setString(2, entidad.getTipoEntidad().name());
+        pstm.setString(3, entidad.getDireccion());
+        pstm.setString(4, entidad.getTelefono());
+        pstm.setString(5, entidad.getEmail());
+        pstm.setString(6, entidad.getDirectorGeneral());
+        pstm.setLong(7, entidad.getCentro().getIdCentro());
+    }
+
+    private InvalidEntidadDataException errorDeLote(SQLException e, String mensaje) {
+        SQLException causa = JdbcBatch.cause(e);
+        if ("23503".equals(causa.getSQLState())) { // id_centro inexistente
+            return new InvalidEntidadDataException("El centro indicado no existe: " + causa.getMessage(), e);
+        }
+        return new InvalidEntidadDataException(mensaje, e);
+    }
+
     @Override
     public void eliminar(Long id) throws SQLException, EntidadNotFoundException {
         String sql = "DELETE FROM entidad WHERE id_entidad=?";
         try (
-                Connection conn = this.getConnection();
+                Connection conn = this.getWriteConnection();
                 PreparedStatement pstm = conn.prepareStatement(sql);
         ) {
 
@@ -100,6 +165,7 @@ public class EntidadDaoImpl implements EntidadDao {
                 throw new EntidadNotFoundException("La entidad con %s no fue encontrado".formatted(id));
             }
         }
+        TipoEntidadCache.eliminar(id);
     }
 
     @Override
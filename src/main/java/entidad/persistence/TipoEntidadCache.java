@@ -0,0 +1,116 @@
+package entidad.persistence;
+
+import db.ConnectionPool;
+import entidad.model.Entidad;
+import entidad.vo.TipoEntidad;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Tipo de cada entidad por id. El tipo de una entidad prácticamente nunca cambia, así que se
+// carga toda la tabla de una vez y los exámenes comprueban la compatibilidad en memoria.
+// Es estática porque cada módulo crea sus propios DAO y las escrituras de EntidadDaoImpl
+// tienen que verse desde ExamDao.
+public final class TipoEntidadCache {
+
+    private static final Map<Long, TipoEntidad> tipos = new ConcurrentHashMap<>();
+    private static final Object cargaLock = new Object();
+    // Cambia con cada escritura para no instalar una carga que empezó antes de ella
+    private static final AtomicLong version = new AtomicLong();
+    private static volatile boolean cargada;
+
+    private TipoEntidadCache() {
+    }
+
+    // Tipo de la entidad o null si no existe
+    public static TipoEntidad obtener(Long idEntidad) throws SQLException {
+        if (idEntidad == null) {
+            return null;
+        }
+        if (!cargada) {
+            cargar();
+        }
+        TipoEntidad tipo = tipos.get(idEntidad);
+        if (tipo == null) {
+            // Puede ser una entidad creada por otro cliente después de la carga
+            tipo = buscar(idEntidad);
+            if (tipo != null) {
+                tipos.put(idEntidad, tipo);
+            }
+        }
+        return tipo;
+    }
+
+    public static void registrar(Entidad entidad) {
+        if (entidad.getIdEntidad() != null && entidad.getTipoEntidad() != null) {
+            version.incrementAndGet();
+            tipos.put(entidad.getIdEntidad(), entidad.getTipoEntidad());
+        }
+    }
+
+    public static void registrar(List<Entidad> entidades) {
+        for (Entidad entidad : entidades) {
+            registrar(entidad);
+        }
+    }
+
+    public static void eliminar(Long idEntidad) {
+        if (idEntidad != null) {
+            version.incrementAndGet();
+            tipos.remove(idEntidad);
+        }
+    }
+
+    public static void invalidar() {
+        version.incrementAndGet();
+        cargada = false;
+        tipos.clear();
+    }
+
+    private static void cargar() throws SQLException {
+        synchronized (cargaLock) {
+            if (cargada) {
+                return;
+            }
+            long versionInicial = version.get();
+            String sql = "SELECT id_entidad, tipo_entidad FROM entidad";
+            Map<Long, TipoEntidad> leidos = new HashMap<>();
+            try (
+                    Connection conn = ConnectionPool.getConnection(ConnectionPool.REPORTING);
+                    PreparedStatement statement = conn.prepareStatement(sql);
+                    ResultSet resultSet = statement.executeQuery()
+            ) {
+                while (resultSet.next()) {
+                    leidos.put(resultSet.getLong("id_entidad"), TipoEntidad.valueOf(resultSet.getString("tipo_entidad")));
+                }
+            }
+            if (versionInicial == version.get()) {
+                tipos.putAll(leidos);
+                cargada = true;
+            }
+        }
+    }
+
+    private static TipoEntidad buscar(Long idEntidad) throws SQLException {
+        String sql = "SELECT tipo_entidad FROM entidad WHERE id_entidad = ?";
+        try (
+                Connection conn = ConnectionPool.getConnection();
+                PreparedStatement statement = conn.prepareStatement(sql)
+        ) {
+            statement.setLong(1, idEntidad);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (resultSet.next()) {
+                    return TipoEntidad.valueOf(resultSet.getString("tipo_entidad"));
+                }
+            }
+        }
+        return null;
+    }
+}
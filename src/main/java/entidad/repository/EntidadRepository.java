@@ -15,6 +15,10 @@ public interface EntidadRepository {
 
     Entidad guardar(Entidad entidad) throws InvalidEntidadDataException, SQLException;
 
+    List<Entidad> guardarTodos(List<Entidad> entidades, int tamanoLote) throws InvalidEntidadDataException, SQLException;
+
+    List<Entidad> actualizarTodos(List<Entidad> entidades, int tamanoLote) throws EntidadNotFoundException, InvalidEntidadDataException, SQLException;
+
     void eliminar(Long id) throws SQLException, EntidadNotFoundException;
 
     boolean existePorId(Long id) throws SQLException;
@@ -32,6 +32,16 @@ public class EntidadRepositoryImpl implements EntidadRepository {
         return this.entidadDao.guardar(entidad);
     }
 
+    @Override
+    public List<Entidad> guardarTodos(List<Entidad> entidades, int tamanoLote) throws InvalidEntidadDataException, SQLException {
+        return this.entidadDao.guardarTodos(entidades, tamanoLote);
+    }
+
+    @Override
+    public List<Entidad> actualizarTodos(List<Entidad> entidades, int tamanoLote) throws EntidadNotFoundException, InvalidEntidadDataException, SQLException {
+        return this.entidadDao.actualizarTodos(entidades, tamanoLote);
+    }
+
     @Override
     public void eliminar(Long id) throws SQLException, EntidadNotFoundException {
         this.entidadDao.eliminar(id);
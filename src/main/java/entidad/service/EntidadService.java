@@ -17,6 +17,14 @@ public interface EntidadService {
 
     Entidad guardar(EntidadRequestDto entidadRequestDto) throws InvalidEntidadDataException, SQLException, CentroNotFoundException;
 
+    List<Entidad> guardarTodos(List<EntidadRequestDto> entidades) throws InvalidEntidadDataException, SQLException, CentroNotFoundException;
+
+    List<Entidad> guardarTodos(List<EntidadRequestDto> entidades, int tamanoLote) throws InvalidEntidadDataException, SQLException, CentroNotFoundException;
+
+    List<Entidad> actualizarTodos(List<Entidad> entidades) throws EntidadNotFoundException, InvalidEntidadDataException, SQLException;
+
+    List<Entidad> actualizarTodos(List<Entidad> entidades, int tamanoLote) throws EntidadNotFoundException, InvalidEntidadDataException, SQLException;
+
     void eliminar(Long id) throws SQLException, EntidadNotFoundException;
 
     boolean existePorId(Long id) throws SQLException, EntidadNotFoundException;
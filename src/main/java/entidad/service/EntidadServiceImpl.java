@@ -10,9 +10,14 @@ import entidad.exception.InvalidEntidadDataException;
 import entidad.mapper.EntidadMapper;
 import entidad.model.Entidad;
 import entidad.repository.EntidadRepository;
+import db.JdbcBatch;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public class EntidadServiceImpl implements EntidadService {
 
@@ -27,15 +32,20 @@ public class EntidadServiceImpl implements EntidadService {
     @Override
     public List<Entidad> listarEntidades() throws InvalidEntidadDataException, SQLException {
         List<EntidadDaoResponseDto> respuesta = this.entidadRepository.listarEntidades();
+        Set<Long> idsCentro = new LinkedHashSet<>();
+        for (EntidadDaoResponseDto dto : respuesta) {
+            idsCentro.add(dto.idCentro());
+        }
+        // Dos consultas en total: las entidades y sus centros distintos
+        Map<Long, Centro> centros;
+        try {
+            centros = this.centroService.buscarCentrosPorIds(idsCentro);
+        } catch (CentroNotFoundException e) {
+            throw new InvalidEntidadDataException(e.getMessage(), e);
+        }
         return respuesta.stream()
-                .map(dto -> {
-                    try {
-                        Centro centro = this.centroService.buscarCentroPorId(dto.idCentro());
-                        return EntidadMapper.toDomain(dto, centro);
-                    } catch (SQLException | CentroNotFoundException e) {
-                        throw new RuntimeException(e);
-                    }
-                }).toList();
+                .map(dto -> EntidadMapper.toDomain(dto, centros))
+                .toList();
     }
 
     @Override
@@ -56,6 +66,57 @@ public class EntidadServiceImpl implements EntidadService {
         return this.entidadRepository.guardar(entidad);
     }
 
+    @Override
+    public List<Entidad> guardarTodos(List<EntidadRequestDto> entidades) throws InvalidEntidadDataException, SQLException, CentroNotFoundException {
+        return this.guardarTodos(entidades, JdbcBatch.DEFAULT_BATCH_SIZE);
+    }
+
+    @Override
+    public List<Entidad> guardarTodos(List<EntidadRequestDto> entidades, int tamanoLote) throws InvalidEntidadDataException, SQLException, CentroNotFoundException {
+        validarLote(entidades, tamanoLote);
+        Set<Long> idsCentro = new LinkedHashSet<>();
+        for (EntidadRequestDto entidadRequestDto : entidades) {
+            EntidadValidator.validate(entidadRequestDto);
+            idsCentro.add(entidadRequestDto.idCentro());
+        }
+        // Todos los centros del lote se cargan en una sola consulta
+        Map<Long, Centro> centros = this.centroService.buscarCentrosPorIds(idsCentro);
+        List<Entidad> dominio = new ArrayList<>(entidades.size());
+        for (EntidadRequestDto entidadRequestDto : entidades) {
+            dominio.add(EntidadMapper.toDomain(entidadRequestDto, centros.get(entidadRequestDto.idCentro())));
+        }
+        return dominio.isEmpty() ? dominio : this.entidadRepository.guardarTodos(dominio, tamanoLote);
+    }
+
+    @Override
+    public List<Entidad> actualizarTodos(List<Entidad> entidades) throws EntidadNotFoundException, InvalidEntidadDataException, SQLException {
+        return this.actualizarTodos(entidades, JdbcBatch.DEFAULT_BATCH_SIZE);
+    }
+
+    @Override
+    public List<Entidad> actualizarTodos(List<Entidad> entidades, int tamanoLote) throws EntidadNotFoundException, InvalidEntidadDataException, SQLException {
+        validarLote(entidades, tamanoLote);
+        for (Entidad entidad : entidades) {
+            if (entidad == null || entidad.getIdEntidad() == null) {
+                throw new InvalidEntidadDataException("Todas las entidades a actualizar deben tener id");
+            }
+            if (entidad.getTipoEntidad() == null || entidad.getCentro() == null || entidad.getCentro().getIdCentro() == null) {
+                throw new InvalidEntidadDataException("La entidad %s debe tener tipo y centro".formatted(entidad.getIdEntidad()));
+            }
+        }
+        // Los ids inexistentes los detecta el propio lote, sin un existePorId por fila
+        return entidades.isEmpty() ? entidades : this.entidadRepository.actualizarTodos(entidades, tamanoLote);
+    }
+
+    private void validarLote(List<?> entidades, int tamanoLote) throws InvalidEntidadDataException {
+        if (entidades == null) {
+            throw new InvalidEntidadDataException("La lista de entidades no puede ser nula");
+        }
+        if (tamanoLote <= 0) {
+            throw new InvalidEntidadDataException("El tamaño de lote debe ser mayor que cero");
+        }
+    }
+
     @Override
     public void eliminar(Long id) throws SQLException, EntidadNotFoundException {
         this.existePorId(id);
@@ -2,17 +2,11 @@ package entidad.view;
 
 import javax.swing.*;
 
-import centro.persistence.CentroDaoImpl;
-import centro.repository.CentroRepositoryImpl;
-import centro.service.CentroServiceImpl;
-
 import java.awt.*;
 import java.awt.event.*;
 
+import app.ApplicationContext;
 import entidad.controller.EntidadController;
-import entidad.persistence.EntidadDaoImpl;
-import entidad.repository.EntidadRepositoryImpl;
-import entidad.service.EntidadServiceImpl;
 
 public class EntidadMainFrame extends JPanel {
     private EntidadController entidadController;
@@ -27,16 +21,9 @@ public class EntidadMainFrame extends JPanel {
     
     private void initComponents() {
         try {
-            // Initialize the full chain: DAO → Repository → Service → Controller
-            EntidadDaoImpl entidadDao = new EntidadDaoImpl();
-            EntidadRepositoryImpl entidadRepository = new EntidadRepositoryImpl(entidadDao);
-
-            CentroDaoImpl centroDao = new CentroDaoImpl();
-            CentroRepositoryImpl centroRepository = new CentroRepositoryImpl(centroDao);
-            CentroServiceImpl centroService = new CentroServiceImpl(centroRepository);
-
-            EntidadServiceImpl entidadService = new EntidadServiceImpl(entidadRepository, centroService);
-            entidadController = new EntidadController(entidadService);
+            // DAO → Repository → Service → Controller del contexto compartido: el servicio de
+            // centros es el mismo de toda la aplicación y reutiliza su cache
+            entidadController = ApplicationContext.getInstance().getEntidadController();
             
             setLayout(new BorderLayout());
             
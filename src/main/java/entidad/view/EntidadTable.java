@@ -6,9 +6,13 @@ import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.util.List;
+import java.util.function.Consumer;
 
 import entidad.controller.EntidadController;
+import db.DatabaseChange;
+import db.DatabaseChangeListener;
 import entidad.model.Entidad;
+import view.TableLoader;
 
 public class EntidadTable extends JPanel {
     private JTable table;
@@ -17,6 +21,9 @@ public class EntidadTable extends JPanel {
     private JComboBox<String> filterCombo;
     private EntidadController entidadController;
     private EntidadSelectionListener selectionListener;
+    private TableLoader<Entidad> tableLoader;
+    // Las filas no llevan el ID, así que un cambio de otro cliente recarga la vista actual
+    private final Consumer<DatabaseChange> changeHandler = change -> SwingUtilities.invokeLater(this::reloadCurrentView);
     
     public interface EntidadSelectionListener {
         void onEntidadSelected(Long entidadId);
@@ -83,6 +90,9 @@ public class EntidadTable extends JPanel {
             }
         };
         
+        tableLoader = new TableLoader<>(tableModel, this::toRow);
+        tableLoader.setProgressListener(this::showLoadingProgress);
+        
         table = new JTable(tableModel);
         table.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
         table.setRowHeight(30);
@@ -154,17 +164,32 @@ public class EntidadTable extends JPanel {
         add(bottomPanel, BorderLayout.SOUTH);
     }
     
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        DatabaseChangeListener.subscribe("entidad", changeHandler);
+    }
+    
+    @Override
+    public void removeNotify() {
+        DatabaseChangeListener.unsubscribe("entidad", changeHandler);
+        super.removeNotify();
+    }
+    
+    private void reloadCurrentView() {
+        if (!searchField.getText().trim().isEmpty()) {
+            search();
+        } else {
+            filter();
+        }
+    }
+    
     public void loadData() {
-        SwingUtilities.invokeLater(() -> {
-            try {
-                List<Entidad> entidades = entidadController.obtenerEntidades();
-                updateTable(entidades);
-                updateCounter(entidades.size());
-            } catch (Exception e) {
-                JOptionPane.showMessageDialog(this, "Error al cargar entidades: " + e.getMessage(), 
-                    "Error", JOptionPane.ERROR_MESSAGE);
-            }
-        });
+        tableLoader.load(
+            entidadController::obtenerEntidades,
+            this::onEntidadesLoaded,
+            e -> JOptionPane.showMessageDialog(this, "Error al cargar entidades: " + e.getMessage(), 
+                "Error", JOptionPane.ERROR_MESSAGE));
     }
     
     private void search() {
@@ -172,21 +197,18 @@ public class EntidadTable extends JPanel {
         if (criteria.isEmpty()) {
             loadData();
         } else {
-            try {
-                List<Entidad> allEntidades = entidadController.obtenerEntidades();
-                List<Entidad> results = allEntidades.stream()
+            String lowerCriteria = criteria.toLowerCase();
+            tableLoader.load(
+                () -> entidadController.obtenerEntidades().stream()
                     .filter(entidad -> 
-                        entidad.getNombre().toLowerCase().contains(criteria.toLowerCase()) ||
-                        entidad.getDireccion().toLowerCase().contains(criteria.toLowerCase()) ||
-                        entidad.getEmail().toLowerCase().contains(criteria.toLowerCase()) ||
-                        entidad.getDirectorGeneral().toLowerCase().contains(criteria.toLowerCase()))
-                    .toList();
-                updateTable(results);
-                updateCounter(results.size());
-            } catch (Exception e) {
-                JOptionPane.showMessageDialog(this, "Error al buscar: " + e.getMessage(), 
-                    "Error", JOptionPane.ERROR_MESSAGE);
-            }
+                        entidad.getNombre().toLowerCase().contains(lowerCriteria) ||
+                        entidad.getDireccion().toLowerCase().contains(lowerCriteria) ||
+                        entidad.getEmail().toLowerCase().contains(lowerCriteria) ||
+                        entidad.getDirectorGeneral().toLowerCase().contains(lowerCriteria))
+                    .toList(),
+                this::onEntidadesLoaded,
+                e -> JOptionPane.showMessageDialog(this, "Error al buscar: " + e.getMessage(), 
+                    "Error", JOptionPane.ERROR_MESSAGE));
         }
     }
     
@@ -195,44 +217,48 @@ public class EntidadTable extends JPanel {
         if (filter.equals("Todos")) {
             loadData();
         } else {
-            try {
-                List<Entidad> allEntidades = entidadController.obtenerEntidades();
-                List<Entidad> results = allEntidades.stream()
+            tableLoader.load(
+                () -> entidadController.obtenerEntidades().stream()
                     .filter(entidad -> entidad.getTipoEntidad().name().toLowerCase().equals(filter))
-                    .toList();
-                updateTable(results);
-                updateCounter(results.size());
-            } catch (Exception e) {
-                JOptionPane.showMessageDialog(this, "Error al filtrar: " + e.getMessage(), 
-                    "Error", JOptionPane.ERROR_MESSAGE);
-            }
+                    .toList(),
+                this::onEntidadesLoaded,
+                e -> JOptionPane.showMessageDialog(this, "Error al filtrar: " + e.getMessage(), 
+                    "Error", JOptionPane.ERROR_MESSAGE));
         }
     }
     
-    private void updateTable(List<Entidad> entidades) {
-        tableModel.setRowCount(0);
-        
-        // Limpiar y crear nuevo mapa de IDs
+    // Se ejecuta en el hilo de fondo del loader; la fila va SIN el ID
+    private Object[] toRow(Entidad entidad) {
+        return new Object[]{
+            entidad.getNombre(),
+            entidad.getTipoEntidad().name().toLowerCase(),
+            entidad.getDireccion(),
+            entidad.getTelefono(),
+            entidad.getEmail(),
+            entidad.getDirectorGeneral(),
+            entidad.getCentro() != null ? entidad.getCentro().getIdCentro() : ""
+        };
+    }
+    
+    private void onEntidadesLoaded(List<Entidad> entidades) {
+        // Crear nuevo mapa de IDs usando el índice de la fila
         java.util.Map<Integer, Long> idMap = new java.util.HashMap<>();
-        table.putClientProperty("idMap", idMap);
-        
         for (int i = 0; i < entidades.size(); i++) {
-            Entidad entidad = entidades.get(i);
-            
-            // Guardar el ID en el mapa usando el índice de la fila
-            idMap.put(i, entidad.getIdEntidad());
-            
-            // Agregar fila SIN el ID
-            Object[] row = {
-                entidad.getNombre(),
-                entidad.getTipoEntidad().name().toLowerCase(),
-                entidad.getDireccion(),
-                entidad.getTelefono(),
-                entidad.getEmail(),
-                entidad.getDirectorGeneral(),
-                entidad.getCentro() != null ? entidad.getCentro().getIdCentro() : ""
-            };
-            tableModel.addRow(row);
+            idMap.put(i, entidades.get(i).getIdEntidad());
+        }
+        table.putClientProperty("idMap", idMap);
+        updateCounter(entidades.size());
+    }
+    
+    private void showLoadingProgress(int percent) {
+        if (percent >= 100) {
+            return;
+        }
+        for (Component comp : ((JPanel)getComponent(2)).getComponents()) {
+            if (comp instanceof JLabel && "countLabel".equals(comp.getName())) {
+                ((JLabel) comp).setText("Cargando... " + percent + "%");
+                break;
+            }
         }
     }
     
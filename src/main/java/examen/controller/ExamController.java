@@ -5,6 +5,7 @@ import examen.exception.ExamNotFoundException;
 import examen.exception.InvalidExamDataException;
 import examen.mapper.ExamMapper;
 import examen.model.Exam;
+import examen.model.ExamPageKey;
 import examen.service.ExamServiceInterface;
 import examen.validator.ExamValidator;
 
@@ -30,6 +31,32 @@ public class ExamController {
                 .toList();
     }
 
+    // Pass null to get the first page, then the key of the last exam received
+    public List<ExamResponseDto> getExamsPage(ExamPageKey afterKey, int limit) throws InvalidExamDataException, SQLException {
+        return this.examService.listPage(afterKey, limit).stream()
+                .map(ExamMapper::toExamResponseDto)
+                .toList();
+    }
+
+    public List<ExamResponseDto> searchExams(String criteria, int limit) throws InvalidExamDataException, SQLException {
+        validateTextNotNull(criteria, "Search criteria");
+        return this.examService.search(criteria, limit).stream()
+                .map(ExamMapper::toExamResponseDto)
+                .toList();
+    }
+
+    public ExamPageKey getPageKey(ExamResponseDto exam) {
+        return new ExamPageKey(exam.date(), exam.idExam());
+    }
+
+    public ExamPageKey getPageKeyAt(int position) throws InvalidExamDataException, SQLException {
+        return this.examService.getPageKeyAt(position);
+    }
+
+    public int countAllExams() throws SQLException {
+        return this.examService.countAllExams();
+    }
+
     public ExamResponseDto getExamResponseById(Long id) throws InvalidExamDataException, SQLException, ExamNotFoundException {
         validateIdNotNull(id);
         return ExamMapper.toExamResponseDto(this.examService.getById(id));
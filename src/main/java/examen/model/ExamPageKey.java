@@ -0,0 +1,10 @@
+package examen.model;
+
+// Cursor for keyset pagination: position of the last exam of the previous page
+// in the listing order (fecha DESC, id_examen DESC)
+public record ExamPageKey(String date, Long idExam) {
+
+    public static ExamPageKey of(Exam exam) {
+        return new ExamPageKey(exam.getDate(), exam.getIdExam());
+    }
+}
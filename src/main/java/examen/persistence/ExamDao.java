@@ -3,16 +3,55 @@ package examen.persistence;
 import examen.exception.ExamNotFoundException;
 import examen.exception.InvalidExamDataException;
 import examen.model.Exam;
+import examen.model.ExamPageKey;
+import examen.validator.ExamValidator;
+import entidad.persistence.TipoEntidadCache;
+import conductor.persistence.DriverIdFilter;
 import db.ConnectionPool;
+import db.ReplicaRouter;
+import db.JdbcBatch;
+import org.postgresql.util.PSQLException;
 
 import java.sql.*;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
 
 public class ExamDao implements ExamDaoInterface {
 
+    // Foreign keys of examen, named by PostgreSQL after the table and column
+    private static final String ENTITY_FOREIGN_KEY = "examen_id_entidad_fkey";
+    private static final String DRIVER_FOREIGN_KEY = "examen_id_conductor_fkey";
+
+    private final DriverIdFilter driverIds;
+
+    public ExamDao() {
+        this(new DriverIdFilter());
+    }
+
+    public ExamDao(DriverIdFilter driverIds) {
+        this.driverIds = driverIds;
+    }
+
+    // Primary, for reads that must be current
     private Connection getConnection() throws SQLException {
-        return ConnectionPool.getConnection();
+        return ReplicaRouter.getConnection();
+    }
+
+    // Primary, for methods that change data (see ReplicaRouter)
+    private Connection getWriteConnection() throws SQLException {
+        return ReplicaRouter.getWriteConnection();
+    }
+
+    // Browsing and statistics queries: served by the read replica when there is one
+    private Connection getReadOnlyConnection() throws SQLException {
+        return ReplicaRouter.getReadOnlyConnection();
+    }
+
+    // Full-table reads go to the replica, or to their own pool so they cannot starve the CRUD paths
+    private Connection getReportingConnection() throws SQLException {
+        return ReplicaRouter.getReadOnlyConnection(ConnectionPool.REPORTING);
     }
     
     private boolean entityExists(Long entityId) throws SQLException {
@@ -38,6 +77,7 @@ public class ExamDao implements ExamDaoInterface {
     
     private boolean driverExists(Long driverId) throws SQLException {
         if (driverId == null) return false;
+        if (driverIds.isKnown(driverId)) return true;
         
         String sql = "SELECT COUNT(*) FROM conductor WHERE id_conductor = ?";
         
@@ -48,8 +88,9 @@ public class ExamDao implements ExamDaoInterface {
             statement.setLong(1, driverId);
             
             try (ResultSet resultSet = statement.executeQuery()) {
-                if (resultSet.next()) {
-                    return resultSet.getInt(1) > 0;
+                if (resultSet.next() && resultSet.getInt(1) > 0) {
+                    driverIds.add(driverId);
+                    return true;
                 }
             }
         }
@@ -57,77 +98,203 @@ public class ExamDao implements ExamDaoInterface {
         return false;
     }
     
-    private String getEntityType(Long entityId) throws SQLException {
-        if (entityId == null) return null;
+    // Entity, driver and entity-type rules are enforced by the foreign keys and the
+    // chk_tipo_examen_por_entidad trigger, so a write is a single round trip. The entity
+    // type check is repeated here against TipoEntidadCache, which needs no query once loaded.
+    private void validateExamBeforeSave(Exam exam) throws InvalidExamDataException, SQLException {
+        if (exam.getEntityId() == null) {
+            throw new InvalidExamDataException("La entidad con ID " + exam.getEntityId() + " no existe en la base de datos");
+        }
         
-        String sql = "SELECT tipo_entidad FROM entidad WHERE id_entidad = ?";
+        if (exam.getDriverId() == null) {
+            throw new InvalidExamDataException("El conductor con ID " + exam.getDriverId() + " no existe en la base de datos");
+        }
+        
+        ExamValidator.validateExamForEntity(exam, TipoEntidadCache.obtener(exam.getEntityId()));
+    }
+    
+    // Maps the errors raised by the database rules back to the messages of the old lookups;
+    // null when the error is not one of them
+    private InvalidExamDataException toValidationException(SQLException e, Exam exam) {
+        String state = e.getSQLState();
+        if ("P0001".equals(state)) { // validar_entidad_examen trigger
+            return new InvalidExamDataException(serverMessage(e), e);
+        } else if ("23503".equals(state)) { // Foreign key violation
+            String constraint = constraintName(e);
+            if (ENTITY_FOREIGN_KEY.equals(constraint)) {
+                return new InvalidExamDataException("La entidad con ID " + exam.getEntityId() + " no existe en la base de datos", e);
+            } else if (DRIVER_FOREIGN_KEY.equals(constraint)) {
+                return new InvalidExamDataException("El conductor con ID " + exam.getDriverId() + " no existe en la base de datos", e);
+            }
+        }
+        return null;
+    }
+    
+    // Name of the violated constraint as reported by the server, null when it is not known
+    private String constraintName(SQLException e) {
+        if (e instanceof PSQLException && ((PSQLException) e).getServerErrorMessage() != null) {
+            return ((PSQLException) e).getServerErrorMessage().getConstraint();
+        }
+        return null;
+    }
+    
+    // First line of the server message, without the "ERROR: " prefix or the PL/pgSQL context
+    private String serverMessage(SQLException e) {
+        String message = e.getMessage() == null ? "" : e.getMessage();
+        int lineEnd = message.indexOf('\n');
+        if (lineEnd >= 0) {
+            message = message.substring(0, lineEnd);
+        }
+        return message.startsWith("ERROR: ") ? message.substring("ERROR: ".length()).trim() : message.trim();
+    }
+
+    @Override
+    public List<Exam> listAllExams() throws InvalidExamDataException, SQLException {
+        String sql = "SELECT * FROM examen ORDER BY fecha DESC, id_examen DESC";
+        List<Exam> exams = new ArrayList<>();
         
         try (
-            Connection conn = this.getConnection();
+            Connection conn = this.getReportingConnection();
+            PreparedStatement statement = conn.prepareStatement(sql);
+            ResultSet resultSet = statement.executeQuery()
+        ) {
+            while (resultSet.next()) {
+                Exam exam = mapResultSetToExam(resultSet);
+                exams.add(exam);
+            }
+        } catch (SQLException e) {
+            throw new InvalidExamDataException("Error al listar exámenes", e);
+        }
+        
+        return exams;
+    }
+
+    @Override
+    public List<Exam> listPage(ExamPageKey afterKey, int limit) throws InvalidExamDataException, SQLException {
+        // Keyset pagination: seek past the last row of the previous page instead of using OFFSET
+        String sql = afterKey == null
+            ? "SELECT * FROM examen ORDER BY fecha DESC, id_examen DESC LIMIT ?"
+            : "SELECT * FROM examen WHERE (fecha, id_examen) < (?, ?) " +
+              "ORDER BY fecha DESC, id_examen DESC LIMIT ?";
+        List<Exam> exams = new ArrayList<>(limit);
+        
+        try (
+            Connection conn = this.getReadOnlyConnection();
             PreparedStatement statement = conn.prepareStatement(sql)
         ) {
-            statement.setLong(1, entityId);
+            int index = 1;
+            if (afterKey != null) {
+                statement.setDate(index++, Date.valueOf(afterKey.date()));
+                statement.setLong(index++, afterKey.idExam());
+            }
+            statement.setInt(index, limit);
             
             try (ResultSet resultSet = statement.executeQuery()) {
-                if (resultSet.next()) {
-                    return resultSet.getString("tipo_entidad");
+                while (resultSet.next()) {
+                    exams.add(mapResultSetToExam(resultSet));
                 }
             }
+        } catch (SQLException e) {
+            throw new InvalidExamDataException("Error al listar página de exámenes", e);
         }
         
-        return null;
+        return exams;
     }
-    
-    private void validateExamBeforeSave(Exam exam) throws InvalidExamDataException, SQLException {
-        // 1. Validar que la entidad exista
-        if (!entityExists(exam.getEntityId())) {
-            throw new InvalidExamDataException("La entidad con ID " + exam.getEntityId() + " no existe en la base de datos");
-        }
+
+    @Override
+    public ExamPageKey getPageKeyAt(int position) throws InvalidExamDataException, SQLException {
+        // Only reads the key columns, used to jump to a page whose previous page was never loaded
+        String sql = "SELECT fecha, id_examen FROM examen " +
+                     "ORDER BY fecha DESC, id_examen DESC OFFSET ? LIMIT 1";
         
-        // 2. Validar que el conductor exista
-        if (!driverExists(exam.getDriverId())) {
-            throw new InvalidExamDataException("El conductor con ID " + exam.getDriverId() + " no existe en la base de datos");
+        try (
+            Connection conn = this.getReadOnlyConnection();
+            PreparedStatement statement = conn.prepareStatement(sql)
+        ) {
+            statement.setInt(1, position);
+            
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (resultSet.next()) {
+                    return new ExamPageKey(resultSet.getDate("fecha").toString(), resultSet.getLong("id_examen"));
+                }
+            }
+        } catch (SQLException e) {
+            throw new InvalidExamDataException("Error al obtener la clave de página en la posición " + position, e);
         }
         
-        // 3. Validar que el tipo de examen sea compatible con el tipo de entidad
-        String entityType = getEntityType(exam.getEntityId());
-        
-        if (entityType == null) {
-            throw new InvalidExamDataException("No se pudo determinar el tipo de entidad para ID " + exam.getEntityId());
-        }
+        return null;
+    }
+
+    @Override
+    public List<Exam> search(String criteria, int limit) throws InvalidExamDataException, SQLException {
+        String term = criteria.trim();
+        List<String> conditions = new ArrayList<>();
+        List<Object> params = new ArrayList<>();
+        
+        // Numbers are IDs, dates become a range on fecha; both go through their indexes
+        if (term.matches("\\d{1,18}")) {
+            long id = Long.parseLong(term);
+            conditions.add("id_conductor = ? OR id_entidad = ? OR id_examen = ?");
+            params.add(id);
+            params.add(id);
+            params.add(id);
+        }
+        LocalDate[] dateRange = parseDateRange(term);
+        if (dateRange != null) {
+            conditions.add("(fecha >= ? AND fecha < ?)");
+            params.add(Date.valueOf(dateRange[0]));
+            params.add(Date.valueOf(dateRange[1]));
+        }
+        if (conditions.isEmpty()) {
+            // Text is matched while walking idx_examen_fecha_id, which stops at the limit
+            String prefix = escapeLike(term.toLowerCase()) + "%";
+            conditions.add("tipo_examen::text LIKE ? OR resultado::text LIKE ? OR lower(examinador) LIKE ?");
+            params.add(prefix);
+            params.add(prefix);
+            params.add(prefix);
+        }
+        
+        String sql = "SELECT * FROM examen WHERE " + String.join(" OR ", conditions) +
+                     " ORDER BY fecha DESC, id_examen DESC LIMIT ?";
+        List<Exam> exams = new ArrayList<>();
         
-        if ("medico".equals(exam.getExamType())) {
-            if (!"clinica".equals(entityType)) {
-                throw new InvalidExamDataException("El examen médico debe ser realizado por una entidad tipo CLINICA. Entidad " + 
-                                                   exam.getEntityId() + " es de tipo " + entityType + ".");
+        try (
+            Connection conn = this.getReadOnlyConnection();
+            PreparedStatement statement = conn.prepareStatement(sql)
+        ) {
+            int index = 1;
+            for (Object param : params) {
+                statement.setObject(index++, param);
             }
-        } else if ("teorico".equals(exam.getExamType()) || "practico".equals(exam.getExamType())) {
-            if (!"autoescuela".equals(entityType)) {
-                throw new InvalidExamDataException("Los exámenes teórico/práctico deben ser realizados por una entidad tipo AUTOESCUELA. Entidad " + 
-                                                   exam.getEntityId() + " es de tipo " + entityType + ".");
+            statement.setInt(index, limit);
+            
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    exams.add(mapResultSetToExam(resultSet));
+                }
             }
+        } catch (SQLException e) {
+            throw new InvalidExamDataException("Error al buscar exámenes", e);
         }
+        
+        return exams;
     }
 
     @Override
-    public List<Exam> listAllExams() throws InvalidExamDataException, SQLException {
-        String sql = "SELECT * FROM examen ORDER BY fecha DESC, id_examen DESC";
-        List<Exam> exams = new ArrayList<>();
+    public int countAllExams() throws SQLException {
+        String sql = "SELECT COUNT(*) FROM examen";
         
         try (
-            Connection conn = this.getConnection();
+            Connection conn = this.getReadOnlyConnection();
             PreparedStatement statement = conn.prepareStatement(sql);
             ResultSet resultSet = statement.executeQuery()
         ) {
-            while (resultSet.next()) {
-                Exam exam = mapResultSetToExam(resultSet);
-                exams.add(exam);
+            if (resultSet.next()) {
+                return resultSet.getInt(1);
             }
-        } catch (SQLException e) {
-            throw new InvalidExamDataException("Error al listar exámenes", e);
         }
         
-        return exams;
+        return 0;
     }
 
     @Override
@@ -159,7 +326,7 @@ public class ExamDao implements ExamDaoInterface {
                     "VALUES (?::tipo_examen_enum, ?, ?::resultado_examen_enum, ?, ?, ?)";
         
         try (
-            Connection conn = this.getConnection();
+            Connection conn = this.getWriteConnection();
             PreparedStatement statement = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)
         ) {
             statement.setString(1, exam.getExamType());
@@ -183,17 +350,14 @@ public class ExamDao implements ExamDaoInterface {
             throw new SQLException("No se pudo guardar el examen, no se generó ID");
             
         } catch (SQLException e) {
-            if (e.getSQLState().equals("23505")) { // Unique constraint violation
+            InvalidExamDataException validationError = toValidationException(e, exam);
+            if (validationError != null) {
+                throw validationError;
+            }
+            if ("23505".equals(e.getSQLState())) { // Unique constraint violation
                 throw new InvalidExamDataException("Ya existe un examen con estos datos", e);
-            } else if (e.getSQLState().equals("23514")) { // Check constraint violation
+            } else if ("23514".equals(e.getSQLState())) { // Check constraint violation
                 throw new InvalidExamDataException("Error de validación: " + e.getMessage(), e);
-            } else if (e.getSQLState().equals("23503")) { // Foreign key violation
-                // Aunque ya validamos, por si acaso
-                if (e.getMessage().contains("entidad")) {
-                    throw new InvalidExamDataException("La entidad especificada no existe", e);
-                } else if (e.getMessage().contains("conductor")) {
-                    throw new InvalidExamDataException("El conductor especificado no existe", e);
-                }
             }
             throw new InvalidExamDataException("Error al guardar el examen", e);
         }
@@ -209,7 +373,7 @@ public class ExamDao implements ExamDaoInterface {
                     "id_conductor = ?, examinador = ? WHERE id_examen = ?";
         
         try (
-            Connection conn = this.getConnection();
+            Connection conn = this.getWriteConnection();
             PreparedStatement statement = conn.prepareStatement(sql)
         ) {
             statement.setString(1, exam.getExamType());
@@ -229,17 +393,14 @@ public class ExamDao implements ExamDaoInterface {
             return exam;
             
         } catch (SQLException e) {
-            if (e.getSQLState().equals("23505")) { // Unique constraint violation
+            InvalidExamDataException validationError = toValidationException(e, exam);
+            if (validationError != null) {
+                throw validationError;
+            }
+            if ("23505".equals(e.getSQLState())) { // Unique constraint violation
                 throw new InvalidExamDataException("Ya existe un examen con estos datos", e);
-            } else if (e.getSQLState().equals("23514")) { // Check constraint violation
+            } else if ("23514".equals(e.getSQLState())) { // Check constraint violation
                 throw new InvalidExamDataException("Error de validación: " + e.getMessage(), e);
-            } else if (e.getSQLState().equals("23503")) { // Foreign key violation
-                // Aunque ya validamos, por si acaso
-                if (e.getMessage().contains("entidad")) {
-                    throw new InvalidExamDataException("La entidad especificada no existe", e);
-                } else if (e.getMessage().contains("conductor")) {
-                    throw new InvalidExamDataException("El conductor especificado no existe", e);
-                }
             }
             throw e;
         }
@@ -250,7 +411,7 @@ public class ExamDao implements ExamDaoInterface {
         String sql = "DELETE FROM examen WHERE id_examen = ?";
         
         try (
-            Connection conn = this.getConnection();
+            Connection conn = this.getWriteConnection();
             PreparedStatement statement = conn.prepareStatement(sql)
         ) {
             statement.setLong(1, id);
@@ -263,6 +424,75 @@ public class ExamDao implements ExamDaoInterface {
         }
     }
     
+    @Override
+    public List<Exam> saveAll(List<Exam> exams, int batchSize) throws InvalidExamDataException, SQLException {
+        // Entity and driver existence are left to the foreign keys instead of two lookups per
+        // row; the entity type is checked in memory and again by the trigger
+        String sql = "INSERT INTO examen (tipo_examen, fecha, resultado, id_entidad, id_conductor, examinador) " +
+                    "VALUES (?::tipo_examen_enum, ?, ?::resultado_examen_enum, ?, ?, ?)";
+        
+        for (Exam exam : exams) {
+            validateExamBeforeSave(exam);
+        }
+        
+        try (Connection conn = this.getWriteConnection()) {
+            JdbcBatch.insertAll(conn, sql, exams, batchSize, this::bindExam, Exam::setIdExam);
+            return exams;
+        } catch (SQLException e) {
+            throw toBatchException(e, "Error al guardar el lote de exámenes");
+        }
+    }
+
+    @Override
+    public List<Exam> updateAll(List<Exam> exams, int batchSize) throws ExamNotFoundException, InvalidExamDataException, SQLException {
+        String sql = "UPDATE examen SET tipo_examen = ?::tipo_examen_enum, fecha = ?, " +
+                    "resultado = ?::resultado_examen_enum, id_entidad = ?, " +
+                    "id_conductor = ?, examinador = ? WHERE id_examen = ?";
+        int missing;
+        for (Exam exam : exams) {
+            validateExamBeforeSave(exam);
+        }
+        
+        try (Connection conn = this.getWriteConnection()) {
+            missing = JdbcBatch.updateAll(conn, sql, exams, batchSize, (statement, exam) -> {
+                bindExam(statement, exam);
+                statement.setLong(7, exam.getIdExam());
+            });
+        } catch (SQLException e) {
+            throw toBatchException(e, "Error al actualizar el lote de exámenes");
+        }
+        
+        if (missing >= 0) {
+            throw new ExamNotFoundException("Examen con ID " + exams.get(missing).getIdExam() + " no encontrado para actualizar");
+        }
+        return exams;
+    }
+
+    private void bindExam(PreparedStatement statement, Exam exam) throws SQLException {
+        statement.setString(1, exam.getExamType());
+        statement.setDate(2, Date.valueOf(exam.getDate()));
+        statement.setString(3, exam.getResult());
+        statement.setLong(4, exam.getEntityId());
+        statement.setLong(5, exam.getDriverId());
+        statement.setString(6, exam.getExaminer());
+    }
+
+    private InvalidExamDataException toBatchException(SQLException e, String message) {
+        SQLException cause = JdbcBatch.cause(e);
+        String state = cause.getSQLState();
+        if ("P0001".equals(state) || "23514".equals(state)) { // Trigger or check constraint
+            return new InvalidExamDataException("Error de validación: " + cause.getMessage(), e);
+        } else if ("23503".equals(state)) { // Foreign key violation
+            String constraint = constraintName(cause);
+            if (ENTITY_FOREIGN_KEY.equals(constraint)) {
+                return new InvalidExamDataException("La entidad especificada no existe", e);
+            } else if (DRIVER_FOREIGN_KEY.equals(constraint)) {
+                return new InvalidExamDataException("El conductor especificado no existe", e);
+            }
+        }
+        return new InvalidExamDataException(message, e);
+    }
+    
     @Override
     public boolean existsById(Long id) throws SQLException {
         if (id == null) return false;
@@ -349,7 +579,7 @@ public class ExamDao implements ExamDaoInterface {
         List<Exam> exams = new ArrayList<>();
         
         try (
-            Connection conn = this.getConnection();
+            Connection conn = this.getReadOnlyConnection();
             PreparedStatement statement = conn.prepareStatement(sql)
         ) {
             statement.setString(1, examType);
@@ -373,7 +603,7 @@ public class ExamDao implements ExamDaoInterface {
         List<Exam> exams = new ArrayList<>();
         
         try (
-            Connection conn = this.getConnection();
+            Connection conn = this.getReadOnlyConnection();
             PreparedStatement statement = conn.prepareStatement(sql)
         ) {
             statement.setString(1, result);
@@ -457,7 +687,7 @@ public class ExamDao implements ExamDaoInterface {
         List<Exam> exams = new ArrayList<>();
         
         try (
-            Connection conn = this.getConnection();
+            Connection conn = this.getReadOnlyConnection();
             PreparedStatement statement = conn.prepareStatement(sql)
         ) {
             statement.setDate(1, Date.valueOf(startDate));
@@ -501,7 +731,7 @@ public class ExamDao implements ExamDaoInterface {
         String sql = "SELECT COUNT(*) FROM examen WHERE resultado = ?::resultado_examen_enum";
         
         try (
-            Connection conn = this.getConnection();
+            Connection conn = this.getReadOnlyConnection();
             PreparedStatement statement = conn.prepareStatement(sql)
         ) {
             statement.setString(1, result);
@@ -521,7 +751,7 @@ public class ExamDao implements ExamDaoInterface {
         String sql = "SELECT COUNT(*) FROM examen WHERE tipo_examen = ?::tipo_examen_enum";
         
         try (
-            Connection conn = this.getConnection();
+            Connection conn = this.getReadOnlyConnection();
             PreparedStatement statement = conn.prepareStatement(sql)
         ) {
             statement.setString(1, examType);
@@ -639,6 +869,31 @@ public class ExamDao implements ExamDaoInterface {
         return exams;
     }
 
+    // yyyy, yyyy-MM or yyyy-MM-dd as a half-open range, null if the text is not a date
+    private LocalDate[] parseDateRange(String text) {
+        try {
+            if (text.matches("\\d{4}")) {
+                LocalDate start = LocalDate.of(Integer.parseInt(text), 1, 1);
+                return new LocalDate[]{start, start.plusYears(1)};
+            }
+            if (text.matches("\\d{4}-\\d{2}")) {
+                LocalDate start = LocalDate.parse(text + "-01");
+                return new LocalDate[]{start, start.plusMonths(1)};
+            }
+            if (text.matches("\\d{4}-\\d{2}-\\d{2}")) {
+                LocalDate start = LocalDate.parse(text);
+                return new LocalDate[]{start, start.plusDays(1)};
+            }
+        } catch (DateTimeParseException e) {
+            // Not a valid date, search it as text
+        }
+        return null;
+    }
+
+    private String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
     private Exam mapResultSetToExam(ResultSet resultSet) throws SQLException {
         Long idExam = resultSet.getLong("id_examen");
         String examType = resultSet.getString("tipo_examen");
@@ -3,6 +3,7 @@ package examen.persistence;
 import examen.exception.ExamNotFoundException;
 import examen.exception.InvalidExamDataException;
 import examen.model.Exam;
+import examen.model.ExamPageKey;
 
 import java.sql.SQLException;
 import java.util.List;
@@ -11,6 +12,14 @@ public interface ExamDaoInterface {
     // Basic CRUD operations
     List<Exam> listAllExams() throws InvalidExamDataException, SQLException;
     
+    List<Exam> listPage(ExamPageKey afterKey, int limit) throws InvalidExamDataException, SQLException;
+    
+    ExamPageKey getPageKeyAt(int position) throws InvalidExamDataException, SQLException;
+    
+    List<Exam> search(String criteria, int limit) throws InvalidExamDataException, SQLException;
+    
+    int countAllExams() throws SQLException;
+    
     Exam getById(Long id) throws SQLException, ExamNotFoundException;
     
     Exam save(Exam exam) throws InvalidExamDataException, SQLException;
@@ -19,6 +28,10 @@ public interface ExamDaoInterface {
     
     Exam update(Exam exam) throws ExamNotFoundException, SQLException, InvalidExamDataException;
     
+    List<Exam> saveAll(List<Exam> exams, int batchSize) throws InvalidExamDataException, SQLException;
+    
+    List<Exam> updateAll(List<Exam> exams, int batchSize) throws ExamNotFoundException, InvalidExamDataException, SQLException;
+    
     boolean existsById(Long id) throws SQLException;
     
     // Exam-specific queries
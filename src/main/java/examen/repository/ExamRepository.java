@@ -3,6 +3,7 @@ package examen.repository;
 import examen.exception.ExamNotFoundException;
 import examen.exception.InvalidExamDataException;
 import examen.model.Exam;
+import examen.model.ExamPageKey;
 import examen.persistence.ExamDao;
 
 import java.sql.SQLException;
@@ -21,6 +22,26 @@ public class ExamRepository implements ExamRepositoryInterface {
         return this.examDao.listAllExams();
     }
 
+    @Override
+    public List<Exam> listPage(ExamPageKey afterKey, int limit) throws InvalidExamDataException, SQLException {
+        return this.examDao.listPage(afterKey, limit);
+    }
+
+    @Override
+    public ExamPageKey getPageKeyAt(int position) throws InvalidExamDataException, SQLException {
+        return this.examDao.getPageKeyAt(position);
+    }
+
+    @Override
+    public List<Exam> search(String criteria, int limit) throws InvalidExamDataException, SQLException {
+        return this.examDao.search(criteria, limit);
+    }
+
+    @Override
+    public int countAllExams() throws SQLException {
+        return this.examDao.countAllExams();
+    }
+
     @Override
     public Exam getById(Long id) throws SQLException, ExamNotFoundException {
         return this.examDao.getById(id);
@@ -41,6 +62,16 @@ public class ExamRepository implements ExamRepositoryInterface {
         return this.examDao.update(exam);
     }
 
+    @Override
+    public List<Exam> saveAll(List<Exam> exams, int batchSize) throws InvalidExamDataException, SQLException {
+        return this.examDao.saveAll(exams, batchSize);
+    }
+
+    @Override
+    public List<Exam> updateAll(List<Exam> exams, int batchSize) throws ExamNotFoundException, InvalidExamDataException, SQLException {
+        return this.examDao.updateAll(exams, batchSize);
+    }
+
     @Override
     public boolean existsById(Long id) throws SQLException {
         return this.examDao.existsById(id);
@@ -3,14 +3,20 @@ package examen.service;
 import examen.exception.ExamNotFoundException;
 import examen.exception.InvalidExamDataException;
 import examen.model.Exam;
+import examen.model.ExamPageKey;
 import examen.repository.ExamRepositoryInterface;
 import examen.validator.ExamValidator;
+import db.JdbcBatch;
 
 import java.sql.SQLException;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 public class ExamService implements ExamServiceInterface {
 
+    private static final int MAX_PAGE_SIZE = 1000;
+
     private final ExamRepositoryInterface examRepository;
 
     public ExamService(ExamRepositoryInterface examRepository) {
@@ -22,6 +28,41 @@ public class ExamService implements ExamServiceInterface {
         return this.examRepository.listAllExams();
     }
 
+    @Override
+    public List<Exam> listPage(ExamPageKey afterKey, int limit) throws InvalidExamDataException, SQLException {
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidExamDataException("El tamaño de página debe estar entre 1 y " + MAX_PAGE_SIZE);
+        }
+        if (afterKey != null && (afterKey.date() == null || afterKey.idExam() == null)) {
+            throw new InvalidExamDataException("La clave de página debe incluir fecha e ID");
+        }
+        return this.examRepository.listPage(afterKey, limit);
+    }
+
+    @Override
+    public ExamPageKey getPageKeyAt(int position) throws InvalidExamDataException, SQLException {
+        if (position < 0) {
+            throw new InvalidExamDataException("La posición no puede ser negativa");
+        }
+        return this.examRepository.getPageKeyAt(position);
+    }
+
+    @Override
+    public List<Exam> search(String criteria, int limit) throws InvalidExamDataException, SQLException {
+        if (criteria == null || criteria.trim().isEmpty()) {
+            throw new InvalidExamDataException("El criterio de búsqueda no puede ser nulo o vacío");
+        }
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidExamDataException("El límite de resultados debe estar entre 1 y " + MAX_PAGE_SIZE);
+        }
+        return this.examRepository.search(criteria, limit);
+    }
+
+    @Override
+    public int countAllExams() throws SQLException {
+        return this.examRepository.countAllExams();
+    }
+
     @Override
     public Exam getById(Long id) throws SQLException, ExamNotFoundException {
         return this.examRepository.getById(id);
@@ -48,6 +89,56 @@ public class ExamService implements ExamServiceInterface {
         return this.examRepository.update(exam);
     }
 
+    @Override
+    public List<Exam> saveAll(List<Exam> exams) throws InvalidExamDataException, SQLException {
+        return this.saveAll(exams, JdbcBatch.DEFAULT_BATCH_SIZE);
+    }
+
+    @Override
+    public List<Exam> saveAll(List<Exam> exams, int batchSize) throws InvalidExamDataException, SQLException {
+        validateBatch(exams, batchSize);
+        checkBatchConstraints(exams);
+        return exams.isEmpty() ? exams : this.examRepository.saveAll(exams, batchSize);
+    }
+
+    @Override
+    public List<Exam> updateAll(List<Exam> exams) throws ExamNotFoundException, InvalidExamDataException, SQLException {
+        return this.updateAll(exams, JdbcBatch.DEFAULT_BATCH_SIZE);
+    }
+
+    @Override
+    public List<Exam> updateAll(List<Exam> exams, int batchSize) throws ExamNotFoundException, InvalidExamDataException, SQLException {
+        validateBatch(exams, batchSize);
+        for (Exam exam : exams) {
+            if (exam != null && exam.getIdExam() == null) {
+                throw new InvalidExamDataException("Todos los exámenes a actualizar deben tener ID");
+            }
+        }
+        checkBatchConstraints(exams);
+        // Missing IDs are reported by the batch itself instead of one existsById per row
+        return exams.isEmpty() ? exams : this.examRepository.updateAll(exams, batchSize);
+    }
+
+    private void validateBatch(List<Exam> exams, int batchSize) throws InvalidExamDataException {
+        if (exams == null) {
+            throw new InvalidExamDataException("La lista de exámenes no puede ser nula");
+        }
+        if (batchSize <= 0) {
+            throw new InvalidExamDataException("El tamaño de lote debe ser mayor que cero");
+        }
+    }
+
+    // Same rules as save/update, but canTakeExam is asked once per driver and exam type
+    private void checkBatchConstraints(List<Exam> exams) throws InvalidExamDataException, SQLException {
+        Set<String> checked = new HashSet<>();
+        for (Exam exam : exams) {
+            validateExamData(exam);
+            if (checked.add(exam.getDriverId() + "|" + exam.getExamType())) {
+                checkExamConstraints(exam);
+            }
+        }
+    }
+
     @Override
     public boolean existsById(Long id) throws SQLException, ExamNotFoundException {
         if (!this.examRepository.existsById(id)) {
@@ -1,5 +1,6 @@
 package examen.validator;
 
+import entidad.vo.TipoEntidad;
 import examen.exception.InvalidExamDataException;
 import examen.model.Exam;
 
@@ -152,6 +153,14 @@ public class ExamValidator {
         }
     }
 
+    // entityType is the type of exam.getEntityId(), or null when that entity does not exist
+    public static void validateExamForEntity(Exam exam, TipoEntidad entityType) throws InvalidExamDataException {
+        if (entityType == null) {
+            throw new InvalidExamDataException("La entidad con ID " + exam.getEntityId() + " no existe en la base de datos");
+        }
+        validateExamTypeForEntity(exam.getExamType(), entityType.name());
+    }
+
     public static void validateDateRange(String startDate, String endDate) throws InvalidExamDataException {
         validateDate(startDate);
         validateDate(endDate);
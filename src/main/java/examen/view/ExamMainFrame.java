@@ -4,10 +4,8 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
 
+import app.ApplicationContext;
 import examen.controller.ExamController;
-import examen.persistence.ExamDao;
-import examen.repository.ExamRepository;
-import examen.service.ExamService;
 
 public class ExamMainFrame extends JFrame {
     private ExamController examController;
@@ -23,11 +21,8 @@ public class ExamMainFrame extends JFrame {
     
     private void initComponents() {
         try {
-            // Initialize the full chain: DAO → Repository → Service → Controller
-            ExamDao examDao = new ExamDao();
-            ExamRepository examRepository = new ExamRepository(examDao);
-            ExamService examService = new ExamService(examRepository);
-            examController = new ExamController(examService);
+            // DAO → Repository → Service → Controller, shared with the rest of the application
+            examController = ApplicationContext.getInstance().getExamController();
             
             setTitle("Gestión de Exámenes - CRUD Completo");
             setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE); // IMPORTANTE: No EXIT_ON_CLOSE
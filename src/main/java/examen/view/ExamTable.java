@@ -9,14 +9,25 @@ import java.util.List;
 
 import examen.controller.ExamController;
 import examen.dto.ExamResponseDto;
+import examen.exception.ExamNotFoundException;
+import examen.model.ExamPageKey;
+import view.LazyTableModel;
+import view.LiveTableUpdater;
+import view.SearchDebouncer;
+import view.TableLoader;
 
 public class ExamTable extends JPanel {
     private JTable table;
     private DefaultTableModel tableModel;
+    private LazyTableModel<ExamResponseDto, ExamPageKey> pagedModel;
     private JTextField searchField;
     private JComboBox<String> filterCombo;
     private ExamController examController;
     private ExamSelectionListener selectionListener;
+    private TableLoader<ExamResponseDto> tableLoader;
+    private LiveTableUpdater<ExamResponseDto> liveUpdater;
+    
+    private static final int SEARCH_LIMIT = 500;
     
     // Interface for selection events
     public interface ExamSelectionListener {
@@ -38,11 +49,7 @@ public class ExamTable extends JPanel {
         
         JLabel searchLabel = new JLabel("Buscar:");
         searchField = new JTextField(20);
-        searchField.getDocument().addDocumentListener(new javax.swing.event.DocumentListener() {
-            public void changedUpdate(javax.swing.event.DocumentEvent e) { search(); }
-            public void removeUpdate(javax.swing.event.DocumentEvent e) { search(); }
-            public void insertUpdate(javax.swing.event.DocumentEvent e) { search(); }
-        });
+        searchField.getDocument().addDocumentListener(new SearchDebouncer(this::search));
         
         JLabel filterLabel = new JLabel("Filtrar por:");
         filterCombo = new JComboBox<>(new String[]{"Todos", "medico", "teorico", "practico", "aprobado", "reprobado"});
@@ -56,7 +63,7 @@ public class ExamTable extends JPanel {
         });
         
         JButton refreshButton = new JButton("Actualizar");
-        refreshButton.addActionListener(e -> loadData());
+        refreshButton.addActionListener(e -> refreshCurrentView());
         
         searchPanel.add(searchLabel);
         searchPanel.add(searchField);
@@ -85,7 +92,47 @@ public class ExamTable extends JPanel {
             }
         };
         
-        table = new JTable(tableModel);
+        tableLoader = new TableLoader<>(tableModel, this::toRow);
+        tableLoader.setKeyColumn(0);
+        tableLoader.setProgressListener(this::showLoadingProgress);
+        
+        // Unfiltered listing is paged from the database; filtered results go to tableModel
+        Class<?>[] columnClasses = new Class<?>[columnNames.length];
+        for (int i = 0; i < columnNames.length; i++) {
+            columnClasses[i] = tableModel.getColumnClass(i);
+        }
+        pagedModel = new LazyTableModel<>(columnNames, columnClasses, new LazyTableModel.PageSource<>() {
+            @Override
+            public int count() throws Exception {
+                return examController.countAllExams();
+            }
+            
+            @Override
+            public List<ExamResponseDto> fetchPage(ExamPageKey afterKey, int limit) throws Exception {
+                return examController.getExamsPage(afterKey, limit);
+            }
+            
+            @Override
+            public ExamPageKey keyAt(int position) throws Exception {
+                return examController.getPageKeyAt(position);
+            }
+            
+            @Override
+            public ExamPageKey keyOf(ExamResponseDto exam) {
+                return examController.getPageKey(exam);
+            }
+        }, this::toRow);
+        pagedModel.setCountListener(this::updateCounter);
+        pagedModel.setErrorHandler(e -> JOptionPane.showMessageDialog(this, 
+            "Error al cargar exámenes: " + e.getMessage(), "Error", JOptionPane.ERROR_MESSAGE));
+        
+        // Changes made by other clients
+        liveUpdater = new LiveTableUpdater<>("examen", this::fetchExam, ExamResponseDto::idExam,
+            pagedModel, tableLoader, () -> table.getModel(), this::refreshCurrentView, () -> false);
+        
+        table = new JTable(pagedModel);
+        // Both models share the same columns, keep widths and renderers when swapping
+        table.setAutoCreateColumnsFromModel(false);
         table.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
         table.setRowHeight(30);
         table.getTableHeader().setFont(new Font("SansSerif", Font.BOLD, 12));
@@ -158,8 +205,8 @@ public class ExamTable extends JPanel {
             public void mouseClicked(MouseEvent e) {
                 if (e.getClickCount() == 1 && selectionListener != null) {
                     int row = table.getSelectedRow();
-                    if (row >= 0) {
-                        Long examId = (Long) tableModel.getValueAt(row, 0);
+                    Long examId = row >= 0 ? (Long) table.getModel().getValueAt(row, 0) : null;
+                    if (examId != null) {
                         selectionListener.onExamSelected(examId);
                     }
                 }
@@ -181,17 +228,39 @@ public class ExamTable extends JPanel {
         add(bottomPanel, BorderLayout.SOUTH);
     }
     
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        liveUpdater.bind();
+    }
+    
+    @Override
+    public void removeNotify() {
+        liveUpdater.unbind();
+        super.removeNotify();
+    }
+    
+    private ExamResponseDto fetchExam(Long id) throws Exception {
+        try {
+            return examController.getExamResponseById(id);
+        } catch (ExamNotFoundException e) {
+            return null;
+        }
+    }
+    
+    // Re-reads whatever the table is showing; only the rows that changed are repainted
+    private void refreshCurrentView() {
+        if (table.getModel() == pagedModel) {
+            pagedModel.refresh();
+        } else {
+            tableLoader.refresh();
+        }
+    }
+    
     public void loadData() {
-        SwingUtilities.invokeLater(() -> {
-            try {
-                List<ExamResponseDto> exams = examController.getAllExams();
-                updateTable(exams);
-                updateCounter(exams.size());
-            } catch (Exception e) {
-                JOptionPane.showMessageDialog(this, "Error al cargar exámenes: " + e.getMessage(), 
-                    "Error", JOptionPane.ERROR_MESSAGE);
-            }
-        });
+        tableLoader.cancel();
+        table.setModel(pagedModel);
+        pagedModel.reload();
     }
     
     private void search() {
@@ -199,23 +268,12 @@ public class ExamTable extends JPanel {
         if (criteria.isEmpty()) {
             loadData();
         } else {
-            try {
-                List<ExamResponseDto> allExams = examController.getAllExams();
-                List<ExamResponseDto> results = allExams.stream()
-                    .filter(exam -> 
-                        exam.examType().toLowerCase().contains(criteria.toLowerCase()) ||
-                        exam.result().toLowerCase().contains(criteria.toLowerCase()) ||
-                        exam.examiner().toLowerCase().contains(criteria.toLowerCase()) ||
-                        exam.date().contains(criteria) ||
-                        String.valueOf(exam.entityId()).contains(criteria) ||
-                        String.valueOf(exam.driverId()).contains(criteria))
-                    .toList();
-                updateTable(results);
-                updateCounter(results.size());
-            } catch (Exception e) {
-                JOptionPane.showMessageDialog(this, "Error al buscar: " + e.getMessage(), 
-                    "Error", JOptionPane.ERROR_MESSAGE);
-            }
+            table.setModel(tableModel);
+            tableLoader.load(
+                () -> examController.searchExams(criteria, SEARCH_LIMIT),
+                results -> updateCounter(results.size()),
+                e -> JOptionPane.showMessageDialog(this, "Error al buscar: " + e.getMessage(), 
+                    "Error", JOptionPane.ERROR_MESSAGE));
         }
     }
     
@@ -224,34 +282,38 @@ public class ExamTable extends JPanel {
         if (filter.equals("Todos")) {
             loadData();
         } else {
-            try {
-                List<ExamResponseDto> allExams = examController.getAllExams();
-                List<ExamResponseDto> results = allExams.stream()
+            table.setModel(tableModel);
+            tableLoader.load(
+                () -> examController.getAllExams().stream()
                     .filter(exam -> exam.examType().equals(filter) || exam.result().equals(filter))
-                    .toList();
-                updateTable(results);
-                updateCounter(results.size());
-            } catch (Exception e) {
-                JOptionPane.showMessageDialog(this, "Error al filtrar: " + e.getMessage(), 
-                    "Error", JOptionPane.ERROR_MESSAGE);
-            }
+                    .toList(),
+                results -> updateCounter(results.size()),
+                e -> JOptionPane.showMessageDialog(this, "Error al filtrar: " + e.getMessage(), 
+                    "Error", JOptionPane.ERROR_MESSAGE));
         }
     }
     
-    private void updateTable(List<ExamResponseDto> exams) {
-        tableModel.setRowCount(0);
-        
-        for (ExamResponseDto exam : exams) {
-            Object[] row = {
-                exam.idExam(),
-                exam.examType(),
-                exam.date(),
-                exam.result(),
-                exam.entityId(),
-                exam.driverId(),
-                exam.examiner()
-            };
-            tableModel.addRow(row);
+    private Object[] toRow(ExamResponseDto exam) {
+        return new Object[]{
+            exam.idExam(),
+            exam.examType(),
+            exam.date(),
+            exam.result(),
+            exam.entityId(),
+            exam.driverId(),
+            exam.examiner()
+        };
+    }
+    
+    private void showLoadingProgress(int percent) {
+        if (percent >= 100) {
+            return;
+        }
+        for (Component comp : ((JPanel)getComponent(2)).getComponents()) {
+            if (comp instanceof JLabel && "countLabel".equals(comp.getName())) {
+                ((JLabel) comp).setText("Cargando... " + percent + "%");
+                break;
+            }
         }
     }
     
@@ -272,15 +334,15 @@ public class ExamTable extends JPanel {
     public Long getSelectedExamId() {
         int row = table.getSelectedRow();
         if (row >= 0) {
-            return (Long) tableModel.getValueAt(row, 0);
+            return (Long) table.getModel().getValueAt(row, 0);
         }
         return null;
     }
     
     public ExamResponseDto getSelectedExam() {
         int row = table.getSelectedRow();
-        if (row >= 0) {
-            Long examId = (Long) tableModel.getValueAt(row, 0);
+        Long examId = row >= 0 ? (Long) table.getModel().getValueAt(row, 0) : null;
+        if (examId != null) {
             try {
                 return examController.getExamResponseById(examId);
             } catch (Exception e) {
@@ -296,6 +358,6 @@ public class ExamTable extends JPanel {
     }
     
     public void refresh() {
-        loadData();
+        refreshCurrentView();
     }
 }
\ No newline at end of file
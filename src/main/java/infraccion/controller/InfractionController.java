@@ -0,0 +1,91 @@
+package infraccion.controller;
+
+import infraccion.dto.InfractionResponseDto;
+import infraccion.exception.InfractionNotFoundException;
+import infraccion.exception.InvalidInfractionDataException;
+import infraccion.mapper.InfractionMapper;
+import infraccion.model.Infraction;
+import infraccion.model.IngestionResult;
+import infraccion.service.InfractionServiceInterface;
+
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class InfractionController {
+    private final InfractionServiceInterface infractionService;
+
+    public InfractionController(InfractionServiceInterface infractionService) {
+        this.infractionService = infractionService;
+    }
+
+    public Infraction addInfraction(Infraction infraction) throws InvalidInfractionDataException, SQLException {
+        validateInfractionNotNull(infraction);
+        return this.infractionService.save(infraction);
+    }
+
+    public IngestionResult ingestInfractions(Iterator<Infraction> feed) throws InvalidInfractionDataException, SQLException {
+        return this.infractionService.ingest(feed);
+    }
+
+    // The stream is consumed lazily, batch by batch
+    public IngestionResult ingestInfractions(Stream<Infraction> feed) throws InvalidInfractionDataException, SQLException {
+        if (feed == null) {
+            throw new InvalidInfractionDataException("Feed cannot be null");
+        }
+        return this.infractionService.ingest(feed.iterator());
+    }
+
+    public List<InfractionResponseDto> getAllInfractions() throws InvalidInfractionDataException, SQLException {
+        return this.infractionService.listAllInfractions().stream()
+                .map(InfractionMapper::toInfractionResponseDto)
+                .toList();
+    }
+
+    public int countAllInfractions() throws SQLException {
+        return this.infractionService.countAllInfractions();
+    }
+
+    public InfractionResponseDto getInfractionResponseById(Long id) throws InvalidInfractionDataException, SQLException, InfractionNotFoundException {
+        validateIdNotNull(id);
+        return InfractionMapper.toInfractionResponseDto(this.infractionService.getById(id));
+    }
+
+    public List<InfractionResponseDto> getInfractionsByDriverId(Long driverId) throws InvalidInfractionDataException, SQLException {
+        validateIdNotNull(driverId);
+        return this.infractionService.findByDriverId(driverId).stream()
+                .map(InfractionMapper::toInfractionResponseDto)
+                .toList();
+    }
+
+    public List<InfractionResponseDto> getInfractionsByLicenseId(Long licenseId) throws InvalidInfractionDataException, SQLException {
+        validateIdNotNull(licenseId);
+        return this.infractionService.findByLicenseId(licenseId).stream()
+                .map(InfractionMapper::toInfractionResponseDto)
+                .toList();
+    }
+
+    public List<InfractionResponseDto> getUnpaidInfractions() throws InvalidInfractionDataException, SQLException {
+        return this.infractionService.findUnpaid().stream()
+                .map(InfractionMapper::toInfractionResponseDto)
+                .toList();
+    }
+
+    public boolean markAsPaid(Long id) throws InvalidInfractionDataException, SQLException, InfractionNotFoundException {
+        validateIdNotNull(id);
+        return this.infractionService.markAsPaid(id);
+    }
+
+    private void validateInfractionNotNull(Infraction infraction) throws InvalidInfractionDataException {
+        if (infraction == null) {
+            throw new InvalidInfractionDataException("Infraction cannot be null");
+        }
+    }
+
+    private void validateIdNotNull(Long id) throws InvalidInfractionDataException {
+        if (id == null) {
+            throw new InvalidInfractionDataException("ID cannot be null");
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package infraccion.dto;
+
+public record InfractionResponseDto(
+    Long idInfraction,
+    Long driverId,
+    Long licenseId,
+    String code,
+    String type,
+    String date,
+    String place,
+    String description,
+    Integer deductedPoints,
+    Boolean paid
+) {
+}
@@ -0,0 +1,11 @@
+package infraccion.exception;
+
+public class InfractionNotFoundException extends Exception {
+    public InfractionNotFoundException(String message) {
+        super(message);
+    }
+    
+    public InfractionNotFoundException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
\ No newline at end of file
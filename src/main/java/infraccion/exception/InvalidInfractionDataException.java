@@ -0,0 +1,11 @@
+package infraccion.exception;
+
+public class InvalidInfractionDataException extends Exception {
+    public InvalidInfractionDataException(String message) {
+        super(message);
+    }
+    
+    public InvalidInfractionDataException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,21 @@
+package infraccion.mapper;
+
+import infraccion.dto.InfractionResponseDto;
+import infraccion.model.Infraction;
+
+public class InfractionMapper {
+    public static InfractionResponseDto toInfractionResponseDto(Infraction infraction) {
+        return new InfractionResponseDto(
+            infraction.getIdInfraction(),
+            infraction.getDriverId(),
+            infraction.getLicenseId(),
+            infraction.getCode(),
+            infraction.getType(),
+            infraction.getDate(),
+            infraction.getPlace(),
+            infraction.getDescription(),
+            infraction.getDeductedPoints(),
+            infraction.getPaid()
+        );
+    }
+}
\ No newline at end of file
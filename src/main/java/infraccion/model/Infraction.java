@@ -0,0 +1,34 @@
+package infraccion.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class Infraction {
+
+    private Long idInfraction;
+    private Long driverId;         // ID of the driver
+    private Long licenseId;        // ID of the license the points are deducted from
+    private String code;           // Infraction code, e.g. 'EXCVEL102'
+    private String type;           // 'leve', 'grave', 'muy_grave'
+    private String date;           // Format YYYY-MM-DD
+    private String place;
+    private String description;
+    private Integer deductedPoints;
+    private Boolean paid;
+
+    // Constructor without ID (for creation)
+    public Infraction(Long driverId, Long licenseId, String code, String type, String date,
+                      String place, String description, Integer deductedPoints, Boolean paid) {
+        this.driverId = driverId;
+        this.licenseId = licenseId;
+        this.code = code;
+        this.type = type;
+        this.date = date;
+        this.place = place;
+        this.description = description;
+        this.deductedPoints = deductedPoints;
+        this.paid = paid;
+    }
+}
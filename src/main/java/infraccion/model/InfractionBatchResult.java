@@ -0,0 +1,21 @@
+package infraccion.model;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// Outcome of one insertBatch call; positions of rejected infractions and suspensions are indexes in the batch
+public record InfractionBatchResult(List<Infraction> inserted, List<RejectedInfraction> rejected,
+                                    List<LicenseSuspension> suspensions) {
+
+    // Licenses whose points the batch deducted from, to evict from caches once it has committed
+    public Set<Long> deductedLicenseIds() {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (Infraction infraction : inserted) {
+            if (infraction.getDeductedPoints() > 0) {
+                ids.add(infraction.getLicenseId());
+            }
+        }
+        return ids;
+    }
+}
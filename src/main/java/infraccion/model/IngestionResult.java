@@ -0,0 +1,12 @@
+package infraccion.model;
+
+import java.util.List;
+
+// Summary of one ingestion run
+public record IngestionResult(long received, long inserted, List<RejectedInfraction> rejected,
+                              List<LicenseSuspension> suspensions) {
+
+    public long rejectedCount() {
+        return rejected.size();
+    }
+}
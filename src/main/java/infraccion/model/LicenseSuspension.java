@@ -0,0 +1,7 @@
+package infraccion.model;
+
+// A stored infraction whose points left its license under the suspension threshold; its driver
+// was marked suspendida. deductedPoints is what the balance could still absorb (it never goes
+// below zero), remainingPoints the balance after it. position is as in RejectedInfraction.
+public record LicenseSuspension(long position, Infraction infraction, int deductedPoints, int remainingPoints) {
+}
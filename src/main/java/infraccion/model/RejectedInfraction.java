@@ -0,0 +1,5 @@
+package infraccion.model;
+
+// An infraction from an ingestion feed that was not stored; position is its index in the feed
+public record RejectedInfraction(long position, Infraction infraction, String reason) {
+}
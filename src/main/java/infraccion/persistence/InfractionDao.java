@@ -0,0 +1,365 @@
+package infraccion.persistence;
+
+import infraccion.exception.InfractionNotFoundException;
+import infraccion.exception.InvalidInfractionDataException;
+import infraccion.model.Infraction;
+import infraccion.model.InfractionBatchResult;
+import infraccion.model.LicenseSuspension;
+import infraccion.model.RejectedInfraction;
+import licencia.model.PointDeduction;
+import licencia.model.PointDeductionResult;
+import licencia.persistence.PointDeductions;
+import licencia.validator.LicenseValidator;
+import db.ConnectionPool;
+import db.ReplicaRouter;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class InfractionDao implements InfractionDaoInterface {
+
+    // Primary, for reads that must be current
+    private Connection getConnection() throws SQLException {
+        return ReplicaRouter.getConnection();
+    }
+
+    // Primary, for methods that change data (see ReplicaRouter)
+    private Connection getWriteConnection() throws SQLException {
+        return ReplicaRouter.getWriteConnection();
+    }
+
+    // Full-table reads go to the replica, or to their own pool so they cannot starve the CRUD paths
+    private Connection getReportingConnection() throws SQLException {
+        return ReplicaRouter.getReadOnlyConnection(ConnectionPool.REPORTING);
+    }
+
+    @Override
+    public List<Infraction> listAllInfractions() throws InvalidInfractionDataException, SQLException {
+        String sql = "SELECT * FROM infraccion ORDER BY fecha DESC, id_infraccion DESC";
+        
+        try (
+            Connection conn = this.getReportingConnection();
+            PreparedStatement statement = conn.prepareStatement(sql)
+        ) {
+            return executeInfractionQuery(statement);
+        } catch (SQLException e) {
+            throw new InvalidInfractionDataException("Error al listar infracciones", e);
+        }
+    }
+
+    @Override
+    public int countAllInfractions() throws SQLException {
+        String sql = "SELECT COUNT(*) FROM infraccion";
+        
+        try (
+            Connection conn = this.getConnection();
+            PreparedStatement statement = conn.prepareStatement(sql);
+            ResultSet resultSet = statement.executeQuery()
+        ) {
+            if (resultSet.next()) {
+                return resultSet.getInt(1);
+            }
+        }
+        
+        return 0;
+    }
+
+    @Override
+    public Infraction getById(Long id) throws SQLException, InfractionNotFoundException {
+        String sql = "SELECT * FROM infraccion WHERE id_infraccion = ?";
+        
+        try (
+            Connection conn = this.getConnection();
+            PreparedStatement statement = conn.prepareStatement(sql)
+        ) {
+            statement.setLong(1, id);
+            
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (resultSet.next()) {
+                    return mapResultSetToInfraction(resultSet);
+                }
+            }
+        }
+        
+        throw new InfractionNotFoundException("Infracción con ID " + id + " no encontrada");
+    }
+
+    @Override
+    public boolean existsById(Long id) throws SQLException {
+        String sql = "SELECT 1 FROM infraccion WHERE id_infraccion = ?";
+        
+        try (
+            Connection conn = this.getConnection();
+            PreparedStatement statement = conn.prepareStatement(sql)
+        ) {
+            statement.setLong(1, id);
+            
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next();
+            }
+        }
+    }
+
+    @Override
+    public boolean markAsPaid(Long id) throws SQLException, InfractionNotFoundException {
+        String sql = "UPDATE infraccion SET pagada = true WHERE id_infraccion = ?";
+        
+        try (
+            Connection conn = this.getWriteConnection();
+            PreparedStatement statement = conn.prepareStatement(sql)
+        ) {
+            statement.setLong(1, id);
+            
+            if (statement.executeUpdate() == 0) {
+                throw new InfractionNotFoundException("Infracción con ID " + id + " no encontrada");
+            }
+            return true;
+        }
+    }
+
+    @Override
+    public InfractionBatchResult insertBatch(List<Infraction> infractions) throws InvalidInfractionDataException, SQLException {
+        // One transaction for the batch. The licenses are locked and each infraction is checked in
+        // order: its license must exist and belong to its driver, otherwise it is rejected. Every
+        // other infraction is stored; an offence cannot be refused because of the balance, so its
+        // points are deducted in order and capped at what the license has left. One that leaves the
+        // license under the suspension threshold marks the driver suspendida and is reported.
+        int size = infractions.size();
+        List<RejectedInfraction> rejected = new ArrayList<>();
+        List<LicenseSuspension> suspensions = new ArrayList<>();
+        List<Integer> accepted = new ArrayList<>(size);
+        
+        try (Connection conn = this.getWriteConnection()) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try {
+                Map<Long, Long> owners = lockLicenseOwners(conn, infractions);
+                List<Integer> deducting = new ArrayList<>(size);
+                List<PointDeduction> deductions = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    Infraction infraction = infractions.get(i);
+                    if (!infraction.getDriverId().equals(owners.get(infraction.getLicenseId()))) {
+                        rejected.add(new RejectedInfraction(i, infraction,
+                            "La licencia " + infraction.getLicenseId() + " no existe o no pertenece al conductor " +
+                            infraction.getDriverId()));
+                    } else if (infraction.getDeductedPoints() > 0) {
+                        deducting.add(i);
+                        deductions.add(new PointDeduction(infraction.getLicenseId(), infraction.getDeductedPoints()));
+                    } else {
+                        accepted.add(i);
+                    }
+                }
+                
+                List<PointDeductionResult> results = deductions.isEmpty()
+                    ? List.of()
+                    : PointDeductions.applyCapped(conn, deductions);
+                for (int k = 0; k < results.size(); k++) {
+                    int index = deducting.get(k);
+                    PointDeductionResult result = results.get(k);
+                    accepted.add(index);
+                    if (result.remainingPoints() < LicenseValidator.SUSPENSION_THRESHOLD) {
+                        suspensions.add(new LicenseSuspension(index, infractions.get(index),
+                            result.deduction().points(), result.remainingPoints()));
+                    }
+                }
+                
+                accepted.sort(null);
+                if (!accepted.isEmpty()) {
+                    insertRows(conn, infractions, accepted);
+                }
+                if (!suspensions.isEmpty()) {
+                    suspendDrivers(conn, suspensions);
+                }
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            if ("23514".equals(e.getSQLState())) { // Check constraint violation
+                throw new InvalidInfractionDataException("Error de validación: " + e.getMessage(), e);
+            } else if ("23503".equals(e.getSQLState())) { // Foreign key violation
+                throw new InvalidInfractionDataException("El conductor o la licencia de una infracción no existe: " + e.getMessage(), e);
+            }
+            throw new InvalidInfractionDataException("Error al registrar el lote de infracciones", e);
+        }
+        
+        rejected.sort((a, b) -> Long.compare(a.position(), b.position()));
+        List<Infraction> inserted = new ArrayList<>(accepted.size());
+        for (int index : accepted) {
+            inserted.add(infractions.get(index));
+        }
+        return new InfractionBatchResult(inserted, rejected, suspensions);
+    }
+
+    // A revoked license stays revoked
+    private void suspendDrivers(Connection conn, List<LicenseSuspension> suspensions) throws SQLException {
+        String sql = "UPDATE conductor SET estado_licencia = 'suspendida' " +
+                     "WHERE id_conductor = ANY(?) AND estado_licencia IS DISTINCT FROM 'revocada'";
+        Long[] driverIds = suspensions.stream().map(s -> s.infraction().getDriverId()).distinct().toArray(Long[]::new);
+        try (PreparedStatement statement = conn.prepareStatement(sql)) {
+            statement.setArray(1, conn.createArrayOf("int8", driverIds));
+            statement.executeUpdate();
+        }
+    }
+
+    // Driver of each license of the batch; licenses that do not exist are left out
+    private Map<Long, Long> lockLicenseOwners(Connection conn, List<Infraction> infractions) throws SQLException {
+        String sql = "SELECT id_licencia, id_conductor FROM licencia WHERE id_licencia = ANY(?) " +
+                     "ORDER BY id_licencia FOR UPDATE";
+        Long[] licenseIds = infractions.stream().map(Infraction::getLicenseId).distinct().toArray(Long[]::new);
+        Map<Long, Long> owners = new HashMap<>(licenseIds.length * 2);
+        try (PreparedStatement statement = conn.prepareStatement(sql)) {
+            statement.setArray(1, conn.createArrayOf("int8", licenseIds));
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    owners.put(resultSet.getLong("id_licencia"), resultSet.getLong("id_conductor"));
+                }
+            }
+        }
+        return owners;
+    }
+
+    // Inserts the rows at the given indexes as arrays in one statement. IDs are drawn from the
+    // sequence up front so every stored row can be matched back to its infraction.
+    private void insertRows(Connection conn, List<Infraction> infractions, List<Integer> rows) throws SQLException {
+        String sql = "WITH entrada AS (" +
+                     "  SELECT t.*, nextval(pg_get_serial_sequence('infraccion', 'id_infraccion')) AS id_infraccion " +
+                     "  FROM unnest(?::int[], ?::int[], ?::int[], ?::varchar[], ?::tipo_infraccion_enum[], ?::date[], " +
+                     "              ?::varchar[], ?::text[], ?::int[], ?::boolean[]) " +
+                     "       AS t(idx, id_conductor, id_licencia, codigo, tipo, fecha, lugar, descripcion, puntos_deducidos, pagada)" +
+                     "), insertadas AS (" +
+                     "  INSERT INTO infraccion (id_infraccion, id_conductor, id_licencia, codigo, tipo, fecha, " +
+                     "                          lugar, descripcion, puntos_deducidos, pagada) " +
+                     "  SELECT id_infraccion, id_conductor, id_licencia, codigo, tipo, fecha, " +
+                     "         lugar, descripcion, puntos_deducidos, pagada FROM entrada " +
+                     "  RETURNING id_infraccion" +
+                     ") " +
+                     "SELECT e.idx, e.id_infraccion FROM entrada e " +
+                     "JOIN insertadas i ON i.id_infraccion = e.id_infraccion";
+        
+        int size = rows.size();
+        Integer[] indexes = new Integer[size];
+        Long[] driverIds = new Long[size];
+        Long[] licenseIds = new Long[size];
+        String[] codes = new String[size];
+        String[] types = new String[size];
+        Date[] dates = new Date[size];
+        String[] places = new String[size];
+        String[] descriptions = new String[size];
+        Integer[] points = new Integer[size];
+        Boolean[] paid = new Boolean[size];
+        for (int i = 0; i < size; i++) {
+            Infraction infraction = infractions.get(rows.get(i));
+            indexes[i] = rows.get(i);
+            driverIds[i] = infraction.getDriverId();
+            licenseIds[i] = infraction.getLicenseId();
+            codes[i] = infraction.getCode();
+            types[i] = infraction.getType().trim().toLowerCase();
+            dates[i] = Date.valueOf(infraction.getDate());
+            places[i] = infraction.getPlace();
+            descriptions[i] = infraction.getDescription();
+            points[i] = infraction.getDeductedPoints();
+            paid[i] = infraction.getPaid() != null ? infraction.getPaid() : Boolean.FALSE;
+        }
+        
+        try (PreparedStatement statement = conn.prepareStatement(sql)) {
+            statement.setArray(1, conn.createArrayOf("int4", indexes));
+            statement.setArray(2, conn.createArrayOf("int8", driverIds));
+            statement.setArray(3, conn.createArrayOf("int8", licenseIds));
+            statement.setArray(4, conn.createArrayOf("varchar", codes));
+            statement.setArray(5, conn.createArrayOf("varchar", types));
+            statement.setArray(6, conn.createArrayOf("date", dates));
+            statement.setArray(7, conn.createArrayOf("varchar", places));
+            statement.setArray(8, conn.createArrayOf("text", descriptions));
+            statement.setArray(9, conn.createArrayOf("int4", points));
+            statement.setArray(10, conn.createArrayOf("bool", paid));
+            
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    infractions.get(resultSet.getInt("idx")).setIdInfraction(resultSet.getLong("id_infraccion"));
+                }
+            }
+        }
+    }
+
+    @Override
+    public List<Infraction> findByDriverId(Long driverId) throws SQLException, InvalidInfractionDataException {
+        String sql = "SELECT * FROM infraccion WHERE id_conductor = ? ORDER BY fecha DESC, id_infraccion DESC";
+        
+        try (
+            Connection conn = this.getConnection();
+            PreparedStatement statement = conn.prepareStatement(sql)
+        ) {
+            statement.setLong(1, driverId);
+            return executeInfractionQuery(statement);
+        } catch (SQLException e) {
+            throw new InvalidInfractionDataException("Error al buscar infracciones por conductor", e);
+        }
+    }
+
+    @Override
+    public List<Infraction> findByLicenseId(Long licenseId) throws SQLException, InvalidInfractionDataException {
+        String sql = "SELECT * FROM infraccion WHERE id_licencia = ? ORDER BY fecha DESC, id_infraccion DESC";
+        
+        try (
+            Connection conn = this.getConnection();
+            PreparedStatement statement = conn.prepareStatement(sql)
+        ) {
+            statement.setLong(1, licenseId);
+            return executeInfractionQuery(statement);
+        } catch (SQLException e) {
+            throw new InvalidInfractionDataException("Error al buscar infracciones por licencia", e);
+        }
+    }
+
+    @Override
+    public List<Infraction> findUnpaid() throws SQLException, InvalidInfractionDataException {
+        String sql = "SELECT * FROM infraccion WHERE pagada = false ORDER BY fecha DESC, id_infraccion DESC";
+        
+        try (
+            Connection conn = this.getConnection();
+            PreparedStatement statement = conn.prepareStatement(sql)
+        ) {
+            return executeInfractionQuery(statement);
+        } catch (SQLException e) {
+            throw new InvalidInfractionDataException("Error al buscar infracciones pendientes de pago", e);
+        }
+    }
+
+    private List<Infraction> executeInfractionQuery(PreparedStatement statement) throws SQLException {
+        List<Infraction> infractions = new ArrayList<>();
+        
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                infractions.add(mapResultSetToInfraction(resultSet));
+            }
+        }
+        
+        return infractions;
+    }
+
+    private Infraction mapResultSetToInfraction(ResultSet resultSet) throws SQLException {
+        Date infractionDate = resultSet.getDate("fecha");
+        int points = resultSet.getInt("puntos_deducidos");
+        Integer deductedPoints = resultSet.wasNull() ? null : points;
+        
+        return new Infraction(
+            resultSet.getLong("id_infraccion"),
+            resultSet.getLong("id_conductor"),
+            resultSet.getLong("id_licencia"),
+            resultSet.getString("codigo"),
+            resultSet.getString("tipo"),
+            infractionDate != null ? infractionDate.toString() : null,
+            resultSet.getString("lugar"),
+            resultSet.getString("descripcion"),
+            deductedPoints,
+            resultSet.getBoolean("pagada")
+        );
+    }
+}
@@ -0,0 +1,34 @@
+package infraccion.persistence;
+
+import infraccion.exception.InfractionNotFoundException;
+import infraccion.exception.InvalidInfractionDataException;
+import infraccion.model.Infraction;
+import infraccion.model.InfractionBatchResult;
+
+import java.sql.SQLException;
+import java.util.List;
+
+public interface InfractionDaoInterface {
+    // Basic CRUD operations
+    List<Infraction> listAllInfractions() throws InvalidInfractionDataException, SQLException;
+    
+    int countAllInfractions() throws SQLException;
+    
+    Infraction getById(Long id) throws SQLException, InfractionNotFoundException;
+    
+    boolean existsById(Long id) throws SQLException;
+    
+    boolean markAsPaid(Long id) throws SQLException, InfractionNotFoundException;
+    
+    // Bulk ingestion: stores the infractions and deducts their points in one transaction.
+    // Returns the stored ones with their generated ID and the rejected ones with the reason: an
+    // unknown license, a license of another driver, or a deduction under the suspension threshold
+    InfractionBatchResult insertBatch(List<Infraction> infractions) throws InvalidInfractionDataException, SQLException;
+    
+    // Infraction-specific queries
+    List<Infraction> findByDriverId(Long driverId) throws SQLException, InvalidInfractionDataException;
+    
+    List<Infraction> findByLicenseId(Long licenseId) throws SQLException, InvalidInfractionDataException;
+    
+    List<Infraction> findUnpaid() throws SQLException, InvalidInfractionDataException;
+}
@@ -0,0 +1,64 @@
+package infraccion.repository;
+
+import infraccion.exception.InfractionNotFoundException;
+import infraccion.exception.InvalidInfractionDataException;
+import infraccion.model.Infraction;
+import infraccion.model.InfractionBatchResult;
+import infraccion.persistence.InfractionDao;
+
+import java.sql.SQLException;
+import java.util.List;
+
+public class InfractionRepository implements InfractionRepositoryInterface {
+
+    private final InfractionDao infractionDao;
+
+    public InfractionRepository(InfractionDao infractionDao) {
+        this.infractionDao = infractionDao;
+    }
+
+    @Override
+    public List<Infraction> listAllInfractions() throws InvalidInfractionDataException, SQLException {
+        return this.infractionDao.listAllInfractions();
+    }
+
+    @Override
+    public int countAllInfractions() throws SQLException {
+        return this.infractionDao.countAllInfractions();
+    }
+
+    @Override
+    public Infraction getById(Long id) throws SQLException, InfractionNotFoundException {
+        return this.infractionDao.getById(id);
+    }
+
+    @Override
+    public boolean existsById(Long id) throws SQLException {
+        return this.infractionDao.existsById(id);
+    }
+
+    @Override
+    public boolean markAsPaid(Long id) throws SQLException, InfractionNotFoundException {
+        return this.infractionDao.markAsPaid(id);
+    }
+
+    @Override
+    public InfractionBatchResult insertBatch(List<Infraction> infractions) throws InvalidInfractionDataException, SQLException {
+        return this.infractionDao.insertBatch(infractions);
+    }
+
+    @Override
+    public List<Infraction> findByDriverId(Long driverId) throws SQLException, InvalidInfractionDataException {
+        return this.infractionDao.findByDriverId(driverId);
+    }
+
+    @Override
+    public List<Infraction> findByLicenseId(Long licenseId) throws SQLException, InvalidInfractionDataException {
+        return this.infractionDao.findByLicenseId(licenseId);
+    }
+
+    @Override
+    public List<Infraction> findUnpaid() throws SQLException, InvalidInfractionDataException {
+        return this.infractionDao.findUnpaid();
+    }
+}
@@ -0,0 +1,31 @@
+package infraccion.repository;
+
+import infraccion.exception.InfractionNotFoundException;
+import infraccion.exception.InvalidInfractionDataException;
+import infraccion.model.Infraction;
+import infraccion.model.InfractionBatchResult;
+
+import java.sql.SQLException;
+import java.util.List;
+
+public interface InfractionRepositoryInterface {
+    // Basic CRUD operations
+    List<Infraction> listAllInfractions() throws InvalidInfractionDataException, SQLException;
+    
+    int countAllInfractions() throws SQLException;
+    
+    Infraction getById(Long id) throws SQLException, InfractionNotFoundException;
+    
+    boolean existsById(Long id) throws SQLException;
+    
+    boolean markAsPaid(Long id) throws SQLException, InfractionNotFoundException;
+    
+    InfractionBatchResult insertBatch(List<Infraction> infractions) throws InvalidInfractionDataException, SQLException;
+    
+    // Infraction-specific queries
+    List<Infraction> findByDriverId(Long driverId) throws SQLException, InvalidInfractionDataException;
+    
+    List<Infraction> findByLicenseId(Long licenseId) throws SQLException, InvalidInfractionDataException;
+    
+    List<Infraction> findUnpaid() throws SQLException, InvalidInfractionDataException;
+}
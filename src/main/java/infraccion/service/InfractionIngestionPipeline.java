@@ -0,0 +1,150 @@
+package infraccion.service;
+
+import infraccion.exception.InvalidInfractionDataException;
+import infraccion.model.Infraction;
+import infraccion.model.InfractionBatchResult;
+import infraccion.model.IngestionResult;
+import infraccion.model.LicenseSuspension;
+import infraccion.model.RejectedInfraction;
+import infraccion.repository.InfractionRepositoryInterface;
+import infraccion.validator.InfractionValidator;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+// Streams infractions into the database in fixed-size batches. The feed is read on the calling
+// thread, each batch is validated in parallel while the previous one is being written, and each
+// write stores the batch and deducts its points in a single transaction. Only one batch is
+// validated ahead, so memory stays bounded however long the feed is.
+public class InfractionIngestionPipeline {
+
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private final InfractionRepositoryInterface infractionRepository;
+    private final int batchSize;
+    private final Consumer<Long> licenseChanged;
+
+    private record ValidatedBatch(long firstPosition, List<Infraction> valid, List<Long> validPositions,
+                                  List<RejectedInfraction> rejected) {
+    }
+
+    public InfractionIngestionPipeline(InfractionRepositoryInterface infractionRepository) {
+        this(infractionRepository, DEFAULT_BATCH_SIZE);
+    }
+
+    public InfractionIngestionPipeline(InfractionRepositoryInterface infractionRepository, int batchSize) {
+        this(infractionRepository, batchSize, licenseId -> { });
+    }
+
+    // licenseChanged is told about every license a committed batch deducted points from
+    public InfractionIngestionPipeline(InfractionRepositoryInterface infractionRepository, int batchSize,
+                                       Consumer<Long> licenseChanged) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("El tamaño de lote debe ser mayor que cero");
+        }
+        this.infractionRepository = infractionRepository;
+        this.batchSize = batchSize;
+        this.licenseChanged = licenseChanged;
+    }
+
+    public IngestionResult ingest(Iterator<Infraction> feed) throws InvalidInfractionDataException, SQLException {
+        List<RejectedInfraction> rejected = new ArrayList<>();
+        List<LicenseSuspension> suspensions = new ArrayList<>();
+        long received = 0;
+        long inserted = 0;
+
+        CompletableFuture<ValidatedBatch> pending = validateNext(feed, received);
+        while (pending != null) {
+            ValidatedBatch batch = join(pending);
+            received += batch.valid().size() + batch.rejected().size();
+            // Validate the next batch while this one is written
+            pending = feed.hasNext() ? validateNext(feed, received) : null;
+
+            rejected.addAll(batch.rejected());
+            if (batch.valid().isEmpty()) {
+                continue;
+            }
+
+            InfractionBatchResult stored;
+            try {
+                stored = this.infractionRepository.insertBatch(batch.valid());
+            } catch (InvalidInfractionDataException | SQLException e) {
+                if (pending != null) {
+                    pending.cancel(false);
+                }
+                throw new InvalidInfractionDataException(
+                    "Error al registrar el lote que empieza en la posición " + batch.firstPosition() +
+                    ". Infracciones ya registradas: " + inserted, e);
+            }
+            inserted += stored.inserted().size();
+            stored.deductedLicenseIds().forEach(licenseChanged);
+
+            // Rejections and suspensions come back with their index in the batch
+            for (RejectedInfraction rejection : stored.rejected()) {
+                rejected.add(new RejectedInfraction(batch.validPositions().get((int) rejection.position()),
+                    rejection.infraction(), rejection.reason()));
+            }
+            for (LicenseSuspension suspension : stored.suspensions()) {
+                suspensions.add(new LicenseSuspension(batch.validPositions().get((int) suspension.position()),
+                    suspension.infraction(), suspension.deductedPoints(), suspension.remainingPoints()));
+            }
+        }
+
+        rejected.sort((a, b) -> Long.compare(a.position(), b.position()));
+        return new IngestionResult(received, inserted, Collections.unmodifiableList(rejected),
+            Collections.unmodifiableList(suspensions));
+    }
+
+    private CompletableFuture<ValidatedBatch> validateNext(Iterator<Infraction> feed, long firstPosition) {
+        if (!feed.hasNext()) {
+            return null;
+        }
+        // Reading stays on the calling thread, feeds such as readers are not thread-safe
+        List<Infraction> chunk = new ArrayList<>(batchSize);
+        while (chunk.size() < batchSize && feed.hasNext()) {
+            chunk.add(feed.next());
+        }
+        return CompletableFuture.supplyAsync(() -> validate(chunk, firstPosition));
+    }
+
+    private ValidatedBatch validate(List<Infraction> chunk, long firstPosition) {
+        String[] errors = new String[chunk.size()];
+        IntStream.range(0, chunk.size()).parallel().forEach(i -> {
+            try {
+                InfractionValidator.validate(chunk.get(i));
+            } catch (InvalidInfractionDataException e) {
+                errors[i] = e.getMessage();
+            }
+        });
+
+        List<Infraction> valid = new ArrayList<>(chunk.size());
+        List<Long> validPositions = new ArrayList<>(chunk.size());
+        List<RejectedInfraction> rejected = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            Infraction infraction = chunk.get(i);
+            if (errors[i] != null) {
+                rejected.add(new RejectedInfraction(firstPosition + i, infraction, errors[i]));
+            } else {
+                infraction.setIdInfraction(null);  // Assigned by the insert
+                valid.add(infraction);
+                validPositions.add(firstPosition + i);
+            }
+        }
+        return new ValidatedBatch(firstPosition, valid, validPositions, rejected);
+    }
+
+    private ValidatedBatch join(CompletableFuture<ValidatedBatch> pending) throws InvalidInfractionDataException {
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            throw new InvalidInfractionDataException("Error al validar el lote de infracciones", e.getCause());
+        }
+    }
+}
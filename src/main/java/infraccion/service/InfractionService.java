@@ -0,0 +1,105 @@
+package infraccion.service;
+
+import infraccion.exception.InfractionNotFoundException;
+import infraccion.exception.InvalidInfractionDataException;
+import infraccion.model.Infraction;
+import infraccion.model.InfractionBatchResult;
+import infraccion.model.IngestionResult;
+import infraccion.repository.InfractionRepositoryInterface;
+import infraccion.validator.InfractionValidator;
+import db.ReplicaRouter;
+
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+public class InfractionService implements InfractionServiceInterface {
+
+    private final InfractionRepositoryInterface infractionRepository;
+    private final InfractionIngestionPipeline ingestionPipeline;
+    private final Consumer<Long> licenseChanged;
+
+    public InfractionService(InfractionRepositoryInterface infractionRepository) {
+        this(infractionRepository, licenseId -> { });
+    }
+
+    // Infractions deduct licencia.puntos through their own DAO; licenseChanged is told about
+    // each license they deducted from once the write has committed, so caches can evict it
+    public InfractionService(InfractionRepositoryInterface infractionRepository, Consumer<Long> licenseChanged) {
+        this.infractionRepository = infractionRepository;
+        this.licenseChanged = licenseChanged;
+        this.ingestionPipeline = new InfractionIngestionPipeline(
+            infractionRepository, InfractionIngestionPipeline.DEFAULT_BATCH_SIZE, licenseChanged);
+    }
+
+    @Override
+    public List<Infraction> listAllInfractions() throws InvalidInfractionDataException, SQLException {
+        return this.infractionRepository.listAllInfractions();
+    }
+
+    @Override
+    public int countAllInfractions() throws SQLException {
+        return this.infractionRepository.countAllInfractions();
+    }
+
+    @Override
+    public Infraction getById(Long id) throws SQLException, InfractionNotFoundException {
+        return this.infractionRepository.getById(id);
+    }
+
+    @Override
+    public Infraction save(Infraction infraction) throws InvalidInfractionDataException, SQLException {
+        InfractionValidator.validate(infraction);
+        
+        // Same path as bulk feeds, so the points are deducted in the same transaction
+        infraction.setIdInfraction(null);
+        InfractionBatchResult result = this.infractionRepository.insertBatch(List.of(infraction));
+        if (!result.rejected().isEmpty()) {
+            throw new InvalidInfractionDataException(result.rejected().get(0).reason());
+        }
+        result.deductedLicenseIds().forEach(licenseChanged);
+        return result.inserted().get(0);
+    }
+
+    @Override
+    public boolean existsById(Long id) throws SQLException, InfractionNotFoundException {
+        if (!this.infractionRepository.existsById(id)) {
+            throw new InfractionNotFoundException("Infracción con ID " + id + " no fue encontrada");
+        }
+        return true;
+    }
+
+    @Override
+    public boolean markAsPaid(Long id) throws SQLException, InfractionNotFoundException {
+        return this.infractionRepository.markAsPaid(id);
+    }
+
+    @Override
+    public IngestionResult ingest(Iterator<Infraction> feed) throws InvalidInfractionDataException, SQLException {
+        if (feed == null) {
+            throw new InvalidInfractionDataException("La fuente de infracciones no puede ser nula");
+        }
+        // Its batches keep only its own reads on the primary until it finishes
+        try (ReplicaRouter.Session session = ReplicaRouter.openSession()) {
+            return this.ingestionPipeline.ingest(feed);
+        }
+    }
+
+    @Override
+    public List<Infraction> findByDriverId(Long driverId) throws SQLException, InvalidInfractionDataException {
+        InfractionValidator.validateDriverId(driverId);
+        return this.infractionRepository.findByDriverId(driverId);
+    }
+
+    @Override
+    public List<Infraction> findByLicenseId(Long licenseId) throws SQLException, InvalidInfractionDataException {
+        InfractionValidator.validateLicenseId(licenseId);
+        return this.infractionRepository.findByLicenseId(licenseId);
+    }
+
+    @Override
+    public List<Infraction> findUnpaid() throws SQLException, InvalidInfractionDataException {
+        return this.infractionRepository.findUnpaid();
+    }
+}
@@ -0,0 +1,35 @@
+package infraccion.service;
+
+import infraccion.exception.InfractionNotFoundException;
+import infraccion.exception.InvalidInfractionDataException;
+import infraccion.model.Infraction;
+import infraccion.model.IngestionResult;
+
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.List;
+
+public interface InfractionServiceInterface {
+    // Basic CRUD operations
+    List<Infraction> listAllInfractions() throws InvalidInfractionDataException, SQLException;
+    
+    int countAllInfractions() throws SQLException;
+    
+    Infraction getById(Long id) throws SQLException, InfractionNotFoundException;
+    
+    Infraction save(Infraction infraction) throws InvalidInfractionDataException, SQLException;
+    
+    boolean existsById(Long id) throws SQLException, InfractionNotFoundException;
+    
+    boolean markAsPaid(Long id) throws SQLException, InfractionNotFoundException;
+    
+    // Bulk ingestion (traffic camera feeds)
+    IngestionResult ingest(Iterator<Infraction> feed) throws InvalidInfractionDataException, SQLException;
+    
+    // Infraction-specific queries
+    List<Infraction> findByDriverId(Long driverId) throws SQLException, InvalidInfractionDataException;
+    
+    List<Infraction> findByLicenseId(Long licenseId) throws SQLException, InvalidInfractionDataException;
+    
+    List<Infraction> findUnpaid() throws SQLException, InvalidInfractionDataException;
+}
@@ -0,0 +1,105 @@
+package infraccion.validator;
+
+import infraccion.exception.InvalidInfractionDataException;
+import infraccion.model.Infraction;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.List;
+
+public class InfractionValidator {
+
+    // Valid infraction types from enum
+    private static final List<String> VALID_TYPES = Arrays.asList("leve", "grave", "muy_grave");
+    
+    // A license never holds more than 20 points
+    private static final int MAX_DEDUCTED_POINTS = 20;
+
+    public static void validate(Infraction infraction) throws InvalidInfractionDataException {
+        if (infraction == null) {
+            throw new InvalidInfractionDataException("La infracción no puede ser nula");
+        }
+
+        validateDriverId(infraction.getDriverId());
+        validateLicenseId(infraction.getLicenseId());
+        validateCode(infraction.getCode());
+        validateType(infraction.getType());
+        validateDate(infraction.getDate());
+        validatePlace(infraction.getPlace());
+        validateDeductedPoints(infraction.getDeductedPoints());
+    }
+
+    public static void validateDriverId(Long driverId) throws InvalidInfractionDataException {
+        if (driverId == null) {
+            throw new InvalidInfractionDataException("El ID del conductor es obligatorio");
+        }
+        
+        if (driverId <= 0) {
+            throw new InvalidInfractionDataException("El ID del conductor debe ser un número positivo");
+        }
+    }
+
+    public static void validateLicenseId(Long licenseId) throws InvalidInfractionDataException {
+        if (licenseId == null) {
+            throw new InvalidInfractionDataException("El ID de la licencia es obligatorio");
+        }
+        
+        if (licenseId <= 0) {
+            throw new InvalidInfractionDataException("El ID de la licencia debe ser un número positivo");
+        }
+    }
+
+    public static void validateCode(String code) throws InvalidInfractionDataException {
+        if (code == null || code.trim().isEmpty()) {
+            throw new InvalidInfractionDataException("El código de la infracción es obligatorio");
+        }
+        
+        if (code.length() > 50) {
+            throw new InvalidInfractionDataException("El código de la infracción no puede exceder 50 caracteres");
+        }
+    }
+
+    public static void validateType(String type) throws InvalidInfractionDataException {
+        if (type == null || type.trim().isEmpty()) {
+            throw new InvalidInfractionDataException("El tipo de infracción es obligatorio");
+        }
+        
+        if (!VALID_TYPES.contains(type.trim().toLowerCase())) {
+            throw new InvalidInfractionDataException(
+                "Tipo de infracción inválido. Valores permitidos: " + 
+                String.join(", ", VALID_TYPES)
+            );
+        }
+    }
+
+    public static void validateDate(String dateStr) throws InvalidInfractionDataException {
+        if (dateStr == null || dateStr.trim().isEmpty()) {
+            throw new InvalidInfractionDataException("La fecha de la infracción es obligatoria");
+        }
+
+        try {
+            if (LocalDate.parse(dateStr).isAfter(LocalDate.now())) {
+                throw new InvalidInfractionDataException("La fecha de la infracción no puede ser futura");
+            }
+        } catch (DateTimeParseException e) {
+            throw new InvalidInfractionDataException("Formato de fecha inválido. Use formato YYYY-MM-DD");
+        }
+    }
+
+    public static void validatePlace(String place) throws InvalidInfractionDataException {
+        if (place != null && place.length() > 200) {
+            throw new InvalidInfractionDataException("El lugar de la infracción no puede exceder 200 caracteres");
+        }
+    }
+
+    public static void validateDeductedPoints(Integer deductedPoints) throws InvalidInfractionDataException {
+        if (deductedPoints == null) {
+            throw new InvalidInfractionDataException("Los puntos a deducir son obligatorios");
+        }
+        
+        if (deductedPoints < 0 || deductedPoints > MAX_DEDUCTED_POINTS) {
+            throw new InvalidInfractionDataException("Los puntos a deducir deben estar entre 0 y " + MAX_DEDUCTED_POINTS);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package infraccion.view;
+
+import javax.swing.*;
+import java.awt.*;
+
+import app.ApplicationContext;
+import infraccion.controller.InfractionController;
+
+public class InfractionMainFrame extends JFrame {
+    private InfractionController infractionController;
+    private InfractionTable infractionTable;
+    private JLabel statusLabel;
+    
+    public InfractionMainFrame() {
+        initComponents();
+        setupWindow();
+    }
+    
+    private void initComponents() {
+        try {
+            // DAO → Repository → Service → Controller, shared with the rest of the application
+            infractionController = ApplicationContext.getInstance().getInfractionController();
+            
+            setTitle("Gestión de Infracciones");
+            setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE); // IMPORTANTE: No EXIT_ON_CLOSE
+            
+            infractionTable = new InfractionTable(infractionController);
+            
+            Container contentPane = getContentPane();
+            contentPane.setLayout(new BorderLayout());
+            contentPane.add(createToolBar(), BorderLayout.NORTH);
+            contentPane.add(infractionTable, BorderLayout.CENTER);
+            contentPane.add(createStatusBar(), BorderLayout.SOUTH);
+            
+            infractionTable.getTable().getSelectionModel().addListSelectionListener(e -> {
+                if (!e.getValueIsAdjusting()) {
+                    Long id = infractionTable.getSelectedInfractionId();
+                    if (id != null) {
+                        updateStatus("Infracción seleccionada ID: " + id);
+                    }
+                }
+            });
+            
+        } catch (Exception e) {
+            JOptionPane.showMessageDialog(this, 
+                "Error al inicializar la aplicación: " + e.getMessage(), 
+                "Error de Inicialización", 
+                JOptionPane.ERROR_MESSAGE);
+            e.printStackTrace();
+        }
+    }
+    
+    private JToolBar createToolBar() {
+        JToolBar toolBar = new JToolBar();
+        toolBar.setFloatable(false);
+        
+        JButton btnPay = new JButton("Marcar como Pagada");
+        btnPay.addActionListener(e -> {
+            Long id = infractionTable.getSelectedInfractionId();
+            if (id == null) {
+                JOptionPane.showMessageDialog(this, 
+                    "Seleccione una infracción de la lista primero", 
+                    "Advertencia", 
+                    JOptionPane.WARNING_MESSAGE);
+                return;
+            }
+            try {
+                infractionController.markAsPaid(id);
+                infractionTable.refresh();
+                updateStatus("Infracción " + id + " marcada como pagada");
+            } catch (Exception ex) {
+                JOptionPane.showMessageDialog(this, 
+                    "Error al marcar la infracción como pagada: " + ex.getMessage(), 
+                    "Error", 
+                    JOptionPane.ERROR_MESSAGE);
+            }
+        });
+        
+        toolBar.add(btnPay);
+        
+        return toolBar;
+    }
+    
+    private JPanel createStatusBar() {
+        JPanel statusPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        statusPanel.setBorder(BorderFactory.createEtchedBorder());
+        statusLabel = new JLabel("Sistema de Gestión de Infracciones - Listo");
+        statusPanel.add(statusLabel);
+        return statusPanel;
+    }
+    
+    private void setupWindow() {
+        setSize(1200, 700);
+        setLocationRelativeTo(null); // Center on screen
+    }
+    
+    private void updateStatus(String message) {
+        statusLabel.setText(message);
+    }
+}
@@ -0,0 +1,207 @@
+package infraccion.view;
+
+import javax.swing.*;
+import javax.swing.table.*;
+import java.awt.*;
+import java.util.List;
+
+import infraccion.controller.InfractionController;
+import infraccion.dto.InfractionResponseDto;
+import infraccion.exception.InfractionNotFoundException;
+import view.LiveTableUpdater;
+import view.TableLoader;
+
+public class InfractionTable extends JPanel {
+    private JTable table;
+    private DefaultTableModel tableModel;
+    private JComboBox<String> filterCombo;
+    private JLabel countLabel;
+    private InfractionController infractionController;
+    private TableLoader<InfractionResponseDto> tableLoader;
+    private LiveTableUpdater<InfractionResponseDto> liveUpdater;
+    
+    public InfractionTable(InfractionController controller) {
+        this.infractionController = controller;
+        initComponents();
+        loadData();
+    }
+    
+    private void initComponents() {
+        setLayout(new BorderLayout());
+        
+        // Filter panel
+        JPanel filterPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        filterPanel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+        
+        JLabel filterLabel = new JLabel("Filtrar por:");
+        filterCombo = new JComboBox<>(new String[]{"Todas", "Pendientes de pago", "leve", "grave", "muy_grave"});
+        filterCombo.addActionListener(e -> loadData());
+        
+        JButton refreshButton = new JButton("Actualizar");
+        refreshButton.addActionListener(e -> loadData());
+        
+        filterPanel.add(filterLabel);
+        filterPanel.add(filterCombo);
+        filterPanel.add(Box.createHorizontalStrut(20));
+        filterPanel.add(refreshButton);
+        
+        add(filterPanel, BorderLayout.NORTH);
+        
+        // Table
+        String[] columnNames = {"ID", "ID Conductor", "ID Licencia", "Código", "Tipo", "Fecha", 
+                                "Lugar", "Puntos", "Pagada"};
+        tableModel = new DefaultTableModel(columnNames, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false; // Make table non-editable
+            }
+            
+            @Override
+            public Class<?> getColumnClass(int columnIndex) {
+                if (columnIndex <= 2) return Long.class; // ID columns
+                if (columnIndex == 7) return Integer.class;
+                if (columnIndex == 8) return Boolean.class;
+                return String.class;
+            }
+        };
+        
+        tableLoader = new TableLoader<>(tableModel, this::toRow);
+        tableLoader.setKeyColumn(0);
+        tableLoader.setProgressListener(this::showLoadingProgress);
+        
+        // Changes made by other clients; new infractions only belong in the unfiltered listing
+        liveUpdater = new LiveTableUpdater<>("infraccion", this::fetchInfraction, InfractionResponseDto::idInfraction,
+            null, tableLoader, () -> tableModel, this::loadData, () -> "Todas".equals(filterCombo.getSelectedItem()));
+        
+        table = new JTable(tableModel);
+        table.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        table.setRowHeight(30);
+        table.getTableHeader().setFont(new Font("SansSerif", Font.BOLD, 12));
+        
+        // Set column widths
+        table.getColumnModel().getColumn(0).setPreferredWidth(50);  // ID
+        table.getColumnModel().getColumn(1).setPreferredWidth(90);  // ID Conductor
+        table.getColumnModel().getColumn(2).setPreferredWidth(80);  // ID Licencia
+        table.getColumnModel().getColumn(3).setPreferredWidth(100); // Código
+        table.getColumnModel().getColumn(4).setPreferredWidth(80);  // Tipo
+        table.getColumnModel().getColumn(5).setPreferredWidth(100); // Fecha
+        table.getColumnModel().getColumn(6).setPreferredWidth(200); // Lugar
+        table.getColumnModel().getColumn(7).setPreferredWidth(60);  // Puntos
+        table.getColumnModel().getColumn(8).setPreferredWidth(60);  // Pagada
+        
+        // Renderer for infraction type
+        table.getColumnModel().getColumn(4).setCellRenderer(new DefaultTableCellRenderer() {
+            @Override
+            public Component getTableCellRendererComponent(JTable table, Object value,
+                    boolean isSelected, boolean hasFocus, int row, int column) {
+                Component c = super.getTableCellRendererComponent(table, value, 
+                        isSelected, hasFocus, row, column);
+                
+                if (value != null) {
+                    switch (value.toString()) {
+                        case "leve":
+                            c.setForeground(new Color(200, 100, 0)); // Orange
+                            break;
+                        case "grave":
+                        case "muy_grave":
+                            c.setForeground(Color.RED);
+                            c.setFont(c.getFont().deriveFont(Font.BOLD));
+                            break;
+                    }
+                }
+                
+                return c;
+            }
+        });
+        
+        JScrollPane scrollPane = new JScrollPane(table);
+        scrollPane.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+        
+        add(scrollPane, BorderLayout.CENTER);
+        
+        // Bottom panel
+        JPanel bottomPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        bottomPanel.setBorder(BorderFactory.createEmptyBorder(5, 10, 5, 10));
+        countLabel = new JLabel("Total: 0 infracciones");
+        bottomPanel.add(countLabel);
+        
+        add(bottomPanel, BorderLayout.SOUTH);
+    }
+    
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        liveUpdater.bind();
+    }
+    
+    @Override
+    public void removeNotify() {
+        liveUpdater.unbind();
+        super.removeNotify();
+    }
+    
+    private InfractionResponseDto fetchInfraction(Long id) throws Exception {
+        try {
+            return infractionController.getInfractionResponseById(id);
+        } catch (InfractionNotFoundException e) {
+            return null;
+        }
+    }
+    
+    public void loadData() {
+        String filter = (String) filterCombo.getSelectedItem();
+        tableLoader.load(
+            () -> fetch(filter),
+            results -> countLabel.setText("Total: " + results.size() + " infracciones"),
+            e -> JOptionPane.showMessageDialog(this, "Error al cargar infracciones: " + e.getMessage(), 
+                "Error", JOptionPane.ERROR_MESSAGE));
+    }
+    
+    private List<InfractionResponseDto> fetch(String filter) throws Exception {
+        if ("Todas".equals(filter)) {
+            return infractionController.getAllInfractions();
+        }
+        if ("Pendientes de pago".equals(filter)) {
+            return infractionController.getUnpaidInfractions();
+        }
+        return infractionController.getAllInfractions().stream()
+            .filter(infraction -> filter.equals(infraction.type()))
+            .toList();
+    }
+    
+    private Object[] toRow(InfractionResponseDto infraction) {
+        return new Object[]{
+            infraction.idInfraction(),
+            infraction.driverId(),
+            infraction.licenseId(),
+            infraction.code(),
+            infraction.type(),
+            infraction.date(),
+            infraction.place(),
+            infraction.deductedPoints(),
+            infraction.paid()
+        };
+    }
+    
+    private void showLoadingProgress(int percent) {
+        if (percent < 100) {
+            countLabel.setText("Cargando... " + percent + "%");
+        }
+    }
+    
+    public JTable getTable() {
+        return table;
+    }
+    
+    public Long getSelectedInfractionId() {
+        int row = table.getSelectedRow();
+        if (row >= 0) {
+            return (Long) table.getModel().getValueAt(table.convertRowIndexToModel(row), 0);
+        }
+        return null;
+    }
+    
+    public void refresh() {
+        loadData();
+    }
+}
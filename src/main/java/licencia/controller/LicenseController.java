@@ -5,6 +5,10 @@ import licencia.exception.LicenseNotFoundException;
 import licencia.exception.InvalidLicenseDataException;
 import licencia.mapper.LicenseMapper;
 import licencia.model.License;
+import licencia.model.LicenseFilter;
+import licencia.model.LicensePageKey;
+import licencia.model.PointDeduction;
+import licencia.model.PointDeductionResult;
 import licencia.service.LicenseServiceInterface;
 import licencia.validator.LicenseValidator;
 
@@ -30,6 +34,21 @@ public class LicenseController {
                 .toList();
     }
 
+    // Pass null to get the first page, then the key of the last license received
+    public List<LicenseResponseDto> getLicensesPage(LicensePageKey afterKey, int limit) throws InvalidLicenseDataException, SQLException {
+        return this.licenseService.listPage(afterKey, limit).stream()
+                .map(LicenseMapper::toLicenseResponseDto)
+                .toList();
+    }
+
+    public LicensePageKey getPageKey(LicenseResponseDto license) {
+        return new LicensePageKey(license.issueDate(), license.id());
+    }
+
+    public LicensePageKey getPageKeyAt(int position) throws InvalidLicenseDataException, SQLException {
+        return this.licenseService.getPageKeyAt(position);
+    }
+
     public LicenseResponseDto getLicenseResponseById(Long id) throws InvalidLicenseDataException, SQLException, LicenseNotFoundException {
         validateIdNotNull(id);
         return LicenseMapper.toLicenseResponseDto(this.licenseService.getById(id));
@@ -77,6 +96,19 @@ public class LicenseController {
                 .toList();
     }
 
+    public List<LicenseResponseDto> searchLicenses(String criteria, int limit) throws InvalidLicenseDataException, SQLException {
+        validateTextNotNull(criteria, "Search criteria");
+        return this.licenseService.search(criteria, limit).stream()
+                .map(LicenseMapper::toLicenseResponseDto)
+                .toList();
+    }
+
+    public List<LicenseResponseDto> filterLicenses(LicenseFilter filter, int limit) throws InvalidLicenseDataException, SQLException {
+        return this.licenseService.filter(filter, limit).stream()
+                .map(LicenseMapper::toLicenseResponseDto)
+                .toList();
+    }
+
     // Business operations
     public List<LicenseResponseDto> getActiveLicenses() throws InvalidLicenseDataException, SQLException {
         return this.licenseService.findActiveLicenses().stream()
@@ -116,6 +148,10 @@ public class LicenseController {
         return this.licenseService.restorePoints(licenseId, pointsToRestore);
     }
 
+    public List<PointDeductionResult> deductPointsBatch(List<PointDeduction> deductions) throws InvalidLicenseDataException, SQLException {
+        return this.licenseService.deductPointsBatch(deductions);
+    }
+
     public boolean resetPoints(Long licenseId) throws InvalidLicenseDataException, SQLException, LicenseNotFoundException {
         validateIdNotNull(licenseId);
         return this.licenseService.resetPoints(licenseId);
@@ -232,6 +268,14 @@ public class LicenseController {
         return this.licenseService.countExpiredLicenses();
     }
 
+    public int countAllLicenses() throws SQLException {
+        return this.licenseService.countAllLicenses();
+    }
+
+    public double getAveragePoints() throws SQLException {
+        return this.licenseService.getAveragePoints();
+    }
+
     // Validation helper methods
     private void validateLicenseNotNull(License license) throws InvalidLicenseDataException {
         if (license == null) {
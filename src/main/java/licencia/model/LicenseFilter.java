@@ -0,0 +1,17 @@
+package licencia.model;
+
+// Filters of the license table, applied by the database. A null field does not filter. status is
+// the status shown in the table (vigente, vencida or renovada), derived from the expiry date and
+// the renewal flag; any other value matches no license.
+public record LicenseFilter(String licenseType, String status, Period period) {
+
+    public static final int EXPIRING_SOON_DAYS = 30;
+
+    public enum Period {
+        ACTIVE,
+        EXPIRED,
+        // Expiring within the next EXPIRING_SOON_DAYS days, today excluded
+        EXPIRING_SOON,
+        RENEWED
+    }
+}
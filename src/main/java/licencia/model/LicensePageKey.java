@@ -0,0 +1,10 @@
+package licencia.model;
+
+// Cursor for keyset pagination: position of the last license of the previous page
+// in the listing order (fecha_emision DESC, id_licencia DESC)
+public record LicensePageKey(String issueDate, Long id) {
+
+    public static LicensePageKey of(License license) {
+        return new LicensePageKey(license.getIssueDate(), license.getId());
+    }
+}
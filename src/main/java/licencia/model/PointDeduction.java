@@ -0,0 +1,5 @@
+package licencia.model;
+
+// One point deduction to apply to a license, e.g. coming from an infraction
+public record PointDeduction(Long licenseId, int points) {
+}
@@ -0,0 +1,17 @@
+package licencia.model;
+
+// Outcome of one deduction. remainingPoints is the balance after it: the new balance when applied,
+// the balance it was checked against when rejected, null when the license was never read
+public record PointDeductionResult(PointDeduction deduction, Outcome outcome, Integer remainingPoints) {
+
+    public enum Outcome {
+        APPLIED,
+        INSUFFICIENT_POINTS,  // Would leave the license below the suspension threshold
+        LICENSE_NOT_FOUND,
+        INVALID               // Null license or non-positive points, never sent to the database
+    }
+
+    public boolean isApplied() {
+        return outcome == Outcome.APPLIED;
+    }
+}
@@ -3,7 +3,14 @@ package licencia.persistence;
 import licencia.exception.LicenseNotFoundException;
 import licencia.exception.InvalidLicenseDataException;
 import licencia.model.License;
+import licencia.model.LicenseFilter;
+import licencia.model.LicensePageKey;
+import licencia.model.PointDeduction;
+import licencia.model.PointDeductionResult;
+import conductor.persistence.DriverIdFilter;
 import db.ConnectionPool;
+import db.ReplicaRouter;
+import db.JdbcBatch;
 
 import java.sql.*;
 import java.util.ArrayList;
@@ -11,8 +18,34 @@ import java.util.List;
 
 public class LicenseDao implements LicenseDaoInterface {
 
+    private final DriverIdFilter driverIds;
+
+    public LicenseDao() {
+        this(new DriverIdFilter());
+    }
+
+    public LicenseDao(DriverIdFilter driverIds) {
+        this.driverIds = driverIds;
+    }
+
+    // Primary, for reads that must be current
     private Connection getConnection() throws SQLException {
-        return ConnectionPool.getConnection();
+        return ReplicaRouter.getConnection();
+    }
+
+    // Primary, for methods that change data (see ReplicaRouter)
+    private Connection getWriteConnection() throws SQLException {
+        return ReplicaRouter.getWriteConnection();
+    }
+
+    // Browsing and statistics queries: served by the read replica when there is one
+    private Connection getReadOnlyConnection() throws SQLException {
+        return ReplicaRouter.getReadOnlyConnection();
+    }
+
+    // Full-table reads go to the replica, or to their own pool so they cannot starve the CRUD paths
+    private Connection getReportingConnection() throws SQLException {
+        return ReplicaRouter.getReadOnlyConnection(ConnectionPool.REPORTING);
     }
 
     @Override
@@ -21,7 +54,7 @@ public class LicenseDao implements LicenseDaoInterface {
         List<License> licenses = new ArrayList<>();
         
         try (
-            Connection conn = this.getConnection();
+            Connection conn = this.getReportingConnection();
             PreparedStatement statement = conn.prepareStatement(sql);
             ResultSet resultSet = statement.executeQuery()
         ) {
@@ -36,6 +69,62 @@ public class LicenseDao implements LicenseDaoInterface {
         return licenses;
     }
 
+    @Override
+    public List<License> listPage(LicensePageKey afterKey, int limit) throws InvalidLicenseDataException, SQLException {
+        // Keyset pagination: seek past the last row of the previous page instead of using OFFSET
+        String sql = afterKey == null
+            ? "SELECT * FROM licencia ORDER BY fecha_emision DESC, id_licencia DESC LIMIT ?"
+            : "SELECT * FROM licencia WHERE (fecha_emision, id_licencia) < (?, ?) " +
+              "ORDER BY fecha_emision DESC, id_licencia DESC LIMIT ?";
+        List<License> licenses = new ArrayList<>(limit);
+        
+        try (
+            Connection conn = this.getReadOnlyConnection();
+            PreparedStatement statement = conn.prepareStatement(sql)
+        ) {
+            int index = 1;
+            if (afterKey != null) {
+                statement.setDate(index++, Date.valueOf(afterKey.issueDate()));
+                statement.setLong(index++, afterKey.id());
+            }
+            statement.setInt(index, limit);
+            
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    licenses.add(mapResultSetToLicense(resultSet));
+                }
+            }
+        } catch (SQLException e) {
+            throw new InvalidLicenseDataException("Error al listar página de licencias", e);
+        }
+        
+        return licenses;
+    }
+
+    @Override
+    public LicensePageKey getPageKeyAt(int position) throws InvalidLicenseDataException, SQLException {
+        // Only reads the key columns, used to jump to a page whose previous page was never loaded
+        String sql = "SELECT fecha_emision, id_licencia FROM licencia " +
+                     "ORDER BY fecha_emision DESC, id_licencia DESC OFFSET ? LIMIT 1";
+        
+        try (
+            Connection conn = this.getReadOnlyConnection();
+            PreparedStatement statement = conn.prepareStatement(sql)
+        ) {
+            statement.setInt(1, position);
+            
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (resultSet.next()) {
+                    return new LicensePageKey(resultSet.getDate("fecha_emision").toString(), resultSet.getLong("id_licencia"));
+                }
+            }
+        } catch (SQLException e) {
+            throw new InvalidLicenseDataException("Error al obtener la clave de página en la posición " + position, e);
+        }
+        
+        return null;
+    }
+
     @Override
     public License getById(Long id) throws SQLException, LicenseNotFoundException {
         String sql = "SELECT * FROM licencia WHERE id_licencia = ?";
@@ -68,7 +157,7 @@ public class LicenseDao implements LicenseDaoInterface {
                     "VALUES (?, ?::tipo_licencia_enum, ?::categoria_licencia_enum, ?, ?, ?, ?, ?)";
         
         try (
-            Connection conn = this.getConnection();
+            Connection conn = this.getWriteConnection();
             PreparedStatement statement = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)
         ) {
             statement.setLong(1, license.getDriverId());
@@ -112,7 +201,7 @@ public class LicenseDao implements LicenseDaoInterface {
         String sql = "DELETE FROM licencia WHERE id_licencia = ?";
         
         try (
-            Connection conn = this.getConnection();
+            Connection conn = this.getWriteConnection();
             PreparedStatement statement = conn.prepareStatement(sql)
         ) {
             statement.setLong(1, id);
@@ -137,7 +226,7 @@ public class LicenseDao implements LicenseDaoInterface {
                     "puntos = ?, restricciones = ?, renovada = ? WHERE id_licencia = ?";
         
         try (
-            Connection conn = this.getConnection();
+            Connection conn = this.getWriteConnection();
             PreparedStatement statement = conn.prepareStatement(sql)
         ) {
             statement.setLong(1, license.getDriverId());
@@ -172,6 +261,64 @@ public class LicenseDao implements LicenseDaoInterface {
         }
     }
     
+    @Override
+    public List<License> saveAll(List<License> licenses, int batchSize) throws InvalidLicenseDataException, SQLException {
+        // Driver existence is left to the foreign key instead of one lookup per row
+        String sql = "INSERT INTO licencia (id_conductor, tipo_licencia, categoria, fecha_emision, " +
+                    "fecha_vencimiento, puntos, restricciones, renovada) " +
+                    "VALUES (?, ?::tipo_licencia_enum, ?::categoria_licencia_enum, ?, ?, ?, ?, ?)";
+        
+        try (Connection conn = this.getWriteConnection()) {
+            JdbcBatch.insertAll(conn, sql, licenses, batchSize, this::bindLicense, License::setId);
+            return licenses;
+        } catch (SQLException e) {
+            throw toBatchException(e, "Error al guardar el lote de licencias");
+        }
+    }
+
+    @Override
+    public List<License> updateAll(List<License> licenses, int batchSize) throws LicenseNotFoundException, InvalidLicenseDataException, SQLException {
+        String sql = "UPDATE licencia SET id_conductor = ?, tipo_licencia = ?::tipo_licencia_enum, " +
+                    "categoria = ?::categoria_licencia_enum, fecha_emision = ?, fecha_vencimiento = ?, " +
+                    "puntos = ?, restricciones = ?, renovada = ? WHERE id_licencia = ?";
+        int missing;
+        
+        try (Connection conn = this.getWriteConnection()) {
+            missing = JdbcBatch.updateAll(conn, sql, licenses, batchSize, (statement, license) -> {
+                bindLicense(statement, license);
+                statement.setLong(9, license.getId());
+            });
+        } catch (SQLException e) {
+            throw toBatchException(e, "Error al actualizar el lote de licencias");
+        }
+        
+        if (missing >= 0) {
+            throw new LicenseNotFoundException("Licencia con ID " + licenses.get(missing).getId() + " no encontrada para actualizar");
+        }
+        return licenses;
+    }
+
+    private void bindLicense(PreparedStatement statement, License license) throws SQLException {
+        statement.setLong(1, license.getDriverId());
+        statement.setString(2, license.getLicenseType());
+        statement.setString(3, license.getCategory());
+        statement.setDate(4, Date.valueOf(license.getIssueDate()));
+        statement.setDate(5, Date.valueOf(license.getExpiryDate()));
+        statement.setInt(6, license.getPoints());
+        statement.setString(7, license.getRestrictions());
+        statement.setBoolean(8, license.getRenewed() != null ? license.getRenewed() : false);
+    }
+
+    private InvalidLicenseDataException toBatchException(SQLException e, String message) {
+        SQLException cause = JdbcBatch.cause(e);
+        if ("23514".equals(cause.getSQLState())) { // Check constraint violation
+            return new InvalidLicenseDataException("Error de validación: " + cause.getMessage(), e);
+        } else if ("23503".equals(cause.getSQLState())) { // Foreign key violation
+            return new InvalidLicenseDataException("El conductor especificado no existe", e);
+        }
+        return new InvalidLicenseDataException(message, e);
+    }
+    
     @Override
     public boolean existsById(Long id) throws SQLException {
         if (id == null) return false;
@@ -228,7 +375,7 @@ public class LicenseDao implements LicenseDaoInterface {
         List<License> licenses = new ArrayList<>();
         
         try (
-            Connection conn = this.getConnection();
+            Connection conn = this.getReadOnlyConnection();
             PreparedStatement statement = conn.prepareStatement(sql)
         ) {
             statement.setString(1, licenseType);
@@ -252,7 +399,7 @@ public class LicenseDao implements LicenseDaoInterface {
         List<License> licenses = new ArrayList<>();
         
         try (
-            Connection conn = this.getConnection();
+            Connection conn = this.getReadOnlyConnection();
             PreparedStatement statement = conn.prepareStatement(sql)
         ) {
             statement.setString(1, category);
@@ -276,7 +423,7 @@ public class LicenseDao implements LicenseDaoInterface {
         List<License> licenses = new ArrayList<>();
         
         try (
-            Connection conn = this.getConnection();
+            Connection conn = this.getReadOnlyConnection();
             PreparedStatement statement = conn.prepareStatement(sql)
         ) {
             statement.setBoolean(1, renewed != null ? renewed : false);
@@ -294,6 +441,107 @@ public class LicenseDao implements LicenseDaoInterface {
         return licenses;
     }
 
+    @Override
+    public List<License> search(String criteria, int limit) throws SQLException, InvalidLicenseDataException {
+        String term = criteria.trim();
+        boolean numeric = term.matches("\\d{1,18}");
+        // A number is an exact key (idx_id_conductor_licencia or the primary key). Text matches type
+        // and category through their indexes, with the enum values that contain it worked out once
+        // by the init plans, and the restrictions through idx_licencia_restricciones_trgm
+        String sql = numeric
+            ? "SELECT * FROM licencia WHERE id_conductor = ? OR id_licencia = ? " +
+              "ORDER BY fecha_emision DESC, id_licencia DESC LIMIT ?"
+            : "SELECT * FROM licencia WHERE " +
+              "tipo_licencia = ANY(ARRAY(SELECT t FROM unnest(enum_range(NULL::tipo_licencia_enum)) t " +
+              "WHERE lower(t::text) LIKE ?)) " +
+              "OR categoria = ANY(ARRAY(SELECT c FROM unnest(enum_range(NULL::categoria_licencia_enum)) c " +
+              "WHERE c::text LIKE ?)) " +
+              "OR lower(restricciones) LIKE ? ORDER BY fecha_emision DESC, id_licencia DESC LIMIT ?";
+        List<License> licenses = new ArrayList<>();
+        
+        try (
+            Connection conn = this.getReadOnlyConnection();
+            PreparedStatement statement = conn.prepareStatement(sql)
+        ) {
+            if (numeric) {
+                long id = Long.parseLong(term);
+                statement.setLong(1, id);
+                statement.setLong(2, id);
+                statement.setInt(3, limit);
+            } else {
+                String pattern = "%" + escapeLike(term.toLowerCase()) + "%";
+                statement.setString(1, pattern);
+                statement.setString(2, pattern);
+                statement.setString(3, pattern);
+                statement.setInt(4, limit);
+            }
+            
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    licenses.add(mapResultSetToLicense(resultSet));
+                }
+            }
+        } catch (SQLException e) {
+            throw new InvalidLicenseDataException("Error al buscar licencias", e);
+        }
+        
+        return licenses;
+    }
+
+    @Override
+    public List<License> filter(LicenseFilter filter, int limit) throws SQLException, InvalidLicenseDataException {
+        // Same expiry and renewal rules the table uses for its status column; every branch can use
+        // idx_tipo_licencia, idx_fecha_vencimiento or idx_renovada
+        List<String> conditions = new ArrayList<>();
+        if (filter.licenseType() != null) {
+            conditions.add("tipo_licencia = ?::tipo_licencia_enum");
+        }
+        if (filter.status() != null) {
+            conditions.add(switch (filter.status()) {
+                case "vigente" -> "fecha_vencimiento >= CURRENT_DATE AND NOT renovada";
+                case "vencida" -> "fecha_vencimiento < CURRENT_DATE";
+                case "renovada" -> "fecha_vencimiento >= CURRENT_DATE AND renovada";
+                default -> "FALSE";
+            });
+        }
+        if (filter.period() != null) {
+            conditions.add(switch (filter.period()) {
+                case ACTIVE -> "fecha_vencimiento >= CURRENT_DATE";
+                case EXPIRED -> "fecha_vencimiento < CURRENT_DATE";
+                case EXPIRING_SOON -> "fecha_vencimiento > CURRENT_DATE AND fecha_vencimiento <= CURRENT_DATE + ?";
+                case RENEWED -> "renovada";
+            });
+        }
+        String sql = "SELECT * FROM licencia" +
+                     (conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions)) +
+                     " ORDER BY fecha_emision DESC, id_licencia DESC LIMIT ?";
+        List<License> licenses = new ArrayList<>();
+        
+        try (
+            Connection conn = this.getReadOnlyConnection();
+            PreparedStatement statement = conn.prepareStatement(sql)
+        ) {
+            int index = 1;
+            if (filter.licenseType() != null) {
+                statement.setString(index++, filter.licenseType());
+            }
+            if (filter.period() == LicenseFilter.Period.EXPIRING_SOON) {
+                statement.setInt(index++, LicenseFilter.EXPIRING_SOON_DAYS);
+            }
+            statement.setInt(index, limit);
+            
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    licenses.add(mapResultSetToLicense(resultSet));
+                }
+            }
+        } catch (SQLException e) {
+            throw new InvalidLicenseDataException("Error al filtrar licencias", e);
+        }
+        
+        return licenses;
+    }
+
     @Override
     public List<License> findByDriverAndType(Long driverId, String licenseType) throws SQLException, InvalidLicenseDataException {
         if (!driverExists(driverId)) {
@@ -329,7 +577,7 @@ public class LicenseDao implements LicenseDaoInterface {
         List<License> licenses = new ArrayList<>();
         
         try (
-            Connection conn = this.getConnection();
+            Connection conn = this.getReadOnlyConnection();
             PreparedStatement statement = conn.prepareStatement(sql);
             ResultSet resultSet = statement.executeQuery()
         ) {
@@ -350,7 +598,7 @@ public class LicenseDao implements LicenseDaoInterface {
         List<License> licenses = new ArrayList<>();
         
         try (
-            Connection conn = this.getConnection();
+            Connection conn = this.getReadOnlyConnection();
             PreparedStatement statement = conn.prepareStatement(sql);
             ResultSet resultSet = statement.executeQuery()
         ) {
@@ -371,7 +619,7 @@ public class LicenseDao implements LicenseDaoInterface {
         List<License> licenses = new ArrayList<>();
         
         try (
-            Connection conn = this.getConnection();
+            Connection conn = this.getReadOnlyConnection();
             PreparedStatement statement = conn.prepareStatement(sql)
         ) {
             statement.setInt(1, daysThreshold);
@@ -414,7 +662,7 @@ public class LicenseDao implements LicenseDaoInterface {
         String sql = "SELECT COUNT(*) FROM licencia WHERE tipo_licencia = ?::tipo_licencia_enum";
         
         try (
-            Connection conn = this.getConnection();
+            Connection conn = this.getReadOnlyConnection();
             PreparedStatement statement = conn.prepareStatement(sql)
         ) {
             statement.setString(1, licenseType);
@@ -434,7 +682,7 @@ public class LicenseDao implements LicenseDaoInterface {
         String sql = "SELECT COUNT(*) FROM licencia WHERE fecha_vencimiento >= CURRENT_DATE";
         
         try (
-            Connection conn = this.getConnection();
+            Connection conn = this.getReportingConnection();
             PreparedStatement statement = conn.prepareStatement(sql);
             ResultSet resultSet = statement.executeQuery()
         ) {
@@ -451,7 +699,7 @@ public class LicenseDao implements LicenseDaoInterface {
         String sql = "SELECT COUNT(*) FROM licencia WHERE fecha_vencimiento < CURRENT_DATE";
         
         try (
-            Connection conn = this.getConnection();
+            Connection conn = this.getReportingConnection();
             PreparedStatement statement = conn.prepareStatement(sql);
             ResultSet resultSet = statement.executeQuery()
         ) {
@@ -464,89 +712,118 @@ public class LicenseDao implements LicenseDaoInterface {
     }
 
     @Override
-    public boolean deductPoints(Long licenseId, int pointsToDeduct) throws SQLException, InvalidLicenseDataException {
-        // First get current points
-        String selectSql = "SELECT puntos FROM licencia WHERE id_licencia = ?";
-        int currentPoints = 0;
+    public int countAllLicenses() throws SQLException {
+        String sql = "SELECT COUNT(*) FROM licencia";
         
         try (
-            Connection conn = this.getConnection();
-            PreparedStatement selectStmt = conn.prepareStatement(selectSql)
+            Connection conn = this.getReadOnlyConnection();
+            PreparedStatement statement = conn.prepareStatement(sql);
+            ResultSet resultSet = statement.executeQuery()
         ) {
-            selectStmt.setLong(1, licenseId);
-            
-            try (ResultSet resultSet = selectStmt.executeQuery()) {
-                if (resultSet.next()) {
-                    currentPoints = resultSet.getInt("puntos");
-                } else {
-                    throw new InvalidLicenseDataException("Licencia con ID " + licenseId + " no encontrada");
-                }
+            if (resultSet.next()) {
+                return resultSet.getInt(1);
             }
         }
         
-        // Validate deduction
-        if (pointsToDeduct > currentPoints) {
-            throw new InvalidLicenseDataException(
-                "No se pueden deducir " + pointsToDeduct + " puntos. La licencia solo tiene " + currentPoints + " puntos"
-            );
-        }
-        
-        // Deduct points
-        String updateSql = "UPDATE licencia SET puntos = ? WHERE id_licencia = ?";
+        return 0;
+    }
+
+    @Override
+    public double getAveragePoints() throws SQLException {
+        String sql = "SELECT COALESCE(AVG(puntos), 0) FROM licencia";
         
         try (
-            Connection conn = this.getConnection();
-            PreparedStatement updateStmt = conn.prepareStatement(updateSql)
+            Connection conn = this.getReportingConnection();
+            PreparedStatement statement = conn.prepareStatement(sql);
+            ResultSet resultSet = statement.executeQuery()
         ) {
-            updateStmt.setInt(1, currentPoints - pointsToDeduct);
-            updateStmt.setLong(2, licenseId);
-            
-            int affectedRows = updateStmt.executeUpdate();
-            return affectedRows > 0;
+            if (resultSet.next()) {
+                return resultSet.getDouble(1);
+            }
         }
+        
+        return 0.0;
     }
 
     @Override
-    public boolean restorePoints(Long licenseId, int pointsToRestore) throws SQLException, InvalidLicenseDataException {
-        // First get current points
-        String selectSql = "SELECT puntos FROM licencia WHERE id_licencia = ?";
-        int currentPoints = 0;
+    public PointDeductionResult deductPoints(Long licenseId, int pointsToDeduct, int minRemainingPoints) throws SQLException, InvalidLicenseDataException {
+        // Lock, check and update in one statement, so concurrent deductions cannot overwrite each
+        // other and a rejection carries the balance it was checked against
+        String sql = "WITH actual AS (" +
+                     "  SELECT id_licencia, puntos FROM licencia WHERE id_licencia = ? FOR UPDATE" +
+                     "), actualizada AS (" +
+                     "  UPDATE licencia l SET puntos = a.puntos - ? FROM actual a " +
+                     "  WHERE l.id_licencia = a.id_licencia AND a.puntos - ? >= ? RETURNING l.puntos" +
+                     ") " +
+                     "SELECT a.puntos AS saldo, u.puntos AS restantes FROM actual a LEFT JOIN actualizada u ON true";
+        PointDeduction deduction = new PointDeduction(licenseId, pointsToDeduct);
         
         try (
-            Connection conn = this.getConnection();
-            PreparedStatement selectStmt = conn.prepareStatement(selectSql)
+            Connection conn = this.getWriteConnection();
+            PreparedStatement statement = conn.prepareStatement(sql)
         ) {
-            selectStmt.setLong(1, licenseId);
+            statement.setLong(1, licenseId);
+            statement.setInt(2, pointsToDeduct);
+            statement.setInt(3, pointsToDeduct);
+            statement.setInt(4, minRemainingPoints);
             
-            try (ResultSet resultSet = selectStmt.executeQuery()) {
-                if (resultSet.next()) {
-                    currentPoints = resultSet.getInt("puntos");
-                } else {
-                    throw new InvalidLicenseDataException("Licencia con ID " + licenseId + " no encontrada");
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (!resultSet.next()) {
+                    return new PointDeductionResult(deduction, PointDeductionResult.Outcome.LICENSE_NOT_FOUND, null);
                 }
+                int remaining = resultSet.getInt("restantes");
+                return resultSet.wasNull()
+                    ? new PointDeductionResult(deduction, PointDeductionResult.Outcome.INSUFFICIENT_POINTS, resultSet.getInt("saldo"))
+                    : new PointDeductionResult(deduction, PointDeductionResult.Outcome.APPLIED, remaining);
             }
+        } catch (SQLException e) {
+            throw new InvalidLicenseDataException("Error al deducir puntos de la licencia " + licenseId, e);
         }
-        
-        // Validate restoration (max 20 points)
-        int newPoints = currentPoints + pointsToRestore;
-        if (newPoints > 20) {
-            throw new InvalidLicenseDataException(
-                "No se pueden restaurar " + pointsToRestore + " puntos. Excedería el máximo de 20 puntos. Puntos actuales: " + currentPoints
-            );
-        }
-        
-        // Restore points
-        String updateSql = "UPDATE licencia SET puntos = ? WHERE id_licencia = ?";
+    }
+
+    @Override
+    public Integer restorePoints(Long licenseId, int pointsToRestore) throws SQLException, InvalidLicenseDataException {
+        // Check and update in one statement, the maximum is 20 points
+        String sql = "UPDATE licencia SET puntos = puntos + ? " +
+                     "WHERE id_licencia = ? AND puntos + ? <= 20 RETURNING puntos";
         
         try (
-            Connection conn = this.getConnection();
-            PreparedStatement updateStmt = conn.prepareStatement(updateSql)
+            Connection conn = this.getWriteConnection();
+            PreparedStatement statement = conn.prepareStatement(sql)
         ) {
-            updateStmt.setInt(1, newPoints);
-            updateStmt.setLong(2, licenseId);
+            statement.setInt(1, pointsToRestore);
+            statement.setLong(2, licenseId);
+            statement.setInt(3, pointsToRestore);
             
-            int affectedRows = updateStmt.executeUpdate();
-            return affectedRows > 0;
+            try (ResultSet resultSet = statement.executeQuery()) {
+                // No row: the license does not exist or would exceed the maximum
+                return resultSet.next() ? resultSet.getInt("puntos") : null;
+            }
+        } catch (SQLException e) {
+            throw new InvalidLicenseDataException("Error al restaurar puntos de la licencia " + licenseId, e);
+        }
+    }
+
+    @Override
+    public List<PointDeductionResult> deductPointsBatch(List<PointDeduction> deductions, int minRemainingPoints) 
+            throws SQLException, InvalidLicenseDataException {
+        // One transaction for the whole batch; each deduction is checked against what the earlier
+        // ones left, see PointDeductions
+        try (Connection conn = this.getWriteConnection()) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try {
+                List<PointDeductionResult> results = PointDeductions.apply(conn, deductions, minRemainingPoints);
+                conn.commit();
+                return results;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new InvalidLicenseDataException("Error al deducir puntos en lote", e);
         }
     }
 
@@ -555,7 +832,7 @@ public class LicenseDao implements LicenseDaoInterface {
         String sql = "UPDATE licencia SET puntos = 20 WHERE id_licencia = ?";
         
         try (
-            Connection conn = this.getConnection();
+            Connection conn = this.getWriteConnection();
             PreparedStatement statement = conn.prepareStatement(sql)
         ) {
             statement.setLong(1, licenseId);
@@ -576,7 +853,7 @@ public class LicenseDao implements LicenseDaoInterface {
         String checkSql = "SELECT fecha_vencimiento, renovada FROM licencia WHERE id_licencia = ?";
         
         try (
-            Connection conn = this.getConnection();
+            Connection conn = this.getWriteConnection();
             PreparedStatement checkStmt = conn.prepareStatement(checkSql)
         ) {
             checkStmt.setLong(1, licenseId);
@@ -611,7 +888,7 @@ public class LicenseDao implements LicenseDaoInterface {
         String updateSql = "UPDATE licencia SET fecha_vencimiento = ?, renovada = true WHERE id_licencia = ?";
         
         try (
-            Connection conn = this.getConnection();
+            Connection conn = this.getWriteConnection();
             PreparedStatement updateStmt = conn.prepareStatement(updateSql)
         ) {
             updateStmt.setDate(1, Date.valueOf(newExpiryDate));
@@ -750,7 +1027,7 @@ public class LicenseDao implements LicenseDaoInterface {
         List<License> licenses = new ArrayList<>();
         
         try (
-            Connection conn = this.getConnection();
+            Connection conn = this.getReportingConnection();
             PreparedStatement statement = conn.prepareStatement(sql)
         ) {
             statement.setDate(1, Date.valueOf(startDate));
@@ -775,7 +1052,7 @@ public class LicenseDao implements LicenseDaoInterface {
         List<License> licenses = new ArrayList<>();
         
         try (
-            Connection conn = this.getConnection();
+            Connection conn = this.getReportingConnection();
             PreparedStatement statement = conn.prepareStatement(sql)
         ) {
             statement.setDate(1, Date.valueOf(startDate));
@@ -795,8 +1072,13 @@ public class LicenseDao implements LicenseDaoInterface {
     }
     
     // Helper methods
+    private String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+    
     private boolean driverExists(Long driverId) throws SQLException {
         if (driverId == null) return false;
+        if (driverIds.isKnown(driverId)) return true;
         
         String sql = "SELECT COUNT(*) FROM conductor WHERE id_conductor = ?";
         
@@ -807,8 +1089,9 @@ public class LicenseDao implements LicenseDaoInterface {
             statement.setLong(1, driverId);
             
             try (ResultSet resultSet = statement.executeQuery()) {
-                if (resultSet.next()) {
-                    return resultSet.getInt(1) > 0;
+                if (resultSet.next() && resultSet.getInt(1) > 0) {
+                    driverIds.add(driverId);
+                    return true;
                 }
             }
         }
@@ -3,6 +3,10 @@ package licencia.persistence;
 import licencia.exception.LicenseNotFoundException;
 import licencia.exception.InvalidLicenseDataException;
 import licencia.model.License;
+import licencia.model.LicenseFilter;
+import licencia.model.LicensePageKey;
+import licencia.model.PointDeduction;
+import licencia.model.PointDeductionResult;
 
 import java.sql.SQLException;
 import java.util.List;
@@ -10,10 +14,14 @@ import java.util.List;
 public interface LicenseDaoInterface {
     // Basic CRUD operations
     List<License> listAllLicenses() throws InvalidLicenseDataException, SQLException;
+    List<License> listPage(LicensePageKey afterKey, int limit) throws InvalidLicenseDataException, SQLException;
+    LicensePageKey getPageKeyAt(int position) throws InvalidLicenseDataException, SQLException;
     License getById(Long id) throws SQLException, LicenseNotFoundException;
     License save(License license) throws InvalidLicenseDataException, SQLException;
     void delete(Long id) throws SQLException, LicenseNotFoundException;
     License update(License license) throws LicenseNotFoundException, SQLException, InvalidLicenseDataException;
+    List<License> saveAll(List<License> licenses, int batchSize) throws InvalidLicenseDataException, SQLException;
+    List<License> updateAll(List<License> licenses, int batchSize) throws LicenseNotFoundException, InvalidLicenseDataException, SQLException;
     boolean existsById(Long id) throws SQLException;
     
     // Find operations
@@ -21,6 +29,8 @@ public interface LicenseDaoInterface {
     List<License> findByLicenseType(String licenseType) throws SQLException, InvalidLicenseDataException;
     List<License> findByCategory(String category) throws SQLException, InvalidLicenseDataException;
     List<License> findByRenewalStatus(Boolean renewed) throws SQLException, InvalidLicenseDataException;
+    List<License> search(String criteria, int limit) throws SQLException, InvalidLicenseDataException;
+    List<License> filter(LicenseFilter filter, int limit) throws SQLException, InvalidLicenseDataException;
     
     // Find with filters
     List<License> findByDriverAndType(Long driverId, String licenseType) throws SQLException, InvalidLicenseDataException;
@@ -33,10 +43,13 @@ public interface LicenseDaoInterface {
     int countLicensesByType(String licenseType) throws SQLException;
     int countActiveLicenses() throws SQLException;
     int countExpiredLicenses() throws SQLException;
+    int countAllLicenses() throws SQLException;
+    double getAveragePoints() throws SQLException;
     
     // Points operations
-    boolean deductPoints(Long licenseId, int pointsToDeduct) throws SQLException, InvalidLicenseDataException;
-    boolean restorePoints(Long licenseId, int pointsToRestore) throws SQLException, InvalidLicenseDataException;
+    PointDeductionResult deductPoints(Long licenseId, int pointsToDeduct, int minRemainingPoints) throws SQLException, InvalidLicenseDataException;
+    Integer restorePoints(Long licenseId, int pointsToRestore) throws SQLException, InvalidLicenseDataException;
+    List<PointDeductionResult> deductPointsBatch(List<PointDeduction> deductions, int minRemainingPoints) throws SQLException, InvalidLicenseDataException;
     boolean resetPoints(Long licenseId) throws SQLException, InvalidLicenseDataException;
     
     // Renewal operations
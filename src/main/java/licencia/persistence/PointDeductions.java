@@ -0,0 +1,116 @@
+package licencia.persistence;
+
+import licencia.model.PointDeduction;
+import licencia.model.PointDeductionResult;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Applies a list of point deductions inside the caller's transaction. The licenses are locked in
+// id order (so two batches cannot deadlock), then each deduction is checked in input order against
+// what is left of its license's balance: one that would go below the minimum is rejected and the
+// ones after it still get their chance. Every touched license is then written with one UPDATE.
+// Used by LicenseDao.deductPointsBatch. The infraction batch insert uses applyCapped instead: an
+// offence is recorded whatever the balance, so its deduction is only capped at what is left.
+public final class PointDeductions {
+
+    private PointDeductions() {
+    }
+
+    public static List<PointDeductionResult> apply(Connection conn, List<PointDeduction> deductions,
+                                                   int minRemainingPoints) throws SQLException {
+        Map<Long, Integer> balances = lockBalances(conn, deductions);
+        Map<Long, Integer> changed = new LinkedHashMap<>();
+        List<PointDeductionResult> results = decide(deductions, balances, minRemainingPoints, changed);
+        if (!changed.isEmpty()) {
+            update(conn, changed);
+        }
+        return results;
+    }
+
+    // Applies every deduction, taking no more than what is left of its license's balance. Each result
+    // carries the points actually taken and the balance after them
+    public static List<PointDeductionResult> applyCapped(Connection conn, List<PointDeduction> deductions) throws SQLException {
+        Map<Long, Integer> balances = lockBalances(conn, deductions);
+        Map<Long, Integer> changed = new LinkedHashMap<>();
+        List<PointDeductionResult> results = decideCapped(deductions, balances, changed);
+        if (!changed.isEmpty()) {
+            update(conn, changed);
+        }
+        return results;
+    }
+
+    static List<PointDeductionResult> decideCapped(List<PointDeduction> deductions, Map<Long, Integer> balances,
+                                                   Map<Long, Integer> changed) {
+        List<PointDeductionResult> results = new ArrayList<>(deductions.size());
+        for (PointDeduction deduction : deductions) {
+            Integer balance = balances.get(deduction.licenseId());
+            if (balance == null) {
+                results.add(new PointDeductionResult(deduction, PointDeductionResult.Outcome.LICENSE_NOT_FOUND, null));
+                continue;
+            }
+            int taken = Math.min(deduction.points(), balance);
+            int remaining = balance - taken;
+            if (taken > 0) {
+                balances.put(deduction.licenseId(), remaining);
+                changed.put(deduction.licenseId(), remaining);
+            }
+            results.add(new PointDeductionResult(new PointDeduction(deduction.licenseId(), taken),
+                PointDeductionResult.Outcome.APPLIED, remaining));
+        }
+        return results;
+    }
+
+    // Balances after each deduction; licenses with an applied deduction are added to changed
+    static List<PointDeductionResult> decide(List<PointDeduction> deductions, Map<Long, Integer> balances,
+                                             int minRemainingPoints, Map<Long, Integer> changed) {
+        List<PointDeductionResult> results = new ArrayList<>(deductions.size());
+        for (PointDeduction deduction : deductions) {
+            Integer balance = balances.get(deduction.licenseId());
+            if (balance == null) {
+                results.add(new PointDeductionResult(deduction, PointDeductionResult.Outcome.LICENSE_NOT_FOUND, null));
+            } else if (balance - deduction.points() >= minRemainingPoints) {
+                int remaining = balance - deduction.points();
+                balances.put(deduction.licenseId(), remaining);
+                changed.put(deduction.licenseId(), remaining);
+                results.add(new PointDeductionResult(deduction, PointDeductionResult.Outcome.APPLIED, remaining));
+            } else {
+                results.add(new PointDeductionResult(deduction, PointDeductionResult.Outcome.INSUFFICIENT_POINTS, balance));
+            }
+        }
+        return results;
+    }
+
+    private static Map<Long, Integer> lockBalances(Connection conn, List<PointDeduction> deductions) throws SQLException {
+        String sql = "SELECT id_licencia, puntos FROM licencia WHERE id_licencia = ANY(?) ORDER BY id_licencia FOR UPDATE";
+        Long[] licenseIds = deductions.stream().map(PointDeduction::licenseId).distinct().toArray(Long[]::new);
+        Map<Long, Integer> balances = new HashMap<>(licenseIds.length * 2);
+        try (PreparedStatement statement = conn.prepareStatement(sql)) {
+            statement.setArray(1, conn.createArrayOf("int8", licenseIds));
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    balances.put(resultSet.getLong("id_licencia"), resultSet.getInt("puntos"));
+                }
+            }
+        }
+        return balances;
+    }
+
+    private static void update(Connection conn, Map<Long, Integer> balances) throws SQLException {
+        String sql = "UPDATE licencia l SET puntos = t.puntos " +
+                     "FROM unnest(?::bigint[], ?::int[]) AS t(id_licencia, puntos) " +
+                     "WHERE l.id_licencia = t.id_licencia";
+        try (PreparedStatement statement = conn.prepareStatement(sql)) {
+            statement.setArray(1, conn.createArrayOf("int8", balances.keySet().toArray(new Long[0])));
+            statement.setArray(2, conn.createArrayOf("int4", balances.values().toArray(new Integer[0])));
+            statement.executeUpdate();
+        }
+    }
+}
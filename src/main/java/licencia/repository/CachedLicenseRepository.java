@@ -0,0 +1,386 @@
+package licencia.repository;
+
+import licencia.exception.LicenseNotFoundException;
+import licencia.exception.InvalidLicenseDataException;
+import licencia.model.License;
+import licencia.model.LicenseFilter;
+import licencia.model.LicensePageKey;
+import licencia.model.PointDeduction;
+import licencia.model.PointDeductionResult;
+
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Bounded LRU in front of getById/existsById. The form and most service operations ask
+// existsById and then getById for the same license, so clicking through the table turns
+// into a pair of point lookups per click. Every write through this repository evicts the
+// affected ids, and so does InfractionService after it deducts points through its own DAO.
+// Writes by other clients arrive as "licencia" change notifications; the short TTL only
+// bounds how stale an entry can get if one of those is missed.
+public class CachedLicenseRepository implements LicenseRepositoryInterface {
+
+    public static final int DEFAULT_MAX_ENTRIES = Integer.getInteger("license.cache.maxEntries", 1000);
+    public static final long DEFAULT_TTL_SECONDS = Long.getLong("license.cache.ttlSeconds", 60);
+
+    private final LicenseRepositoryInterface licenseRepository;
+    private final long ttlNanos;
+    private final Map<Long, Entry> entries;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    // Bumped by every write so a read that started before it does not cache the old row
+    private final AtomicLong writes = new AtomicLong();
+
+    private static class Entry {
+        final License license;
+        final long loadedAt;
+
+        Entry(License license) {
+            this.license = license;
+            this.loadedAt = System.nanoTime();
+        }
+    }
+
+    public CachedLicenseRepository(LicenseRepositoryInterface licenseRepository) {
+        this(licenseRepository, DEFAULT_MAX_ENTRIES, DEFAULT_TTL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    public CachedLicenseRepository(LicenseRepositoryInterface licenseRepository, int maxEntries, long ttl, TimeUnit unit) {
+        if (maxEntries <= 0 || ttl <= 0) {
+            throw new IllegalArgumentException("El tamaño y el TTL de la cache deben ser mayores que cero");
+        }
+        this.licenseRepository = licenseRepository;
+        this.ttlNanos = unit.toNanos(ttl);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public double getHitRate() {
+        long total = hits.get() + misses.get();
+        return total == 0 ? 0.0 : (double) hits.get() / total;
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public void invalidate(Long id) {
+        writes.incrementAndGet();
+        synchronized (entries) {
+            entries.remove(id);
+        }
+    }
+
+    public void invalidateAll() {
+        writes.incrementAndGet();
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    @Override
+    public License getById(Long id) throws SQLException, LicenseNotFoundException {
+        License cached = lookup(id);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return copy(cached);
+        }
+        misses.incrementAndGet();
+        long writesBefore = writes.get();
+        License license = this.licenseRepository.getById(id);
+        store(license, writesBefore);
+        return license;
+    }
+
+    @Override
+    public boolean existsById(Long id) throws SQLException {
+        if (lookup(id) != null) {
+            hits.incrementAndGet();
+            return true;
+        }
+        // Negative answers are not cached; a license created elsewhere must become visible
+        misses.incrementAndGet();
+        return this.licenseRepository.existsById(id);
+    }
+
+    @Override
+    public List<License> listAllLicenses() throws InvalidLicenseDataException, SQLException {
+        return this.licenseRepository.listAllLicenses();
+    }
+
+    @Override
+    public List<License> listPage(LicensePageKey afterKey, int limit) throws InvalidLicenseDataException, SQLException {
+        return this.licenseRepository.listPage(afterKey, limit);
+    }
+
+    @Override
+    public LicensePageKey getPageKeyAt(int position) throws InvalidLicenseDataException, SQLException {
+        return this.licenseRepository.getPageKeyAt(position);
+    }
+
+    @Override
+    public License save(License license) throws InvalidLicenseDataException, SQLException {
+        writes.incrementAndGet();
+        return this.licenseRepository.save(license);
+    }
+
+    @Override
+    public void delete(Long id) throws SQLException, LicenseNotFoundException {
+        try {
+            this.licenseRepository.delete(id);
+        } finally {
+            invalidate(id);
+        }
+    }
+
+    @Override
+    public License update(License license) throws LicenseNotFoundException, SQLException, InvalidLicenseDataException {
+        try {
+            return this.licenseRepository.update(license);
+        } finally {
+            invalidate(license.getId());
+        }
+    }
+
+    @Override
+    public List<License> saveAll(List<License> licenses, int batchSize) throws InvalidLicenseDataException, SQLException {
+        writes.incrementAndGet();
+        return this.licenseRepository.saveAll(licenses, batchSize);
+    }
+
+    @Override
+    public List<License> updateAll(List<License> licenses, int batchSize) throws LicenseNotFoundException, InvalidLicenseDataException, SQLException {
+        try {
+            return this.licenseRepository.updateAll(licenses, batchSize);
+        } finally {
+            for (License license : licenses) {
+                invalidate(license.getId());
+            }
+        }
+    }
+
+    @Override
+    public List<License> findByDriverId(Long driverId) throws SQLException, InvalidLicenseDataException {
+        return this.licenseRepository.findByDriverId(driverId);
+    }
+
+    @Override
+    public List<License> findByLicenseType(String licenseType) throws SQLException, InvalidLicenseDataException {
+        return this.licenseRepository.findByLicenseType(licenseType);
+    }
+
+    @Override
+    public List<License> findByCategory(String category) throws SQLException, InvalidLicenseDataException {
+        return this.licenseRepository.findByCategory(category);
+    }
+
+    @Override
+    public List<License> findByRenewalStatus(Boolean renewed) throws SQLException, InvalidLicenseDataException {
+        return this.licenseRepository.findByRenewalStatus(renewed);
+    }
+
+    @Override
+    public List<License> search(String criteria, int limit) throws SQLException, InvalidLicenseDataException {
+        return this.licenseRepository.search(criteria, limit);
+    }
+
+    @Override
+    public List<License> filter(LicenseFilter filter, int limit) throws SQLException, InvalidLicenseDataException {
+        return this.licenseRepository.filter(filter, limit);
+    }
+
+    @Override
+    public List<License> findByDriverAndType(Long driverId, String licenseType) throws SQLException, InvalidLicenseDataException {
+        return this.licenseRepository.findByDriverAndType(driverId, licenseType);
+    }
+
+    @Override
+    public List<License> findActiveLicenses() throws SQLException, InvalidLicenseDataException {
+        return this.licenseRepository.findActiveLicenses();
+    }
+
+    @Override
+    public List<License> findExpiredLicenses() throws SQLException, InvalidLicenseDataException {
+        return this.licenseRepository.findExpiredLicenses();
+    }
+
+    @Override
+    public List<License> findLicensesExpiringSoon(int daysThreshold) throws SQLException, InvalidLicenseDataException {
+        return this.licenseRepository.findLicensesExpiringSoon(daysThreshold);
+    }
+
+    @Override
+    public int countLicensesByDriver(Long driverId) throws SQLException {
+        return this.licenseRepository.countLicensesByDriver(driverId);
+    }
+
+    @Override
+    public int countLicensesByType(String licenseType) throws SQLException {
+        return this.licenseRepository.countLicensesByType(licenseType);
+    }
+
+    @Override
+    public int countActiveLicenses() throws SQLException {
+        return this.licenseRepository.countActiveLicenses();
+    }
+
+    @Override
+    public int countExpiredLicenses() throws SQLException {
+        return this.licenseRepository.countExpiredLicenses();
+    }
+
+    @Override
+    public int countAllLicenses() throws SQLException {
+        return this.licenseRepository.countAllLicenses();
+    }
+
+    @Override
+    public double getAveragePoints() throws SQLException {
+        return this.licenseRepository.getAveragePoints();
+    }
+
+    @Override
+    public PointDeductionResult deductPoints(Long licenseId, int pointsToDeduct, int minRemainingPoints) throws SQLException, InvalidLicenseDataException {
+        try {
+            return this.licenseRepository.deductPoints(licenseId, pointsToDeduct, minRemainingPoints);
+        } finally {
+            invalidate(licenseId);
+        }
+    }
+
+    @Override
+    public Integer restorePoints(Long licenseId, int pointsToRestore) throws SQLException, InvalidLicenseDataException {
+        try {
+            return this.licenseRepository.restorePoints(licenseId, pointsToRestore);
+        } finally {
+            invalidate(licenseId);
+        }
+    }
+
+    @Override
+    public List<PointDeductionResult> deductPointsBatch(List<PointDeduction> deductions, int minRemainingPoints)
+            throws SQLException, InvalidLicenseDataException {
+        try {
+            return this.licenseRepository.deductPointsBatch(deductions, minRemainingPoints);
+        } finally {
+            for (PointDeduction deduction : deductions) {
+                if (deduction != null) {
+                    invalidate(deduction.licenseId());
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean resetPoints(Long licenseId) throws SQLException, InvalidLicenseDataException {
+        try {
+            return this.licenseRepository.resetPoints(licenseId);
+        } finally {
+            invalidate(licenseId);
+        }
+    }
+
+    @Override
+    public boolean renewLicense(Long licenseId, String newExpiryDate) throws SQLException, InvalidLicenseDataException {
+        try {
+            return this.licenseRepository.renewLicense(licenseId, newExpiryDate);
+        } finally {
+            invalidate(licenseId);
+        }
+    }
+
+    @Override
+    public boolean isLicenseValid(Long licenseId) throws SQLException {
+        return this.licenseRepository.isLicenseValid(licenseId);
+    }
+
+    @Override
+    public boolean isLicenseExpired(Long licenseId) throws SQLException {
+        return this.licenseRepository.isLicenseExpired(licenseId);
+    }
+
+    @Override
+    public boolean canLicenseBeRenewed(Long licenseId) throws SQLException, InvalidLicenseDataException {
+        return this.licenseRepository.canLicenseBeRenewed(licenseId);
+    }
+
+    @Override
+    public boolean driverHasValidLicense(Long driverId, String licenseType) throws SQLException {
+        return this.licenseRepository.driverHasValidLicense(driverId, licenseType);
+    }
+
+    @Override
+    public List<String> getDriverLicenseTypes(Long driverId) throws SQLException, InvalidLicenseDataException {
+        return this.licenseRepository.getDriverLicenseTypes(driverId);
+    }
+
+    @Override
+    public List<License> findLicensesIssuedBetween(String startDate, String endDate) throws SQLException, InvalidLicenseDataException {
+        return this.licenseRepository.findLicensesIssuedBetween(startDate, endDate);
+    }
+
+    @Override
+    public List<License> findLicensesExpiringBetween(String startDate, String endDate) throws SQLException, InvalidLicenseDataException {
+        return this.licenseRepository.findLicensesExpiringBetween(startDate, endDate);
+    }
+
+    private License lookup(Long id) {
+        if (id == null) {
+            return null;
+        }
+        synchronized (entries) {
+            Entry entry = entries.get(id);
+            if (entry == null) {
+                return null;
+            }
+            if (System.nanoTime() - entry.loadedAt >= ttlNanos) {
+                entries.remove(id);
+                return null;
+            }
+            return entry.license;
+        }
+    }
+
+    private void store(License license, long writesBefore) {
+        if (license == null || license.getId() == null) {
+            return;
+        }
+        License cached = copy(license);
+        synchronized (entries) {
+            if (writes.get() == writesBefore) {
+                entries.put(cached.getId(), new Entry(cached));
+            }
+        }
+    }
+
+    // Licenses are mutable; callers must not be able to change the cached copy
+    private License copy(License license) {
+        return new License(
+            license.getId(),
+            license.getDriverId(),
+            license.getLicenseType(),
+            license.getCategory(),
+            license.getIssueDate(),
+            license.getExpiryDate(),
+            license.getPoints(),
+            license.getRestrictions(),
+            license.getRenewed());
+    }
+}
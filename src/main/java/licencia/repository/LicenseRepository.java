@@ -3,6 +3,10 @@ package licencia.repository;
 import licencia.exception.LicenseNotFoundException;
 import licencia.exception.InvalidLicenseDataException;
 import licencia.model.License;
+import licencia.model.LicenseFilter;
+import licencia.model.LicensePageKey;
+import licencia.model.PointDeduction;
+import licencia.model.PointDeductionResult;
 import licencia.persistence.LicenseDao;
 
 import java.sql.SQLException;
@@ -21,6 +25,16 @@ public class LicenseRepository implements LicenseRepositoryInterface {
         return this.licenseDao.listAllLicenses();
     }
 
+    @Override
+    public List<License> listPage(LicensePageKey afterKey, int limit) throws InvalidLicenseDataException, SQLException {
+        return this.licenseDao.listPage(afterKey, limit);
+    }
+
+    @Override
+    public LicensePageKey getPageKeyAt(int position) throws InvalidLicenseDataException, SQLException {
+        return this.licenseDao.getPageKeyAt(position);
+    }
+
     @Override
     public License getById(Long id) throws SQLException, LicenseNotFoundException {
         return this.licenseDao.getById(id);
@@ -36,6 +50,16 @@ public class LicenseRepository implements LicenseRepositoryInterface {
         this.licenseDao.delete(id);
     }
 
+    @Override
+    public List<License> saveAll(List<License> licenses, int batchSize) throws InvalidLicenseDataException, SQLException {
+        return this.licenseDao.saveAll(licenses, batchSize);
+    }
+
+    @Override
+    public List<License> updateAll(List<License> licenses, int batchSize) throws LicenseNotFoundException, InvalidLicenseDataException, SQLException {
+        return this.licenseDao.updateAll(licenses, batchSize);
+    }
+
     @Override
     public License update(License license) throws LicenseNotFoundException, SQLException, InvalidLicenseDataException {
         return this.licenseDao.update(license);
@@ -66,6 +90,16 @@ public class LicenseRepository implements LicenseRepositoryInterface {
         return this.licenseDao.findByRenewalStatus(renewed);
     }
 
+    @Override
+    public List<License> search(String criteria, int limit) throws SQLException, InvalidLicenseDataException {
+        return this.licenseDao.search(criteria, limit);
+    }
+
+    @Override
+    public List<License> filter(LicenseFilter filter, int limit) throws SQLException, InvalidLicenseDataException {
+        return this.licenseDao.filter(filter, limit);
+    }
+
     @Override
     public List<License> findByDriverAndType(Long driverId, String licenseType) throws SQLException, InvalidLicenseDataException {
         return this.licenseDao.findByDriverAndType(driverId, licenseType);
@@ -107,15 +141,31 @@ public class LicenseRepository implements LicenseRepositoryInterface {
     }
 
     @Override
-    public boolean deductPoints(Long licenseId, int pointsToDeduct) throws SQLException, InvalidLicenseDataException {
-        return this.licenseDao.deductPoints(licenseId, pointsToDeduct);
+    public int countAllLicenses() throws SQLException {
+        return this.licenseDao.countAllLicenses();
+    }
+
+    @Override
+    public double getAveragePoints() throws SQLException {
+        return this.licenseDao.getAveragePoints();
     }
 
     @Override
-    public boolean restorePoints(Long licenseId, int pointsToRestore) throws SQLException, InvalidLicenseDataException {
+    public PointDeductionResult deductPoints(Long licenseId, int pointsToDeduct, int minRemainingPoints) throws SQLException, InvalidLicenseDataException {
+        return this.licenseDao.deductPoints(licenseId, pointsToDeduct, minRemainingPoints);
+    }
+
+    @Override
+    public Integer restorePoints(Long licenseId, int pointsToRestore) throws SQLException, InvalidLicenseDataException {
         return this.licenseDao.restorePoints(licenseId, pointsToRestore);
     }
 
+    @Override
+    public List<PointDeductionResult> deductPointsBatch(List<PointDeduction> deductions, int minRemainingPoints) 
+            throws SQLException, InvalidLicenseDataException {
+        return this.licenseDao.deductPointsBatch(deductions, minRemainingPoints);
+    }
+
     @Override
     public boolean resetPoints(Long licenseId) throws SQLException, InvalidLicenseDataException {
         return this.licenseDao.resetPoints(licenseId);
@@ -3,16 +3,24 @@ package licencia.service;
 import licencia.exception.LicenseNotFoundException;
 import licencia.exception.InvalidLicenseDataException;
 import licencia.model.License;
+import licencia.model.LicenseFilter;
+import licencia.model.LicensePageKey;
+import licencia.model.PointDeduction;
+import licencia.model.PointDeductionResult;
 import licencia.repository.LicenseRepositoryInterface;
 import licencia.validator.LicenseValidator;
+import db.JdbcBatch;
 
 import java.sql.SQLException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 
 public class LicenseService implements LicenseServiceInterface {
 
+    private static final int MAX_PAGE_SIZE = 1000;
+
     private final LicenseRepositoryInterface licenseRepository;
 
     public LicenseService(LicenseRepositoryInterface licenseRepository) {
@@ -24,6 +32,25 @@ public class LicenseService implements LicenseServiceInterface {
         return this.licenseRepository.listAllLicenses();
     }
 
+    @Override
+    public List<License> listPage(LicensePageKey afterKey, int limit) throws InvalidLicenseDataException, SQLException {
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidLicenseDataException("El tamaño de página debe estar entre 1 y " + MAX_PAGE_SIZE);
+        }
+        if (afterKey != null && (afterKey.issueDate() == null || afterKey.id() == null)) {
+            throw new InvalidLicenseDataException("La clave de página debe incluir fecha de emisión e ID");
+        }
+        return this.licenseRepository.listPage(afterKey, limit);
+    }
+
+    @Override
+    public LicensePageKey getPageKeyAt(int position) throws InvalidLicenseDataException, SQLException {
+        if (position < 0) {
+            throw new InvalidLicenseDataException("La posición no puede ser negativa");
+        }
+        return this.licenseRepository.getPageKeyAt(position);
+    }
+
     @Override
     public License getById(Long id) throws SQLException, LicenseNotFoundException {
         return this.licenseRepository.getById(id);
@@ -51,6 +78,55 @@ public class LicenseService implements LicenseServiceInterface {
         this.licenseRepository.delete(id);
     }
 
+    @Override
+    public List<License> saveAll(List<License> licenses) throws InvalidLicenseDataException, SQLException {
+        return this.saveAll(licenses, JdbcBatch.DEFAULT_BATCH_SIZE);
+    }
+
+    @Override
+    public List<License> saveAll(List<License> licenses, int batchSize) throws InvalidLicenseDataException, SQLException {
+        validateBatch(licenses, batchSize);
+        for (License license : licenses) {
+            validateForWrite(license);
+        }
+        return licenses.isEmpty() ? licenses : this.licenseRepository.saveAll(licenses, batchSize);
+    }
+
+    @Override
+    public List<License> updateAll(List<License> licenses) throws LicenseNotFoundException, InvalidLicenseDataException, SQLException {
+        return this.updateAll(licenses, JdbcBatch.DEFAULT_BATCH_SIZE);
+    }
+
+    @Override
+    public List<License> updateAll(List<License> licenses, int batchSize) throws LicenseNotFoundException, InvalidLicenseDataException, SQLException {
+        validateBatch(licenses, batchSize);
+        for (License license : licenses) {
+            if (license != null && license.getId() == null) {
+                throw new InvalidLicenseDataException("Todas las licencias a actualizar deben tener ID");
+            }
+            validateForWrite(license);
+        }
+        // Missing IDs are reported by the batch itself instead of one existsById per row
+        return licenses.isEmpty() ? licenses : this.licenseRepository.updateAll(licenses, batchSize);
+    }
+
+    private void validateBatch(List<License> licenses, int batchSize) throws InvalidLicenseDataException {
+        if (licenses == null) {
+            throw new InvalidLicenseDataException("La lista de licencias no puede ser nula");
+        }
+        if (batchSize <= 0) {
+            throw new InvalidLicenseDataException("El tamaño de lote debe ser mayor que cero");
+        }
+    }
+
+    private void validateForWrite(License license) throws InvalidLicenseDataException {
+        LicenseValidator.validate(license);
+        LicenseValidator.validateLicenseCompatibility(license.getLicenseType(), license.getCategory());
+        if (license.getRenewed() == null) {
+            license.setRenewed(false);
+        }
+    }
+
     @Override
     public License update(License license) throws LicenseNotFoundException, SQLException, InvalidLicenseDataException {
         this.existsById(license.getId());
@@ -97,6 +173,28 @@ public class LicenseService implements LicenseServiceInterface {
         return this.licenseRepository.findByRenewalStatus(renewed);
     }
 
+    @Override
+    public List<License> search(String criteria, int limit) throws SQLException, InvalidLicenseDataException {
+        if (criteria == null || criteria.trim().isEmpty()) {
+            throw new InvalidLicenseDataException("El criterio de búsqueda no puede ser nulo o vacío");
+        }
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidLicenseDataException("El límite de resultados debe estar entre 1 y " + MAX_PAGE_SIZE);
+        }
+        return this.licenseRepository.search(criteria, limit);
+    }
+
+    @Override
+    public List<License> filter(LicenseFilter filter, int limit) throws SQLException, InvalidLicenseDataException {
+        if (filter == null) {
+            throw new InvalidLicenseDataException("El filtro no puede ser nulo");
+        }
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidLicenseDataException("El límite de resultados debe estar entre 1 y " + MAX_PAGE_SIZE);
+        }
+        return this.licenseRepository.filter(filter, limit);
+    }
+
     @Override
     public List<License> findByDriverAndType(Long driverId, String licenseType) throws SQLException, InvalidLicenseDataException {
         return this.licenseRepository.findByDriverAndType(driverId, licenseType);
@@ -140,26 +238,87 @@ public class LicenseService implements LicenseServiceInterface {
         return this.licenseRepository.countExpiredLicenses();
     }
 
+    @Override
+    public int countAllLicenses() throws SQLException {
+        return this.licenseRepository.countAllLicenses();
+    }
+
+    @Override
+    public double getAveragePoints() throws SQLException {
+        return this.licenseRepository.getAveragePoints();
+    }
+
     @Override
     public boolean deductPoints(Long licenseId, int pointsToDeduct) throws SQLException, InvalidLicenseDataException, LicenseNotFoundException {
-        this.existsById(licenseId);
-        
-        // Get current license to validate points deduction
-        License license = this.licenseRepository.getById(licenseId);
-        LicenseValidator.validateForPointsDeduction(license, pointsToDeduct);
+        if (pointsToDeduct <= 0) {
+            throw new InvalidLicenseDataException("Los puntos a deducir deben ser positivos");
+        }
         
-        return this.licenseRepository.deductPoints(licenseId, pointsToDeduct);
+        // A rejection is explained with the balance the deduction was checked against
+        PointDeductionResult result = this.licenseRepository.deductPoints(
+            licenseId, pointsToDeduct, LicenseValidator.SUSPENSION_THRESHOLD);
+        if (result.outcome() == PointDeductionResult.Outcome.LICENSE_NOT_FOUND) {
+            throw new LicenseNotFoundException("La licencia con ID " + licenseId + " no fue encontrada");
+        }
+        if (!result.isApplied()) {
+            // The database decides; the validator only words the reason
+            String error = LicenseValidator.pointsDeductionError(result.remainingPoints(), pointsToDeduct);
+            throw new InvalidLicenseDataException(error != null ? error
+                : "No se pudieron deducir " + pointsToDeduct + " puntos de la licencia con ID " + licenseId);
+        }
+        return true;
     }
 
     @Override
     public boolean restorePoints(Long licenseId, int pointsToRestore) throws SQLException, InvalidLicenseDataException, LicenseNotFoundException {
-        this.existsById(licenseId);
-        
         if (pointsToRestore <= 0) {
             throw new InvalidLicenseDataException("Los puntos a restaurar deben ser positivos");
         }
         
-        return this.licenseRepository.restorePoints(licenseId, pointsToRestore);
+        Integer newPoints = this.licenseRepository.restorePoints(licenseId, pointsToRestore);
+        if (newPoints != null) {
+            return true;
+        }
+        
+        this.existsById(licenseId);
+        License license = this.licenseRepository.getById(licenseId);
+        throw new InvalidLicenseDataException(
+            "No se pueden restaurar " + pointsToRestore + " puntos. Excedería el máximo de 20 puntos. Puntos actuales: " + license.getPoints()
+        );
+    }
+
+    @Override
+    public List<PointDeductionResult> deductPointsBatch(List<PointDeduction> deductions) throws SQLException, InvalidLicenseDataException {
+        if (deductions == null) {
+            throw new InvalidLicenseDataException("La lista de deducciones no puede ser nula");
+        }
+        
+        // Invalid items are reported without reaching the database, the rest go in one transaction
+        List<PointDeduction> valid = new ArrayList<>(deductions.size());
+        for (PointDeduction deduction : deductions) {
+            if (isValidDeduction(deduction)) {
+                valid.add(deduction);
+            }
+        }
+        
+        List<PointDeductionResult> applied = valid.isEmpty()
+            ? List.of()
+            : this.licenseRepository.deductPointsBatch(valid, LicenseValidator.SUSPENSION_THRESHOLD);
+        
+        List<PointDeductionResult> results = new ArrayList<>(deductions.size());
+        int next = 0;
+        for (PointDeduction deduction : deductions) {
+            if (isValidDeduction(deduction)) {
+                results.add(applied.get(next++));
+            } else {
+                results.add(new PointDeductionResult(deduction, PointDeductionResult.Outcome.INVALID, null));
+            }
+        }
+        return results;
+    }
+
+    private boolean isValidDeduction(PointDeduction deduction) {
+        return deduction != null && deduction.licenseId() != null && deduction.points() > 0;
     }
 
     @Override
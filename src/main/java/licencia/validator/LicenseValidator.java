@@ -21,6 +21,7 @@ public class LicenseValidator {
     private static final int MAX_POINTS = 20;
     private static final int MINIMUM_AGE_FOR_LICENSE = 18;
     private static final int LICENSE_VALIDITY_YEARS = 10; // Standard license validity period
+    public static final int SUSPENSION_THRESHOLD = 5;     // A deduction may not leave fewer points than this
 
     public static void validate(License license) throws InvalidLicenseDataException {
         if (license == null) {
@@ -217,22 +218,30 @@ public class LicenseValidator {
             throw new InvalidLicenseDataException("Los puntos a deducir deben ser positivos");
         }
 
-        int currentPoints = license.getPoints();
-        
+        validatePointsDeduction(license.getPoints(), pointsToDeduct);
+    }
+
+    public static void validatePointsDeduction(int currentPoints, int pointsToDeduct) throws InvalidLicenseDataException {
+        String error = pointsDeductionError(currentPoints, pointsToDeduct);
+        if (error != null) {
+            throw new InvalidLicenseDataException(error);
+        }
+    }
+
+    // Why the deduction is not allowed, or null when it is. Also explains a deduction the database
+    // rejected, from the balance it reported
+    public static String pointsDeductionError(int currentPoints, int pointsToDeduct) {
         if (pointsToDeduct > currentPoints) {
-            throw new InvalidLicenseDataException(
-                String.format(
-                    "No se pueden deducir %d puntos. La licencia solo tiene %d puntos disponibles",
-                    pointsToDeduct, currentPoints
-                )
+            return String.format(
+                "No se pueden deducir %d puntos. La licencia solo tiene %d puntos disponibles",
+                pointsToDeduct, currentPoints
             );
         }
 
         // Check if license would be suspended (less than 5 points)
-        if (currentPoints - pointsToDeduct < 5) {
-            throw new InvalidLicenseDataException(
-                "La deducción de puntos dejaría la licencia con menos de 5 puntos, lo que resulta en suspensión"
-            );
+        if (currentPoints - pointsToDeduct < SUSPENSION_THRESHOLD) {
+            return "La deducción de puntos dejaría la licencia con menos de 5 puntos, lo que resulta en suspensión";
         }
+        return null;
     }
 }
\ No newline at end of file
@@ -0,0 +1,287 @@
+package licencia.view;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+import licencia.dto.LicenseResponseDto;
+import licencia.model.LicenseFilter;
+
+// License rows kept column by column in primitive arrays: about 30 bytes a row instead of a
+// Vector of ten boxed cells and two date strings. Type and category are codes into the values of
+// the database enums, dates are epoch days. The status is derived once, when the rows are built,
+// against the day of the load; days remaining is a subtraction from that same day.
+public final class LicenseColumns {
+
+    static final String[] TYPES = {"A", "B", "C", "D", "E", "F"};
+    static final String[] CATEGORIES = {"camion", "moto", "automovil", "autobus"};
+    static final String[] STATUSES = {"vigente", "vencida", "renovada"};
+    static final byte VIGENTE = 0;
+    static final byte VENCIDA = 1;
+    static final byte RENOVADA = 2;
+
+    // Unparseable dates; days remaining is then shown as ERROR, as before
+    static final int NO_DATE = Integer.MIN_VALUE;
+    static final int DAYS_ERROR = -999;
+    static final int EXPIRING_SOON_DAYS = LicenseFilter.EXPIRING_SOON_DAYS;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int today;
+    private int size;
+    private long[] ids;
+    private long[] driverIds;
+    private byte[] types;
+    private byte[] categories;
+    private int[] issueDays;
+    private int[] expiryDays;
+    private byte[] points;
+    private boolean[] renewed;
+    private byte[] statuses;
+
+    private LicenseColumns(int today, int capacity) {
+        this.today = today;
+        int initial = Math.max(capacity, INITIAL_CAPACITY);
+        ids = new long[initial];
+        driverIds = new long[initial];
+        types = new byte[initial];
+        categories = new byte[initial];
+        issueDays = new int[initial];
+        expiryDays = new int[initial];
+        points = new byte[initial];
+        renewed = new boolean[initial];
+        statuses = new byte[initial];
+    }
+
+    public static LicenseColumns empty() {
+        return new LicenseColumns((int) LocalDate.now().toEpochDay(), 0);
+    }
+
+    // Runs on a background thread; every date is parsed here and nowhere else
+    public static LicenseColumns of(List<LicenseResponseDto> licenses, LocalDate today) {
+        LicenseColumns columns = new LicenseColumns((int) today.toEpochDay(), licenses.size());
+        for (LicenseResponseDto license : licenses) {
+            columns.add(license);
+        }
+        return columns;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int today() {
+        return today;
+    }
+
+    public long id(int row) {
+        return ids[row];
+    }
+
+    public String type(int row) {
+        return nameOf(TYPES, types[row]);
+    }
+
+    // Index into TYPES, -1 for a value outside the enum
+    public int typeCode(int row) {
+        return types[row];
+    }
+
+    public int points(int row) {
+        return points[row];
+    }
+
+    public boolean isRenewed(int row) {
+        return renewed[row];
+    }
+
+    public byte status(int row) {
+        return statuses[row];
+    }
+
+    public String statusName(int row) {
+        return STATUSES[statuses[row]];
+    }
+
+    public int daysRemaining(int row) {
+        return daysRemaining(expiryDays[row], today);
+    }
+
+    public boolean isActive(int row) {
+        return expiryDays[row] != NO_DATE && expiryDays[row] >= today;
+    }
+
+    public boolean isExpired(int row) {
+        return expiryDays[row] != NO_DATE && expiryDays[row] < today;
+    }
+
+    public boolean isExpiringSoon(int row) {
+        int days = daysRemaining(row);
+        return days > 0 && days <= EXPIRING_SOON_DAYS;
+    }
+
+    // Boxes only the cells JTable asks for
+    public Object valueAt(int row, int column) {
+        switch (column) {
+            case 0: return ids[row];
+            case 1: return driverIds[row];
+            case 2: return nameOf(TYPES, types[row]);
+            case 3: return nameOf(CATEGORIES, categories[row]);
+            case 4: return formatDate(issueDays[row]);
+            case 5: return formatDate(expiryDays[row]);
+            case 6: return (int) points[row];
+            case 7: return renewed[row];
+            case 8: return STATUSES[statuses[row]];
+            case 9: return daysRemaining(row);
+            default: return null;
+        }
+    }
+
+    // Rows of this result that pass the filter, in the same order
+    public LicenseColumns select(IntPredicate rowFilter) {
+        LicenseColumns selected = new LicenseColumns(today, 0);
+        for (int row = 0; row < size; row++) {
+            if (rowFilter.test(row)) {
+                selected.append(this, row);
+            }
+        }
+        return selected;
+    }
+
+    public int indexOf(long id) {
+        for (int row = 0; row < size; row++) {
+            if (ids[row] == id) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    public boolean sameRow(int row, LicenseColumns other, int otherRow) {
+        return ids[row] == other.ids[otherRow]
+            && driverIds[row] == other.driverIds[otherRow]
+            && types[row] == other.types[otherRow]
+            && categories[row] == other.categories[otherRow]
+            && issueDays[row] == other.issueDays[otherRow]
+            && expiryDays[row] == other.expiryDays[otherRow]
+            && points[row] == other.points[otherRow]
+            && renewed[row] == other.renewed[otherRow]
+            && statuses[row] == other.statuses[otherRow];
+    }
+
+    public void set(int row, LicenseColumns source, int sourceRow) {
+        ids[row] = source.ids[sourceRow];
+        driverIds[row] = source.driverIds[sourceRow];
+        types[row] = source.types[sourceRow];
+        categories[row] = source.categories[sourceRow];
+        issueDays[row] = source.issueDays[sourceRow];
+        expiryDays[row] = source.expiryDays[sourceRow];
+        points[row] = source.points[sourceRow];
+        renewed[row] = source.renewed[sourceRow];
+        statuses[row] = source.statuses[sourceRow];
+    }
+
+    public void append(LicenseColumns source, int sourceRow) {
+        insert(size, source, sourceRow);
+    }
+
+    public void insert(int row, LicenseColumns source, int sourceRow) {
+        ensureCapacity(size + 1);
+        shift(row, row + 1, size - row);
+        size++;
+        set(row, source, sourceRow);
+    }
+
+    // Removes rows firstRow..lastRow, both included
+    public void remove(int firstRow, int lastRow) {
+        int removed = lastRow - firstRow + 1;
+        shift(lastRow + 1, firstRow, size - lastRow - 1);
+        size -= removed;
+    }
+
+    public void add(LicenseResponseDto license) {
+        ensureCapacity(size + 1);
+        int row = size++;
+        ids[row] = license.id();
+        driverIds[row] = license.driverId() != null ? license.driverId() : 0;
+        types[row] = codeOf(TYPES, license.licenseType());
+        categories[row] = codeOf(CATEGORIES, license.category());
+        issueDays[row] = parseDate(license.issueDate());
+        expiryDays[row] = parseDate(license.expiryDate());
+        points[row] = (byte) (license.points() != null ? license.points() : 0);
+        renewed[row] = Boolean.TRUE.equals(license.renewed());
+        statuses[row] = statusOf(expiryDays[row], renewed[row], today);
+    }
+
+    static int parseDate(String date) {
+        if (date == null) {
+            return NO_DATE;
+        }
+        try {
+            return (int) LocalDate.parse(date).toEpochDay();
+        } catch (DateTimeParseException e) {
+            return NO_DATE;
+        }
+    }
+
+    static byte statusOf(int expiryDay, boolean renewed, int today) {
+        if (expiryDay != NO_DATE && expiryDay < today) {
+            return VENCIDA;
+        }
+        return renewed ? RENOVADA : VIGENTE;
+    }
+
+    static int daysRemaining(int expiryDay, int today) {
+        return expiryDay == NO_DATE ? DAYS_ERROR : expiryDay - today;
+    }
+
+    private static String formatDate(int epochDay) {
+        return epochDay == NO_DATE ? null : LocalDate.ofEpochDay(epochDay).toString();
+    }
+
+    private static byte codeOf(String[] values, String value) {
+        for (int code = 0; code < values.length; code++) {
+            if (values[code].equals(value)) {
+                return (byte) code;
+            }
+        }
+        return -1;
+    }
+
+    private static String nameOf(String[] values, byte code) {
+        return code >= 0 ? values[code] : null;
+    }
+
+    private void shift(int from, int to, int length) {
+        if (length <= 0) {
+            return;
+        }
+        System.arraycopy(ids, from, ids, to, length);
+        System.arraycopy(driverIds, from, driverIds, to, length);
+        System.arraycopy(types, from, types, to, length);
+        System.arraycopy(categories, from, categories, to, length);
+        System.arraycopy(issueDays, from, issueDays, to, length);
+        System.arraycopy(expiryDays, from, expiryDays, to, length);
+        System.arraycopy(points, from, points, to, length);
+        System.arraycopy(renewed, from, renewed, to, length);
+        System.arraycopy(statuses, from, statuses, to, length);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= ids.length) {
+            return;
+        }
+        int grown = Math.max(capacity, ids.length + (ids.length >> 1));
+        ids = Arrays.copyOf(ids, grown);
+        driverIds = Arrays.copyOf(driverIds, grown);
+        types = Arrays.copyOf(types, grown);
+        categories = Arrays.copyOf(categories, grown);
+        issueDays = Arrays.copyOf(issueDays, grown);
+        expiryDays = Arrays.copyOf(expiryDays, grown);
+        points = Arrays.copyOf(points, grown);
+        renewed = Arrays.copyOf(renewed, grown);
+        statuses = Arrays.copyOf(statuses, grown);
+    }
+}
@@ -4,13 +4,8 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
 
+import app.ApplicationContext;
 import licencia.controller.LicenseController;
-import licencia.persistence.LicenseDao;
-import licencia.repository.LicenseRepository;
-import licencia.service.LicenseService;
-import conductor.persistence.DriverDao;
-import conductor.repository.DriverRepository;
-import conductor.service.DriverService;
 import conductor.controller.DriverController;
 
 public class LicenseMainFrame extends JFrame {
@@ -28,17 +23,11 @@ public class LicenseMainFrame extends JFrame {
     
     private void initComponents() {
         try {
-            // Initialize Driver chain (needed for driver validation)
-            DriverDao driverDao = new DriverDao();
-            DriverRepository driverRepository = new DriverRepository(driverDao);
-            DriverService driverService = new DriverService(driverRepository);
-            driverController = new DriverController(driverService);
-            
-            // Initialize License chain
-            LicenseDao licenseDao = new LicenseDao();
-            LicenseRepository licenseRepository = new LicenseRepository(licenseDao);
-            LicenseService licenseService = new LicenseService(licenseRepository);
-            licenseController = new LicenseController(licenseService);
+            // Shared with the other modules: the driver chain (needed for driver validation) is the
+            // driver module's, the license cache is the one every license view reads through
+            ApplicationContext context = ApplicationContext.getInstance();
+            driverController = context.getDriverController();
+            licenseController = context.getLicenseController();
             
             setTitle("Gestión de Licencias de Conducir - CRUD Completo");
             setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
@@ -0,0 +1,95 @@
+package licencia.view;
+
+// Footer figures of a license result, gathered in one pass over LicenseColumns. Rows can be
+// added and removed one at a time, so a patched row does not mean walking the whole result.
+public final class LicenseStatistics {
+
+    static final int MAX_POINTS = 20;
+
+    private int total;
+    private int active;
+    private int expired;
+    private int expiringSoon;
+    private int renewed;
+    private long pointsSum;
+    private final int[] byType = new int[LicenseColumns.TYPES.length];
+    // pointsDistribution[p] = rows with p points (0-20, the range allowed by the database)
+    private final int[] pointsDistribution = new int[MAX_POINTS + 1];
+
+    // Runs wherever the columns were built, usually a background thread
+    public static LicenseStatistics of(LicenseColumns rows) {
+        LicenseStatistics statistics = new LicenseStatistics();
+        for (int row = 0; row < rows.size(); row++) {
+            statistics.add(rows, row);
+        }
+        return statistics;
+    }
+
+    public void add(LicenseColumns rows, int row) {
+        count(rows, row, 1);
+    }
+
+    public void remove(LicenseColumns rows, int row) {
+        count(rows, row, -1);
+    }
+
+    private void count(LicenseColumns rows, int row, int delta) {
+        total += delta;
+        if (rows.isActive(row)) {
+            active += delta;
+        }
+        if (rows.isExpired(row)) {
+            expired += delta;
+        }
+        if (rows.isExpiringSoon(row)) {
+            expiringSoon += delta;
+        }
+        if (rows.isRenewed(row)) {
+            renewed += delta;
+        }
+        int points = rows.points(row);
+        pointsSum += (long) delta * points;
+        pointsDistribution[Math.max(0, Math.min(MAX_POINTS, points))] += delta;
+        int typeCode = rows.typeCode(row);
+        if (typeCode >= 0) {
+            byType[typeCode] += delta;
+        }
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getActive() {
+        return active;
+    }
+
+    public int getExpired() {
+        return expired;
+    }
+
+    public int getExpiringSoon() {
+        return expiringSoon;
+    }
+
+    public int getRenewed() {
+        return renewed;
+    }
+
+    public double getAveragePoints() {
+        return total == 0 ? 0.0 : (double) pointsSum / total;
+    }
+
+    public int countByType(String licenseType) {
+        for (int code = 0; code < LicenseColumns.TYPES.length; code++) {
+            if (LicenseColumns.TYPES[code].equals(licenseType)) {
+                return byType[code];
+            }
+        }
+        return 0;
+    }
+
+    public int countWithPoints(int points) {
+        return points >= 0 && points <= MAX_POINTS ? pointsDistribution[points] : 0;
+    }
+}
@@ -6,27 +6,34 @@ import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 import licencia.controller.LicenseController;
 import licencia.dto.LicenseResponseDto;
+import licencia.exception.LicenseNotFoundException;
+import licencia.model.LicenseFilter;
+import licencia.model.LicensePageKey;
+import view.LazyTableModel;
+import view.LiveTableUpdater;
+import view.SearchDebouncer;
 
 public class LicenseTable extends JPanel {
     private JTable table;
-    private DefaultTableModel tableModel;
+    private LicenseTableModel filteredModel;
+    private LazyTableModel<LicenseResponseDto, LicensePageKey> pagedModel;
     private JTextField searchField;
     private JComboBox<String> filterCombo;
     private JComboBox<String> typeFilterCombo;
     private JComboBox<String> statusFilterCombo;
     private LicenseController licenseController;
     private LicenseSelectionListener selectionListener;
+    private LiveTableUpdater<LicenseResponseDto> liveUpdater;
     
     // Constants
     private static final String[] FILTER_OPTIONS = {"Todas", "Activas", "Vencidas", "Próximas a Vencer", "Renovadas"};
     private static final String[] TYPE_FILTER_OPTIONS = {"Todos", "A", "B", "C", "D", "E", "F"};
     private static final String[] STATUS_FILTER_OPTIONS = {"Todos", "vigente", "vencida", "suspendida", "revocada"};
+    private static final int SEARCH_LIMIT = 500;
     
     // Interface for selection events
     public interface LicenseSelectionListener {
@@ -54,11 +61,7 @@ public class LicenseTable extends JPanel {
         filterPanel.add(new JLabel("Buscar:"), gbc);
         gbc.gridx = 1;
         searchField = new JTextField(15);
-        searchField.getDocument().addDocumentListener(new javax.swing.event.DocumentListener() {
-            public void changedUpdate(javax.swing.event.DocumentEvent e) { search(); }
-            public void removeUpdate(javax.swing.event.DocumentEvent e) { search(); }
-            public void insertUpdate(javax.swing.event.DocumentEvent e) { search(); }
-        });
+        searchField.getDocument().addDocumentListener(new SearchDebouncer(this::search));
         filterPanel.add(searchField, gbc);
         
         // Type filter
@@ -101,7 +104,7 @@ public class LicenseTable extends JPanel {
         });
         
         JButton refreshButton = new JButton("Actualizar");
-        refreshButton.addActionListener(e -> loadData());
+        refreshButton.addActionListener(e -> refreshCurrentView());
         
         buttonPanel.add(clearButton);
         buttonPanel.add(Box.createHorizontalStrut(10));
@@ -109,29 +112,53 @@ public class LicenseTable extends JPanel {
         
         add(filterPanel, BorderLayout.NORTH);
         
-        // Table
-        String[] columnNames = {"ID", "ID Conductor", "Tipo", "Categoría", "Emisión", "Vencimiento", 
-                               "Puntos", "Renovada", "Estado", "Días Restantes"};
-        tableModel = new DefaultTableModel(columnNames, 0) {
+        // Unfiltered listing is paged from the database; search and filter results go to filteredModel
+        filteredModel = new LicenseTableModel();
+        // Loads, refreshes and rows patched by other clients all keep the footer current
+        filteredModel.addTableModelListener(e -> {
+            if (table.getModel() != filteredModel) {
+                return;
+            }
+            if (filteredModel.isLoading()) {
+                showLoading();
+            } else {
+                showStatistics(filteredModel.getStatistics());
+            }
+        });
+        String[] columnNames = LicenseTableModel.COLUMN_NAMES;
+        Class<?>[] columnClasses = LicenseTableModel.COLUMN_CLASSES;
+        pagedModel = new LazyTableModel<>(columnNames, columnClasses, new LazyTableModel.PageSource<>() {
             @Override
-            public boolean isCellEditable(int row, int column) {
-                return false; // Make table non-editable
+            public int count() throws Exception {
+                return licenseController.countAllLicenses();
             }
             
             @Override
-            public Class<?> getColumnClass(int columnIndex) {
-                switch (columnIndex) {
-                    case 0: return Long.class;    // ID
-                    case 1: return Long.class;    // ID Conductor
-                    case 5: return Integer.class; // Puntos
-                    case 6: return Boolean.class; // Renovada
-                    case 9: return Integer.class; // Días Restantes
-                    default: return String.class;
-                }
+            public List<LicenseResponseDto> fetchPage(LicensePageKey afterKey, int limit) throws Exception {
+                return licenseController.getLicensesPage(afterKey, limit);
             }
-        };
+            
+            @Override
+            public LicensePageKey keyAt(int position) throws Exception {
+                return licenseController.getPageKeyAt(position);
+            }
+            
+            @Override
+            public LicensePageKey keyOf(LicenseResponseDto license) {
+                return licenseController.getPageKey(license);
+            }
+        }, this::toRow);
+        pagedModel.setCountListener(this::loadOverallStatistics);
+        pagedModel.setErrorHandler(e -> JOptionPane.showMessageDialog(this, 
+            "Error al cargar licencias: " + e.getMessage(), "Error", JOptionPane.ERROR_MESSAGE));
         
-        table = new JTable(tableModel);
+        // Changes made by other clients
+        liveUpdater = new LiveTableUpdater<>("licencia", this::fetchLicense, LicenseResponseDto::id,
+            pagedModel, filteredModel, () -> table.getModel(), this::refreshCurrentView, () -> false);
+        
+        table = new JTable(pagedModel);
+        // Both models share the same columns, keep widths and renderers when swapping
+        table.setAutoCreateColumnsFromModel(false);
         table.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
         table.setRowHeight(30);
         table.getTableHeader().setFont(new Font("SansSerif", Font.BOLD, 12));
@@ -160,8 +187,8 @@ public class LicenseTable extends JPanel {
             public void mouseClicked(MouseEvent e) {
                 if (e.getClickCount() == 1 && selectionListener != null) {
                     int row = table.getSelectedRow();
-                    if (row >= 0) {
-                        Long licenseId = (Long) tableModel.getValueAt(row, 0);
+                    Long licenseId = row >= 0 ? (Long) table.getModel().getValueAt(row, 0) : null;
+                    if (licenseId != null) {
                         selectionListener.onLicenseSelected(licenseId);
                     }
                 }
@@ -200,17 +227,67 @@ public class LicenseTable extends JPanel {
         add(bottomPanel, BorderLayout.SOUTH);
     }
     
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        liveUpdater.bind();
+    }
+    
+    @Override
+    public void removeNotify() {
+        liveUpdater.unbind();
+        super.removeNotify();
+    }
+    
+    private LicenseResponseDto fetchLicense(Long id) throws Exception {
+        try {
+            return licenseController.getLicenseResponseById(id);
+        } catch (LicenseNotFoundException e) {
+            return null;
+        }
+    }
+    
+    // Re-reads whatever the table is showing; only the rows that changed are repainted
+    private void refreshCurrentView() {
+        if (table.getModel() == pagedModel) {
+            pagedModel.refresh();
+        } else {
+            filteredModel.refresh();
+        }
+    }
+    
     public void loadData() {
-        SwingUtilities.invokeLater(() -> {
-            try {
-                List<LicenseResponseDto> licenses = licenseController.getAllLicenses();
-                updateTable(licenses);
-                updateStatistics(licenses);
-            } catch (Exception e) {
-                JOptionPane.showMessageDialog(this, "Error al cargar licencias: " + e.getMessage(), 
-                    "Error", JOptionPane.ERROR_MESSAGE);
+        filteredModel.cancel();
+        table.setModel(pagedModel);
+        pagedModel.reload();
+    }
+    
+    // Statistics of the whole table come from the database, the rows are never all in memory
+    private void loadOverallStatistics(int total) {
+        new SwingWorker<double[], Void>() {
+            @Override
+            protected double[] doInBackground() throws Exception {
+                return new double[]{
+                    licenseController.countActiveLicenses(),
+                    licenseController.countExpiredLicenses(),
+                    licenseController.getAveragePoints()
+                };
             }
-        });
+            
+            @Override
+            protected void done() {
+                if (table.getModel() != pagedModel) {
+                    return; // A filter was applied meanwhile
+                }
+                setCountTooltip(null);
+                try {
+                    double[] stats = get();
+                    showStatistics(total, (long) stats[0], (long) stats[1], stats[2]);
+                } catch (Exception e) {
+                    showStatistics(total, 0, 0, 0.0);
+                }
+            }
+        }.execute();
     }
     
     private void search() {
@@ -218,22 +295,11 @@ public class LicenseTable extends JPanel {
         if (criteria.isEmpty()) {
             filter();
         } else {
-            try {
-                List<LicenseResponseDto> allLicenses = licenseController.getAllLicenses();
-                List<LicenseResponseDto> results = allLicenses.stream()
-                    .filter(license -> 
-                        String.valueOf(license.driverId()).contains(criteria) ||
-                        license.licenseType().toLowerCase().contains(criteria.toLowerCase()) ||
-                        license.category().toLowerCase().contains(criteria.toLowerCase()) ||
-                        (license.restrictions() != null && 
-                         license.restrictions().toLowerCase().contains(criteria.toLowerCase())))
-                    .toList();
-                updateTable(results);
-                updateStatistics(results);
-            } catch (Exception e) {
-                JOptionPane.showMessageDialog(this, "Error al buscar: " + e.getMessage(), 
-                    "Error", JOptionPane.ERROR_MESSAGE);
-            }
+            table.setModel(filteredModel);
+            filteredModel.load(
+                () -> LicenseColumns.of(licenseController.searchLicenses(criteria, SEARCH_LIMIT), LocalDate.now()),
+                e -> JOptionPane.showMessageDialog(this, "Error al buscar: " + e.getMessage(), 
+                    "Error", JOptionPane.ERROR_MESSAGE));
         }
     }
     
@@ -242,132 +308,83 @@ public class LicenseTable extends JPanel {
         String typeFilter = (String) typeFilterCombo.getSelectedItem();
         String statusFilter = (String) statusFilterCombo.getSelectedItem();
         
-        try {
-            List<LicenseResponseDto> allLicenses = licenseController.getAllLicenses();
-            List<LicenseResponseDto> results = allLicenses.stream()
-                .filter(license -> applyFilters(license, filter, typeFilter, statusFilter))
-                .toList();
-            updateTable(results);
-            updateStatistics(results);
-        } catch (Exception e) {
-            JOptionPane.showMessageDialog(this, "Error al filtrar: " + e.getMessage(), 
-                "Error", JOptionPane.ERROR_MESSAGE);
+        if (filter.equals("Todas") && typeFilter.equals("Todos") && statusFilter.equals("Todos")) {
+            loadData();
+            return;
         }
+        
+        LicenseFilter licenseFilter = new LicenseFilter(
+            typeFilter.equals("Todos") ? null : typeFilter,
+            statusFilter.equals("Todos") ? null : statusFilter,
+            periodOf(filter));
+        table.setModel(filteredModel);
+        filteredModel.load(
+            () -> LicenseColumns.of(licenseController.filterLicenses(licenseFilter, SEARCH_LIMIT), LocalDate.now()),
+            e -> JOptionPane.showMessageDialog(this, "Error al filtrar: " + e.getMessage(), 
+                "Error", JOptionPane.ERROR_MESSAGE));
     }
     
-    private boolean applyFilters(LicenseResponseDto license, String filter, String typeFilter, String statusFilter) {
-        // Apply type filter
-        if (!typeFilter.equals("Todos") && !license.licenseType().equals(typeFilter)) {
-            return false;
-        }
-        
-        // Apply status filter (requires calculating current status)
-        if (!statusFilter.equals("Todos")) {
-            String currentStatus = calculateLicenseStatus(license);
-            if (!currentStatus.equals(statusFilter)) {
-                return false;
-            }
-        }
-        
-        // Apply general filter
+    private LicenseFilter.Period periodOf(String filter) {
         switch (filter) {
-            case "Todas":
-                return true;
             case "Activas":
-                return isLicenseActive(license);
+                return LicenseFilter.Period.ACTIVE;
             case "Vencidas":
-                return isLicenseExpired(license);
+                return LicenseFilter.Period.EXPIRED;
             case "Próximas a Vencer":
-                return isLicenseExpiringSoon(license);
+                return LicenseFilter.Period.EXPIRING_SOON;
             case "Renovadas":
-                return license.renewed();
+                return LicenseFilter.Period.RENEWED;
             default:
-                return true;
-        }
-    }
-    
-    private String calculateLicenseStatus(LicenseResponseDto license) {
-        if (isLicenseExpired(license)) {
-            return "vencida";
-        } else if (license.renewed()) {
-            return "renovada";
-        } else {
-            return "vigente";
-        }
-    }
-    
-    private boolean isLicenseActive(LicenseResponseDto license) {
-        try {
-            LocalDate expiryDate = LocalDate.parse(license.expiryDate());
-            return expiryDate.isAfter(LocalDate.now()) || expiryDate.isEqual(LocalDate.now());
-        } catch (Exception e) {
-            return false;
+                return null;
         }
     }
     
-    private boolean isLicenseExpired(LicenseResponseDto license) {
-        try {
-            LocalDate expiryDate = LocalDate.parse(license.expiryDate());
-            return expiryDate.isBefore(LocalDate.now());
-        } catch (Exception e) {
-            return false;
-        }
+    // Runs on the paged model's loader thread
+    private Object[] toRow(LicenseResponseDto license) {
+        int today = (int) LocalDate.now().toEpochDay();
+        int expiryDay = LicenseColumns.parseDate(license.expiryDate());
+        byte status = LicenseColumns.statusOf(expiryDay, Boolean.TRUE.equals(license.renewed()), today);
+        return new Object[]{
+            license.id(),
+            license.driverId(),
+            license.licenseType(),
+            license.category(),
+            license.issueDate(),
+            license.expiryDate(),
+            license.points(),
+            license.renewed(),
+            LicenseColumns.STATUSES[status],
+            LicenseColumns.daysRemaining(expiryDay, today)
+        };
     }
     
-    private boolean isLicenseExpiringSoon(LicenseResponseDto license) {
-        try {
-            LocalDate expiryDate = LocalDate.parse(license.expiryDate());
-            LocalDate now = LocalDate.now();
-            long daysRemaining = ChronoUnit.DAYS.between(now, expiryDate);
-            return daysRemaining > 0 && daysRemaining <= 30; // Within 30 days
-        } catch (Exception e) {
-            return false;
+    private void showLoading() {
+        for (Component comp : ((JPanel)getComponent(2)).getComponents()) {
+            if (comp instanceof JLabel && "countLabel".equals(comp.getName())) {
+                ((JLabel) comp).setText("Cargando...");
+            }
         }
     }
     
-    private void updateTable(List<LicenseResponseDto> licenses) {
-        tableModel.setRowCount(0);
-        
-        for (LicenseResponseDto license : licenses) {
-            int daysRemaining = calculateDaysRemaining(license);
-            String status = calculateLicenseStatus(license);
-            
-            Object[] row = {
-                license.id(),
-                license.driverId(),
-                license.licenseType(),
-                license.category(),
-                license.issueDate(),
-                license.expiryDate(),
-                license.points(),
-                license.renewed(),
-                status,
-                daysRemaining
-            };
-            tableModel.addRow(row);
+    private void showStatistics(LicenseStatistics statistics) {
+        showStatistics(statistics.getTotal(), statistics.getActive(), statistics.getExpired(),
+            statistics.getAveragePoints());
+        StringBuilder byType = new StringBuilder("Próximas a vencer: " + statistics.getExpiringSoon() + " | Por tipo:");
+        for (String type : LicenseColumns.TYPES) {
+            byType.append(' ').append(type).append('=').append(statistics.countByType(type));
         }
+        setCountTooltip(byType.toString());
     }
     
-    private int calculateDaysRemaining(LicenseResponseDto license) {
-        try {
-            LocalDate expiryDate = LocalDate.parse(license.expiryDate());
-            LocalDate now = LocalDate.now();
-            long days = ChronoUnit.DAYS.between(now, expiryDate);
-            return (int) days;
-        } catch (Exception e) {
-            return -999; // Error indicator
+    private void setCountTooltip(String text) {
+        for (Component comp : ((JPanel)getComponent(2)).getComponents()) {
+            if (comp instanceof JLabel && "countLabel".equals(comp.getName())) {
+                ((JLabel) comp).setToolTipText(text);
+            }
         }
     }
     
-    private void updateStatistics(List<LicenseResponseDto> licenses) {
-        int total = licenses.size();
-        long activeCount = licenses.stream().filter(this::isLicenseActive).count();
-        long expiredCount = licenses.stream().filter(this::isLicenseExpired).count();
-        double avgPoints = licenses.stream()
-            .mapToInt(LicenseResponseDto::points)
-            .average()
-            .orElse(0.0);
-        
+    private void showStatistics(int total, long activeCount, long expiredCount, double avgPoints) {
         // Update labels
         Component[] comps = ((JPanel)getComponent(2)).getComponents();
         for (Component comp : comps) {
@@ -524,15 +541,15 @@ public class LicenseTable extends JPanel {
     public Long getSelectedLicenseId() {
         int row = table.getSelectedRow();
         if (row >= 0) {
-            return (Long) tableModel.getValueAt(row, 0);
+            return (Long) table.getModel().getValueAt(row, 0);
         }
         return null;
     }
     
     public LicenseResponseDto getSelectedLicense() {
         int row = table.getSelectedRow();
-        if (row >= 0) {
-            Long licenseId = (Long) tableModel.getValueAt(row, 0);
+        Long licenseId = row >= 0 ? (Long) table.getModel().getValueAt(row, 0) : null;
+        if (licenseId != null) {
             try {
                 return licenseController.getLicenseResponseById(licenseId);
             } catch (Exception e) {
@@ -548,6 +565,6 @@ public class LicenseTable extends JPanel {
     }
     
     public void refresh() {
-        loadData();
+        refreshCurrentView();
     }
 }
\ No newline at end of file
@@ -0,0 +1,234 @@
+package licencia.view;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+
+import licencia.dto.LicenseResponseDto;
+import view.PatchableRows;
+import view.RowDiff;
+
+// Search and filter results of the license table, stored in LicenseColumns. Plays the part
+// TableLoader plays for the other tables: the fetch and the column building run off the EDT,
+// each load cancels the previous one and refresh() applies only the rows that changed. The
+// statistics of the rows are kept alongside them and follow every load, diff and patch.
+public class LicenseTableModel extends AbstractTableModel implements PatchableRows<LicenseResponseDto> {
+
+    public static final String[] COLUMN_NAMES = {"ID", "ID Conductor", "Tipo", "Categoría", "Emisión",
+        "Vencimiento", "Puntos", "Renovada", "Estado", "Días Restantes"};
+    public static final Class<?>[] COLUMN_CLASSES = {Long.class, Long.class, String.class, String.class,
+        String.class, String.class, Integer.class, Boolean.class, String.class, Integer.class};
+
+    private LicenseColumns rows = LicenseColumns.empty();
+    private LicenseStatistics statistics = new LicenseStatistics();
+    private SwingWorker<LicenseColumns, Void> currentWorker;
+    private long generation;
+    private Callable<LicenseColumns> lastFetcher;
+    private Consumer<Exception> lastOnError;
+
+    public LicenseColumns getRows() {
+        return rows;
+    }
+
+    public LicenseStatistics getStatistics() {
+        return statistics;
+    }
+
+    // Must be called on the EDT. The fetcher runs on a background thread and builds the columns there;
+    // the statistics are ready by the time the model fires its events.
+    public void load(Callable<LicenseColumns> fetcher, Consumer<Exception> onError) {
+        lastFetcher = fetcher;
+        lastOnError = onError;
+        run(fetcher, loaded -> {
+            rows = loaded;
+            fireTableDataChanged();
+        }, onError);
+        // Fired once the load is running, so listeners see isLoading()
+        rows = LicenseColumns.empty();
+        statistics = new LicenseStatistics();
+        fireTableDataChanged();
+    }
+
+    // Must be called on the EDT. Re-runs the last load and diffs the result by license id.
+    public void refresh() {
+        if (lastFetcher == null) {
+            return;
+        }
+        if (isLoading()) {
+            load(lastFetcher, lastOnError);
+            return;
+        }
+        run(lastFetcher, this::applyDiff, lastOnError);
+    }
+
+    public void cancel() {
+        if (currentWorker != null) {
+            currentWorker.cancel(true);
+            currentWorker = null;
+        }
+        generation++;
+    }
+
+    @Override
+    public boolean isLoading() {
+        return currentWorker != null && !currentWorker.isDone();
+    }
+
+    @Override
+    public boolean patchRow(Object id, LicenseResponseDto item) {
+        int row = rows.indexOf(((Number) id).longValue());
+        if (row < 0) {
+            return false;
+        }
+        statistics.remove(rows, row);
+        if (item == null) {
+            rows.remove(row, row);
+            fireTableRowsDeleted(row, row);
+            return true;
+        }
+        rows.set(row, single(item), 0);
+        statistics.add(rows, row);
+        fireTableRowsUpdated(row, row);
+        return true;
+    }
+
+    @Override
+    public void appendRow(LicenseResponseDto item) {
+        rows.append(single(item), 0);
+        statistics.add(rows, rows.size() - 1);
+        fireTableRowsInserted(rows.size() - 1, rows.size() - 1);
+    }
+
+    @Override
+    public int getRowCount() {
+        return rows.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMN_NAMES.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return COLUMN_NAMES[column];
+    }
+
+    @Override
+    public Class<?> getColumnClass(int columnIndex) {
+        return COLUMN_CLASSES[columnIndex];
+    }
+
+    @Override
+    public boolean isCellEditable(int row, int column) {
+        return false;
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        return rows.valueAt(row, column);
+    }
+
+    private LicenseColumns single(LicenseResponseDto item) {
+        return LicenseColumns.of(List.of(item), LocalDate.ofEpochDay(rows.today()));
+    }
+
+    private void run(Callable<LicenseColumns> fetcher, Consumer<LicenseColumns> install, Consumer<Exception> onError) {
+        cancel();
+        final long loadId = ++generation;
+
+        SwingWorker<LicenseColumns, Void> worker = new SwingWorker<>() {
+            private LicenseStatistics loadedStatistics;
+
+            @Override
+            protected LicenseColumns doInBackground() throws Exception {
+                LicenseColumns loaded = fetcher.call();
+                loadedStatistics = LicenseStatistics.of(loaded);
+                return loaded;
+            }
+
+            @Override
+            protected void done() {
+                if (loadId != generation || isCancelled()) {
+                    return;
+                }
+                currentWorker = null;
+                try {
+                    LicenseColumns loaded = get();
+                    // Set first: listeners of the events fired by install read the new figures
+                    statistics = loadedStatistics;
+                    install.accept(loaded);
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    onError.accept(cause instanceof Exception ? (Exception) cause : e);
+                } catch (InterruptedException | CancellationException e) {
+                    // Superseded by a newer load, nothing to report
+                }
+            }
+        };
+
+        currentWorker = worker;
+        worker.execute();
+    }
+
+    private void applyDiff(LicenseColumns next) {
+        if (next.today() != rows.today()) {
+            // The day changed: every status and days-remaining cell may differ
+            rows = next;
+            fireTableDataChanged();
+            return;
+        }
+        final LicenseColumns current = rows;
+        RowDiff.apply(new RowDiff.Target() {
+            @Override
+            public int rowCount() {
+                return current.size();
+            }
+
+            @Override
+            public Object keyAt(int row) {
+                return current.id(row);
+            }
+
+            @Override
+            public int newRowCount() {
+                return next.size();
+            }
+
+            @Override
+            public Object newKeyAt(int index) {
+                return next.id(index);
+            }
+
+            @Override
+            public boolean sameValues(int row, int index) {
+                return current.sameRow(row, next, index);
+            }
+
+            @Override
+            public void set(int row, int index) {
+                current.set(row, next, index);
+            }
+
+            @Override
+            public void insert(int row, int index) {
+                current.insert(row, next, index);
+            }
+
+            @Override
+            public void remove(int firstRow, int lastRow) {
+                current.remove(firstRow, lastRow);
+            }
+
+            @Override
+            public void replaceAll() {
+                rows = next;
+            }
+        }, this);
+    }
+}
@@ -0,0 +1,67 @@
+package view;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Background threads shared by every table model and live updater. Each of them takes a serial
+// lane, which runs its tasks one at a time and in order (so a model still holds at most one pooled
+// connection), while the threads themselves come from one bounded pool and stop when idle. Tables
+// are created and dropped with their frames, and nothing has to be shut down when they go.
+public final class BackgroundExecutor {
+
+    private static final int MAX_THREADS = 4;
+    private static final long IDLE_SECONDS = 30;
+
+    private static final AtomicInteger threadNumber = new AtomicInteger();
+    private static final ThreadPoolExecutor POOL = createPool();
+
+    private BackgroundExecutor() {
+    }
+
+    // New lane over the shared pool; tasks given to it never run concurrently with each other
+    public static Executor serial() {
+        return new SerialExecutor();
+    }
+
+    private static ThreadPoolExecutor createPool() {
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(MAX_THREADS, MAX_THREADS, IDLE_SECONDS, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), r -> {
+                Thread thread = new Thread(r, "table-background-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    private static class SerialExecutor implements Executor {
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+        private Runnable active;
+
+        @Override
+        public synchronized void execute(Runnable task) {
+            tasks.add(() -> {
+                try {
+                    task.run();
+                } finally {
+                    scheduleNext();
+                }
+            });
+            if (active == null) {
+                scheduleNext();
+            }
+        }
+
+        private synchronized void scheduleNext() {
+            active = tasks.poll();
+            if (active != null) {
+                POOL.execute(active);
+            }
+        }
+    }
+}
@@ -0,0 +1,365 @@
+package view;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+
+// Table model that only knows the total row count up front and fetches fixed-size blocks
+// of rows as JTable asks for them. Loaded blocks live in an LRU, so heap stays bounded no
+// matter how many rows the table has. Cells of a block that is still loading read as null.
+public class LazyTableModel<T, K> extends AbstractTableModel {
+
+    // Data access used by the model; its methods are called in the background, one call at a time
+    public interface PageSource<T, K> {
+        int count() throws Exception;
+        List<T> fetchPage(K afterKey, int limit) throws Exception;
+        K keyAt(int position) throws Exception;  // key of the row at position, null if out of range
+        K keyOf(T item);
+    }
+
+    private static final int DEFAULT_BLOCK_SIZE = 200;
+    private static final int DEFAULT_MAX_BLOCKS = 25;
+
+    private final String[] columnNames;
+    private final Class<?>[] columnClasses;
+    private final PageSource<T, K> source;
+    private final Function<T, Object[]> rowMapper;
+    private final int blockSize;
+    private final int maxBlocks;
+    private final Map<Integer, Block<T>> blocks;
+    // Key of the last row of the previous block; kept after eviction so a reload is a single seek
+    private final Map<Integer, K> blockStartKeys = new HashMap<>();
+    private final Set<Integer> pendingBlocks = new HashSet<>();
+    private final Deque<Integer> requestedBlocks = new ArrayDeque<>();
+    private final Executor loader;
+    private Consumer<Exception> errorHandler = e -> {};
+    private IntConsumer countListener = count -> {};
+    private int rowCount;
+    private long generation;
+    private boolean draining;
+
+    private static class Block<T> {
+        final List<T> items;
+        final Object[][] rows;
+
+        Block(List<T> items, Object[][] rows) {
+            this.items = new ArrayList<>(items);  // patchItem replaces entries in place
+            this.rows = rows;
+        }
+    }
+
+    public LazyTableModel(String[] columnNames, Class<?>[] columnClasses,
+                          PageSource<T, K> source, Function<T, Object[]> rowMapper) {
+        this(columnNames, columnClasses, source, rowMapper, DEFAULT_BLOCK_SIZE, DEFAULT_MAX_BLOCKS);
+    }
+
+    public LazyTableModel(String[] columnNames, Class<?>[] columnClasses,
+                          PageSource<T, K> source, Function<T, Object[]> rowMapper,
+                          int blockSize, int maxBlocks) {
+        if (columnNames.length != columnClasses.length) {
+            throw new IllegalArgumentException("Cada columna debe tener su clase");
+        }
+        if (blockSize <= 0 || maxBlocks <= 0) {
+            throw new IllegalArgumentException("El tamaño de bloque y el número de bloques deben ser mayores que cero");
+        }
+        this.columnNames = columnNames;
+        this.columnClasses = columnClasses;
+        this.source = source;
+        this.rowMapper = rowMapper;
+        this.blockSize = blockSize;
+        this.maxBlocks = maxBlocks;
+        this.blocks = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Block<T>> eldest) {
+                return size() > LazyTableModel.this.maxBlocks;
+            }
+        };
+        // One serial lane per model keeps it to a single pooled connection at a time
+        this.loader = BackgroundExecutor.serial();
+    }
+
+    public void setErrorHandler(Consumer<Exception> errorHandler) {
+        this.errorHandler = errorHandler;
+    }
+
+    // Receives the total row count after every reload, on the EDT
+    public void setCountListener(IntConsumer countListener) {
+        this.countListener = countListener;
+    }
+
+    // Must be called on the EDT. Drops every cached block and re-reads the row count.
+    public void reload() {
+        final long loadId = ++generation;
+        blocks.clear();
+        blockStartKeys.clear();
+        pendingBlocks.clear();
+        requestedBlocks.clear();
+
+        loader.execute(() -> {
+            try {
+                int count = source.count();
+                SwingUtilities.invokeLater(() -> {
+                    if (loadId != generation) {
+                        return;
+                    }
+                    rowCount = count;
+                    fireTableDataChanged();
+                    countListener.accept(count);
+                    // The first rows are always shown first; a view built before it is visible
+                    // (pre-warmed module) has them ready when it appears
+                    if (count > 0) {
+                        requestBlock(0);
+                    }
+                });
+            } catch (Exception e) {
+                SwingUtilities.invokeLater(() -> {
+                    if (loadId == generation) {
+                        errorHandler.accept(e);
+                    }
+                });
+            }
+        });
+    }
+
+    // Must be called on the EDT. Re-reads the row count and the blocks currently cached, then fires
+    // events only for rows whose values changed and for the rows added or removed at the end, so
+    // the viewport, selection and sort state are kept. Blocks that are not cached are read fresh
+    // when scrolled into view, as after reload().
+    public void refresh() {
+        final long loadId = ++generation;
+        pendingBlocks.clear();
+        requestedBlocks.clear();
+        final List<Integer> cachedBlocks = new ArrayList<>(blocks.keySet());
+
+        loader.execute(() -> {
+            try {
+                int count = source.count();
+                Map<Integer, Block<T>> fresh = new LinkedHashMap<>();
+                for (int blockIndex : cachedBlocks) {
+                    // Rows may have shifted since the block was read, so its start key is looked up again
+                    K startKey = blockIndex == 0 ? null : source.keyAt(blockIndex * blockSize - 1);
+                    List<T> items = blockIndex > 0 && startKey == null
+                        ? List.of()
+                        : source.fetchPage(startKey, blockSize);
+                    Object[][] rows = new Object[items.size()][];
+                    for (int i = 0; i < rows.length; i++) {
+                        rows[i] = rowMapper.apply(items.get(i));
+                    }
+                    fresh.put(blockIndex, new Block<>(items, rows));
+                }
+                SwingUtilities.invokeLater(() -> {
+                    if (loadId == generation) {
+                        onRefreshed(count, fresh);
+                    }
+                });
+            } catch (Exception e) {
+                SwingUtilities.invokeLater(() -> {
+                    if (loadId == generation) {
+                        errorHandler.accept(e);
+                    }
+                });
+            }
+        });
+    }
+
+    // Loaded item at the given row, or null while its block is still being fetched
+    public T getItemAt(int row) {
+        Block<T> block = blocks.get(row / blockSize);
+        int offset = row % blockSize;
+        if (block == null || offset >= block.items.size()) {
+            return null;
+        }
+        return block.items.get(offset);
+    }
+
+    // Must be called on the EDT. Swaps the loaded copy of a changed row in place and repaints only
+    // that row. A deleted row (item null) or one whose page key changed shifts every row after it,
+    // so the cached blocks are refreshed instead. Rows in blocks that are not loaded are read fresh when needed.
+    public void patchItem(Function<T, ?> idOf, Object id, T item) {
+        for (Map.Entry<Integer, Block<T>> entry : blocks.entrySet()) {
+            Block<T> block = entry.getValue();
+            for (int offset = 0; offset < block.items.size(); offset++) {
+                T current = block.items.get(offset);
+                if (!id.equals(idOf.apply(current))) {
+                    continue;
+                }
+                if (item == null || !Objects.equals(source.keyOf(current), source.keyOf(item))) {
+                    refresh();
+                    return;
+                }
+                block.items.set(offset, item);
+                block.rows[offset] = rowMapper.apply(item);
+                int row = entry.getKey() * blockSize + offset;
+                fireTableRowsUpdated(row, row);
+                return;
+            }
+        }
+    }
+
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    @Override
+    public Class<?> getColumnClass(int columnIndex) {
+        return columnClasses[columnIndex];
+    }
+
+    @Override
+    public boolean isCellEditable(int row, int column) {
+        return false;
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        int blockIndex = row / blockSize;
+        Block<T> block = blocks.get(blockIndex);
+        if (block == null) {
+            requestBlock(blockIndex);
+            return null;
+        }
+        int offset = row % blockSize;
+        return offset < block.rows.length ? block.rows[offset][column] : null;
+    }
+
+    private void requestBlock(int blockIndex) {
+        if (!pendingBlocks.add(blockIndex)) {
+            return;
+        }
+        requestedBlocks.push(blockIndex);
+        // Forget blocks the viewport already scrolled past before they were fetched
+        while (requestedBlocks.size() > maxBlocks) {
+            pendingBlocks.remove(requestedBlocks.removeLast());
+        }
+        if (!draining) {
+            loadNextBlock();
+        }
+    }
+
+    // Most recently requested block first, one at a time
+    private void loadNextBlock() {
+        Integer next = requestedBlocks.poll();
+        if (next == null) {
+            draining = false;
+            return;
+        }
+        draining = true;
+
+        final int blockIndex = next;
+        final long loadId = generation;
+        final boolean startKeyKnown = blockIndex == 0 || blockStartKeys.containsKey(blockIndex);
+        final K knownStartKey = blockStartKeys.get(blockIndex);
+
+        loader.execute(() -> {
+            try {
+                K startKey = startKeyKnown ? knownStartKey : source.keyAt(blockIndex * blockSize - 1);
+                List<T> items = blockIndex > 0 && startKey == null
+                    ? List.of()
+                    : source.fetchPage(startKey, blockSize);
+                Object[][] rows = new Object[items.size()][];
+                for (int i = 0; i < rows.length; i++) {
+                    rows[i] = rowMapper.apply(items.get(i));
+                }
+                SwingUtilities.invokeLater(() -> {
+                    if (loadId == generation) {
+                        onBlockLoaded(blockIndex, items, rows);
+                    }
+                    loadNextBlock();
+                });
+            } catch (Exception e) {
+                SwingUtilities.invokeLater(() -> {
+                    if (loadId == generation) {
+                        pendingBlocks.remove(blockIndex);
+                        errorHandler.accept(e);
+                    }
+                    loadNextBlock();
+                });
+            }
+        });
+    }
+
+    private void onRefreshed(int count, Map<Integer, Block<T>> fresh) {
+        int oldCount = rowCount;
+        rowCount = count;
+        if (count < oldCount) {
+            fireTableRowsDeleted(count, oldCount - 1);
+        } else if (count > oldCount) {
+            fireTableRowsInserted(oldCount, count - 1);
+        }
+
+        Map<Integer, Block<T>> previous = new HashMap<>(blocks);
+        blocks.clear();
+        blockStartKeys.clear();
+        for (Map.Entry<Integer, Block<T>> entry : fresh.entrySet()) {
+            int blockIndex = entry.getKey();
+            Block<T> block = entry.getValue();
+            blocks.put(blockIndex, block);
+            if (!block.items.isEmpty()) {
+                blockStartKeys.put(blockIndex + 1, source.keyOf(block.items.get(block.items.size() - 1)));
+            }
+            fireChangedRows(blockIndex, previous.get(blockIndex), block);
+        }
+        countListener.accept(count);
+    }
+
+    // One update event per run of consecutive changed rows within the block
+    private void fireChangedRows(int blockIndex, Block<T> before, Block<T> after) {
+        int firstRow = blockIndex * blockSize;
+        int rows = Math.min(blockSize, rowCount - firstRow);
+        int runStart = -1;
+        for (int offset = 0; offset <= rows; offset++) {
+            boolean changed = offset < rows && !sameRow(before, after, offset);
+            if (changed && runStart < 0) {
+                runStart = offset;
+            } else if (!changed && runStart >= 0) {
+                fireTableRowsUpdated(firstRow + runStart, firstRow + offset - 1);
+                runStart = -1;
+            }
+        }
+    }
+
+    private static boolean sameRow(Block<?> before, Block<?> after, int offset) {
+        Object[] oldRow = before != null && offset < before.rows.length ? before.rows[offset] : null;
+        Object[] newRow = offset < after.rows.length ? after.rows[offset] : null;
+        return oldRow != null && newRow != null && Arrays.equals(oldRow, newRow);
+    }
+
+    private void onBlockLoaded(int blockIndex, List<T> items, Object[][] rows) {
+        pendingBlocks.remove(blockIndex);
+        blocks.put(blockIndex, new Block<>(items, rows));
+        if (!items.isEmpty()) {
+            blockStartKeys.put(blockIndex + 1, source.keyOf(items.get(items.size() - 1)));
+        }
+
+        int firstRow = blockIndex * blockSize;
+        int lastRow = Math.min(rowCount, firstRow + blockSize) - 1;
+        if (firstRow <= lastRow) {
+            fireTableRowsUpdated(firstRow, lastRow);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package view;
+
+import db.DatabaseChange;
+import db.DatabaseChangeListener;
+import db.ReplicaRouter;
+
+import javax.swing.*;
+import javax.swing.table.TableModel;
+import java.util.concurrent.Executor;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// Keeps an open table in step with changes made by other clients. Each change re-reads only the
+// affected row and patches it into whichever model the table is showing: the paged model of the
+// unfiltered listing or the fully loaded rows of a search/filter result. Only the query knows
+// whether a changed or new row matches a search or filter, so those results are refreshed instead.
+public class LiveTableUpdater<T> implements Consumer<DatabaseChange> {
+
+    // Current version of the row, or null when it no longer exists
+    @FunctionalInterface
+    public interface RowFetcher<T> {
+        T fetch(Long id) throws Exception;
+    }
+
+    private final String table;
+    private final RowFetcher<T> fetcher;
+    private final Function<T, ?> idOf;
+    private final LazyTableModel<T, ?> pagedModel;
+    private final PatchableRows<T> loadedRows;
+    private final Supplier<TableModel> currentModel;
+    private final Runnable refreshCurrentView;
+    private final BooleanSupplier showsAllRows;
+    // Row re-reads must not block the listener thread or the EDT
+    private final Executor fetches;
+
+    // pagedModel may be null for tables that are always fully loaded. showsAllRows tells whether
+    // loadedRows currently holds every row of the table (i.e. no search or filter is applied).
+    public LiveTableUpdater(String table, RowFetcher<T> fetcher, Function<T, ?> idOf,
+                            LazyTableModel<T, ?> pagedModel, PatchableRows<T> loadedRows,
+                            Supplier<TableModel> currentModel, Runnable refreshCurrentView,
+                            BooleanSupplier showsAllRows) {
+        this.table = table;
+        this.fetcher = fetcher;
+        this.idOf = idOf;
+        this.pagedModel = pagedModel;
+        this.loadedRows = loadedRows;
+        this.currentModel = currentModel;
+        this.refreshCurrentView = refreshCurrentView;
+        this.showsAllRows = showsAllRows;
+        this.fetches = BackgroundExecutor.serial();
+    }
+
+    public void bind() {
+        DatabaseChangeListener.subscribe(table, this);
+    }
+
+    public void unbind() {
+        DatabaseChangeListener.unsubscribe(table, this);
+    }
+
+    // Called on the listener thread
+    @Override
+    public void accept(DatabaseChange change) {
+        if (change.isWholeTable()) {
+            SwingUtilities.invokeLater(refreshCurrentView);
+        } else if (change.isDelete()) {
+            SwingUtilities.invokeLater(() -> apply(change, null));
+        } else {
+            fetches.execute(() -> {
+                try {
+                    // The replica may not have replayed the change yet
+                    T item = ReplicaRouter.readFromPrimary(() -> fetcher.fetch(change.id()));
+                    SwingUtilities.invokeLater(() -> apply(change, item));
+                } catch (Exception e) {
+                    // The row could not be read; the next manual refresh will pick it up
+                    System.err.println("No se pudo actualizar la fila " + change.id() + " de " + table + ": " + e.getMessage());
+                }
+            });
+        }
+    }
+
+    private void apply(DatabaseChange change, T item) {
+        TableModel model = currentModel.get();
+        if (pagedModel != null && model == pagedModel) {
+            if (change.isInsert() || item == null) {
+                pagedModel.refresh();  // Positions shift; only the count and cached blocks are re-read
+            } else {
+                pagedModel.patchItem(idOf, change.id(), item);
+            }
+            return;
+        }
+        if (loadedRows.isLoading()) {
+            refreshCurrentView.run();  // The rows being loaded may predate this change
+            return;
+        }
+        if (item != null && !showsAllRows.getAsBoolean()) {
+            refreshCurrentView.run();  // The row may have started or stopped matching
+            return;
+        }
+        boolean patched = loadedRows.patchRow(change.id(), item);
+        if (!patched && item != null && change.isInsert()) {
+            loadedRows.appendRow(item);
+        }
+    }
+}
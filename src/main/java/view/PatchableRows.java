@@ -0,0 +1,13 @@
+package view;
+
+// Rows of a fully loaded (non-paged) table view that a LiveTableUpdater can patch one at a time.
+// Every method is called on the EDT.
+public interface PatchableRows<T> {
+
+    boolean isLoading();
+
+    // Replaces the row with that primary key, or removes it when item is null; false if no row has it
+    boolean patchRow(Object id, T item);
+
+    void appendRow(T item);
+}
@@ -0,0 +1,193 @@
+package view;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+// Turns a model's current rows into a new result matched by primary key, announcing each step
+// with row events so selection, sort order and scroll position survive. Deletes go first
+// (bottom-up), then the new rows are walked in order: rows already in place are updated if
+// their values changed, unknown keys are inserted and rows found further down are moved up.
+// Consecutive rows with the same kind of change share one event. Where a moved row currently is
+// comes from its old position and the old rows already taken, so a diff stays O(n log n).
+public final class RowDiff {
+
+    // Beyond this many inserted, deleted or moved rows the rows are replaced in one event
+    public static final int MAX_INCREMENTAL_CHANGES = 1000;
+
+    // Rows of the model (changed in place) and the new rows, both addressed by position
+    public interface Target {
+        int rowCount();
+        Object keyAt(int row);
+        int newRowCount();
+        Object newKeyAt(int index);
+        boolean sameValues(int row, int index);
+        void set(int row, int index);
+        void insert(int row, int index);
+        void remove(int firstRow, int lastRow);
+        void replaceAll();
+    }
+
+    private RowDiff() {
+    }
+
+    // Must be called on the EDT
+    public static void apply(Target target, AbstractTableModel model) {
+        int newCount = target.newRowCount();
+        Set<Object> newKeys = new HashSet<>(newCount * 2);
+        for (int i = 0; i < newCount; i++) {
+            newKeys.add(target.newKeyAt(i));
+        }
+        Set<Object> oldKeys = new HashSet<>(target.rowCount() * 2);
+        int removed = 0;
+        boolean duplicateKeys = false;
+        for (int row = 0; row < target.rowCount(); row++) {
+            Object key = target.keyAt(row);
+            duplicateKeys |= !oldKeys.add(key);
+            if (!newKeys.contains(key)) {
+                removed++;
+            }
+        }
+        int added = newCount - (oldKeys.size() - removed);
+        // Rows can only be told apart by key when the keys are unique
+        if (duplicateKeys || removed + added > MAX_INCREMENTAL_CHANGES) {
+            replaceAll(target, model);
+            return;
+        }
+
+        for (int end = target.rowCount() - 1; end >= 0; end--) {
+            if (newKeys.contains(target.keyAt(end))) {
+                continue;
+            }
+            int start = end;
+            while (start > 0 && !newKeys.contains(target.keyAt(start - 1))) {
+                start--;
+            }
+            target.remove(start, end);
+            model.fireTableRowsDeleted(start, end);
+            end = start;
+        }
+
+        // Old rows not yet taken keep their order behind the i rows already in place
+        Map<Object, Integer> oldRows = new HashMap<>(target.rowCount() * 2);
+        for (int row = 0; row < target.rowCount(); row++) {
+            oldRows.put(target.keyAt(row), row);
+        }
+        RemainingRows remaining = new RemainingRows(target.rowCount());
+
+        PendingRun pending = new PendingRun(model);
+        int moved = 0;
+        for (int i = 0; i < newCount; i++) {
+            Object key = target.newKeyAt(i);
+            Integer oldRow = oldRows.get(key);
+            if (oldRow == null || !remaining.contains(oldRow)) {
+                // Unknown key, or a repeated one in the new rows
+                pending.add(PendingRun.INSERTED, i);
+                target.insert(i, i);
+                continue;
+            }
+            int from = i + remaining.countBefore(oldRow);
+            remaining.take(oldRow);
+            if (from == i) {
+                if (!target.sameValues(i, i)) {
+                    pending.add(PendingRun.UPDATED, i);
+                    target.set(i, i);
+                }
+            } else {
+                // Sort position changed; take the row out of its old place first
+                pending.flush();
+                if (++moved > MAX_INCREMENTAL_CHANGES) {
+                    replaceAll(target, model);
+                    return;
+                }
+                target.remove(from, from);
+                model.fireTableRowsDeleted(from, from);
+                pending.add(PendingRun.INSERTED, i);
+                target.insert(i, i);
+            }
+        }
+        pending.flush();
+    }
+
+    private static void replaceAll(Target target, AbstractTableModel model) {
+        target.replaceAll();
+        model.fireTableDataChanged();
+    }
+
+    // Old rows (by their position before the walk) not yet matched to a new row; a Fenwick tree
+    // counts how many of them come before a given one
+    private static class RemainingRows {
+        private final boolean[] present;
+        private final int[] tree;
+
+        RemainingRows(int size) {
+            present = new boolean[size];
+            tree = new int[size + 1];
+            for (int row = 0; row < size; row++) {
+                present[row] = true;
+                add(row, 1);
+            }
+        }
+
+        boolean contains(int row) {
+            return present[row];
+        }
+
+        void take(int row) {
+            present[row] = false;
+            add(row, -1);
+        }
+
+        int countBefore(int row) {
+            int count = 0;
+            for (int i = row; i > 0; i -= i & -i) {
+                count += tree[i];
+            }
+            return count;
+        }
+
+        private void add(int row, int delta) {
+            for (int i = row + 1; i < tree.length; i += i & -i) {
+                tree[i] += delta;
+            }
+        }
+    }
+
+    // Contiguous run of inserted or updated rows waiting to be announced. A row is added before it
+    // is changed, so the previous run is announced while the model still matches it
+    private static class PendingRun {
+        static final int UPDATED = 0;
+        static final int INSERTED = 1;
+
+        private final AbstractTableModel model;
+        private int kind = -1;
+        private int first;
+        private int last;
+
+        PendingRun(AbstractTableModel model) {
+            this.model = model;
+        }
+
+        void add(int rowKind, int row) {
+            if (kind == rowKind && row == last + 1) {
+                last = row;
+                return;
+            }
+            flush();
+            kind = rowKind;
+            first = row;
+            last = row;
+        }
+
+        void flush() {
+            if (kind == UPDATED) {
+                model.fireTableRowsUpdated(first, last);
+            } else if (kind == INSERTED) {
+                model.fireTableRowsInserted(first, last);
+            }
+            kind = -1;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package view;
+
+import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+
+// Coalesces keystrokes: the search only runs once the user stops typing for the given delay
+public class SearchDebouncer implements DocumentListener {
+
+    public static final int DEFAULT_DELAY_MS = 300;
+
+    private final Timer timer;
+
+    public SearchDebouncer(Runnable search) {
+        this(DEFAULT_DELAY_MS, search);
+    }
+
+    public SearchDebouncer(int delayMillis, Runnable search) {
+        this.timer = new Timer(delayMillis, e -> search.run());
+        this.timer.setRepeats(false);
+    }
+
+    public void cancel() {
+        timer.stop();
+    }
+
+    @Override
+    public void insertUpdate(DocumentEvent e) {
+        timer.restart();
+    }
+
+    @Override
+    public void removeUpdate(DocumentEvent e) {
+        timer.restart();
+    }
+
+    @Override
+    public void changedUpdate(DocumentEvent e) {
+        timer.restart();
+    }
+}
@@ -0,0 +1,313 @@
+package view;
+
+import javax.swing.*;
+import javax.swing.table.DefaultTableModel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Vector;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+
+// Fills a DefaultTableModel from a background fetch so JDBC and row mapping never run on the EDT.
+// Each call to load() cancels the previous one; results of a stale load are discarded.
+public class TableLoader<T> implements PatchableRows<T> {
+
+    private static final int DEFAULT_CHUNK_SIZE = 500;
+
+    private final DefaultTableModel tableModel;
+    private final Function<T, Object[]> rowMapper;
+    private final int chunkSize;
+    private IntConsumer progressListener;
+    private SwingWorker<List<T>, ?> currentWorker;
+    private long generation;
+    private int keyColumn = -1;
+    private Callable<List<T>> lastFetcher;
+    private Consumer<List<T>> lastOnLoaded;
+    private Consumer<Exception> lastOnError;
+
+    public TableLoader(DefaultTableModel tableModel, Function<T, Object[]> rowMapper) {
+        this(tableModel, rowMapper, DEFAULT_CHUNK_SIZE);
+    }
+
+    public TableLoader(DefaultTableModel tableModel, Function<T, Object[]> rowMapper, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("El tamaño de bloque debe ser mayor que cero");
+        }
+        this.tableModel = tableModel;
+        this.rowMapper = rowMapper;
+        this.chunkSize = chunkSize;
+    }
+
+    // Receives the percentage of rows already published (0-100), always on the EDT
+    public void setProgressListener(IntConsumer progressListener) {
+        this.progressListener = progressListener;
+    }
+
+    // Column holding the primary key; required by refresh() and patchRow()
+    public void setKeyColumn(int keyColumn) {
+        this.keyColumn = keyColumn;
+    }
+
+    // Must be called on the EDT. onLoaded receives the full result once every row is in the model.
+    public void load(Callable<List<T>> fetcher, Consumer<List<T>> onLoaded, Consumer<Exception> onError) {
+        cancel();
+        final long loadId = ++generation;
+        lastFetcher = fetcher;
+        lastOnLoaded = onLoaded;
+        lastOnError = onError;
+
+        tableModel.setRowCount(0);
+        notifyProgress(0);
+
+        SwingWorker<List<T>, Object[]> worker = new SwingWorker<>() {
+            @Override
+            protected List<T> doInBackground() throws Exception {
+                List<T> items = fetcher.call();
+                int total = items.size();
+
+                List<Object[]> chunk = new ArrayList<>(Math.min(chunkSize, total));
+                for (int i = 0; i < total; i++) {
+                    if (isCancelled()) {
+                        return items;
+                    }
+                    chunk.add(rowMapper.apply(items.get(i)));
+                    if (chunk.size() == chunkSize || i == total - 1) {
+                        publish(chunk.toArray(new Object[0][]));
+                        setProgress((int) ((i + 1) * 100L / total));
+                        chunk.clear();
+                    }
+                }
+                return items;
+            }
+
+            @Override
+            protected void process(List<Object[]> rows) {
+                if (isStale(loadId) || isCancelled()) {
+                    return;
+                }
+                appendRows(rows);
+                notifyProgress(getProgress());
+            }
+
+            @Override
+            protected void done() {
+                if (isStale(loadId) || isCancelled()) {
+                    return;
+                }
+                currentWorker = null;
+                try {
+                    List<T> items = get();
+                    notifyProgress(100);
+                    onLoaded.accept(items);
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    onError.accept(cause instanceof Exception ? (Exception) cause : e);
+                } catch (InterruptedException | CancellationException e) {
+                    // Superseded by a newer load, nothing to report
+                }
+            }
+        };
+
+        currentWorker = worker;
+        worker.execute();
+    }
+
+    // Must be called on the EDT. Re-runs the last load and applies only the differences, matched by
+    // the key column: removed, added and changed rows each fire their own row event, so selection,
+    // sort order and scroll position survive. Falls back to load() while that one is still running.
+    public void refresh() {
+        if (lastFetcher == null) {
+            return;
+        }
+        if (keyColumn < 0 || isLoading()) {
+            load(lastFetcher, lastOnLoaded, lastOnError);
+            return;
+        }
+        cancel();
+        final long loadId = ++generation;
+        final Callable<List<T>> fetcher = lastFetcher;
+        final Consumer<List<T>> onLoaded = lastOnLoaded;
+        final Consumer<Exception> onError = lastOnError;
+
+        SwingWorker<List<T>, Void> worker = new SwingWorker<>() {
+            private Object[][] rows;
+
+            @Override
+            protected List<T> doInBackground() throws Exception {
+                List<T> items = fetcher.call();
+                rows = new Object[items.size()][];
+                for (int i = 0; i < rows.length; i++) {
+                    rows[i] = rowMapper.apply(items.get(i));
+                }
+                return items;
+            }
+
+            @Override
+            protected void done() {
+                if (isStale(loadId) || isCancelled()) {
+                    return;
+                }
+                currentWorker = null;
+                try {
+                    List<T> items = get();
+                    applyDiff(rows);
+                    onLoaded.accept(items);
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    onError.accept(cause instanceof Exception ? (Exception) cause : e);
+                } catch (InterruptedException | CancellationException e) {
+                    // Superseded by a newer load, nothing to report
+                }
+            }
+        };
+
+        currentWorker = worker;
+        worker.execute();
+    }
+
+    public void cancel() {
+        if (currentWorker != null) {
+            currentWorker.cancel(true);
+            currentWorker = null;
+        }
+        generation++;
+    }
+
+    @Override
+    public boolean isLoading() {
+        return currentWorker != null && !currentWorker.isDone();
+    }
+
+    // Must be called on the EDT. Needs the key column; fires a single row event.
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public boolean patchRow(Object id, T item) {
+        if (keyColumn < 0) {
+            throw new IllegalStateException("La columna clave no está configurada");
+        }
+        int row = indexOf(id);
+        if (row < 0) {
+            return false;
+        }
+        if (item == null) {
+            tableModel.removeRow(row);
+            return true;
+        }
+        Vector rowData = (Vector) tableModel.getDataVector().get(row);
+        Object[] values = rowMapper.apply(item);
+        for (int column = 0; column < values.length; column++) {
+            rowData.set(column, values[column]);
+        }
+        tableModel.fireTableRowsUpdated(row, row);
+        return true;
+    }
+
+    // Must be called on the EDT
+    @Override
+    public void appendRow(T item) {
+        appendRows(List.<Object[]>of(rowMapper.apply(item)));
+    }
+
+    private int indexOf(Object id) {
+        for (int row = 0; row < tableModel.getRowCount(); row++) {
+            if (id.equals(tableModel.getValueAt(row, keyColumn))) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    // Matches the new rows against the model by the key column; see RowDiff
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void applyDiff(Object[][] rows) {
+        Vector<Vector> data = tableModel.getDataVector();
+        RowDiff.apply(new RowDiff.Target() {
+            @Override
+            public int rowCount() {
+                return data.size();
+            }
+
+            @Override
+            public Object keyAt(int row) {
+                return data.get(row).get(keyColumn);
+            }
+
+            @Override
+            public int newRowCount() {
+                return rows.length;
+            }
+
+            @Override
+            public Object newKeyAt(int index) {
+                return rows[index][keyColumn];
+            }
+
+            @Override
+            public boolean sameValues(int row, int index) {
+                Vector current = data.get(row);
+                if (current.size() != rows[index].length) {
+                    return false;
+                }
+                for (int column = 0; column < rows[index].length; column++) {
+                    if (!Objects.equals(current.get(column), rows[index][column])) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+
+            @Override
+            public void set(int row, int index) {
+                data.set(row, new Vector<>(Arrays.asList(rows[index])));
+            }
+
+            @Override
+            public void insert(int row, int index) {
+                data.add(row, new Vector<>(Arrays.asList(rows[index])));
+            }
+
+            @Override
+            public void remove(int firstRow, int lastRow) {
+                data.subList(firstRow, lastRow + 1).clear();
+            }
+
+            @Override
+            public void replaceAll() {
+                data.clear();
+                for (Object[] row : rows) {
+                    data.add(new Vector<>(Arrays.asList(row)));
+                }
+            }
+        }, tableModel);
+    }
+
+    private boolean isStale(long loadId) {
+        return loadId != generation;
+    }
+
+    // One insert event per chunk instead of one per row
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void appendRows(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        Vector dataVector = tableModel.getDataVector();
+        int firstRow = dataVector.size();
+        for (Object[] row : rows) {
+            dataVector.add(new Vector<>(Arrays.asList(row)));
+        }
+        tableModel.fireTableRowsInserted(firstRow, dataVector.size() - 1);
+    }
+
+    private void notifyProgress(int percent) {
+        if (progressListener != null) {
+            progressListener.accept(percent);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package conductor.service;
+
+import conductor.exception.InvalidDriverDataException;
+import conductor.model.Driver;
+import conductor.model.DriverImportResult;
+import conductor.repository.DriverRepositoryInterface;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DriverCsvImporterTest {
+
+    private static final String HEADER = "nombre,apellidos,documento_identidad,fecha_nacimiento,direccion";
+
+    @TempDir
+    Path dir;
+
+    // Repository whose copyDrivers behaves like ON CONFLICT DO NOTHING on the document
+    private final Set<String> stored = new HashSet<>();
+    private final List<Integer> copySizes = new ArrayList<>();
+    private final DriverRepositoryInterface repository = (DriverRepositoryInterface) Proxy.newProxyInstance(
+        getClass().getClassLoader(), new Class<?>[] {DriverRepositoryInterface.class}, (proxy, method, args) -> {
+            if (!"copyDrivers".equals(method.getName())) {
+                throw new UnsupportedOperationException(method.getName());
+            }
+            @SuppressWarnings("unchecked")
+            List<Driver> drivers = (List<Driver>) args[0];
+            copySizes.add(drivers.size());
+            List<Integer> skipped = new ArrayList<>();
+            for (int i = 0; i < drivers.size(); i++) {
+                if (!stored.add(drivers.get(i).getIdDocument())) {
+                    skipped.add(i);
+                }
+            }
+            return skipped;
+        });
+
+    @Test
+    void parseLineSplitsOnCommasOutsideQuotes() throws InvalidDriverDataException {
+        assertEquals(List.of("Ana", "Pérez, López", "dijo \"hola\"", ""),
+            DriverCsvImporter.parseLine("Ana,\"Pérez, López\",\"dijo \"\"hola\"\"\","));
+        assertEquals(List.of(""), DriverCsvImporter.parseLine(""));
+        assertEquals(List.of(" a ", "b"), DriverCsvImporter.parseLine(" a ,b"));
+    }
+
+    @Test
+    void parseLineRejectsAnUnclosedQuote() {
+        assertThrows(InvalidDriverDataException.class, () -> DriverCsvImporter.parseLine("Ana,\"Pérez"));
+    }
+
+    @Test
+    void importsValidRowsAndReportsTheRestWithTheirLine() throws Exception {
+        Path csv = write(
+            HEADER,
+            "Ana,Pérez,85010112345,1985-01-01,\"Calle 1, Habana\"",
+            "",
+            "Luis,García,90050567890,1990-05-05,",
+            "Ana2,Pérez,75123154321,1975-12-31,");
+        Path errors = dir.resolve("errores.csv");
+
+        DriverImportResult result = new DriverCsvImporter(repository).importFile(csv, errors);
+
+        assertEquals(3, result.read());
+        assertEquals(2, result.imported());
+        assertEquals(1, result.rejected());
+        List<String> lines = Files.readAllLines(errors, StandardCharsets.UTF_8);
+        assertEquals(HEADER + ",error", lines.get(0));
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(1).startsWith("Ana2,"));
+        assertTrue(lines.get(1).contains("Línea 5: "), lines.get(1));
+    }
+
+    @Test
+    void documentRepeatedInAChunkIsRejectedBeforeTheCopy() throws Exception {
+        Path csv = write(
+            HEADER,
+            "Ana,Pérez,85010112345,1985-01-01,",
+            "Otra,Pérez,85010112345,1985-01-01,");
+        Path errors = dir.resolve("errores.csv");
+
+        DriverImportResult result = new DriverCsvImporter(repository).importFile(csv, errors);
+
+        assertEquals(1, result.imported());
+        assertEquals(1, result.rejected());
+        assertEquals(List.of(1), copySizes);
+        assertTrue(Files.readString(errors).contains("Línea 3: Documento de identidad repetido en el archivo"));
+    }
+
+    @Test
+    void documentRepeatedInALaterChunkIsReportedAsExisting() throws Exception {
+        stored.add("90050567890");
+        Path csv = write(
+            HEADER,
+            "Ana,Pérez,85010112345,1985-01-01,",
+            "Luis,García,90050567890,1990-05-05,",
+            "Otra,Pérez,85010112345,1985-01-01,");
+        Path errors = dir.resolve("errores.csv");
+
+        DriverImportResult result = new DriverCsvImporter(repository, 2).importFile(csv, errors);
+
+        assertEquals(List.of(2, 1), copySizes);
+        assertEquals(1, result.imported());
+        assertEquals(2, result.rejected());
+        String report = Files.readString(errors);
+        assertTrue(report.contains("Línea 3: Ya existe un conductor con este documento de identidad"), report);
+        assertTrue(report.contains("Línea 4: Ya existe un conductor con este documento de identidad"), report);
+    }
+
+    @Test
+    void missingRequiredColumnFailsTheWholeFile() throws Exception {
+        Path csv = write("nombre,apellidos,fecha_nacimiento", "Ana,Pérez,1985-01-01");
+
+        InvalidDriverDataException e = assertThrows(InvalidDriverDataException.class,
+            () -> new DriverCsvImporter(repository).importFile(csv, dir.resolve("errores.csv")));
+        assertTrue(e.getMessage().contains("documento_identidad"));
+    }
+
+    private Path write(String... lines) throws Exception {
+        Path csv = dir.resolve("conductores.csv");
+        Files.write(csv, List.of(lines), StandardCharsets.UTF_8);
+        return csv;
+    }
+}
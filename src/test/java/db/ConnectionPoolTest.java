@@ -0,0 +1,26 @@
+package db;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConnectionPoolTest {
+
+    @Test
+    void aPoolThatCannotConnectFailsWithSQLExceptionAndCanBeRetried() {
+        System.setProperty("db.unreachable.url", "jdbc:postgresql://127.0.0.1:1/licencias");
+        System.setProperty("db.unreachable.connectionTimeout", "250");
+        try {
+            SQLException first = assertThrows(SQLException.class, () -> ConnectionPool.getConnection("unreachable"));
+            assertTrue(first.getMessage().startsWith("No se pudo crear el pool unreachable"));
+            // The failed pool was not registered, the next request tries again
+            assertThrows(SQLException.class, () -> ConnectionPool.getConnection("unreachable"));
+        } finally {
+            System.clearProperty("db.unreachable.url");
+            System.clearProperty("db.unreachable.connectionTimeout");
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package db;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JdbcBatchTest {
+
+    // Connection that records the transaction calls and answers executeBatch with one update
+    // count per added row (0 for the values listed in missing) and keys counting up from 1000
+    private static class FakeConnection {
+        final List<Integer> batchSizes = new ArrayList<>();
+        final List<Object> missing = new ArrayList<>();
+        boolean autoCommit = true;
+        int commits;
+        int rollbacks;
+        long nextKey = 1000;
+
+        Connection connection() {
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Connection.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getAutoCommit" -> autoCommit;
+                    case "setAutoCommit" -> {
+                        autoCommit = (Boolean) args[0];
+                        yield null;
+                    }
+                    case "commit" -> {
+                        commits++;
+                        yield null;
+                    }
+                    case "rollback" -> {
+                        rollbacks++;
+                        yield null;
+                    }
+                    case "prepareStatement" -> statement();
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        }
+
+        private PreparedStatement statement() {
+            Map<Integer, Object> parameters = new HashMap<>();
+            List<Object> batch = new ArrayList<>();
+            List<Long> keys = new ArrayList<>();
+            return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] {PreparedStatement.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "setString", "setInt", "setLong" -> {
+                        parameters.put((Integer) args[0], args[1]);
+                        yield null;
+                    }
+                    case "addBatch" -> {
+                        batch.add(parameters.get(1));
+                        yield null;
+                    }
+                    case "executeBatch" -> {
+                        batchSizes.add(batch.size());
+                        keys.clear();
+                        int[] counts = new int[batch.size()];
+                        for (int i = 0; i < counts.length; i++) {
+                            counts[i] = missing.contains(batch.get(i)) ? 0 : 1;
+                            keys.add(nextKey++);
+                        }
+                        batch.clear();
+                        yield counts;
+                    }
+                    case "getGeneratedKeys" -> keys(new ArrayList<>(keys));
+                    case "close" -> null;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        }
+
+        private ResultSet keys(List<Long> keys) {
+            int[] position = {-1};
+            return (ResultSet) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {ResultSet.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "next" -> ++position[0] < keys.size();
+                    case "getLong" -> keys.get(position[0]);
+                    case "close" -> null;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        }
+    }
+
+    private static class Item {
+        final String name;
+        Long id;
+
+        Item(String name) {
+            this.name = name;
+        }
+    }
+
+    private static List<Item> items(String... names) {
+        List<Item> items = new ArrayList<>();
+        for (String name : names) {
+            items.add(new Item(name));
+        }
+        return items;
+    }
+
+    @Test
+    void insertAllHandsEachKeyToItsItemAcrossBatches() throws SQLException {
+        FakeConnection fake = new FakeConnection();
+        List<Item> items = items("a", "b", "c", "d", "e");
+
+        JdbcBatch.insertAll(fake.connection(), "INSERT", items, 2,
+            (statement, item) -> statement.setString(1, item.name), (item, id) -> item.id = id);
+
+        assertEquals(Arrays.asList(2, 2, 1), fake.batchSizes);
+        for (int i = 0; i < items.size(); i++) {
+            assertEquals(1000L + i, items.get(i).id, items.get(i).name);
+        }
+        assertEquals(1, fake.commits);
+        assertTrue(fake.autoCommit);
+    }
+
+    @Test
+    void updateAllReturnsMinusOneWhenEveryRowMatched() throws SQLException {
+        FakeConnection fake = new FakeConnection();
+
+        int missing = JdbcBatch.updateAll(fake.connection(), "UPDATE", items("a", "b", "c"), 2,
+            (statement, item) -> statement.setString(1, item.name));
+
+        assertEquals(-1, missing);
+        assertEquals(1, fake.commits);
+        assertEquals(0, fake.rollbacks);
+    }
+
+    @Test
+    void updateAllReturnsTheListIndexOfTheFirstMissingRow() throws SQLException {
+        FakeConnection fake = new FakeConnection();
+        fake.missing.add("d");
+        fake.missing.add("e");
+
+        int missing = JdbcBatch.updateAll(fake.connection(), "UPDATE", items("a", "b", "c", "d", "e"), 2,
+            (statement, item) -> statement.setString(1, item.name));
+
+        // "d" is the second row of the second batch
+        assertEquals(3, missing);
+        assertEquals(0, fake.commits);
+        assertEquals(1, fake.rollbacks);
+        assertTrue(fake.autoCommit);
+    }
+
+    @Test
+    void failedBatchIsRolledBack() {
+        FakeConnection fake = new FakeConnection();
+
+        assertThrows(SQLException.class, () -> JdbcBatch.updateAll(fake.connection(), "UPDATE", items("a"), 10,
+            (statement, item) -> {
+                throw new SQLException("fallo");
+            }));
+        assertEquals(1, fake.rollbacks);
+        assertTrue(fake.autoCommit);
+    }
+
+    @Test
+    void batchSizeMustBePositive() {
+        FakeConnection fake = new FakeConnection();
+        assertThrows(IllegalArgumentException.class, () -> JdbcBatch.updateAll(fake.connection(), "UPDATE",
+            items("a"), 0, (statement, item) -> { }));
+        assertFalse(fake.batchSizes.iterator().hasNext());
+    }
+
+    @Test
+    void causeUnwrapsTheFailingStatement() {
+        SQLException failing = new SQLException("violación", "23514");
+        BatchUpdateException batch = new BatchUpdateException("lote", new int[0]);
+        batch.setNextException(failing);
+
+        assertSame(failing, JdbcBatch.cause(batch));
+        assertSame(failing, JdbcBatch.cause(failing));
+    }
+}
@@ -0,0 +1,80 @@
+package db;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReplicaRouterTest {
+
+    // Connection that accepts any statement and keeps only its auto-commit flag
+    private static Connection fakeConnection() {
+        boolean[] autoCommit = {true};
+        Object statement = Proxy.newProxyInstance(getClassLoader(), new Class<?>[] {PreparedStatement.class},
+            (proxy, method, args) -> method.getReturnType() == int.class ? 1
+                : method.getReturnType() == boolean.class ? false : null);
+        return (Connection) Proxy.newProxyInstance(getClassLoader(), new Class<?>[] {Connection.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "prepareStatement", "createStatement" -> statement;
+                case "getAutoCommit" -> autoCommit[0];
+                case "setAutoCommit" -> {
+                    autoCommit[0] = (Boolean) args[0];
+                    yield null;
+                }
+                case "isClosed" -> false;
+                default -> null;
+            });
+    }
+
+    private static ClassLoader getClassLoader() {
+        return ReplicaRouterTest.class.getClassLoader();
+    }
+
+    // A session stays pinned for readYourWritesMillis, so each test starts a new one
+    @Test
+    void onlyCommittedWritesPinTheSession() throws Exception {
+        try (ReplicaRouter.Session session = ReplicaRouter.openSession()) {
+            assertFalse(ReplicaRouter.isPinnedToPrimary());
+
+            Connection rolledBack = ReplicaRouter.writeTracked(fakeConnection());
+            rolledBack.setAutoCommit(false);
+            rolledBack.prepareStatement("UPDATE licencia SET puntos = 0").executeUpdate();
+            rolledBack.rollback();
+            rolledBack.setAutoCommit(true);
+            rolledBack.close();
+            assertFalse(ReplicaRouter.isPinnedToPrimary(), "a rolled back write");
+
+            Connection committed = ReplicaRouter.writeTracked(fakeConnection());
+            committed.setAutoCommit(false);
+            committed.prepareStatement("SELECT registrar_infraccion(?)").executeQuery();
+            assertFalse(ReplicaRouter.isPinnedToPrimary(), "a write not yet committed");
+            committed.commit();
+            committed.close();
+            assertTrue(ReplicaRouter.isPinnedToPrimary(), "a committed write");
+        }
+    }
+
+    @Test
+    void aJobSessionPinsOnlyItselfUntilItIsClosed() throws Exception {
+        ReplicaRouter.clearPin();
+        try (ReplicaRouter.Session job = ReplicaRouter.openSession()) {
+            Connection autoCommitted = ReplicaRouter.writeTracked(fakeConnection());
+            autoCommitted.prepareStatement("DELETE FROM infraccion WHERE id_infraccion = 1").executeUpdate();
+            autoCommitted.close();
+            assertTrue(ReplicaRouter.isPinnedToPrimary(), "the job's own reads");
+            assertFalse(CompletableFuture.supplyAsync(ReplicaRouter::isPinnedToPrimary).join(), "the rest of the client");
+        }
+        assertTrue(ReplicaRouter.isPinnedToPrimary(), "the caller once the job is done");
+    }
+
+    @Test
+    void readFromPrimaryRestoresTheThreadAfterwards() throws Exception {
+        assertEquals("fila", ReplicaRouter.readFromPrimary(() -> "fila"));
+    }
+}
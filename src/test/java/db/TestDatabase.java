@@ -0,0 +1,78 @@
+package db;
+
+import org.junit.jupiter.api.Assumptions;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+// Database used by the DAO tests, a disposable copy of sql/driver-license.sql given with
+// -Ddb.test.url (and optionally -Ddb.test.username / -Ddb.test.password). Without it those tests
+// are skipped. Each test creates the rows it needs and deletes them afterwards.
+public final class TestDatabase {
+
+    private TestDatabase() {
+    }
+
+    // Points every pool of this JVM at the test database; call before the first DAO is used
+    public static void assumeAvailable() {
+        String url = System.getProperty("db.test.url");
+        Assumptions.assumeTrue(url != null && !url.isBlank(), "Sin -Ddb.test.url no se ejecutan las pruebas con base de datos");
+        System.setProperty("db.url", url);
+        System.setProperty("db.username", System.getProperty("db.test.username", "postgres"));
+        System.setProperty("db.password", System.getProperty("db.test.password", ""));
+    }
+
+    public static Connection connect() throws SQLException {
+        return ConnectionPool.getConnection();
+    }
+
+    public static long insertDriver(String idDocument) throws SQLException {
+        String sql = "INSERT INTO conductor (nombre, apellidos, documento_identidad, fecha_nacimiento) " +
+                     "VALUES ('Prueba', 'Prueba', ?, DATE '1985-01-01') RETURNING id_conductor";
+        try (Connection conn = connect(); PreparedStatement statement = conn.prepareStatement(sql)) {
+            statement.setString(1, idDocument);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        }
+    }
+
+    public static long insertLicense(long driverId, int points) throws SQLException {
+        String sql = "INSERT INTO licencia (id_conductor, tipo_licencia, categoria, fecha_emision, fecha_vencimiento, puntos) " +
+                     "VALUES (?, 'B', 'automovil', CURRENT_DATE, CURRENT_DATE + 3650, ?) RETURNING id_licencia";
+        try (Connection conn = connect(); PreparedStatement statement = conn.prepareStatement(sql)) {
+            statement.setLong(1, driverId);
+            statement.setInt(2, points);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        }
+    }
+
+    public static int points(long licenseId) throws SQLException {
+        try (Connection conn = connect();
+             PreparedStatement statement = conn.prepareStatement("SELECT puntos FROM licencia WHERE id_licencia = ?")) {
+            statement.setLong(1, licenseId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getInt(1);
+            }
+        }
+    }
+
+    // Removes the driver with everything that references it
+    public static void deleteDriver(long driverId) throws SQLException {
+        try (Connection conn = connect()) {
+            for (String table : new String[] {"infraccion", "examen", "licencia", "conductor"}) {
+                try (PreparedStatement statement = conn.prepareStatement("DELETE FROM " + table + " WHERE id_conductor = ?")) {
+                    statement.setLong(1, driverId);
+                    statement.executeUpdate();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package examen.persistence;
+
+import db.TestDatabase;
+import examen.exception.InvalidExamDataException;
+import examen.model.Exam;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// Runs against the database given with -Ddb.test.url, see db.TestDatabase
+class ExamDaoTest {
+
+    // Clinic of the sample data in sql/driver-license.sql
+    private static final long CLINIC_ID = 1;
+    private static final long MISSING_ID = 999_999_999;
+
+    private final ExamDao dao = new ExamDao();
+    private long driverId;
+
+    @BeforeEach
+    void createDriver() throws Exception {
+        TestDatabase.assumeAvailable();
+        driverId = TestDatabase.insertDriver("T" + System.nanoTime());
+    }
+
+    @AfterEach
+    void deleteDriver() throws Exception {
+        if (driverId != 0) {
+            TestDatabase.deleteDriver(driverId);
+        }
+    }
+
+    private static Exam exam(long entityId, long driverId) {
+        return new Exam("medico", "2024-01-10", "aprobado", entityId, driverId, "Prueba");
+    }
+
+    @Test
+    void saveNamesTheMissingDriver() {
+        InvalidExamDataException e = assertThrows(InvalidExamDataException.class,
+            () -> dao.save(exam(CLINIC_ID, MISSING_ID)));
+        assertEquals("El conductor con ID " + MISSING_ID + " no existe en la base de datos", e.getMessage());
+    }
+
+    @Test
+    void saveNamesTheMissingEntity() {
+        InvalidExamDataException e = assertThrows(InvalidExamDataException.class,
+            () -> dao.save(exam(MISSING_ID, driverId)));
+        assertEquals("La entidad con ID " + MISSING_ID + " no existe en la base de datos", e.getMessage());
+    }
+
+    @Test
+    void saveAllNamesTheMissingDriver() {
+        InvalidExamDataException e = assertThrows(InvalidExamDataException.class,
+            () -> dao.saveAll(List.of(exam(CLINIC_ID, driverId), exam(CLINIC_ID, MISSING_ID)), 10));
+        assertEquals("El conductor especificado no existe", e.getMessage());
+    }
+}
@@ -0,0 +1,115 @@
+package infraccion.persistence;
+
+import db.TestDatabase;
+import infraccion.model.Infraction;
+import infraccion.model.InfractionBatchResult;
+import infraccion.model.LicenseSuspension;
+import infraccion.model.RejectedInfraction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Runs against the database given with -Ddb.test.url, see db.TestDatabase
+class InfractionDaoTest {
+
+    private final InfractionDao dao = new InfractionDao();
+    private long driverId;
+    private long otherDriverId;
+
+    @BeforeEach
+    void createDrivers() throws Exception {
+        TestDatabase.assumeAvailable();
+        driverId = TestDatabase.insertDriver("T" + System.nanoTime());
+        otherDriverId = TestDatabase.insertDriver("T" + System.nanoTime());
+    }
+
+    @AfterEach
+    void deleteDrivers() throws Exception {
+        if (driverId != 0) {
+            TestDatabase.deleteDriver(driverId);
+            TestDatabase.deleteDriver(otherDriverId);
+        }
+    }
+
+    private Infraction infraction(long licenseId, int points) {
+        return new Infraction(driverId, licenseId, "T-" + points, "leve", "2024-01-10", "Habana", null, points, false);
+    }
+
+    @Test
+    void insertBatchStoresTheRowsAndDeductsTheirPoints() throws Exception {
+        long licenseId = TestDatabase.insertLicense(driverId, 20);
+        List<Infraction> batch = List.of(infraction(licenseId, 4), infraction(licenseId, 0), infraction(licenseId, 6));
+
+        InfractionBatchResult result = dao.insertBatch(batch);
+
+        assertEquals(3, result.inserted().size());
+        assertTrue(result.rejected().isEmpty());
+        batch.forEach(infraction -> assertNotNull(infraction.getIdInfraction()));
+        assertEquals(10, TestDatabase.points(licenseId));
+    }
+
+    @Test
+    void insertBatchStoresOffencesTheBalanceCannotAbsorbAndSuspendsTheDriver() throws Exception {
+        long licenseId = TestDatabase.insertLicense(driverId, 20);
+        List<Infraction> batch = List.of(infraction(licenseId, 12), infraction(licenseId, 6), infraction(licenseId, 3));
+
+        InfractionBatchResult result = dao.insertBatch(batch);
+
+        // 20 - 12 = 8; 6 more leaves 2, under the threshold of 5; the last 3 can only take 2
+        assertEquals(batch, result.inserted());
+        assertTrue(result.rejected().isEmpty());
+        batch.forEach(infraction -> assertNotNull(infraction.getIdInfraction()));
+        assertEquals(List.of(1L, 2L), result.suspensions().stream().map(LicenseSuspension::position).toList());
+        assertEquals(2, result.suspensions().get(0).remainingPoints());
+        assertEquals(2, result.suspensions().get(1).deductedPoints());
+        assertEquals(0, result.suspensions().get(1).remainingPoints());
+        assertEquals(0, TestDatabase.points(licenseId));
+        assertEquals("suspendida", licenseStatus(driverId));
+    }
+
+    @Test
+    void insertBatchLeavesTheDriverAloneWhileTheThresholdIsKept() throws Exception {
+        long licenseId = TestDatabase.insertLicense(driverId, 20);
+
+        InfractionBatchResult result = dao.insertBatch(List.of(infraction(licenseId, 15)));
+
+        assertTrue(result.suspensions().isEmpty());
+        assertEquals(5, TestDatabase.points(licenseId));
+        assertNotEquals("suspendida", licenseStatus(driverId));
+    }
+
+    private static String licenseStatus(long driverId) throws Exception {
+        try (Connection conn = TestDatabase.connect();
+             PreparedStatement statement = conn.prepareStatement("SELECT estado_licencia FROM conductor WHERE id_conductor = ?")) {
+            statement.setLong(1, driverId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getString(1);
+            }
+        }
+    }
+
+    @Test
+    void insertBatchRejectsUnknownLicensesAndLicensesOfOtherDrivers() throws Exception {
+        long licenseId = TestDatabase.insertLicense(driverId, 20);
+        long otherLicenseId = TestDatabase.insertLicense(otherDriverId, 20);
+        List<Infraction> batch = List.of(infraction(-1L, 1), infraction(otherLicenseId, 1), infraction(licenseId, 1));
+
+        InfractionBatchResult result = dao.insertBatch(batch);
+
+        assertEquals(List.of(batch.get(2)), result.inserted());
+        assertEquals(List.of(0L, 1L), result.rejected().stream().map(RejectedInfraction::position).toList());
+        assertEquals(20, TestDatabase.points(otherLicenseId));
+        assertEquals(19, TestDatabase.points(licenseId));
+    }
+}
@@ -0,0 +1,144 @@
+package infraccion.service;
+
+import infraccion.exception.InvalidInfractionDataException;
+import infraccion.model.Infraction;
+import infraccion.model.InfractionBatchResult;
+import infraccion.model.IngestionResult;
+import infraccion.model.LicenseSuspension;
+import infraccion.model.RejectedInfraction;
+import infraccion.repository.InfractionRepositoryInterface;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InfractionIngestionPipelineTest {
+
+    private static final long UNKNOWN_LICENSE = 999;
+    // Licenses start with 20 points; an infraction of this many leaves its license suspended
+    private static final int SUSPENDING_POINTS = 16;
+
+    private final List<Integer> batchSizes = new ArrayList<>();
+    private int failOnBatch = -1;
+    private long nextId = 1;
+
+    // Repository that stores every infraction except those of UNKNOWN_LICENSE, as insertBatch
+    // does when the license does not exist or belongs to another driver, and reports a suspension
+    // for those of SUSPENDING_POINTS
+    private final InfractionRepositoryInterface repository = (InfractionRepositoryInterface) Proxy.newProxyInstance(
+        getClass().getClassLoader(), new Class<?>[] {InfractionRepositoryInterface.class}, (proxy, method, args) -> {
+            if (!"insertBatch".equals(method.getName())) {
+                throw new UnsupportedOperationException(method.getName());
+            }
+            @SuppressWarnings("unchecked")
+            List<Infraction> infractions = (List<Infraction>) args[0];
+            if (batchSizes.size() == failOnBatch) {
+                throw new SQLException("conexión perdida");
+            }
+            batchSizes.add(infractions.size());
+            List<Infraction> stored = new ArrayList<>();
+            List<RejectedInfraction> rejected = new ArrayList<>();
+            List<LicenseSuspension> suspensions = new ArrayList<>();
+            for (int i = 0; i < infractions.size(); i++) {
+                Infraction infraction = infractions.get(i);
+                if (infraction.getLicenseId() != UNKNOWN_LICENSE) {
+                    infraction.setIdInfraction(nextId++);
+                    stored.add(infraction);
+                    if (infraction.getDeductedPoints() == SUSPENDING_POINTS) {
+                        suspensions.add(new LicenseSuspension(i, infraction, SUSPENDING_POINTS, 20 - SUSPENDING_POINTS));
+                    }
+                } else {
+                    rejected.add(new RejectedInfraction(i, infraction, "La licencia " + UNKNOWN_LICENSE + " no existe"));
+                }
+            }
+            return new InfractionBatchResult(stored, rejected, suspensions);
+        });
+
+    private static Infraction infraction(long licenseId, int points) {
+        return new Infraction(1L, licenseId, "C-" + licenseId, "leve", "2024-01-10", "Habana", null, points, false);
+    }
+
+    @Test
+    void rejectedRowsKeepTheirPositionInTheFeed() throws Exception {
+        List<Infraction> feed = List.of(
+            infraction(1, 2),
+            infraction(2, 50),
+            infraction(3, 2),
+            infraction(UNKNOWN_LICENSE, 2),
+            infraction(5, 2),
+            infraction(6, -1),
+            infraction(7, 2));
+
+        IngestionResult result = new InfractionIngestionPipeline(repository, 2).ingest(feed.iterator());
+
+        assertEquals(7, result.received());
+        assertEquals(4, result.inserted());
+        assertEquals(List.of(1, 2, 1, 1), batchSizes);
+        List<RejectedInfraction> rejected = result.rejected();
+        assertEquals(3, rejected.size());
+        assertEquals(1, rejected.get(0).position());
+        assertTrue(rejected.get(0).reason().contains("puntos"), rejected.get(0).reason());
+        assertEquals(3, rejected.get(1).position());
+        assertTrue(rejected.get(1).reason().contains("La licencia 999"), rejected.get(1).reason());
+        assertEquals(5, rejected.get(2).position());
+    }
+
+    @Test
+    void suspensionsKeepTheirPositionInTheFeed() throws Exception {
+        List<Infraction> feed = List.of(
+            infraction(1, 50),
+            infraction(2, SUSPENDING_POINTS),
+            infraction(3, 2),
+            infraction(4, SUSPENDING_POINTS));
+
+        IngestionResult result = new InfractionIngestionPipeline(repository, 2).ingest(feed.iterator());
+
+        assertEquals(3, result.inserted());
+        assertEquals(List.of(1L, 3L), result.suspensions().stream().map(LicenseSuspension::position).toList());
+        assertEquals(4, result.suspensions().get(0).remainingPoints());
+    }
+
+    @Test
+    void storedBatchesReportTheLicensesTheyDeductedFrom() throws Exception {
+        List<Long> changed = new ArrayList<>();
+        List<Infraction> feed = List.of(
+            infraction(1, 2),
+            infraction(UNKNOWN_LICENSE, 2),
+            infraction(2, 0),
+            infraction(1, 3),
+            infraction(3, 50));
+
+        new InfractionIngestionPipeline(repository, 2, changed::add).ingest(feed.iterator());
+
+        assertEquals(List.of(1L, 1L), changed);
+    }
+
+    @Test
+    void aBatchWithNothingValidIsNotWritten() throws Exception {
+        IngestionResult result = new InfractionIngestionPipeline(repository, 2)
+            .ingest(List.of(infraction(1, 50), infraction(2, 50), infraction(3, 1)).iterator());
+
+        assertEquals(List.of(1), batchSizes);
+        assertEquals(3, result.received());
+        assertEquals(1, result.inserted());
+        assertEquals(0, result.rejected().get(0).position());
+        assertEquals(1, result.rejected().get(1).position());
+    }
+
+    @Test
+    void failedWriteNamesTheFirstPositionOfItsBatch() {
+        failOnBatch = 1;
+        List<Infraction> feed = List.of(infraction(1, 1), infraction(2, 1), infraction(3, 1), infraction(4, 1));
+
+        InvalidInfractionDataException e = assertThrows(InvalidInfractionDataException.class,
+            () -> new InfractionIngestionPipeline(repository, 2).ingest(feed.iterator()));
+        assertTrue(e.getMessage().contains("posición 2"), e.getMessage());
+        assertTrue(e.getMessage().contains("ya registradas: 2"), e.getMessage());
+    }
+}
@@ -0,0 +1,148 @@
+package licencia.persistence;
+
+import db.TestDatabase;
+import licencia.model.License;
+import licencia.model.LicenseFilter;
+import licencia.model.PointDeduction;
+import licencia.model.PointDeductionResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+// Runs against the database given with -Ddb.test.url, see db.TestDatabase
+class LicenseDaoTest {
+
+    private static final int MIN_POINTS = 5;
+
+    private final LicenseDao dao = new LicenseDao();
+    private long driverId;
+
+    @BeforeEach
+    void createDriver() throws Exception {
+        TestDatabase.assumeAvailable();
+        driverId = TestDatabase.insertDriver("T" + System.nanoTime());
+    }
+
+    @AfterEach
+    void deleteDriver() throws Exception {
+        if (driverId != 0) {
+            TestDatabase.deleteDriver(driverId);
+        }
+    }
+
+    @Test
+    void deductPointsAppliesWhenTheMinimumIsKept() throws Exception {
+        long licenseId = TestDatabase.insertLicense(driverId, 20);
+
+        PointDeductionResult result = dao.deductPoints(licenseId, 15, MIN_POINTS);
+
+        assertEquals(PointDeductionResult.Outcome.APPLIED, result.outcome());
+        assertEquals(5, result.remainingPoints());
+        assertEquals(5, TestDatabase.points(licenseId));
+    }
+
+    @Test
+    void deductPointsReportsTheBalanceItWasCheckedAgainst() throws Exception {
+        long licenseId = TestDatabase.insertLicense(driverId, 8);
+
+        PointDeductionResult result = dao.deductPoints(licenseId, 4, MIN_POINTS);
+
+        assertEquals(PointDeductionResult.Outcome.INSUFFICIENT_POINTS, result.outcome());
+        assertEquals(8, result.remainingPoints());
+        assertEquals(8, TestDatabase.points(licenseId));
+    }
+
+    @Test
+    void deductPointsOnAMissingLicense() throws Exception {
+        PointDeductionResult result = dao.deductPoints(-1L, 1, MIN_POINTS);
+
+        assertEquals(PointDeductionResult.Outcome.LICENSE_NOT_FOUND, result.outcome());
+        assertNull(result.remainingPoints());
+    }
+
+    @Test
+    void batchSkipsADeductionThatDoesNotFitAndAppliesTheNextOne() throws Exception {
+        long licenseId = TestDatabase.insertLicense(driverId, 20);
+
+        List<PointDeductionResult> results = dao.deductPointsBatch(
+            List.of(new PointDeduction(licenseId, 25), new PointDeduction(licenseId, 2)), MIN_POINTS);
+
+        assertEquals(PointDeductionResult.Outcome.INSUFFICIENT_POINTS, results.get(0).outcome());
+        assertEquals(PointDeductionResult.Outcome.APPLIED, results.get(1).outcome());
+        assertEquals(18, results.get(1).remainingPoints());
+        assertEquals(18, TestDatabase.points(licenseId));
+    }
+
+    @Test
+    void batchAppliesEveryDeductionInOrderAcrossLicenses() throws Exception {
+        long first = TestDatabase.insertLicense(driverId, 20);
+        long second = TestDatabase.insertLicense(driverId, 10);
+
+        List<PointDeductionResult> results = dao.deductPointsBatch(List.of(
+            new PointDeduction(first, 10),
+            new PointDeduction(second, 6),
+            new PointDeduction(-1L, 1),
+            new PointDeduction(first, 4),
+            new PointDeduction(second, 5)), MIN_POINTS);
+
+        assertEquals(List.of(
+            PointDeductionResult.Outcome.APPLIED,
+            PointDeductionResult.Outcome.INSUFFICIENT_POINTS,
+            PointDeductionResult.Outcome.LICENSE_NOT_FOUND,
+            PointDeductionResult.Outcome.APPLIED,
+            PointDeductionResult.Outcome.APPLIED), results.stream().map(PointDeductionResult::outcome).toList());
+        assertEquals(6, TestDatabase.points(first));
+        assertEquals(5, TestDatabase.points(second));
+    }
+
+    @Test
+    void filterAppliesTheTableStatusRulesInTheDatabase() throws Exception {
+        long current = TestDatabase.insertLicense(driverId, 20);
+        long renewed = TestDatabase.insertLicense(driverId, 20);
+        long expiringSoon = TestDatabase.insertLicense(driverId, 20);
+        long expired = TestDatabase.insertLicense(driverId, 20);
+        setDates(renewed, "CURRENT_DATE - 3650", "CURRENT_DATE + 100", true);
+        setDates(expiringSoon, "CURRENT_DATE - 3650", "CURRENT_DATE + 10", false);
+        setDates(expired, "CURRENT_DATE - 3650", "CURRENT_DATE - 1", false);
+
+        assertEquals(List.of(current, expiringSoon), ownIds(new LicenseFilter("B", "vigente", null)));
+        assertEquals(List.of(renewed), ownIds(new LicenseFilter(null, "renovada", null)));
+        assertEquals(List.of(expired), ownIds(new LicenseFilter(null, null, LicenseFilter.Period.EXPIRED)));
+        assertEquals(List.of(expiringSoon), ownIds(new LicenseFilter(null, null, LicenseFilter.Period.EXPIRING_SOON)));
+        assertEquals(List.of(current, renewed, expiringSoon),
+            ownIds(new LicenseFilter(null, null, LicenseFilter.Period.ACTIVE)));
+        assertEquals(List.of(), ownIds(new LicenseFilter("C", null, null)));
+        assertEquals(List.of(), ownIds(new LicenseFilter(null, "suspendida", null)));
+        assertEquals(1, dao.filter(new LicenseFilter(null, null, null), 1).size());
+    }
+
+    // This driver's licenses in the result, in id order
+    private List<Long> ownIds(LicenseFilter filter) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        for (License license : dao.filter(filter, 1000)) {
+            if (license.getDriverId() == driverId) {
+                ids.add(license.getId());
+            }
+        }
+        ids.sort(null);
+        return ids;
+    }
+
+    private void setDates(long licenseId, String issue, String expiry, boolean renewed) throws Exception {
+        String sql = "UPDATE licencia SET fecha_emision = " + issue + ", fecha_vencimiento = " + expiry +
+                     ", renovada = ? WHERE id_licencia = ?";
+        try (Connection conn = TestDatabase.connect(); PreparedStatement statement = conn.prepareStatement(sql)) {
+            statement.setBoolean(1, renewed);
+            statement.setLong(2, licenseId);
+            statement.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package licencia.persistence;
+
+import licencia.model.PointDeduction;
+import licencia.model.PointDeductionResult;
+import licencia.model.PointDeductionResult.Outcome;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PointDeductionsTest {
+
+    private static final int MIN_POINTS = 5;
+
+    private final Map<Long, Integer> balances = new HashMap<>(Map.of(1L, 20, 2L, 6));
+    private final Map<Long, Integer> changed = new LinkedHashMap<>();
+
+    @Test
+    void aRejectedDeductionDoesNotUseUpTheBalance() {
+        List<PointDeductionResult> results = PointDeductions.decide(
+            List.of(new PointDeduction(1L, 25), new PointDeduction(1L, 2)), balances, MIN_POINTS, changed);
+
+        assertResult(results.get(0), Outcome.INSUFFICIENT_POINTS, 20);
+        assertResult(results.get(1), Outcome.APPLIED, 18);
+        assertEquals(Map.of(1L, 18), changed);
+    }
+
+    @Test
+    void deductionsToOneLicenseAreCheckedInInputOrder() {
+        List<PointDeductionResult> results = PointDeductions.decide(List.of(
+            new PointDeduction(1L, 10),
+            new PointDeduction(2L, 1),
+            new PointDeduction(1L, 6),
+            new PointDeduction(1L, 5),
+            new PointDeduction(2L, 1)), balances, MIN_POINTS, changed);
+
+        assertResult(results.get(0), Outcome.APPLIED, 10);
+        assertResult(results.get(1), Outcome.APPLIED, 5);
+        assertResult(results.get(2), Outcome.INSUFFICIENT_POINTS, 10);
+        assertResult(results.get(3), Outcome.APPLIED, 5);
+        assertResult(results.get(4), Outcome.INSUFFICIENT_POINTS, 5);
+        assertEquals(Map.of(1L, 5, 2L, 5), changed);
+    }
+
+    @Test
+    void cappedDeductionsTakeOnlyWhatIsLeft() {
+        List<PointDeductionResult> results = PointDeductions.decideCapped(List.of(
+            new PointDeduction(2L, 4),
+            new PointDeduction(2L, 4),
+            new PointDeduction(2L, 1),
+            new PointDeduction(3L, 1)), balances, changed);
+
+        assertEquals(4, results.get(0).deduction().points());
+        assertResult(results.get(0), Outcome.APPLIED, 2);
+        assertEquals(2, results.get(1).deduction().points());
+        assertResult(results.get(1), Outcome.APPLIED, 0);
+        assertEquals(0, results.get(2).deduction().points());
+        assertResult(results.get(2), Outcome.APPLIED, 0);
+        assertResult(results.get(3), Outcome.LICENSE_NOT_FOUND, null);
+        assertEquals(Map.of(2L, 0), changed);
+    }
+
+    @Test
+    void unknownLicensesAreReportedAndNotWritten() {
+        List<PointDeductionResult> results = PointDeductions.decide(
+            List.of(new PointDeduction(9L, 1), new PointDeduction(2L, 2)), balances, MIN_POINTS, changed);
+
+        assertResult(results.get(0), Outcome.LICENSE_NOT_FOUND, null);
+        assertResult(results.get(1), Outcome.INSUFFICIENT_POINTS, 6);
+        assertEquals(Map.of(), changed);
+    }
+
+    private static void assertResult(PointDeductionResult result, Outcome outcome, Integer remainingPoints) {
+        assertEquals(outcome, result.outcome());
+        assertEquals(remainingPoints, result.remainingPoints());
+    }
+}
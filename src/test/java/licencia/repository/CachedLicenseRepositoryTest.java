@@ -0,0 +1,112 @@
+package licencia.repository;
+
+import licencia.model.License;
+import licencia.model.PointDeduction;
+import licencia.model.PointDeductionResult;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CachedLicenseRepositoryTest {
+
+    private final List<Long> loads = new ArrayList<>();
+    private int points = 20;
+    // Runs inside getById after the row is read, as another thread's write would
+    private Runnable duringLoad = () -> { };
+
+    private final LicenseRepositoryInterface repository = (LicenseRepositoryInterface) Proxy.newProxyInstance(
+        getClass().getClassLoader(), new Class<?>[] {LicenseRepositoryInterface.class}, (proxy, method, args) ->
+            switch (method.getName()) {
+                case "getById" -> {
+                    Long id = (Long) args[0];
+                    loads.add(id);
+                    License license = license(id, points);
+                    duringLoad.run();
+                    yield license;
+                }
+                case "existsById" -> true;
+                case "deductPoints" -> new PointDeductionResult(new PointDeduction((Long) args[0], (Integer) args[1]),
+                    PointDeductionResult.Outcome.APPLIED, points - (Integer) args[1]);
+                default -> throw new UnsupportedOperationException(method.getName());
+            });
+
+    private static License license(long id, int points) {
+        return new License(id, 1L, "B", "automovil", "2020-01-01", "2030-01-01", points, null, false);
+    }
+
+    @Test
+    void secondReadIsServedFromTheCache() throws Exception {
+        CachedLicenseRepository cache = new CachedLicenseRepository(repository, 10, 1, TimeUnit.HOURS);
+
+        License first = cache.getById(1L);
+        first.setPoints(0);
+        License second = cache.getById(1L);
+
+        assertEquals(List.of(1L), loads);
+        assertEquals(20, second.getPoints());
+        assertNotSame(first, second);
+        assertTrue(cache.existsById(1L));
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void entriesExpireAfterTheTtl() throws Exception {
+        CachedLicenseRepository cache = new CachedLicenseRepository(repository, 10, 1, TimeUnit.NANOSECONDS);
+
+        cache.getById(1L);
+        Thread.sleep(1);
+        cache.getById(1L);
+
+        assertEquals(List.of(1L, 1L), loads);
+        assertEquals(0, cache.getHitCount());
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvicted() throws Exception {
+        CachedLicenseRepository cache = new CachedLicenseRepository(repository, 2, 1, TimeUnit.HOURS);
+
+        cache.getById(1L);
+        cache.getById(2L);
+        cache.getById(1L);
+        cache.getById(3L);
+        assertEquals(2, cache.size());
+
+        cache.getById(1L);
+        cache.getById(2L);
+        assertEquals(List.of(1L, 2L, 3L, 2L), loads);
+    }
+
+    @Test
+    void writesEvictTheLicense() throws Exception {
+        CachedLicenseRepository cache = new CachedLicenseRepository(repository, 10, 1, TimeUnit.HOURS);
+
+        cache.getById(1L);
+        points = 15;
+        cache.deductPoints(1L, 5, 6);
+
+        assertEquals(15, cache.getById(1L).getPoints());
+        assertEquals(List.of(1L, 1L), loads);
+    }
+
+    @Test
+    void rowReadBeforeAConcurrentWriteIsNotCached() throws Exception {
+        CachedLicenseRepository cache = new CachedLicenseRepository(repository, 10, 1, TimeUnit.HOURS);
+        duringLoad = () -> cache.invalidate(1L);
+
+        cache.getById(1L);
+        assertEquals(0, cache.size());
+
+        duringLoad = () -> { };
+        cache.getById(1L);
+        assertEquals(1, cache.size());
+        assertEquals(List.of(1L, 1L), loads);
+    }
+}
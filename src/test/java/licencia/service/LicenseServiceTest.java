@@ -0,0 +1,56 @@
+package licencia.service;
+
+import licencia.exception.InvalidLicenseDataException;
+import licencia.exception.LicenseNotFoundException;
+import licencia.model.PointDeduction;
+import licencia.model.PointDeductionResult;
+import licencia.repository.LicenseRepositoryInterface;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LicenseServiceTest {
+
+    // Repository whose deductPoints answers with the given outcome and balance
+    private static LicenseService serviceAnswering(PointDeductionResult.Outcome outcome, Integer remainingPoints) {
+        LicenseRepositoryInterface repository = (LicenseRepositoryInterface) Proxy.newProxyInstance(
+            LicenseServiceTest.class.getClassLoader(), new Class<?>[] {LicenseRepositoryInterface.class},
+            (proxy, method, args) -> {
+                if (!"deductPoints".equals(method.getName())) {
+                    throw new UnsupportedOperationException(method.getName());
+                }
+                return new PointDeductionResult(new PointDeduction((Long) args[0], (Integer) args[1]), outcome, remainingPoints);
+            });
+        return new LicenseService(repository);
+    }
+
+    @Test
+    void appliedDeductionReturnsTrue() throws Exception {
+        assertTrue(serviceAnswering(PointDeductionResult.Outcome.APPLIED, 15).deductPoints(1L, 5));
+    }
+
+    @Test
+    void rejectedDeductionIsExplainedFromTheBalanceTheDatabaseSaw() {
+        InvalidLicenseDataException e = assertThrows(InvalidLicenseDataException.class,
+            () -> serviceAnswering(PointDeductionResult.Outcome.INSUFFICIENT_POINTS, 6).deductPoints(1L, 4));
+        assertTrue(e.getMessage().contains("menos de 5 puntos"));
+    }
+
+    // The validator would have allowed it, but the database did not apply it
+    @Test
+    void rejectedDeductionThrowsEvenWhenTheValidatorAgreesWithIt() {
+        InvalidLicenseDataException e = assertThrows(InvalidLicenseDataException.class,
+            () -> serviceAnswering(PointDeductionResult.Outcome.INSUFFICIENT_POINTS, 20).deductPoints(1L, 2));
+        assertEquals("No se pudieron deducir 2 puntos de la licencia con ID 1", e.getMessage());
+    }
+
+    @Test
+    void missingLicenseIsReportedAsNotFound() {
+        assertThrows(LicenseNotFoundException.class,
+            () -> serviceAnswering(PointDeductionResult.Outcome.LICENSE_NOT_FOUND, null).deductPoints(1L, 2));
+    }
+}
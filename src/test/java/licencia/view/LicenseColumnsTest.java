@@ -0,0 +1,91 @@
+package licencia.view;
+
+import licencia.dto.LicenseResponseDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LicenseColumnsTest {
+
+    static final LocalDate TODAY = LocalDate.of(2024, 6, 1);
+
+    static LicenseResponseDto license(long id, String type, String expiry, int points, boolean renewed) {
+        return new LicenseResponseDto(id, 100 + id, type, "automovil", "2020-01-01", expiry, points, null, renewed);
+    }
+
+    @Test
+    void derivesStatusAndDaysAgainstTheDayOfTheLoad() {
+        LicenseColumns rows = LicenseColumns.of(List.of(
+            license(1, "B", "2024-06-11", 20, false),
+            license(2, "C", "2024-05-31", 10, false),
+            license(3, "A", "2025-01-01", 5, true)), TODAY);
+
+        assertEquals("vigente", rows.statusName(0));
+        assertEquals(10, rows.daysRemaining(0));
+        assertTrue(rows.isExpiringSoon(0));
+        assertEquals("vencida", rows.statusName(1));
+        assertTrue(rows.isExpired(1));
+        assertEquals("renovada", rows.statusName(2));
+        assertFalse(rows.isExpiringSoon(2));
+    }
+
+    @Test
+    void unparseableDatesAndUnknownEnumsAreKept() {
+        LicenseColumns rows = LicenseColumns.of(List.of(license(1, "Z", "no-es-fecha", 0, false)), TODAY);
+
+        assertEquals(LicenseColumns.DAYS_ERROR, rows.daysRemaining(0));
+        assertFalse(rows.isActive(0));
+        assertFalse(rows.isExpired(0));
+        assertNull(rows.type(0));
+        assertNull(rows.valueAt(0, 5));
+    }
+
+    @Test
+    void insertSetAndRemoveKeepTheOtherRowsInOrder() {
+        LicenseColumns source = LicenseColumns.of(List.of(
+            license(1, "A", "2025-01-01", 1, false),
+            license(2, "B", "2025-01-01", 2, false),
+            license(3, "C", "2025-01-01", 3, false),
+            license(4, "D", "2025-01-01", 4, false)), TODAY);
+        LicenseColumns rows = source.select(row -> row % 2 == 0);
+        assertEquals(2, rows.size());
+
+        rows.insert(1, source, 1);
+        rows.append(source, 3);
+        assertIds(rows, 1, 2, 3, 4);
+        assertTrue(rows.sameRow(1, source, 1));
+
+        rows.remove(1, 2);
+        assertIds(rows, 1, 4);
+        assertEquals(4, rows.points(1));
+
+        rows.set(0, source, 2);
+        assertIds(rows, 3, 4);
+        assertEquals(1, rows.indexOf(4));
+        assertEquals(-1, rows.indexOf(2));
+    }
+
+    @Test
+    void growsPastTheInitialCapacity() {
+        LicenseColumns rows = LicenseColumns.empty();
+        LicenseColumns one = LicenseColumns.of(List.of(license(7, "B", "2025-01-01", 7, false)), TODAY);
+        for (int i = 0; i < 100; i++) {
+            rows.insert(0, one, 0);
+        }
+        assertEquals(100, rows.size());
+        assertEquals(7L, rows.id(99));
+    }
+
+    private static void assertIds(LicenseColumns rows, long... ids) {
+        assertEquals(ids.length, rows.size());
+        for (int row = 0; row < ids.length; row++) {
+            assertEquals(ids[row], rows.id(row), "row " + row);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package licencia.view;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static licencia.view.LicenseColumnsTest.TODAY;
+import static licencia.view.LicenseColumnsTest.license;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LicenseStatisticsTest {
+
+    private final LicenseColumns rows = LicenseColumns.of(List.of(
+        license(1, "B", "2024-06-11", 20, false),
+        license(2, "B", "2024-05-31", 10, false),
+        license(3, "A", "2025-01-01", 6, true),
+        license(4, "X", "2025-01-01", 0, false)), TODAY);
+
+    @Test
+    void countsEveryFigureInOnePass() {
+        LicenseStatistics statistics = LicenseStatistics.of(rows);
+
+        assertEquals(4, statistics.getTotal());
+        assertEquals(3, statistics.getActive());
+        assertEquals(1, statistics.getExpired());
+        assertEquals(1, statistics.getExpiringSoon());
+        assertEquals(1, statistics.getRenewed());
+        assertEquals(9.0, statistics.getAveragePoints());
+        assertEquals(2, statistics.countByType("B"));
+        assertEquals(0, statistics.countByType("X"));
+        assertEquals(1, statistics.countWithPoints(20));
+        assertEquals(0, statistics.countWithPoints(21));
+    }
+
+    @Test
+    void addingAndRemovingRowsMatchesARecount() {
+        LicenseStatistics statistics = new LicenseStatistics();
+        for (int row = 0; row < rows.size(); row++) {
+            statistics.add(rows, row);
+        }
+        statistics.remove(rows, 0);
+        statistics.remove(rows, 3);
+
+        LicenseStatistics recount = LicenseStatistics.of(rows.select(row -> row == 1 || row == 2));
+        assertSame(recount, statistics);
+        assertEquals(8.0, statistics.getAveragePoints());
+        assertEquals(0, statistics.getExpiringSoon());
+    }
+
+    @Test
+    void removingEveryRowLeavesZero() {
+        LicenseStatistics statistics = LicenseStatistics.of(rows);
+        for (int row = 0; row < rows.size(); row++) {
+            statistics.remove(rows, row);
+        }
+        assertSame(new LicenseStatistics(), statistics);
+        assertEquals(0.0, statistics.getAveragePoints());
+    }
+
+    private static void assertSame(LicenseStatistics expected, LicenseStatistics actual) {
+        assertEquals(expected.getTotal(), actual.getTotal());
+        assertEquals(expected.getActive(), actual.getActive());
+        assertEquals(expected.getExpired(), actual.getExpired());
+        assertEquals(expected.getExpiringSoon(), actual.getExpiringSoon());
+        assertEquals(expected.getRenewed(), actual.getRenewed());
+        assertEquals(expected.getAveragePoints(), actual.getAveragePoints());
+        for (String type : LicenseColumns.TYPES) {
+            assertEquals(expected.countByType(type), actual.countByType(type), type);
+        }
+        for (int points = 0; points <= LicenseStatistics.MAX_POINTS; points++) {
+            assertEquals(expected.countWithPoints(points), actual.countWithPoints(points), "points " + points);
+        }
+    }
+}
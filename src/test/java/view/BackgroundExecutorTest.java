@@ -0,0 +1,75 @@
+package view;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BackgroundExecutorTest {
+
+    @Test
+    void aLaneRunsItsTasksOneAtATimeInOrder() throws InterruptedException {
+        Executor lane = BackgroundExecutor.serial();
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(50);
+
+        for (int i = 0; i < 50; i++) {
+            int task = i;
+            lane.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                order.add(task);
+                running.decrementAndGet();
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(1, maxRunning.get());
+        for (int i = 0; i < 50; i++) {
+            assertEquals(i, order.get(i));
+        }
+    }
+
+    @Test
+    void aFailingTaskDoesNotStopTheLane() throws InterruptedException {
+        Executor lane = BackgroundExecutor.serial();
+        CountDownLatch done = new CountDownLatch(1);
+
+        lane.execute(() -> {
+            throw new IllegalStateException("fallo");
+        });
+        lane.execute(done::countDown);
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void lanesDoNotWaitForEachOther() throws InterruptedException {
+        Executor blocked = BackgroundExecutor.serial();
+        Executor other = BackgroundExecutor.serial();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+
+        blocked.execute(() -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        other.execute(done::countDown);
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        release.countDown();
+    }
+}
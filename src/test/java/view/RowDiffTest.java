@@ -0,0 +1,199 @@
+package view;
+
+import org.junit.jupiter.api.Test;
+
+import javax.swing.event.TableModelEvent;
+import javax.swing.table.AbstractTableModel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RowDiffTest {
+
+    // Rows are {key, value} pairs; the model fires whatever RowDiff asks for and checks that every
+    // event agrees with the row count the target has at that moment
+    private static class ListModel extends AbstractTableModel implements RowDiff.Target {
+        final List<int[]> rows;
+        List<int[]> next;
+        final List<TableModelEvent> events = new ArrayList<>();
+        int announcedRows;
+
+        ListModel(int[]... rows) {
+            this.rows = new ArrayList<>(Arrays.asList(rows));
+            this.announcedRows = this.rows.size();
+            addTableModelListener(this::check);
+        }
+
+        private void check(TableModelEvent e) {
+            events.add(e);
+            if (e.getType() == TableModelEvent.INSERT) {
+                announcedRows += e.getLastRow() - e.getFirstRow() + 1;
+            } else if (e.getType() == TableModelEvent.DELETE) {
+                announcedRows -= e.getLastRow() - e.getFirstRow() + 1;
+            } else if (e.getLastRow() == Integer.MAX_VALUE) {
+                announcedRows = rows.size();
+            }
+            assertEquals(rows.size(), announcedRows, "row count announced by the events");
+        }
+
+        void diff(int[]... nextRows) {
+            next = Arrays.asList(nextRows);
+            RowDiff.apply(this, this);
+        }
+
+        @Override public int rowCount() { return rows.size(); }
+        @Override public Object keyAt(int row) { return rows.get(row)[0]; }
+        @Override public int newRowCount() { return next.size(); }
+        @Override public Object newKeyAt(int index) { return next.get(index)[0]; }
+        @Override public boolean sameValues(int row, int index) { return Arrays.equals(rows.get(row), next.get(index)); }
+        @Override public void set(int row, int index) { rows.set(row, next.get(index)); }
+        @Override public void insert(int row, int index) { rows.add(row, next.get(index)); }
+        @Override public void remove(int firstRow, int lastRow) { rows.subList(firstRow, lastRow + 1).clear(); }
+        @Override public void replaceAll() { rows.clear(); rows.addAll(next); }
+
+        @Override public int getRowCount() { return rows.size(); }
+        @Override public int getColumnCount() { return 2; }
+        @Override public Object getValueAt(int row, int column) { return rows.get(row)[column]; }
+    }
+
+    private static int[] row(int key, int value) {
+        return new int[] {key, value};
+    }
+
+    private static void assertRows(ListModel model, int[]... expected) {
+        assertEquals(expected.length, model.rows.size());
+        for (int i = 0; i < expected.length; i++) {
+            assertTrue(Arrays.equals(expected[i], model.rows.get(i)), "row " + i);
+        }
+    }
+
+    private static void assertEvent(TableModelEvent event, int type, int firstRow, int lastRow) {
+        assertEquals(type, event.getType());
+        assertEquals(firstRow, event.getFirstRow());
+        assertEquals(lastRow, event.getLastRow());
+    }
+
+    @Test
+    void insertsNewKeysWhereTheyAppear() {
+        ListModel model = new ListModel(row(1, 0), row(2, 0), row(3, 0));
+        model.diff(row(1, 0), row(4, 0), row(5, 0), row(2, 0), row(3, 0));
+
+        assertRows(model, row(1, 0), row(4, 0), row(5, 0), row(2, 0), row(3, 0));
+        assertEquals(1, model.events.size());
+        assertEvent(model.events.get(0), TableModelEvent.INSERT, 1, 2);
+    }
+
+    @Test
+    void deletesMissingKeysAsOneRange() {
+        ListModel model = new ListModel(row(1, 0), row(2, 0), row(3, 0), row(4, 0));
+        model.diff(row(1, 0), row(4, 0));
+
+        assertRows(model, row(1, 0), row(4, 0));
+        assertEquals(1, model.events.size());
+        assertEvent(model.events.get(0), TableModelEvent.DELETE, 1, 2);
+    }
+
+    @Test
+    void updatesOnlyRowsWhoseValuesChanged() {
+        ListModel model = new ListModel(row(1, 0), row(2, 0), row(3, 0));
+        model.diff(row(1, 0), row(2, 7), row(3, 0));
+
+        assertRows(model, row(1, 0), row(2, 7), row(3, 0));
+        assertEquals(1, model.events.size());
+        assertEvent(model.events.get(0), TableModelEvent.UPDATE, 1, 1);
+    }
+
+    @Test
+    void unchangedRowsFireNothing() {
+        ListModel model = new ListModel(row(1, 0), row(2, 0));
+        model.diff(row(1, 0), row(2, 0));
+
+        assertTrue(model.events.isEmpty());
+    }
+
+    @Test
+    void movedRowsEndUpInTheNewOrder() {
+        ListModel model = new ListModel(row(1, 0), row(2, 0), row(3, 0), row(4, 0));
+        model.diff(row(4, 0), row(1, 0), row(3, 1), row(2, 0));
+
+        assertRows(model, row(4, 0), row(1, 0), row(3, 1), row(2, 0));
+    }
+
+    @Test
+    void rowMovedFromTheEndOfALongResultFiresOneDeleteAndOneInsert() {
+        int[][] rows = new int[5000][];
+        int[][] next = new int[rows.length][];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = row(i, 0);
+            next[(i + 1) % rows.length] = row(i, 0);
+        }
+        ListModel model = new ListModel(rows);
+        model.diff(next);
+
+        assertRows(model, next);
+        assertEquals(2, model.events.size());
+        assertEvent(model.events.get(0), TableModelEvent.DELETE, rows.length - 1, rows.length - 1);
+        assertEvent(model.events.get(1), TableModelEvent.INSERT, 0, 0);
+    }
+
+    @Test
+    void duplicateOldKeysReplaceTheRowsInOneEvent() {
+        ListModel model = new ListModel(row(1, 0), row(1, 1), row(2, 0));
+        model.diff(row(2, 0), row(1, 0));
+
+        assertRows(model, row(2, 0), row(1, 0));
+        assertEquals(1, model.events.size());
+        assertEvent(model.events.get(0), TableModelEvent.UPDATE, 0, Integer.MAX_VALUE);
+    }
+
+    @Test
+    void repeatedNewKeysAreInsertedAgain() {
+        ListModel model = new ListModel(row(1, 0), row(2, 0));
+        model.diff(row(2, 0), row(1, 0), row(2, 1));
+
+        assertRows(model, row(2, 0), row(1, 0), row(2, 1));
+    }
+
+    @Test
+    void tooManyChangesReplaceTheRowsInOneEvent() {
+        ListModel model = new ListModel(row(1, 0));
+        int[][] next = new int[RowDiff.MAX_INCREMENTAL_CHANGES + 2][];
+        for (int i = 0; i < next.length; i++) {
+            next[i] = row(i + 1, 0);
+        }
+        model.diff(next);
+
+        assertRows(model, next);
+        assertEquals(1, model.events.size());
+        assertEvent(model.events.get(0), TableModelEvent.UPDATE, 0, Integer.MAX_VALUE);
+    }
+
+    @Test
+    void randomResultsAlwaysMatch() {
+        Random random = new Random(42);
+        for (int round = 0; round < 500; round++) {
+            ListModel model = new ListModel(randomRows(random));
+            int[][] next = randomRows(random);
+            model.diff(next);
+            assertRows(model, next);
+        }
+    }
+
+    private static int[][] randomRows(Random random) {
+        List<Integer> keys = new ArrayList<>();
+        for (int key = 0; key < 40; key++) {
+            keys.add(key);
+        }
+        Collections.shuffle(keys, random);
+        int[][] rows = new int[random.nextInt(30)][];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = row(keys.get(i), random.nextInt(3));
+        }
+        return rows;
+    }
+}